@@ -133,7 +133,9 @@ OUTER_BLOCK_DOC:
 
 BLOCK_COMMENT_OR_DOC: ( BLOCK_COMMENT | INNER_BLOCK_DOC | OUTER_BLOCK_DOC) -> channel (HIDDEN);
 
-SHEBANG: {this.SOF()}? '\ufeff'? '#!' ~[\r\n]* -> channel(HIDDEN);
+// Predicates sit after the first character: a predicate reachable from the start state
+// stops the lexer from caching its DFA start state, so every token would rerun the full ATN closure.
+SHEBANG: ('\ufeff' {this.SOF(1)}? '#!' | '#' {this.SOF(1)}? '!') ~[\r\n]* -> channel(HIDDEN);
 
 //ISOLATED_CR
 // : '\r' {_input.LA(1)!='\n'}// not followed with \n ;
@@ -183,10 +185,11 @@ OCT_LITERAL: '0o' '_'* OCT_DIGIT (OCT_DIGIT | '_')*;
 
 BIN_LITERAL: '0b' '_'* [01] [01_]*;
 
+// DEC_LITERAL factored out so floatLiteralPossible() is checked after the first digit (see SHEBANG)
 FLOAT_LITERAL:
-                        {this.floatLiteralPossible()}? (
-        DEC_LITERAL '.' {this.floatDotPossible()}?
-        | DEC_LITERAL ( '.' DEC_LITERAL)? FLOAT_EXPONENT? FLOAT_SUFFIX?
+    DEC_DIGIT {this.floatLiteralPossible()}? (DEC_DIGIT | '_')* (
+        '.' {this.floatDotPossible()}?
+        | ( '.' DEC_LITERAL)? FLOAT_EXPONENT? FLOAT_SUFFIX?
     )
 ;
 
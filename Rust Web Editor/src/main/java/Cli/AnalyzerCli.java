@@ -0,0 +1,294 @@
+package Cli;
+
+import CompilerFronted.AnalysisService.BatchAnalysisService;
+import CompilerFronted.AnalysisService.analyzers.Utf8CharStream;
+import CompilerFronted.AnalysisService.models.AnalysisOptions;
+import CompilerFronted.AnalysisService.models.BatchFile;
+import CompilerFronted.AnalysisService.models.BatchFileResult;
+
+import com.google.gson.Gson;
+import org.antlr.v4.runtime.CharStream;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 命令行批量分析工具
+ *
+ * 遍历目录下的所有 .rs 文件，在 work-stealing 线程池上并行分析（与 /analyse/batch 共用
+ * {@link BatchAnalysisService}），不经过 HTTP，适合离线预分析大型仓库。
+ *
+ * 用法：
+ * <pre>
+ * java -cp rust-web-editor.jar Cli.AnalyzerCli &lt;源目录&gt; [选项]
+ * java -jar rust-web-editor.jar analyze &lt;源目录&gt; [选项]
+ *
+ *   --out DIR          每个文件输出一个 JSON：DIR/&lt;相对路径&gt;.json
+ *   --ndjson FILE      全部结果写入一个 NDJSON 文件（- 表示标准输出，默认）
+ *   --tokens compact   列式 Token 编码
+ *   --parallelism N    工作线程数，默认 CPU 核数
+ *   --parallel-parse   大文件按顶层 item 并发解析
+ *   --parallel-lex     大文件按行切块并发词法分析
+ *   --trees FORMAT     CST/AST 输出形式：dot（默认）、structure、both
+ *   --max-errors N     每个文件的语法错误上限，达到后停止解析（默认不限制）
+ *   --dedupe-errors    同一出错 Token 上的级联错误只报告第一个
+ * </pre>
+ *
+ * 结束时在标准错误输出文件数、失败数、files/s 与 MB/s。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class AnalyzerCli {
+
+    private static final Gson gson = new Gson();
+
+    Path sourceRoot;
+    Path outputDirectory;
+    String ndjsonFile = "-";
+    final AnalysisOptions options = AnalysisOptions.defaults();
+    int parallelism = Runtime.getRuntime().availableProcessors();
+
+    public static void main(String[] args) {
+        AnalyzerCli cli = new AnalyzerCli();
+        try {
+            cli.parseArguments(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            printUsage();
+            System.exit(2);
+            return;
+        }
+
+        try {
+            int failed = cli.run(System.out);
+            System.exit(failed > 0 ? 1 : 0);
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            System.err.println("Analysis failed: " + e.getMessage());
+            System.exit(3);
+        }
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: AnalyzerCli <source-directory> [--out DIR | --ndjson FILE]"
+            + " [--tokens compact] [--parallelism N] [--parallel-parse] [--parallel-lex]"
+            + " [--trees dot|structure|both] [--max-errors N] [--dedupe-errors]");
+    }
+
+    void parseArguments(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--out":
+                    outputDirectory = Paths.get(requireValue(args, ++i, arg));
+                    break;
+                case "--ndjson":
+                    ndjsonFile = requireValue(args, ++i, arg);
+                    break;
+                case "--tokens":
+                    String encoding = requireValue(args, ++i, arg);
+                    if (encoding.equalsIgnoreCase("compact")) {
+                        options.setTokenEncoding(AnalysisOptions.TokenEncoding.COMPACT);
+                    } else if (!encoding.equalsIgnoreCase("objects")) {
+                        throw new IllegalArgumentException("unknown token encoding: " + encoding);
+                    }
+                    break;
+                case "--parallelism":
+                    try {
+                        parallelism = Integer.parseInt(requireValue(args, ++i, arg));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("--parallelism expects a number");
+                    }
+                    break;
+                case "--parallel-parse":
+                    options.setParseMode(AnalysisOptions.ParseMode.PARALLEL);
+                    break;
+                case "--parallel-lex":
+                    options.setLexMode(AnalysisOptions.LexMode.PARALLEL);
+                    break;
+                case "--trees":
+                    String format = requireValue(args, ++i, arg);
+                    try {
+                        options.setTreeFormat(AnalysisOptions.TreeFormat.valueOf(format.toUpperCase()));
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("unknown tree format: " + format);
+                    }
+                    break;
+                case "--max-errors":
+                    try {
+                        options.setMaxErrors(Math.max(0, Integer.parseInt(requireValue(args, ++i, arg))));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("--max-errors expects a number");
+                    }
+                    break;
+                case "--dedupe-errors":
+                    options.setDedupeErrors(true);
+                    break;
+                default:
+                    if (arg.startsWith("--") || sourceRoot != null) {
+                        throw new IllegalArgumentException("unexpected argument: " + arg);
+                    }
+                    sourceRoot = Paths.get(arg);
+            }
+        }
+        if (sourceRoot == null) {
+            throw new IllegalArgumentException("missing source directory");
+        }
+        if (!Files.isDirectory(sourceRoot)) {
+            throw new IllegalArgumentException("not a directory: " + sourceRoot);
+        }
+    }
+
+    private static String requireValue(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException(option + " expects a value");
+        }
+        return args[index];
+    }
+
+    /**
+     * 执行批量分析
+     *
+     * @param stdout --ndjson - 时结果写入的流
+     * @return 失败的文件数
+     */
+    int run(OutputStream stdout) throws IOException, InterruptedException {
+        List<BatchFile> files = collectSourceFiles(sourceRoot);
+        System.err.printf("Analyzing %d files under %s with %d threads%n", files.size(), sourceRoot, parallelism);
+
+        AtomicInteger failed = new AtomicInteger();
+        AtomicLong totalBytes = new AtomicLong();
+        BatchAnalysisService batchService = new BatchAnalysisService(parallelism);
+        long start = System.nanoTime();
+        try {
+            if (outputDirectory != null) {
+                // 每个文件一个 JSON，直接在工作线程上写出
+                Files.createDirectories(outputDirectory);
+                batchService.analyze(files, options, fileResult -> {
+                    record(fileResult, failed, totalBytes);
+                    writeResultFile(fileResult);
+                    return fileResult.getPath();
+                }, path -> { });
+            } else {
+                boolean toStdout = ndjsonFile.equals("-");
+                try (Writer writer = new BufferedWriter(toStdout
+                         ? new OutputStreamWriter(stdout, StandardCharsets.UTF_8)
+                         : Files.newBufferedWriter(Paths.get(ndjsonFile), StandardCharsets.UTF_8), 64 * 1024)) {
+                    batchService.analyze(files, options, fileResult -> {
+                        record(fileResult, failed, totalBytes);
+                        return gson.toJson(fileResult);
+                    }, line -> {
+                        try {
+                            writer.write(line);
+                            writer.write('\n');
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                }
+            }
+        } finally {
+            batchService.shutdown();
+        }
+
+        double seconds = Math.max((System.nanoTime() - start) / 1e9, 1e-9);
+        System.err.printf("Analyzed %d files (%d failed), %.2f MB in %.2f s: %.1f files/s, %.2f MB/s%n",
+            files.size(), failed.get(), totalBytes.get() / 1e6, seconds,
+            files.size() / seconds, totalBytes.get() / 1e6 / seconds);
+        return failed.get();
+    }
+
+    private static void record(BatchFileResult fileResult, AtomicInteger failed, AtomicLong totalBytes) {
+        totalBytes.addAndGet(fileResult.getBytes());
+        if (!fileResult.isSuccess()) {
+            failed.incrementAndGet();
+        }
+    }
+
+    private void writeResultFile(BatchFileResult fileResult) {
+        Path target = outputDirectory.resolve(fileResult.getPath() + ".json");
+        try {
+            Files.createDirectories(target.getParent());
+            try (Writer writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+                gson.toJson(fileResult, writer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 收集目录下的 .rs 文件，跳过隐藏目录与 Cargo 的 target 目录
+     */
+    private static List<BatchFile> collectSourceFiles(Path root) throws IOException {
+        List<BatchFile> files = new ArrayList<>();
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                String name = dir.getFileName() != null ? dir.getFileName().toString() : "";
+                if (!dir.equals(root) && (name.startsWith(".") || name.equals("target"))) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (attrs.isRegularFile() && file.getFileName().toString().endsWith(".rs")) {
+                    String relative = root.relativize(file).toString().replace('\\', '/');
+                    files.add(new SourceFile(relative, file));
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        files.sort((a, b) -> a.getPath().compareTo(b.getPath()));
+        return files;
+    }
+
+    /**
+     * 延迟读取的源文件：在工作线程上以内存映射方式读取，不在堆上生成源代码字符串
+     */
+    private static class SourceFile extends BatchFile {
+        private final transient Path file;
+
+        SourceFile(String path, Path file) {
+            super(path, null);
+            this.file = file;
+        }
+
+        @Override
+        public CharStream openCharStream() throws IOException {
+            return Utf8CharStream.fromPath(file);
+        }
+
+        @Override
+        public long getByteLength() throws IOException {
+            return Files.size(file);
+        }
+
+        @Override
+        public String getCode() {
+            try {
+                return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
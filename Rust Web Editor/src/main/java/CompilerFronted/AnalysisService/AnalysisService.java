@@ -6,7 +6,14 @@ import com.google.gson.GsonBuilder;
 import CompilerFronted.AnalysisService.models.*;
 import CompilerFronted.AnalysisService.factory.AnalysisResultFactory;
 import CompilerFronted.AnalysisService.analyzers.LexicalAnalyzer;
+import CompilerFronted.AnalysisService.analyzers.ParallelLexicalAnalyzer;
+import CompilerFronted.AnalysisService.analyzers.ParallelSyntaxAnalyzer;
 import CompilerFronted.AnalysisService.analyzers.SyntaxAnalyzer;
+import CompilerFronted.AnalysisService.analyzers.Utf8CharStream;
+import CompilerFronted.AnalysisService.utils.ASTGenerator;
+import CompilerFronted.AnalysisService.utils.CSTGenerator;
+import CompilerFronted.AnalysisService.utils.LispTreeWriter;
+import CompilerFronted.Core.RustParser;
 
 import org.antlr.v4.runtime.*;
 import org.antlr.v4.runtime.tree.*;
@@ -44,8 +51,10 @@ public class AnalysisService {
     private static final boolean DEBUG_MODE = true;
     
     // 核心组件
-    private final String sourceCode;
-    private final Gson gson;
+    private final CharStream input;     // 待分析的源代码（字符串或 UTF-8 字节）
+    private final AnalysisOptions options;
+    private final Gson gson;        // 响应序列化：紧凑输出
+    private final Gson debugGson;   // 调试文件：格式化输出，便于阅读
     
     // 分析器组件
     private LexicalAnalyzer lexicalAnalyzer;    // 对antlr4 提供的词法分析服务的封装
@@ -61,8 +70,33 @@ public class AnalysisService {
      * @param sourceCode 待分析的 Rust 源代码
      */
     public AnalysisService(String sourceCode) {
-        this.sourceCode = sourceCode;
-        this.gson = new GsonBuilder().setPrettyPrinting().create();
+        this(sourceCode, AnalysisOptions.defaults());
+    }
+    
+    /**
+     * 构造函数
+     * 
+     * @param sourceCode 待分析的 Rust 源代码
+     * @param options 分析选项
+     */
+    public AnalysisService(String sourceCode, AnalysisOptions options) {
+        this(CharStreams.fromString(sourceCode), options);
+    }
+    
+    /**
+     * 构造函数
+     * 
+     * 直接基于字符流分析，例如请求体字节上的 {@link Utf8CharStream}，
+     * 避免先解码为 String 再复制为码点数组。
+     * 
+     * @param input 待分析的源代码字符流
+     * @param options 分析选项
+     */
+    public AnalysisService(CharStream input, AnalysisOptions options) {
+        this.input = input;
+        this.options = options;
+        this.gson = new GsonBuilder().create();
+        this.debugGson = new GsonBuilder().setPrettyPrinting().create();
         this.analyzed = false;
         
         initializeAnalyzers();
@@ -79,53 +113,152 @@ public class AnalysisService {
         return service.performAnalysis();
     }
     
+    /**
+     * 静态工厂方法，按指定选项分析
+     * 
+     * @param rustCode 用户输入的 Rust 代码
+     * @param options 分析选项
+     * @return 包含分析结果的 JSON 字符串
+     */
+    public static String analyse(String rustCode, AnalysisOptions options) {
+        AnalysisService service = new AnalysisService(rustCode, options);
+        return service.performAnalysis();
+    }
+    
     /**
      * 执行完整的分析流程
      * 
      * @return 分析结果的 JSON 字符串
      */
     public String performAnalysis() {
+        return gson.toJson(analyze());
+    }
+    
+    /**
+     * 执行完整的分析流程，返回结果对象
+     * 
+     * 供需要自行选择响应编码（JSON / 二进制）的调用方使用，
+     * 异常同样被转换为错误结果而不是抛出。
+     * 
+     * @return 分析结果
+     */
+    public AnalysisResult analyze() {
         try {
-            // 1. 执行词法分析
-            List<? extends Token> tokens = lexicalAnalyzer.analyze();
-            
-            // 2. 创建 Token 流并执行语法分析
-            CommonTokenStream tokenStream = new CommonTokenStream(lexicalAnalyzer.getLexer());
-            syntaxAnalyzer = new SyntaxAnalyzer(tokenStream);
-            ParseTree parseTree = syntaxAnalyzer.analyze();
+            // 1-2. 词法分析与语法分析
+            ParseTree parseTree = parse();
+            List<? extends Token> tokens = lexicalAnalyzer.getTokens();
             
             // 3. 使用工厂创建分析结果
             analysisResult = AnalysisResultFactory.createAnalysisResult(
                 tokens, 
                 parseTree, 
                 syntaxAnalyzer.getParser(), 
-                syntaxAnalyzer.getErrors()
+                syntaxAnalyzer.getErrors(),
+                // 偏移表直接在字符流上计算，不生成源代码字符串
+                input,
+                options
             );
+            attachErrorSummary();
             
             analyzed = true;
             
-            // 4. 序列化为 JSON
-            String jsonResult = gson.toJson(analysisResult);
-            
-            // 5. 保存调试信息
-            if (DEBUG_MODE) {
-                saveDebugResult();
-            }
-            
-            return jsonResult;
-            
         } catch (Exception e) {
             // 异常处理：创建错误结果
             analysisResult = AnalysisResultFactory.createErrorResult(e.getMessage());
             e.printStackTrace();
-            
-            String jsonResult = gson.toJson(analysisResult);
-            
-            if (DEBUG_MODE) {
-                saveDebugResult();
-            }
-            
-            return jsonResult;
+        }
+        
+        // 4. 保存调试信息（需要源代码字符串，HTTP 请求默认关闭）
+        if (DEBUG_MODE && options.isSaveDebugOutput()) {
+            saveDebugResult();
+        }
+        
+        return analysisResult;
+    }
+    
+    /**
+     * 诊断模式：只报告语法错误
+     * 
+     * 词法分析器由 Token 流按需驱动，不生成 Token 列表；语法分析不构建解析树
+     * （见 {@link SyntaxAnalyzer#diagnose()}），也不经过工厂的 Token / 树填充。
+     * 始终顺序解析，忽略 {@link AnalysisOptions#getParseMode()}。
+     * 
+     * @return 只包含 success 与 errors 的分析结果
+     */
+    public AnalysisResult diagnose() {
+        try {
+            syntaxAnalyzer = new SyntaxAnalyzer(new CommonTokenStream(lexicalAnalyzer.getLexer()));
+            syntaxAnalyzer.setErrorPolicy(options.getMaxErrors(), options.isDedupeErrors());
+            analysisResult = AnalysisResultFactory.createDiagnosticsResult(syntaxAnalyzer.diagnose());
+            attachErrorSummary();
+            analyzed = true;
+        } catch (Exception e) {
+            analysisResult = AnalysisResultFactory.createErrorResult(e.getMessage());
+            e.printStackTrace();
+        }
+        return analysisResult;
+    }
+    
+    /**
+     * 只执行词法与语法分析，把解析树的 LISP 格式直接写入输出
+     * 
+     * 不生成 Token 列表、CST/AST 的 DOT 等其他结果，适合只需要 LISP 文本的调用方。
+     * 
+     * @param out 输出目标（例如响应 Writer）
+     * @return 是否因超出 {@link AnalysisOptions#getLispMaxLength()} 而截断
+     * @throws IOException 写出失败
+     */
+    public boolean writeLispTree(Appendable out) throws IOException {
+        ParseTree parseTree = parse();
+        return new LispTreeWriter(syntaxAnalyzer.getParser(), options.getLispMaxLength()).write(parseTree, out);
+    }
+    
+    /**
+     * 只执行词法与语法分析，把 CST 或 AST 的 DOT 格式直接写入输出
+     * 
+     * @param ast true 输出 AST，false 输出 CST
+     * @param out 输出目标（例如响应 Writer）
+     * @throws IOException 写出失败
+     */
+    public void writeDot(boolean ast, Appendable out) throws IOException {
+        ParseTree parseTree = parse();
+        RustParser parser = syntaxAnalyzer.getParser();
+        if (ast) {
+            ASTGenerator.writeASTDot(ASTGenerator.generateAST(parseTree, parser), out);
+        } else {
+            CSTGenerator.writeDot(parseTree, parser, out);
+        }
+    }
+    
+    /**
+     * 执行词法分析，创建 Token 流并执行语法分析
+     * 
+     * @return 解析树
+     */
+    private ParseTree parse() {
+        // 1. 执行词法分析
+        lexicalAnalyzer.analyze();
+        
+        // 2. 创建 Token 流并执行语法分析（并行模式直接复用已有 Token）
+        if (options.getParseMode() == AnalysisOptions.ParseMode.PARALLEL) {
+            syntaxAnalyzer = new ParallelSyntaxAnalyzer(lexicalAnalyzer.getTokensWithEOF());
+        } else if (options.getLexMode() == AnalysisOptions.LexMode.PARALLEL) {
+            // 已并行完成词法分析，不再由语法分析器重新驱动词法分析器
+            syntaxAnalyzer = new SyntaxAnalyzer(new CommonTokenStream(new ListTokenSource(lexicalAnalyzer.getTokensWithEOF())));
+        } else {
+            CommonTokenStream tokenStream = new CommonTokenStream(lexicalAnalyzer.getLexer());
+            syntaxAnalyzer = new SyntaxAnalyzer(tokenStream);
+        }
+        syntaxAnalyzer.setErrorPolicy(options.getMaxErrors(), options.isDedupeErrors());
+        return syntaxAnalyzer.analyze();
+    }
+    
+    /**
+     * 设置了错误上限或去重时附加错误统计
+     */
+    private void attachErrorSummary() {
+        if (options.hasErrorPolicy()) {
+            analysisResult.setErrorSummary(syntaxAnalyzer.getErrorSummary());
         }
     }
     
@@ -133,7 +266,9 @@ public class AnalysisService {
      * 初始化分析器组件
      */
     private void initializeAnalyzers() {
-        this.lexicalAnalyzer = new LexicalAnalyzer(sourceCode);
+        this.lexicalAnalyzer = options.getLexMode() == AnalysisOptions.LexMode.PARALLEL
+            ? new ParallelLexicalAnalyzer(input, ParallelLexicalAnalyzer.DEFAULT_MIN_PARALLEL_CHARS)
+            : new LexicalAnalyzer(input);
     }
     
     /**
@@ -205,7 +340,7 @@ public class AnalysisService {
             
             DebugInfo debugInfo = new DebugInfo();
             debugInfo.timestamp = timestamp;
-            debugInfo.sourceCode = sourceCode;
+            debugInfo.sourceCode = lexicalAnalyzer.getSourceCode();
             debugInfo.analysisResult = analysisResult;
             
             // 保存分析结果
@@ -216,13 +351,14 @@ public class AnalysisService {
             try (FileWriter debugWriter = new FileWriter(debugFilePath.toFile());
                  FileWriter resultWriter = new FileWriter(resultFilePath.toFile())) {
                 
-                gson.toJson(debugInfo, debugWriter);
-                gson.toJson(analysisResult, resultWriter);
+                debugGson.toJson(debugInfo, debugWriter);
+                debugGson.toJson(analysisResult, resultWriter);
             }
             
-            System.out.println("Debug files saved:");
-            System.out.println("  Full debug info: " + debugFilePath.toAbsolutePath());
-            System.out.println("  Analysis result: " + resultFilePath.toAbsolutePath());
+            // 日志写入标准错误，标准输出留给 CLI 的 NDJSON 等结果
+            System.err.println("Debug files saved:");
+            System.err.println("  Full debug info: " + debugFilePath.toAbsolutePath());
+            System.err.println("  Analysis result: " + resultFilePath.toAbsolutePath());
             
         } catch (IOException e) {
             System.err.println("Failed to save debug result: " + e.getMessage());
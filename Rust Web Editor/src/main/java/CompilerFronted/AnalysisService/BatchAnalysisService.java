@@ -0,0 +1,183 @@
+package CompilerFronted.AnalysisService;
+
+import CompilerFronted.AnalysisService.models.AnalysisOptions;
+import CompilerFronted.AnalysisService.models.AnalysisResult;
+import CompilerFronted.AnalysisService.models.BatchFile;
+import CompilerFronted.AnalysisService.models.BatchFileResult;
+
+import org.antlr.v4.runtime.CharStream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 批量分析服务
+ *
+ * 在 work-stealing 的 ForkJoinPool 上并行执行现有的 {@link AnalysisService} 流程：
+ * - 每个文件一个任务，结果按完成顺序交给调用线程上的回调，便于流式输出
+ * - 可选的结果处理（序列化、写文件）在工作线程上执行
+ * - 单个文件的任何失败（包括深度嵌套导致的 StackOverflowError）只影响该文件
+ * - 批量分析不写调试文件
+ *
+ * 同一个实例可被多个请求共享，线程池为所有请求共用。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class BatchAnalysisService {
+
+    private final ForkJoinPool pool;
+
+    /**
+     * @param parallelism 并行度（工作线程数）
+     */
+    public BatchAnalysisService(int parallelism) {
+        this.pool = new ForkJoinPool(Math.max(1, parallelism));
+    }
+
+    /**
+     * 按可用处理器数创建
+     */
+    public BatchAnalysisService() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 并行分析一批文件，阻塞直到全部完成
+     *
+     * @param files 输入文件
+     * @param options 分析选项（对所有文件生效）
+     * @param onResult 结果回调，按完成顺序在调用线程上执行；抛出异常时停止等待剩余结果
+     * @throws InterruptedException 等待结果时被中断
+     */
+    public void analyze(List<BatchFile> files, AnalysisOptions options, Consumer<BatchFileResult> onResult)
+            throws InterruptedException {
+        analyze(files, options, Function.identity(), onResult);
+    }
+
+    /**
+     * 并行分析一批文件，并在工作线程上对结果做进一步处理（例如序列化）
+     *
+     * 序列化往往与分析本身同样耗时，放在工作线程上可避免调用线程成为瓶颈。
+     *
+     * @param files 输入文件
+     * @param options 分析选项（对所有文件生效）
+     * @param transform 在工作线程上执行的结果处理；抛出异常时整个批次中止
+     * @param onResult 处理后结果的回调，按完成顺序在调用线程上执行
+     * @throws InterruptedException 等待结果时被中断
+     */
+    public <T> void analyze(List<BatchFile> files, AnalysisOptions options,
+                            Function<BatchFileResult, T> transform, Consumer<T> onResult)
+            throws InterruptedException {
+        AnalysisOptions batchOptions = new AnalysisOptions(options);
+        batchOptions.setSaveDebugOutput(false);
+
+        BlockingQueue<Completed<T>> completed = new LinkedBlockingQueue<>();
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            final int index = i;
+            final BatchFile file = files.get(i);
+            tasks.add(pool.submit(() -> {
+                Completed<T> entry = new Completed<>();
+                try {
+                    entry.value = transform.apply(analyzeFile(index, file, batchOptions));
+                } catch (Throwable e) {
+                    entry.failure = e;
+                }
+                completed.add(entry);
+            }));
+        }
+
+        boolean finished = false;
+        try {
+            for (int remaining = files.size(); remaining > 0; remaining--) {
+                Completed<T> entry = completed.take();
+                if (entry.failure != null) {
+                    throw new IllegalStateException("Failed to process batch result", entry.failure);
+                }
+                onResult.accept(entry.value);
+            }
+            finished = true;
+        } finally {
+            if (!finished) {
+                // 调用方中止（例如客户端断开）或结果处理失败：取消尚未开始的任务
+                for (ForkJoinTask<?> task : tasks) {
+                    task.cancel(false);
+                }
+            }
+        }
+    }
+
+    /**
+     * 在共用线程池上对每个文件执行任意处理（例如建立符号索引），阻塞直到全部完成
+     *
+     * @param files 输入文件
+     * @param action 每个文件的处理，应自行处理单个文件的失败
+     * @throws InterruptedException 等待时被中断
+     */
+    public void forEach(List<BatchFile> files, Consumer<BatchFile> action) throws InterruptedException {
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(files.size());
+        for (BatchFile file : files) {
+            tasks.add(pool.submit(() -> action.accept(file)));
+        }
+        try {
+            for (ForkJoinTask<?> task : tasks) {
+                task.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to process batch file", e.getCause());
+        } finally {
+            for (ForkJoinTask<?> task : tasks) {
+                task.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * 分析单个文件，所有异常转换为该文件的错误结果
+     */
+    static BatchFileResult analyzeFile(int index, BatchFile file, AnalysisOptions options) {
+        BatchFileResult fileResult = new BatchFileResult(index, file.getPath());
+        long start = System.nanoTime();
+        try {
+            CharStream input = file.openCharStream();
+            fileResult.setBytes((int) file.getByteLength());
+            AnalysisResult result = new AnalysisService(input, options).analyze();
+            fileResult.setResult(result);
+            fileResult.setSuccess(result.isSuccess());
+        } catch (Throwable e) {
+            // 任何失败都必须产生结果，否则调用方会一直等待
+            fileResult.setSuccess(false);
+            fileResult.setError(e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+        fileResult.setDurationMillis((System.nanoTime() - start) / 1_000_000);
+        return fileResult;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * 关闭线程池
+     */
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * 工作线程产生的结果或失败
+     */
+    private static class Completed<T> {
+        T value;
+        Throwable failure;
+    }
+}
@@ -4,7 +4,10 @@ import CompilerFronted.Core.RustLexer;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.WritableToken;
+import org.antlr.v4.runtime.misc.Interval;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -25,9 +28,11 @@ import java.util.List;
  */
 public class LexicalAnalyzer {
     
-    private final String sourceCode;
+    private final CharStream input;
+    private String sourceCode;      // 基于字节流创建时按需生成
     private RustLexer lexer;
     private List<? extends Token> tokens;
+    private Token eofToken;
     
     /**
      * 构造函数
@@ -36,6 +41,17 @@ public class LexicalAnalyzer {
      */
     public LexicalAnalyzer(String sourceCode) {
         this.sourceCode = sourceCode;
+        this.input = CharStreams.fromString(sourceCode);
+        initializeLexer();
+    }
+    
+    /**
+     * 构造函数
+     * 
+     * @param input 待分析的字符流（例如基于请求体字节的 {@link Utf8CharStream}）
+     */
+    public LexicalAnalyzer(CharStream input) {
+        this.input = input;
         initializeLexer();
     }
     
@@ -43,7 +59,6 @@ public class LexicalAnalyzer {
      * 初始化词法分析器
      */
     private void initializeLexer() {
-        CharStream input = CharStreams.fromString(sourceCode);
         this.lexer = new RustLexer(input);
     }
     
@@ -54,13 +69,61 @@ public class LexicalAnalyzer {
      */
     public List<? extends Token> analyze() {
         if (tokens == null) {
-            tokens = lexer.getAllTokens();
+            List<Token> all = tokenize();
+            tokens = all.subList(0, all.size() - 1);
+            eofToken = all.get(all.size() - 1);
+            // 按 CommonTokenStream 的规则编号，使 Token 可直接用于语法分析
+            for (int i = 0; i < tokens.size(); i++) {
+                if (tokens.get(i) instanceof WritableToken) {
+                    ((WritableToken) tokens.get(i)).setTokenIndex(i);
+                }
+            }
+            if (eofToken instanceof WritableToken) {
+                ((WritableToken) eofToken).setTokenIndex(tokens.size());
+            }
             // 重置词法分析器以便后续语法分析使用
             lexer.reset();
         }
         return tokens;
     }
     
+    /**
+     * 执行词法分析，返回包含末尾 EOF 的全部 Token
+     * 
+     * @return Token 列表
+     */
+    protected List<Token> tokenize() {
+        List<Token> all = new ArrayList<>(lexer.getAllTokens());
+        // getAllTokens 不包含 EOF：再取一次得到位置正确的 EOF Token
+        all.add(lexer.nextToken());
+        return all;
+    }
+    
+    /**
+     * 获取源代码（基于字符流创建时按需生成）
+     * 
+     * @return 源代码
+     */
+    public String getSourceCode() {
+        if (sourceCode == null) {
+            sourceCode = input.getText(Interval.of(0, input.size() - 1));
+        }
+        return sourceCode;
+    }
+    
+    /**
+     * 获取包含末尾 EOF 的 Token 列表（下标与 Token 编号一致）
+     * 
+     * @return Token 列表
+     */
+    public List<Token> getTokensWithEOF() {
+        analyze();
+        List<Token> all = new ArrayList<>(tokens.size() + 1);
+        all.addAll(tokens);
+        all.add(eofToken);
+        return all;
+    }
+    
     /**
      * 获取词法分析器实例
      * 
@@ -85,5 +148,6 @@ public class LexicalAnalyzer {
     public void reset() {
         lexer.reset();
         tokens = null;
+        eofToken = null;
     }
 }
@@ -0,0 +1,243 @@
+package CompilerFronted.AnalysisService.analyzers;
+
+import CompilerFronted.Core.RustLexer;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CodePointBuffer;
+import org.antlr.v4.runtime.CodePointCharStream;
+import org.antlr.v4.runtime.Token;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 并行词法分析器
+ *
+ * 针对大文件（如 bindgen 生成的代码），在换行处把输入推测性地切分为若干块并发词法分析：
+ * 1. 每块假设从"Token 边界、无前置 Token"的初始状态开始，在共享的码点缓冲上独立分析，
+ *    直到下一个 Token 的起点越过块尾（最后一个 Token 可以跨越块尾）
+ * 2. 按顺序校验：上一块实际结束的位置必须恰好是本块起点，且块边界两侧最近的默认通道 Token
+ *    都不是 '.'（RustLexerBase.floatLiteralPossible 依赖前两个 Token）；
+ *    块注释、原始字符串等跨行 Token 会使校验失败
+ * 3. 校验失败的块从上一块的实际结束位置、以正确的行号与前置 Token 重新分析，其余块直接采用
+ *
+ * 词法分析器不含模式切换，因此"起点位置 + 行列号 + 前置 Token"即完整状态，
+ * 输出的 Token 序列与顺序分析完全一致。推测性分析中的词法错误不输出到控制台。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class ParallelLexicalAnalyzer extends LexicalAnalyzer {
+
+    /** 源代码少于该字符数时直接顺序分析 */
+    public static final int DEFAULT_MIN_PARALLEL_CHARS = 256 * 1024;
+
+    /** 每块的最小字符数，避免块过碎 */
+    private static final int MIN_CHUNK_CHARS = 32 * 1024;
+
+    private final int minParallelChars;
+    private int relexedChunks;
+
+    /**
+     * @param sourceCode 待分析的源代码
+     */
+    public ParallelLexicalAnalyzer(String sourceCode) {
+        this(sourceCode, DEFAULT_MIN_PARALLEL_CHARS);
+    }
+
+    /**
+     * @param sourceCode 待分析的源代码
+     * @param minParallelChars 启用并行分析的最少字符数
+     */
+    public ParallelLexicalAnalyzer(String sourceCode, int minParallelChars) {
+        super(sourceCode);
+        this.minParallelChars = minParallelChars;
+    }
+
+    /**
+     * @param input 待分析的字符流（启用并行分析时会生成完整的源代码字符串）
+     * @param minParallelChars 启用并行分析的最少字符数
+     */
+    public ParallelLexicalAnalyzer(CharStream input, int minParallelChars) {
+        super(input);
+        this.minParallelChars = minParallelChars;
+    }
+
+    /**
+     * 最近一次分析中推测失败、重新分析的块数
+     */
+    public int getRelexedChunks() {
+        return relexedChunks;
+    }
+
+    @Override
+    protected List<Token> tokenize() {
+        if (getLexer().getInputStream().size() < minParallelChars) {
+            return super.tokenize();
+        }
+        String source = getSourceCode();
+        List<Chunk> chunks = split(source);
+        if (chunks.size() < 2) {
+            return super.tokenize();
+        }
+
+        CodePointBuffer buffer = toCodePoints(source);
+        List<Result> speculative = chunks.parallelStream()
+            .map(chunk -> lexChunk(buffer, chunk, chunk.line, 0, null, null))
+            .collect(Collectors.toList());
+
+        List<Token> all = new ArrayList<>();
+        relexedChunks = 0;
+        Result previous = speculative.get(0);
+        all.addAll(previous.tokens);
+        for (int i = 1; i < chunks.size(); i++) {
+            Chunk chunk = chunks.get(i);
+            Result result = speculative.get(i);
+            Token current = lastDefaultToken(all, 0);
+            Token first = firstDefaultToken(result.tokens);
+            boolean valid = previous.eof == null
+                && previous.endIndex == chunk.start
+                && (current == null || current.getType() != RustLexer.DOT)
+                && (first == null || first.getType() != RustLexer.DOT);
+            if (!valid) {
+                relexedChunks++;
+                if (previous.eof != null || previous.endIndex >= chunk.end) {
+                    // 上一块的 Token 覆盖了整块（例如很长的块注释），本块没有新的 Token
+                    continue;
+                }
+                result = lexChunk(buffer, new Chunk(previous.endIndex, chunk.end, chunk.line),
+                    previous.endLine, previous.endCharPosition, lastDefaultToken(all, 1), current);
+            }
+            all.addAll(result.tokens);
+            previous = result;
+        }
+        all.add(previous.eof);
+        return all;
+    }
+
+    /**
+     * 在换行之后切分输入，返回以码点为单位的块
+     */
+    private List<Chunk> split(String source) {
+        List<Chunk> chunks = new ArrayList<>();
+        int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors());
+        int chunkChars = Math.max(MIN_CHUNK_CHARS, source.length() / (parallelism * 4));
+
+        int charStart = 0;
+        int codePointStart = 0;
+        int line = 1;
+        while (charStart < source.length()) {
+            int newline = source.indexOf('\n', Math.min(source.length(), charStart + chunkChars));
+            int charEnd = newline < 0 ? source.length() : newline + 1;
+            boolean last = charEnd >= source.length();
+            int codePointEnd = codePointStart + source.codePointCount(charStart, charEnd);
+            // 最后一块一直分析到 EOF
+            chunks.add(new Chunk(codePointStart, last ? Integer.MAX_VALUE : codePointEnd, line));
+            line += countNewlines(source, charStart, charEnd);
+            charStart = charEnd;
+            codePointStart = codePointEnd;
+        }
+        return chunks;
+    }
+
+    private static int countNewlines(String source, int from, int to) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (source.charAt(i) == '\n') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 从指定状态开始分析一块，直到下一个 Token 的起点越过块尾
+     */
+    private static Result lexChunk(CodePointBuffer buffer, Chunk chunk, int line, int charPosition,
+                                   Token previous, Token current) {
+        // 每块独立的 CharStream，共享同一个码点数组
+        CharStream input = CodePointCharStream.fromBuffer(buffer);
+        input.seek(chunk.start);
+        RustLexer lexer = new RustLexer(input);
+        lexer.removeErrorListeners();
+        lexer.setLine(line);
+        lexer.setCharPositionInLine(charPosition);
+        lexer.setPrecedingTokens(previous, current);
+
+        Result result = new Result();
+        while (input.index() < chunk.end) {
+            Token token = lexer.nextToken();
+            if (token.getType() == Token.EOF) {
+                result.eof = token;
+                break;
+            }
+            result.tokens.add(token);
+        }
+        result.endIndex = input.index();
+        result.endLine = lexer.getLine();
+        result.endCharPosition = lexer.getCharPositionInLine();
+        return result;
+    }
+
+    private static Token firstDefaultToken(List<Token> tokens) {
+        for (Token token : tokens) {
+            if (token.getChannel() == Token.DEFAULT_CHANNEL) {
+                return token;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 从末尾起第 skip 个（从 0 计）默认通道 Token
+     */
+    private static Token lastDefaultToken(List<Token> tokens, int skip) {
+        for (int i = tokens.size() - 1; i >= 0; i--) {
+            if (tokens.get(i).getChannel() == Token.DEFAULT_CHANNEL && skip-- == 0) {
+                return tokens.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 与 CharStreams.fromString 相同的码点转换，缓冲可被多个 CharStream 共享
+     */
+    private static CodePointBuffer toCodePoints(String source) {
+        CodePointBuffer.Builder builder = CodePointBuffer.builder(source.length());
+        CharBuffer chars = CharBuffer.allocate(source.length());
+        chars.put(source);
+        chars.flip();
+        builder.append(chars);
+        return builder.build();
+    }
+
+    /**
+     * 一个推测性分析块：码点区间 [start, end)，起始行号
+     */
+    private static class Chunk {
+        final int start;
+        final int end;
+        final int line;
+
+        Chunk(int start, int end, int line) {
+            this.start = start;
+            this.end = end;
+            this.line = line;
+        }
+    }
+
+    /**
+     * 一块的分析结果与结束状态
+     */
+    private static class Result {
+        final List<Token> tokens = new ArrayList<>();
+        Token eof;
+        int endIndex;
+        int endLine;
+        int endCharPosition;
+    }
+}
@@ -0,0 +1,351 @@
+package CompilerFronted.AnalysisService.analyzers;
+
+import CompilerFronted.Core.RustParser;
+
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.ATNState;
+import org.antlr.v4.runtime.atn.RuleTransition;
+import org.antlr.v4.runtime.atn.Transition;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 并行语法分析器
+ *
+ * 针对大文件，把顶层 item 分组后并发解析，再合并为一棵与顺序解析完全相同的 CrateContext：
+ * 1. 只做一次词法分析，在默认通道 Token 上做括号配平（{} [] ()），
+ *    深度为 0 的 '}'（及紧随的 ';'）或 ';' 视为 item 边界
+ * 2. 按边界把连续的 item 分组，每组在独立的 RustParser 上循环调用 item()；
+ *    组内的 item 边界由解析器自己决定，启发式切分只影响组与组的交界
+ * 3. 组内解析使用 Token 副本（CommonTokenStream 会改写 Token 编号），
+ *    完成后把终结符与上下文的 start/stop 换回原始 Token，并按顺序解析时的
+ *    invokingState 挂到同一个 CrateContext 下
+ *
+ * 任一组出现语法错误或未恰好消费完本组 Token 时，整体回退到顺序解析，
+ * 因此错误信息与顺序解析完全一致。
+ *
+ * 线程安全：ANTLR 的 DFA 缓存为所有 RustParser 实例共享且支持并发访问。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class ParallelSyntaxAnalyzer extends SyntaxAnalyzer {
+
+    /** 默认通道 Token 少于该数量时直接顺序解析 */
+    public static final int DEFAULT_MIN_PARALLEL_TOKENS = 4096;
+
+    /** 每个并发任务至少包含的默认通道 Token 数，避免任务过碎 */
+    private static final int MIN_GROUP_TOKENS = 1024;
+
+    /** crate 规则中调用 innerAttribute / item 时的 ATN 状态，从 RustParser 的 ATN 中查找，随语法重新生成而变化 */
+    private static final int CRATE_INNER_ATTRIBUTE_STATE = invokingState(RustParser.RULE_crate, RustParser.RULE_innerAttribute);
+    private static final int CRATE_ITEM_STATE = invokingState(RustParser.RULE_crate, RustParser.RULE_item);
+
+    private static final boolean VERIFY = Boolean.getBoolean("parser.parallel.verify");
+
+    private final List<Token> tokens;
+    private final int minParallelTokens;
+    private ParseTree parseTree;
+    private boolean parsedInParallel;
+
+    /**
+     * @param tokens 完整 Token 列表（含隐藏通道，末尾为 EOF，下标与 Token 编号一致）
+     */
+    public ParallelSyntaxAnalyzer(List<Token> tokens) {
+        this(tokens, DEFAULT_MIN_PARALLEL_TOKENS);
+    }
+
+    /**
+     * @param tokens 完整 Token 列表（含隐藏通道，末尾为 EOF，下标与 Token 编号一致）
+     * @param minParallelTokens 启用并行解析的最少默认通道 Token 数
+     */
+    public ParallelSyntaxAnalyzer(List<Token> tokens, int minParallelTokens) {
+        super(new CommonTokenStream(new ListTokenSource(tokens)));
+        this.tokens = tokens;
+        this.minParallelTokens = minParallelTokens;
+    }
+
+    @Override
+    public ParseTree analyze() {
+        if (parseTree == null) {
+            ParseTree parallel = parseInParallel();
+            if (parallel != null && VERIFY) {
+                ParseTree sequential = super.analyze();
+                if (!sequential.toStringTree(getParser()).equals(parallel.toStringTree(getParser()))) {
+                    System.err.println("Parallel parse differs from sequential parse, using sequential result");
+                    parallel = null;
+                }
+            }
+            parsedInParallel = parallel != null;
+            parseTree = parsedInParallel ? parallel : super.analyze();
+        }
+        return parseTree;
+    }
+
+    @Override
+    public ParseTree getParseTree() {
+        return parseTree;
+    }
+
+    /**
+     * 是否实际采用了并行解析（否则为顺序解析或回退）
+     */
+    public boolean isParsedInParallel() {
+        return parsedInParallel;
+    }
+
+    /**
+     * 尝试并行解析
+     *
+     * @return 合并后的 CrateContext；不适合并行或出现错误时返回 null
+     */
+    private RustParser.CrateContext parseInParallel() {
+        List<Integer> boundaries = findGroupBoundaries();
+        if (boundaries == null || boundaries.size() < 3) {
+            return null;
+        }
+
+        List<Group> groups = new ArrayList<>(boundaries.size() - 1);
+        for (int i = 0; i + 1 < boundaries.size(); i++) {
+            groups.add(new Group(boundaries.get(i), boundaries.get(i + 1), i == 0));
+        }
+        List<List<ParserRuleContext>> parsed = groups.parallelStream()
+            .map(this::parseGroup)
+            .collect(Collectors.toList());
+        for (List<ParserRuleContext> group : parsed) {
+            if (group == null) {
+                return null;
+            }
+        }
+
+        // 按顺序解析的形态组装 CrateContext
+        Token eof = tokens.get(tokens.size() - 1);
+        RustParser.CrateContext crate = new RustParser.CrateContext(null, -1);
+        for (List<ParserRuleContext> group : parsed) {
+            for (ParserRuleContext child : group) {
+                child.setParent(crate);
+                child.invokingState = child instanceof RustParser.InnerAttributeContext
+                    ? CRATE_INNER_ATTRIBUTE_STATE : CRATE_ITEM_STATE;
+                crate.addChild(child);
+            }
+        }
+        crate.addChild(new TerminalNodeImpl(eof));
+        crate.start = firstDefaultToken(0);
+        crate.stop = eof;
+        return crate;
+    }
+
+    /**
+     * 在默认通道 Token 上配平括号，按任务大小确定分组边界
+     *
+     * @return 完整 Token 列表中的分组起点（首元素 0，末元素为 EOF 下标）；括号不配平时返回 null
+     */
+    private List<Integer> findGroupBoundaries() {
+        int eofIndex = tokens.size() - 1;
+        int visible = 0;
+        for (int i = 0; i < eofIndex; i++) {
+            if (tokens.get(i).getChannel() == Token.DEFAULT_CHANNEL) {
+                visible++;
+            }
+        }
+        if (visible < minParallelTokens) {
+            return null;
+        }
+        int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors());
+        int groupTokens = Math.max(MIN_GROUP_TOKENS, visible / (parallelism * 4));
+
+        List<Integer> boundaries = new ArrayList<>();
+        boundaries.add(0);
+        int depth = 0;
+        int tokensInGroup = 0;
+        for (int i = 0; i < eofIndex; i++) {
+            Token token = tokens.get(i);
+            if (token.getChannel() != Token.DEFAULT_CHANNEL) {
+                continue;
+            }
+            tokensInGroup++;
+            int type = token.getType();
+            boolean itemEnd = false;
+            if (type == RustParser.LCURLYBRACE || type == RustParser.LSQUAREBRACKET || type == RustParser.LPAREN) {
+                depth++;
+            } else if (type == RustParser.RCURLYBRACE || type == RustParser.RSQUAREBRACKET || type == RustParser.RPAREN) {
+                depth--;
+                if (depth < 0) {
+                    return null;
+                }
+                if (depth == 0 && type == RustParser.RCURLYBRACE) {
+                    // const X: T = { ... }; 之类以 '}' 结尾、后跟 ';' 的 item
+                    int next = nextDefaultToken(i + 1);
+                    itemEnd = tokens.get(next).getType() != RustParser.SEMI;
+                }
+            } else if (type == RustParser.SEMI && depth == 0) {
+                itemEnd = true;
+            }
+            if (itemEnd && tokensInGroup >= groupTokens) {
+                // 边界放在本 item 最后一个 Token 之后，其后的空白与注释归入下一组
+                boundaries.add(i + 1);
+                tokensInGroup = 0;
+            }
+        }
+        if (depth != 0) {
+            return null;
+        }
+        // 最后一组延伸到 EOF；若末尾只剩空白/注释则并入上一组
+        int last = boundaries.get(boundaries.size() - 1);
+        if (boundaries.size() > 1 && nextDefaultToken(last) == eofIndex) {
+            boundaries.remove(boundaries.size() - 1);
+        }
+        boundaries.add(eofIndex);
+        return boundaries;
+    }
+
+    /**
+     * 解析一组连续的 item（第一组同时解析开头的内部属性）
+     *
+     * @return 解析出的上下文；出现错误时返回 null
+     */
+    private List<ParserRuleContext> parseGroup(Group group) {
+        // Token 副本：CommonTokenStream 会按组内位置重新编号
+        List<Token> copies = new ArrayList<>(group.end - group.start + 1);
+        for (int i = group.start; i < group.end; i++) {
+            copies.add(new CommonToken(tokens.get(i)));
+        }
+        CommonToken eof = new CommonToken(tokens.get(group.end));
+        eof.setType(Token.EOF);
+        eof.setChannel(Token.DEFAULT_CHANNEL);
+        eof.setText("<EOF>");
+        eof.setStopIndex(eof.getStartIndex() - 1);
+        copies.add(eof);
+
+        RustParser parser = new RustParser(new CommonTokenStream(new ListTokenSource(copies)));
+        boolean[] failed = { false };
+        parser.removeErrorListeners();
+        parser.addErrorListener(new BaseErrorListener() {
+            @Override
+            public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol,
+                                    int line, int charPositionInLine, String msg, RecognitionException e) {
+                failed[0] = true;
+            }
+        });
+
+        List<ParserRuleContext> contexts = new ArrayList<>();
+        try {
+            TokenStream input = parser.getTokenStream();
+            if (group.first) {
+                while (input.LA(1) == RustParser.POUND && input.LA(2) == RustParser.NOT) {
+                    contexts.add(parser.innerAttribute());
+                }
+            }
+            while (input.LA(1) != Token.EOF && !failed[0]) {
+                int before = input.index();
+                contexts.add(parser.item());
+                if (input.index() == before) {
+                    return null;
+                }
+            }
+        } catch (RuntimeException e) {
+            return null;
+        }
+        if (failed[0]) {
+            return null;
+        }
+
+        for (ParserRuleContext context : contexts) {
+            restoreTokens(context, group.start);
+        }
+        return contexts;
+    }
+
+    /**
+     * 把子树中的 Token 副本替换为原始 Token
+     */
+    private void restoreTokens(ParserRuleContext root, int offset) {
+        Deque<ParseTree> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            ParseTree node = stack.pop();
+            if (node instanceof TerminalNodeImpl) {
+                TerminalNodeImpl terminal = (TerminalNodeImpl) node;
+                terminal.symbol = original(terminal.symbol, offset);
+            } else if (node instanceof ParserRuleContext) {
+                ParserRuleContext context = (ParserRuleContext) node;
+                context.start = original(context.start, offset);
+                context.stop = context.stop != null
+                    ? original(context.stop, offset)
+                    : previousDefaultToken(offset);
+                for (int i = context.getChildCount() - 1; i >= 0; i--) {
+                    stack.push(context.getChild(i));
+                }
+            }
+        }
+    }
+
+    private Token original(Token copy, int offset) {
+        if (copy == null) {
+            return null;
+        }
+        return tokens.get(offset + copy.getTokenIndex());
+    }
+
+    private int nextDefaultToken(int from) {
+        int i = from;
+        while (i < tokens.size() - 1 && tokens.get(i).getChannel() != Token.DEFAULT_CHANNEL) {
+            i++;
+        }
+        return i;
+    }
+
+    private Token firstDefaultToken(int from) {
+        return tokens.get(nextDefaultToken(from));
+    }
+
+    private Token previousDefaultToken(int before) {
+        for (int i = before - 1; i >= 0; i--) {
+            if (tokens.get(i).getChannel() == Token.DEFAULT_CHANNEL) {
+                return tokens.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 规则 rule 中调用 calledRule 的 ATN 状态编号（即子上下文的 invokingState）
+     */
+    private static int invokingState(int rule, int calledRule) {
+        for (ATNState state : RustParser._ATN.states) {
+            if (state == null || state.ruleIndex != rule) {
+                continue;
+            }
+            for (Transition transition : state.getTransitions()) {
+                if (transition instanceof RuleTransition
+                    && ((RuleTransition) transition).target.ruleIndex == calledRule) {
+                    return state.stateNumber;
+                }
+            }
+        }
+        throw new IllegalStateException("Rule " + RustParser.ruleNames[rule]
+            + " does not invoke " + RustParser.ruleNames[calledRule]);
+    }
+
+    /**
+     * 一个并发任务：完整 Token 列表中的 [start, end)
+     */
+    private static class Group {
+        final int start;
+        final int end;
+        final boolean first;
+
+        Group(int start, int end, boolean first) {
+            this.start = start;
+            this.end = end;
+            this.first = first;
+        }
+    }
+}
@@ -2,11 +2,15 @@ package CompilerFronted.AnalysisService.analyzers;
 
 import CompilerFronted.Core.RustParser;
 import CompilerFronted.AnalysisService.models.ErrorInfo;
+import CompilerFronted.AnalysisService.models.ErrorSummary;
 
 import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ParseTree;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -19,7 +23,7 @@ import java.util.List;
  * - 创建和配置语法分析器
  * - 设置错误监听器
  * - 执行语法分析
- * - 收集语法错误
+ * - 收集语法错误（可设置错误上限与级联错误去重，见 {@link #setErrorPolicy(int, boolean)}）
  * - 生成解析树
  * 
  * @author Compiler Frontend Team
@@ -33,6 +37,15 @@ public class SyntaxAnalyzer {
     private List<ErrorInfo> errors;
     private ParseTree parseTree;
     
+    // 错误策略
+    private int maxErrors;                  // 0 表示不限制
+    private boolean dedupeErrors;
+    private final BitSet errorTokens = new BitSet();   // 已报告错误的出错 Token 下标
+    private int totalErrors;
+    private int duplicateErrors;
+    private boolean truncated;
+    private int lastErrorTokenIndex = -1;
+    
     /**
      * 构造函数
      * 
@@ -61,11 +74,47 @@ public class SyntaxAnalyzer {
             @Override
             public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, 
                                   int line, int charPositionInLine, String msg, RecognitionException e) {
+                totalErrors++;
+                if (truncated) {
+                    return;
+                }
+                int tokenIndex = offendingSymbol instanceof Token ? ((Token) offendingSymbol).getTokenIndex() : -1;
+                if (dedupeErrors && tokenIndex >= 0) {
+                    // 恢复过程在同一个 Token 上产生的级联错误只保留第一个
+                    if (errorTokens.get(tokenIndex)) {
+                        duplicateErrors++;
+                        return;
+                    }
+                    errorTokens.set(tokenIndex);
+                }
                 errors.add(new ErrorInfo(line, charPositionInLine, msg));
+                lastErrorTokenIndex = Math.max(lastErrorTokenIndex, tokenIndex);
+                if (maxErrors > 0 && errors.size() >= maxErrors) {
+                    truncated = true;
+                }
             }
         });
     }
     
+    /**
+     * 设置错误策略，需在 {@link #analyze()} / {@link #diagnose()} 之前调用
+     * 
+     * @param maxErrors 错误上限，达到后跳过其余输入、尽快结束解析；0 表示不限制
+     * @param dedupeErrors 同一出错 Token 上的级联错误是否只报告第一个
+     */
+    public void setErrorPolicy(int maxErrors, boolean dedupeErrors) {
+        this.maxErrors = Math.max(0, maxErrors);
+        this.dedupeErrors = dedupeErrors;
+        parser.setErrorHandler(createErrorStrategy());
+    }
+    
+    /**
+     * 设置了错误上限时使用可提前结束的恢复策略，否则为 ANTLR 默认策略
+     */
+    private ANTLRErrorStrategy createErrorStrategy() {
+        return maxErrors > 0 ? new CappedErrorStrategy() : new DefaultErrorStrategy();
+    }
+    
     /**
      * 执行语法分析
      * 
@@ -78,6 +127,58 @@ public class SyntaxAnalyzer {
         return parseTree;
     }
     
+    /**
+     * 以两阶段预测执行语法分析（见 {@link #diagnose()}）
+     * 
+     * 合法代码只需一遍 SLL 解析，得到的解析树与 {@link #analyze()} 相同；
+     * 含错误的代码回退到 LL 预测 + 默认恢复策略，解析树与错误同样一致。
+     * 供只需要解析树结构、对延迟敏感的编辑器功能使用。
+     * 
+     * @return 解析树根节点
+     */
+    public ParseTree analyzeTwoStage() {
+        if (parseTree == null) {
+            parseTree = parseTwoStage(true);
+        }
+        return parseTree;
+    }
+    
+    /**
+     * 只检查语法错误，不构建解析树
+     * 
+     * 关闭 {@code buildParseTree}，并采用两阶段解析：
+     * - 先用 SLL 预测 + {@link BailErrorStrategy}，合法代码（绝大多数编辑中的情形）一遍完成
+     * - SLL 遇到错误时回到 Token 流开头，以 LL 预测 + 默认恢复策略重新解析，
+     *   报告的错误与完整分析完全一致
+     * 
+     * 解析后 {@link #getParseTree()} 仍为 null。
+     * 
+     * @return 语法错误列表
+     */
+    public List<ErrorInfo> diagnose() {
+        parseTwoStage(false);
+        return getErrors();
+    }
+    
+    private ParseTree parseTwoStage(boolean buildParseTree) {
+        parser.setBuildParseTree(buildParseTree);
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        try {
+            return parser.crate();
+        } catch (ParseCancellationException e) {
+            resetErrorState();
+            parser.reset();
+            setupErrorListener();
+            parser.setErrorHandler(createErrorStrategy());
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            return parser.crate();
+        } finally {
+            setupErrorListener();
+        }
+    }
+    
     /**
      * 获取语法分析器实例
      * 
@@ -105,6 +206,37 @@ public class SyntaxAnalyzer {
         return new ArrayList<>(errors); // 返回副本以保护内部状态
     }
     
+    /**
+     * 错误统计，解析完成后调用
+     * 
+     * @return 错误总数、去重数、是否截断与错误密度
+     */
+    public ErrorSummary getErrorSummary() {
+        // 并行解析成功时主 Token 流未被驱动过
+        if (tokenStream instanceof BufferedTokenStream) {
+            ((BufferedTokenStream) tokenStream).fill();
+        }
+        // 截断时只统计到最后一个报告的错误为止
+        int end = truncated ? lastErrorTokenIndex + 1 : tokenStream.size();
+        int examined = 0;
+        for (int i = 0; i < end && i < tokenStream.size(); i++) {
+            Token token = tokenStream.get(i);
+            if (token.getChannel() == Token.DEFAULT_CHANNEL && token.getType() != Token.EOF) {
+                examined++;
+            }
+        }
+        return new ErrorSummary(totalErrors, errors.size(), duplicateErrors, truncated, examined);
+    }
+    
+    /**
+     * 是否因达到错误上限而提前结束解析
+     * 
+     * @return 如果已截断返回 true
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+    
     /**
      * 检查是否有语法错误
      * 
@@ -118,6 +250,61 @@ public class SyntaxAnalyzer {
      * 清除错误信息
      */
     public void clearErrors() {
+        resetErrorState();
+    }
+    
+    private void resetErrorState() {
         errors.clear();
+        errorTokens.clear();
+        totalErrors = 0;
+        duplicateErrors = 0;
+        truncated = false;
+        lastErrorTokenIndex = -1;
+    }
+    
+    /**
+     * 带错误上限的恢复策略
+     * 
+     * 达到上限后不再做单 Token 插入 / 删除与重同步，而是直接把 Token 流跳到 EOF
+     * （不经过 Parser.consume，跳过的 Token 不进入解析树），外层规则随即在 EOF 处
+     * 依次失败返回；此时处于错误恢复状态，不会再报告新错误。
+     * 严重损坏的输入因此不会在成千上万次级联恢复上耗费时间。
+     */
+    private class CappedErrorStrategy extends DefaultErrorStrategy {
+        
+        @Override
+        public void recover(Parser recognizer, RecognitionException e) {
+            if (truncated) {
+                skipToEof(recognizer);
+                return;
+            }
+            super.recover(recognizer, e);
+        }
+        
+        @Override
+        public Token recoverInline(Parser recognizer) throws RecognitionException {
+            if (truncated) {
+                skipToEof(recognizer);
+                throw new InputMismatchException(recognizer);
+            }
+            return super.recoverInline(recognizer);
+        }
+        
+        @Override
+        public void sync(Parser recognizer) throws RecognitionException {
+            if (truncated) {
+                skipToEof(recognizer);
+                return;
+            }
+            super.sync(recognizer);
+        }
+        
+        private void skipToEof(Parser recognizer) {
+            beginErrorCondition(recognizer);
+            TokenStream input = recognizer.getInputStream();
+            while (input.LA(1) != Token.EOF) {
+                input.consume();
+            }
+        }
     }
 }
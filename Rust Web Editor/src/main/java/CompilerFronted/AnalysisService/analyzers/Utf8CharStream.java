@@ -0,0 +1,328 @@
+package CompilerFronted.AnalysisService.analyzers;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 直接基于 UTF-8 字节的 CharStream
+ *
+ * CharStreams.fromString 需要先把请求体解码为 String，再复制为码点数组，
+ * 大文件在内存中会同时存在多份。本类直接在请求体字节数组或内存映射文件上工作：
+ * - 纯 ASCII 输入：码点下标即字节偏移，LA() 直接读取字节
+ * - 含非 ASCII 字符：按需解码码点；每 64 个码点记录一个字节偏移检查点，
+ *   检查点随词法分析向前推进逐步建立，用于 seek() 与 getText() 的随机访问
+ *
+ * 与 ANTLR 的 CodePointCharStream 行为一致（下标以码点计、越界返回 EOF）。
+ * 仅接受合法的 UTF-8；非法输入由工厂方法回退为按替换字符解码后的字符串，
+ * 与 new String(bytes, UTF_8) 的结果相同。
+ *
+ * 非线程安全；需要并发读取时为每个线程创建独立实例。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class Utf8CharStream implements CharStream {
+
+    /** 检查点间隔（码点数，2 的幂） */
+    private static final int CHECKPOINT_SHIFT = 6;
+    private static final int CHECKPOINT_INTERVAL = 1 << CHECKPOINT_SHIFT;
+
+    private final ByteBuffer bytes;
+    private final int byteLength;
+    private final int size;
+    private final boolean ascii;
+    private final String name;
+
+    // 当前位置（码点下标与对应的字节偏移）
+    private int index;
+    private int offset;
+
+    // 非 ASCII 输入的字节偏移检查点：checkpoints[k] 为第 k * 64 个码点的字节偏移
+    private int[] checkpoints;
+    private int checkpointCount;
+
+    private Utf8CharStream(ByteBuffer bytes, int size, String name) {
+        this.bytes = bytes;
+        this.byteLength = bytes.limit();
+        this.size = size;
+        this.ascii = size == byteLength;
+        this.name = name;
+        if (!ascii) {
+            this.checkpoints = new int[(size >> CHECKPOINT_SHIFT) + 1];
+            this.checkpointCount = 1;   // checkpoints[0] = 0
+        }
+    }
+
+    /**
+     * 基于字节数组创建（不复制）
+     *
+     * @param bytes UTF-8 编码的源代码
+     * @param sourceName 源名称
+     * @return 字符流；字节不是合法 UTF-8 时为解码后的普通字符流
+     */
+    public static CharStream fromBytes(byte[] bytes, String sourceName) {
+        return fromBuffer(ByteBuffer.wrap(bytes), sourceName);
+    }
+
+    /**
+     * 基于内存映射文件创建，文件内容不进入 Java 堆
+     *
+     * @param file 源文件
+     * @return 字符流；文件不是合法 UTF-8 时为解码后的普通字符流
+     * @throws IOException 读取文件失败
+     */
+    public static CharStream fromPath(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // 映射在通道关闭后仍然有效
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return fromBuffer(mapped, file.toString());
+        }
+    }
+
+    private static CharStream fromBuffer(ByteBuffer buffer, String sourceName) {
+        ByteBuffer bytes = buffer.slice();
+        int size = countCodePoints(bytes);
+        if (size < 0) {
+            String decoded = StandardCharsets.UTF_8.decode(bytes.duplicate()).toString();
+            return CharStreams.fromString(decoded, sourceName);
+        }
+        return new Utf8CharStream(bytes, size, sourceName);
+    }
+
+    /**
+     * 校验 UTF-8 并统计码点数（拒绝过长编码、代理区与超出 U+10FFFF 的序列）
+     *
+     * @return 码点数；不是合法 UTF-8 时返回 -1
+     */
+    static int countCodePoints(ByteBuffer bytes) {
+        int length = bytes.limit();
+        int count = 0;
+        int i = 0;
+        while (i < length) {
+            int b = bytes.get(i) & 0xFF;
+            if (b < 0x80) {
+                i++;
+            } else if (b >= 0xC2 && b <= 0xDF) {
+                if (!isContinuation(bytes, i + 1, length)) {
+                    return -1;
+                }
+                i += 2;
+            } else if (b >= 0xE0 && b <= 0xEF) {
+                if (i + 2 >= length) {
+                    return -1;
+                }
+                int b1 = bytes.get(i + 1) & 0xFF;
+                if ((b == 0xE0 && b1 < 0xA0) || (b == 0xED && b1 > 0x9F)
+                        || !isContinuation(bytes, i + 1, length) || !isContinuation(bytes, i + 2, length)) {
+                    return -1;
+                }
+                i += 3;
+            } else if (b >= 0xF0 && b <= 0xF4) {
+                if (i + 3 >= length) {
+                    return -1;
+                }
+                int b1 = bytes.get(i + 1) & 0xFF;
+                if ((b == 0xF0 && b1 < 0x90) || (b == 0xF4 && b1 > 0x8F)
+                        || !isContinuation(bytes, i + 1, length) || !isContinuation(bytes, i + 2, length)
+                        || !isContinuation(bytes, i + 3, length)) {
+                    return -1;
+                }
+                i += 4;
+            } else {
+                return -1;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    private static boolean isContinuation(ByteBuffer bytes, int i, int length) {
+        return i < length && (bytes.get(i) & 0xC0) == 0x80;
+    }
+
+    /**
+     * UTF-8 字节数
+     */
+    public int getByteLength() {
+        return byteLength;
+    }
+
+    /**
+     * 输入是否为纯 ASCII
+     */
+    public boolean isAscii() {
+        return ascii;
+    }
+
+    @Override
+    public void consume() {
+        if (index >= size) {
+            throw new IllegalStateException("cannot consume EOF");
+        }
+        if (ascii) {
+            index++;
+            return;
+        }
+        offset += sequenceLength(bytes.get(offset));
+        index++;
+        recordCheckpoint();
+    }
+
+    @Override
+    public int LA(int i) {
+        if (i == 0) {
+            return 0;
+        }
+        int target = i > 0 ? index + i - 1 : index + i;
+        if (target < 0 || target >= size) {
+            return IntStream.EOF;
+        }
+        if (ascii) {
+            return bytes.get(target) & 0xFF;
+        }
+        if (i == 1) {
+            return decode(offset);
+        }
+        return decode(offsetOf(target));
+    }
+
+    @Override
+    public int mark() {
+        return -1;
+    }
+
+    @Override
+    public void release(int marker) {
+    }
+
+    @Override
+    public int index() {
+        return index;
+    }
+
+    @Override
+    public void seek(int index) {
+        int target = Math.min(index, size);
+        if (!ascii) {
+            offset = offsetOf(target);
+        }
+        this.index = target;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String getSourceName() {
+        if (name == null || name.isEmpty()) {
+            return UNKNOWN_SOURCE_NAME;
+        }
+        return name;
+    }
+
+    @Override
+    public String getText(Interval interval) {
+        int start = Math.min(interval.a, size);
+        int length = Math.min(interval.b - interval.a + 1, size - start);
+        if (length <= 0) {
+            return "";
+        }
+        int from = ascii ? start : offsetOf(start);
+        int to = ascii ? start + length : offsetOf(start + length);
+        byte[] text = new byte[to - from];
+        bytes.duplicate().position(from).get(text);
+        return new String(text, ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return getText(Interval.of(0, size - 1));
+    }
+
+    /**
+     * 码点下标对应的字节偏移（非 ASCII 输入）
+     */
+    private int offsetOf(int target) {
+        if (target >= size) {
+            return byteLength;
+        }
+        // 目标在当前位置附近时直接从当前位置前后移动
+        int delta = target - index;
+        if (delta >= 0 && delta < CHECKPOINT_INTERVAL) {
+            return forward(offset, delta);
+        }
+        if (delta < 0 && delta > -CHECKPOINT_INTERVAL) {
+            return backward(offset, -delta);
+        }
+        // 按需补齐检查点，再从最近的检查点向前移动
+        int k = target >> CHECKPOINT_SHIFT;
+        while (checkpointCount <= k) {
+            checkpoints[checkpointCount] = forward(checkpoints[checkpointCount - 1], CHECKPOINT_INTERVAL);
+            checkpointCount++;
+        }
+        return forward(checkpoints[k], target & (CHECKPOINT_INTERVAL - 1));
+    }
+
+    private void recordCheckpoint() {
+        if ((index & (CHECKPOINT_INTERVAL - 1)) == 0 && (index >> CHECKPOINT_SHIFT) == checkpointCount
+                && index < size) {
+            checkpoints[checkpointCount++] = offset;
+        }
+    }
+
+    private int forward(int from, int codePoints) {
+        int position = from;
+        for (int i = 0; i < codePoints; i++) {
+            position += sequenceLength(bytes.get(position));
+        }
+        return position;
+    }
+
+    private int backward(int from, int codePoints) {
+        int position = from;
+        for (int i = 0; i < codePoints; i++) {
+            do {
+                position--;
+            } while ((bytes.get(position) & 0xC0) == 0x80);
+        }
+        return position;
+    }
+
+    private static int sequenceLength(byte lead) {
+        int b = lead & 0xFF;
+        if (b < 0x80) {
+            return 1;
+        }
+        if (b < 0xE0) {
+            return 2;
+        }
+        return b < 0xF0 ? 3 : 4;
+    }
+
+    private int decode(int position) {
+        int b = bytes.get(position) & 0xFF;
+        if (b < 0x80) {
+            return b;
+        }
+        if (b < 0xE0) {
+            return ((b & 0x1F) << 6) | (bytes.get(position + 1) & 0x3F);
+        }
+        if (b < 0xF0) {
+            return ((b & 0x0F) << 12) | ((bytes.get(position + 1) & 0x3F) << 6) | (bytes.get(position + 2) & 0x3F);
+        }
+        return ((b & 0x07) << 18) | ((bytes.get(position + 1) & 0x3F) << 12)
+            | ((bytes.get(position + 2) & 0x3F) << 6) | (bytes.get(position + 3) & 0x3F);
+    }
+}
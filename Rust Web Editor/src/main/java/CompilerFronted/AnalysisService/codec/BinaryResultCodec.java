@@ -0,0 +1,268 @@
+package CompilerFronted.AnalysisService.codec;
+
+import CompilerFronted.AnalysisService.models.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 二进制分析结果编码器
+ *
+ * 格式（所有整数为无符号 LEB128 变长整数，行列号使用 ZigZag）：
+ * <pre>
+ * magic    'R' 'W' 'E' 'B'
+ * version  u8 = 1
+ * flags    u8，bit0 = success
+ * strings  varint n, n × (varint 字节数, UTF-8)     —— 去重后的字符串表
+ * section* u8 tag, varint 字节数, payload           —— 未知 tag 可按长度跳过
+ * end      u8 0
+ * </pre>
+ *
+ * Section：
+ * - 1 TOKENS：varint count，count × (typeRef, textRef, zz line, zz column)
+ * - 2 COMPACT_TOKENS：类型字典引用、types、差分编码的 starts、lengths、差分编码的 lineOffsets
+ * - 3 PARSE_TREE：内联字符串 lisp、dot
+ * - 4 AST：内联字符串 dot
+ * - 5 ERRORS：varint count，count × (zz line, zz column, messageRef)
+ * - 6 PARSE_TREE_STRUCTURE / 7 AST_STRUCTURE：列式树结构（仅在 trees=structure / both 时存在）——
+ *   名称字典引用、nameIds、tokens + 1、差分编码的 starts、ends - starts、差分编码的 firstChildren、childCounts
+ * - 8 ERROR_SUMMARY：错误统计（仅在设置了错误上限或去重时存在）——
+ *   varint total、reported、duplicates、truncated（0 / 1）、examinedTokens；density 由解码端按相同公式计算
+ *
+ * 关键字、标点等重复出现的 Token 文本只在字符串表中保存一次，
+ * 体积大的 LISP / DOT 文本内联，避免进入去重表。
+ * 对应的解码器为 {@link BinaryResultDecoder} 与 webapp/js/api.js 中的 BinaryResultDecoder。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class BinaryResultCodec implements ResultCodec {
+
+    public static final String CONTENT_TYPE = "application/vnd.rust-analysis+binary";
+
+    static final byte[] MAGIC = { 'R', 'W', 'E', 'B' };
+    static final int VERSION = 1;
+
+    static final int SECTION_END = 0;
+    static final int SECTION_TOKENS = 1;
+    static final int SECTION_COMPACT_TOKENS = 2;
+    static final int SECTION_PARSE_TREE = 3;
+    static final int SECTION_AST = 4;
+    static final int SECTION_ERRORS = 5;
+    static final int SECTION_PARSE_TREE_STRUCTURE = 6;
+    static final int SECTION_AST_STRUCTURE = 7;
+    static final int SECTION_ERROR_SUMMARY = 8;
+
+    @Override
+    public String getContentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public void encode(AnalysisResult result, OutputStream out) throws IOException {
+        StringTable strings = new StringTable();
+        ByteBuffer body = new ByteBuffer(4096);
+        ByteBuffer section = new ByteBuffer(4096);
+
+        // Token 流
+        if (result.getTokens() != null && !result.getTokens().isEmpty()) {
+            List<TokenInfo> tokens = result.getTokens();
+            section.writeVarint(tokens.size());
+            for (TokenInfo token : tokens) {
+                section.writeVarint(strings.ref(token.getType()));
+                section.writeVarint(strings.ref(token.getText()));
+                section.writeZigZag(token.getLine());
+                section.writeZigZag(token.getColumn());
+            }
+            body.writeSection(SECTION_TOKENS, section);
+        }
+
+        // 列式 Token 流
+        CompactTokenStream compact = result.getCompactTokens();
+        if (compact != null) {
+            section.writeVarint(compact.getTypeNames().length);
+            for (String name : compact.getTypeNames()) {
+                section.writeVarint(strings.ref(name));
+            }
+            int count = compact.size();
+            section.writeVarint(count);
+            for (int i = 0; i < count; i++) {
+                section.writeVarint(compact.getTypes()[i]);
+            }
+            int previous = 0;
+            for (int i = 0; i < count; i++) {
+                section.writeZigZag(compact.getStarts()[i] - previous);
+                previous = compact.getStarts()[i];
+            }
+            for (int i = 0; i < count; i++) {
+                section.writeVarint(compact.getLengths()[i]);
+            }
+            int[] lineOffsets = compact.getLineOffsets();
+            section.writeVarint(lineOffsets.length);
+            previous = 0;
+            for (int offset : lineOffsets) {
+                section.writeVarint(offset - previous);
+                previous = offset;
+            }
+            body.writeSection(SECTION_COMPACT_TOKENS, section);
+        }
+
+        // 解析树
+        if (result.getParseTree() != null) {
+            section.writeString(result.getParseTree().getLisp());
+            section.writeString(result.getParseTree().getDot());
+            body.writeSection(SECTION_PARSE_TREE, section);
+        }
+
+        // AST
+        if (result.getAst() != null) {
+            section.writeString(result.getAst().getDot());
+            body.writeSection(SECTION_AST, section);
+        }
+
+        // 列式树结构
+        if (result.getParseTree() != null && result.getParseTree().getStructure() != null) {
+            writeStructure(result.getParseTree().getStructure(), section, strings);
+            body.writeSection(SECTION_PARSE_TREE_STRUCTURE, section);
+        }
+        if (result.getAst() != null && result.getAst().getStructure() != null) {
+            writeStructure(result.getAst().getStructure(), section, strings);
+            body.writeSection(SECTION_AST_STRUCTURE, section);
+        }
+
+        // 错误信息
+        List<ErrorInfo> errors = result.getErrors() != null ? result.getErrors() : new ArrayList<>();
+        section.writeVarint(errors.size());
+        for (ErrorInfo error : errors) {
+            section.writeZigZag(error.getLine());
+            section.writeZigZag(error.getColumn());
+            section.writeVarint(strings.ref(error.getMessage()));
+        }
+        body.writeSection(SECTION_ERRORS, section);
+        ErrorSummary summary = result.getErrorSummary();
+        if (summary != null) {
+            section.writeVarint(summary.getTotal());
+            section.writeVarint(summary.getReported());
+            section.writeVarint(summary.getDuplicates());
+            section.writeVarint(summary.isTruncated() ? 1 : 0);
+            section.writeVarint(summary.getExaminedTokens());
+            body.writeSection(SECTION_ERROR_SUMMARY, section);
+        }
+        body.write(SECTION_END);
+
+        // 头部 + 字符串表 + 正文
+        ByteBuffer header = new ByteBuffer(256 + strings.byteSize);
+        header.write(MAGIC, 0, MAGIC.length);
+        header.write(VERSION);
+        header.write(result.isSuccess() ? 1 : 0);
+        header.writeVarint(strings.values.size());
+        for (byte[] value : strings.values) {
+            header.writeVarint(value.length);
+            header.write(value, 0, value.length);
+        }
+        header.writeTo(out);
+        body.writeTo(out);
+        out.flush();
+    }
+
+    /**
+     * 写入列式树结构；层序排列下 firstChildren 单调不减，starts 大致递增，均按差分编码
+     */
+    private static void writeStructure(TreeStructure structure, ByteBuffer section, StringTable strings) {
+        section.writeVarint(structure.getNames().length);
+        for (String name : structure.getNames()) {
+            section.writeVarint(strings.ref(name));
+        }
+        int count = structure.size();
+        section.writeVarint(count);
+        for (int i = 0; i < count; i++) {
+            section.writeVarint(structure.getNameIds()[i]);
+        }
+        for (int i = 0; i < count; i++) {
+            section.writeVarint(structure.getTokens()[i] + 1);
+        }
+        int previous = 0;
+        for (int i = 0; i < count; i++) {
+            section.writeZigZag(structure.getStarts()[i] - previous);
+            previous = structure.getStarts()[i];
+        }
+        for (int i = 0; i < count; i++) {
+            section.writeVarint(structure.getEnds()[i] - structure.getStarts()[i]);
+        }
+        previous = 0;
+        for (int i = 0; i < count; i++) {
+            section.writeVarint(structure.getFirstChildren()[i] - previous);
+            previous = structure.getFirstChildren()[i];
+        }
+        for (int i = 0; i < count; i++) {
+            section.writeVarint(structure.getChildCounts()[i]);
+        }
+    }
+
+    /**
+     * 去重字符串表
+     */
+    private static class StringTable {
+        private final Map<String, Integer> indices = new HashMap<>();
+        private final List<byte[]> values = new ArrayList<>();
+        private int byteSize;
+
+        int ref(String value) {
+            String key = value != null ? value : "";
+            Integer index = indices.get(key);
+            if (index == null) {
+                index = values.size();
+                byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+                indices.put(key, index);
+                values.add(bytes);
+                byteSize += bytes.length + 2;
+            }
+            return index;
+        }
+    }
+
+    /**
+     * 可复用的字节缓冲，提供变长整数写入
+     */
+    private static class ByteBuffer extends ByteArrayOutputStream {
+
+        ByteBuffer(int size) {
+            super(size);
+        }
+
+        void writeVarint(int value) {
+            while ((value & ~0x7F) != 0) {
+                write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            write(value);
+        }
+
+        void writeZigZag(int value) {
+            writeVarint((value << 1) ^ (value >> 31));
+        }
+
+        void writeString(String value) {
+            byte[] bytes = (value != null ? value : "").getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length);
+            write(bytes, 0, bytes.length);
+        }
+
+        /**
+         * 以 tag + 长度前缀写入一个 section，并清空 section 缓冲以便复用
+         */
+        void writeSection(int tag, ByteBuffer section) {
+            write(tag);
+            writeVarint(section.size());
+            write(section.buf, 0, section.count);
+            section.reset();
+        }
+    }
+}
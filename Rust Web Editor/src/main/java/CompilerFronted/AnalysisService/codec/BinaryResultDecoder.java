@@ -0,0 +1,230 @@
+package CompilerFronted.AnalysisService.codec;
+
+import CompilerFronted.AnalysisService.models.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 二进制分析结果解码器
+ *
+ * {@link BinaryResultCodec} 的逆过程，供命令行工具、测试与基准测试使用；
+ * 浏览器端的等价实现位于 webapp/js/api.js。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class BinaryResultDecoder {
+
+    private final byte[] data;
+    private int pos;
+    private String[] strings;
+
+    private BinaryResultDecoder(byte[] data) {
+        this.data = data;
+        this.pos = 0;
+    }
+
+    /**
+     * 解码二进制分析结果
+     *
+     * @param data 编码后的字节
+     * @return 分析结果
+     * @throws IllegalArgumentException 数据格式不正确
+     */
+    public static AnalysisResult decode(byte[] data) {
+        return new BinaryResultDecoder(data).decodeResult();
+    }
+
+    private AnalysisResult decodeResult() {
+        for (byte b : BinaryResultCodec.MAGIC) {
+            if (readByte() != b) {
+                throw new IllegalArgumentException("Not a binary analysis result");
+            }
+        }
+        int version = readByte();
+        if (version != BinaryResultCodec.VERSION) {
+            throw new IllegalArgumentException("Unsupported binary analysis result version: " + version);
+        }
+
+        AnalysisResult result = new AnalysisResult();
+        result.setSuccess((readByte() & 1) != 0);
+
+        strings = new String[readVarint()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = readString();
+        }
+
+        while (true) {
+            int tag = readByte();
+            if (tag == BinaryResultCodec.SECTION_END) {
+                break;
+            }
+            int length = readVarint();
+            int end = pos + length;
+            switch (tag) {
+                case BinaryResultCodec.SECTION_TOKENS:
+                    readTokens(result);
+                    break;
+                case BinaryResultCodec.SECTION_COMPACT_TOKENS:
+                    readCompactTokens(result);
+                    break;
+                case BinaryResultCodec.SECTION_PARSE_TREE:
+                    result.getParseTree().setLisp(readString());
+                    result.getParseTree().setDot(readString());
+                    break;
+                case BinaryResultCodec.SECTION_AST:
+                    result.getAst().setDot(readString());
+                    break;
+                case BinaryResultCodec.SECTION_ERRORS:
+                    readErrors(result);
+                    break;
+                case BinaryResultCodec.SECTION_PARSE_TREE_STRUCTURE:
+                    result.getParseTree().setStructure(readStructure());
+                    break;
+                case BinaryResultCodec.SECTION_AST_STRUCTURE:
+                    result.getAst().setStructure(readStructure());
+                    break;
+                case BinaryResultCodec.SECTION_ERROR_SUMMARY:
+                    result.setErrorSummary(new ErrorSummary(readVarint(), readVarint(), readVarint(),
+                        readVarint() != 0, readVarint()));
+                    break;
+                default:
+                    // 未知 section：按长度跳过，保持向前兼容
+                    break;
+            }
+            pos = end;
+        }
+        return result;
+    }
+
+    private void readTokens(AnalysisResult result) {
+        int count = readVarint();
+        List<TokenInfo> tokens = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String type = strings[readVarint()];
+            String text = strings[readVarint()];
+            int line = readZigZag();
+            int column = readZigZag();
+            tokens.add(new TokenInfo(type, text, line, column));
+        }
+        result.setTokens(tokens);
+    }
+
+    private void readCompactTokens(AnalysisResult result) {
+        String[] typeNames = new String[readVarint()];
+        for (int i = 0; i < typeNames.length; i++) {
+            typeNames[i] = strings[readVarint()];
+        }
+        int count = readVarint();
+        int[] types = new int[count];
+        int[] starts = new int[count];
+        int[] lengths = new int[count];
+        for (int i = 0; i < count; i++) {
+            types[i] = readVarint();
+        }
+        int previous = 0;
+        for (int i = 0; i < count; i++) {
+            previous += readZigZag();
+            starts[i] = previous;
+        }
+        for (int i = 0; i < count; i++) {
+            lengths[i] = readVarint();
+        }
+        int[] lineOffsets = new int[readVarint()];
+        previous = 0;
+        for (int i = 0; i < lineOffsets.length; i++) {
+            previous += readVarint();
+            lineOffsets[i] = previous;
+        }
+        result.setCompactTokens(new CompactTokenStream(typeNames, types, starts, lengths, lineOffsets));
+    }
+
+    private TreeStructure readStructure() {
+        String[] names = new String[readVarint()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = strings[readVarint()];
+        }
+        int count = readVarint();
+        int[] nameIds = new int[count];
+        int[] tokens = new int[count];
+        int[] starts = new int[count];
+        int[] ends = new int[count];
+        int[] firstChildren = new int[count];
+        int[] childCounts = new int[count];
+        for (int i = 0; i < count; i++) {
+            nameIds[i] = readVarint();
+        }
+        for (int i = 0; i < count; i++) {
+            tokens[i] = readVarint() - 1;
+        }
+        int previous = 0;
+        for (int i = 0; i < count; i++) {
+            previous += readZigZag();
+            starts[i] = previous;
+        }
+        for (int i = 0; i < count; i++) {
+            ends[i] = starts[i] + readVarint();
+        }
+        previous = 0;
+        for (int i = 0; i < count; i++) {
+            previous += readVarint();
+            firstChildren[i] = previous;
+        }
+        for (int i = 0; i < count; i++) {
+            childCounts[i] = readVarint();
+        }
+        return new TreeStructure(names, nameIds, tokens, starts, ends, firstChildren, childCounts);
+    }
+
+    private void readErrors(AnalysisResult result) {
+        int count = readVarint();
+        List<ErrorInfo> errors = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int line = readZigZag();
+            int column = readZigZag();
+            errors.add(new ErrorInfo(line, column, strings[readVarint()]));
+        }
+        result.setErrors(errors);
+    }
+
+    private int readByte() {
+        if (pos >= data.length) {
+            throw new IllegalArgumentException("Unexpected end of binary analysis result");
+        }
+        return data[pos++] & 0xFF;
+    }
+
+    private int readVarint() {
+        int value = 0;
+        int shift = 0;
+        while (true) {
+            int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+            if (shift > 28) {
+                throw new IllegalArgumentException("Malformed varint");
+            }
+        }
+    }
+
+    private int readZigZag() {
+        int raw = readVarint();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    private String readString() {
+        int length = readVarint();
+        if (length < 0 || pos + length > data.length) {
+            throw new IllegalArgumentException("String length out of range");
+        }
+        String value = new String(data, pos, length, StandardCharsets.UTF_8);
+        pos += length;
+        return value;
+    }
+}
@@ -0,0 +1,45 @@
+package CompilerFronted.AnalysisService.codec;
+
+import CompilerFronted.AnalysisService.models.AnalysisResult;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JSON 编码器（默认格式）
+ *
+ * 直接把 Gson 的输出写入响应流，不经过中间 String。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class JsonResultCodec implements ResultCodec {
+
+    public static final String CONTENT_TYPE = "application/json";
+
+    private final Gson gson;
+
+    public JsonResultCodec() {
+        this.gson = new GsonBuilder().create();
+    }
+
+    @Override
+    public String getContentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public void encode(AnalysisResult result, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        gson.toJson(result, writer);
+        writer.flush();
+    }
+}
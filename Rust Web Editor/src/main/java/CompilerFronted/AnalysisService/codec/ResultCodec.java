@@ -0,0 +1,33 @@
+package CompilerFronted.AnalysisService.codec;
+
+import CompilerFronted.AnalysisService.models.AnalysisResult;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 分析结果编码器接口
+ *
+ * 每种响应格式（JSON、二进制）对应一个实现，
+ * 由 {@link ResultCodecs#negotiate(String)} 根据 Accept 请求头选择。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public interface ResultCodec {
+
+    /**
+     * 响应的 Content-Type
+     */
+    String getContentType();
+
+    /**
+     * 将分析结果编码写入输出流（不关闭输出流）
+     *
+     * @param result 分析结果
+     * @param out 输出流
+     * @throws IOException 写入失败
+     */
+    void encode(AnalysisResult result, OutputStream out) throws IOException;
+}
@@ -0,0 +1,68 @@
+package CompilerFronted.AnalysisService.codec;
+
+/**
+ * 响应格式协商
+ *
+ * 根据 Accept 请求头选择编码器：
+ * - 明确接受 application/vnd.rust-analysis+binary（q > 0）且其 q 值不低于 JSON 时使用二进制
+ * - 其他情况（包括缺省、星号通配）一律使用 JSON，保持默认行为不变
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class ResultCodecs {
+
+    private static final ResultCodec JSON = new JsonResultCodec();
+    private static final ResultCodec BINARY = new BinaryResultCodec();
+
+    private ResultCodecs() {
+    }
+
+    public static ResultCodec json() {
+        return JSON;
+    }
+
+    public static ResultCodec binary() {
+        return BINARY;
+    }
+
+    /**
+     * 按 Accept 请求头选择编码器
+     *
+     * @param accept Accept 请求头，可以为 null
+     * @return 选中的编码器
+     */
+    public static ResultCodec negotiate(String accept) {
+        if (accept == null || accept.isEmpty()) {
+            return JSON;
+        }
+        double binaryQuality = 0;
+        double jsonQuality = 0;
+        for (String range : accept.split(",")) {
+            String[] parts = range.trim().split(";");
+            String mediaType = parts[0].trim().toLowerCase();
+            double quality = parseQuality(parts);
+            if (BinaryResultCodec.CONTENT_TYPE.equals(mediaType)) {
+                binaryQuality = Math.max(binaryQuality, quality);
+            } else if (JsonResultCodec.CONTENT_TYPE.equals(mediaType)) {
+                jsonQuality = Math.max(jsonQuality, quality);
+            }
+        }
+        return binaryQuality > 0 && binaryQuality >= jsonQuality ? BINARY : JSON;
+    }
+
+    private static double parseQuality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -3,12 +3,18 @@ package CompilerFronted.AnalysisService.factory;
 import CompilerFronted.AnalysisService.models.*;
 import CompilerFronted.AnalysisService.utils.CSTGenerator;
 import CompilerFronted.AnalysisService.utils.ASTGenerator;
+import CompilerFronted.AnalysisService.utils.LispTreeWriter;
+import CompilerFronted.AnalysisService.utils.TreeStructureGenerator;
 import CompilerFronted.Core.RustParser;
 
+import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.tree.ParseTree;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 分析结果工厂类
@@ -43,19 +49,53 @@ public class AnalysisResultFactory {
                                                     ParseTree parseTree, 
                                                     RustParser parser, 
                                                     List<ErrorInfo> errors) {
+        return createAnalysisResult(tokens, parseTree, parser, errors, null, AnalysisOptions.defaults());
+    }
+    
+    /**
+     * 按分析选项创建完整的分析结果
+     * 
+     * @param tokens Token 流
+     * @param parseTree 解析树
+     * @param parser 语法分析器
+     * @param errors 错误列表
+     * @param input 分析所用的字符流（列式 Token 编码与树结构据此计算偏移，不生成源代码字符串），
+     *              为 null 时退回逐对象 Token 编码且树结构不换算 UTF-16 偏移
+     * @param options 分析选项
+     * @return 完整的分析结果对象
+     */
+    public static AnalysisResult createAnalysisResult(List<? extends Token> tokens, 
+                                                    ParseTree parseTree, 
+                                                    RustParser parser, 
+                                                    List<ErrorInfo> errors,
+                                                    CharStream input,
+                                                    AnalysisOptions options) {
         AnalysisResult result = new AnalysisResult();
         
         // 1. 设置分析状态
         result.setSuccess(errors.isEmpty());
         
+        // 只有列式 Token 编码与树结构需要偏移表
+        boolean compact = options.getTokenEncoding() == AnalysisOptions.TokenEncoding.COMPACT;
+        boolean structure = options.getTreeFormat() != AnalysisOptions.TreeFormat.DOT;
+        SourceOffsets offsets = input != null && (compact || structure) ? SourceOffsets.of(input) : null;
+        
         // 2. 处理 Token 流
-        populateTokens(result, tokens);
+        if (compact && offsets != null) {
+            populateCompactTokens(result, tokens, offsets);
+        } else {
+            populateTokens(result, tokens);
+        }
         
         // 3. 处理 ParseTree
-        populateParseTree(result, parseTree, parser);
+        TreeStructureGenerator structureGenerator = null;
+        if (structure) {
+            structureGenerator = new TreeStructureGenerator(offsets != null ? offsets.utf16Offsets : null);
+        }
+        populateParseTree(result, parseTree, parser, options, structureGenerator);
         
         // 4. 处理 AST
-        populateAST(result, parseTree, parser);
+        populateAST(result, parseTree, parser, options, structureGenerator);
         
         // 5. 设置错误信息
         result.setErrors(errors);
@@ -76,8 +116,28 @@ public class AnalysisResultFactory {
         return result;
     }
     
+    /**
+     * 创建只包含语法错误的分析结果（诊断模式）
+     * 
+     * Token、解析树与 AST 均为 null，序列化时省略。
+     * 
+     * @param errors 语法错误
+     * @return 分析结果
+     */
+    public static AnalysisResult createDiagnosticsResult(List<ErrorInfo> errors) {
+        AnalysisResult result = new AnalysisResult();
+        result.setSuccess(errors.isEmpty());
+        result.setTokens(null);
+        result.setParseTree(null);
+        result.setAst(null);
+        result.setErrors(errors);
+        return result;
+    }
+    
     /**
      * 填充 Token 信息
+     * 
+     * 关键字与标点共享固定文本，其余 Token 只保留源码视图（见 TokenInfo、TokenTable）。
      */
     private static void populateTokens(AnalysisResult result, List<? extends Token> tokens) {
         for (Token token : tokens) {
@@ -85,23 +145,69 @@ public class AnalysisResultFactory {
         }
     }
     
+    /**
+     * 填充列式 Token 信息
+     * 
+     * ANTLR 的字符偏移以码点为单位，而客户端 JS 字符串以 UTF-16 为单位；
+     * 源代码不含增补平面字符时两者一致，否则按 {@link SourceOffsets} 的映射换算。
+     */
+    private static void populateCompactTokens(AnalysisResult result, List<? extends Token> tokens,
+                                              SourceOffsets offsets) {
+        int count = tokens.size();
+        int[] types = new int[count];
+        int[] starts = new int[count];
+        int[] lengths = new int[count];
+        
+        // Token 类型字典：按首次出现顺序编号
+        Map<Integer, Integer> typeIds = new HashMap<>();
+        List<String> typeNames = new ArrayList<>();
+        
+        for (int i = 0; i < count; i++) {
+            Token token = tokens.get(i);
+            Integer id = typeIds.get(token.getType());
+            if (id == null) {
+                id = typeNames.size();
+                typeIds.put(token.getType(), id);
+                typeNames.add(TokenInfo.typeName(token.getType()));
+            }
+            types[i] = id;
+            
+            int start = offsets.toUtf16(token.getStartIndex());
+            int end = offsets.toUtf16(token.getStopIndex() + 1);
+            starts[i] = start;
+            lengths[i] = Math.max(0, end - start);
+        }
+        
+        result.setCompactTokens(new CompactTokenStream(
+            typeNames.toArray(new String[0]), types, starts, lengths, offsets.lineOffsets));
+    }
+    
     /**
      * 填充 ParseTree 信息
      */
-    private static void populateParseTree(AnalysisResult result, ParseTree parseTree, RustParser parser) {
+    private static void populateParseTree(AnalysisResult result, ParseTree parseTree, RustParser parser,
+                                          AnalysisOptions options, TreeStructureGenerator structureGenerator) {
         ParseTreeInfo parseTreeInfo = result.getParseTree();
         
-        // 生成 LISP 格式
-        parseTreeInfo.lisp = parseTree.toStringTree(parser);
+        // 生成 LISP 格式（迭代输出，可按选项截断）
+        parseTreeInfo.lisp = new LispTreeWriter(parser, options.getLispMaxLength()).toString(parseTree);
         
         // 生成 DOT 格式（用于 ParseTree 可视化）
-        parseTreeInfo.dot = CSTGenerator.generateDotString(parseTree, parser);
+        if (options.getTreeFormat() != AnalysisOptions.TreeFormat.STRUCTURE) {
+            parseTreeInfo.dot = CSTGenerator.generateDotString(parseTree, parser);
+        }
+        
+        // 生成列式树结构（用于客户端虚拟化树视图）
+        if (structureGenerator != null) {
+            parseTreeInfo.structure = structureGenerator.fromParseTree(parseTree, parser);
+        }
     }
     
     /**
      * 填充 AST 信息
      */
-    private static void populateAST(AnalysisResult result, ParseTree parseTree, RustParser parser) {
+    private static void populateAST(AnalysisResult result, ParseTree parseTree, RustParser parser,
+                                    AnalysisOptions options, TreeStructureGenerator structureGenerator) {
         try {
             // 生成 AST
             ASTGenerator.ASTNode astRoot = ASTGenerator.generateAST(parseTree, parser);
@@ -111,14 +217,19 @@ public class AnalysisResultFactory {
                 ASTInfo astInfo = result.ast;
                 
                 // 生成 AST 的 DOT 表示
-                String astDot = ASTGenerator.generateASTDotString(astRoot);
-                astInfo.setDot(astDot);
+                if (options.getTreeFormat() != AnalysisOptions.TreeFormat.STRUCTURE) {
+                    String astDot = ASTGenerator.generateASTDotString(astRoot);
+                    astInfo.setDot(astDot);
+                }
                 
-                System.out.println("AST generated successfully, DOT length: " + astDot.length());
+                // 生成 AST 的列式树结构
+                if (structureGenerator != null) {
+                    astInfo.setStructure(structureGenerator.fromAST(astRoot));
+                }
             } else {
                 // AST 生成失败，设置空的 DOT 字符串
                 result.ast.setDot("");
-                System.out.println("AST generation returned null");
+                System.err.println("AST generation returned null");
             }
         } catch (Exception e) {
             System.err.println("Failed to generate AST: " + e.getMessage());
@@ -0,0 +1,75 @@
+package CompilerFronted.AnalysisService.factory;
+
+import org.antlr.v4.runtime.CharStream;
+
+import java.util.Arrays;
+
+/**
+ * 源代码的偏移表（列式 Token 编码与树结构使用）
+ *
+ * 直接在分析所用的 CharStream（例如请求体字节上的 Utf8CharStream）上顺序扫描码点，
+ * 不生成源代码字符串：
+ * - lineOffsets：每一行起始处的 UTF-16 偏移（与 ANTLR 一致，以 '\n' 作为换行）
+ * - utf16Offsets：码点下标到 UTF-16 偏移的映射（长度为码点数 + 1），
+ *   只含 BMP 字符时两者一致，为 null
+ *
+ * 扫描会移动字符流的位置，只应在词法分析完成后使用。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+final class SourceOffsets {
+
+    final int[] lineOffsets;
+    final int[] utf16Offsets;
+
+    private SourceOffsets(int[] lineOffsets, int[] utf16Offsets) {
+        this.lineOffsets = lineOffsets;
+        this.utf16Offsets = utf16Offsets;
+    }
+
+    /**
+     * 扫描字符流建立偏移表；只有含增补平面字符时才做第二遍扫描建立 UTF-16 映射
+     */
+    static SourceOffsets of(CharStream input) {
+        int size = input.size();
+        int[] lines = new int[64];
+        int lineCount = 1;
+        int utf16 = 0;
+        input.seek(0);
+        for (int i = 0; i < size; i++) {
+            int c = input.LA(1);
+            input.consume();
+            utf16 += Character.charCount(c);
+            if (c == '\n') {
+                if (lineCount == lines.length) {
+                    lines = Arrays.copyOf(lines, lineCount * 2);
+                }
+                lines[lineCount++] = utf16;
+            }
+        }
+
+        int[] utf16Offsets = null;
+        if (utf16 != size) {
+            utf16Offsets = new int[size + 1];
+            input.seek(0);
+            int offset = 0;
+            for (int i = 0; i < size; i++) {
+                utf16Offsets[i] = offset;
+                offset += Character.charCount(input.LA(1));
+                input.consume();
+            }
+            utf16Offsets[size] = offset;
+        }
+        input.seek(0);
+        return new SourceOffsets(Arrays.copyOf(lines, lineCount), utf16Offsets);
+    }
+
+    /**
+     * 码点下标转换为 UTF-16 偏移
+     */
+    int toUtf16(int index) {
+        return utf16Offsets != null ? utf16Offsets[index] : index;
+    }
+}
@@ -0,0 +1,141 @@
+package CompilerFronted.AnalysisService.language;
+
+import CompilerFronted.AnalysisService.models.BracketPair;
+import CompilerFronted.Core.RustLexer;
+
+import org.antlr.v4.runtime.Token;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 文档的括号配对索引（只依赖 Token 流，不需要语法分析）
+ *
+ * 对 Token 流做一次线性扫描，用 int 数组实现的栈配对 ()、[]、{}：
+ * - 右括号与栈顶匹配时出栈配对
+ * - 不匹配但栈中有同类左括号时，先弹出其上未闭合的左括号（记为未配对）再配对，
+ *   所以 { ( } 中只有 ( 未配对，其后的括号不受影响
+ * - 栈中没有同类左括号时，右括号记为未配对
+ * 每类左括号在栈中的个数单独计数，判断是否存在同类左括号为 O(1)，整体仍是线性的。
+ *
+ * 括号按出现顺序编号，starts 为 UTF-16 起点，partners 为配对括号的编号（未配对时为 -1）。
+ * 注释与字符串中的括号不是独立的 Token，天然不参与配对。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+class BracketIndex {
+
+    private final int[] tokenIndexes;
+    private final int[] starts;
+    private final int[] partners;
+
+    BracketIndex(TextDocument document) {
+        List<Token> tokens = document.getTokens();
+        int[] indexes = new int[64];
+        int[] offsets = new int[64];
+        int[] pairs = new int[64];
+        int[] stack = new int[64];
+        int[] open = new int[3];
+        int size = 0;
+        int depth = 0;
+        for (int i = 0; i < tokens.size(); i++) {
+            Token token = tokens.get(i);
+            int kind = bracketKind(token.getType());
+            if (kind == 0) {
+                continue;
+            }
+            if (size == indexes.length) {
+                indexes = Arrays.copyOf(indexes, size * 2);
+                offsets = Arrays.copyOf(offsets, size * 2);
+                pairs = Arrays.copyOf(pairs, size * 2);
+            }
+            int current = size++;
+            indexes[current] = i;
+            offsets[current] = document.toUtf16(token.getStartIndex());
+            pairs[current] = -1;
+            if (kind > 0) {
+                if (depth == stack.length) {
+                    stack = Arrays.copyOf(stack, depth * 2);
+                }
+                stack[depth++] = current;
+                open[kind - 1]++;
+            } else if (open[-kind - 1] > 0) {
+                int opening;
+                do {
+                    opening = stack[--depth];
+                    open[bracketKind(tokens.get(indexes[opening]).getType()) - 1]--;
+                } while (bracketKind(tokens.get(indexes[opening]).getType()) != -kind);
+                pairs[opening] = current;
+                pairs[current] = opening;
+            }
+        }
+        this.tokenIndexes = Arrays.copyOf(indexes, size);
+        this.starts = Arrays.copyOf(offsets, size);
+        this.partners = Arrays.copyOf(pairs, size);
+    }
+
+    /**
+     * 括号数
+     */
+    int size() {
+        return starts.length;
+    }
+
+    /**
+     * 括号在 Token 列表中的下标
+     */
+    int tokenIndex(int bracket) {
+        return tokenIndexes[bracket];
+    }
+
+    /**
+     * 配对括号的编号，未配对时为 -1
+     */
+    int partner(int bracket) {
+        return partners[bracket];
+    }
+
+    /**
+     * 光标处括号的配对：光标紧挨在括号之前或之后（之前优先），与编辑器的括号匹配一致
+     *
+     * @param offset 光标的 UTF-16 偏移
+     * @return 配对，光标不在括号旁或括号未配对时返回 null
+     */
+    BracketPair pairAt(int offset) {
+        int bracket = Arrays.binarySearch(starts, offset);
+        if (bracket < 0) {
+            bracket = Arrays.binarySearch(starts, offset - 1);
+        }
+        if (bracket < 0 || partners[bracket] < 0) {
+            return null;
+        }
+        int partner = partners[bracket];
+        return bracket < partner
+            ? new BracketPair(starts[bracket], starts[partner])
+            : new BracketPair(starts[partner], starts[bracket]);
+    }
+
+    /**
+     * 括号类型：左括号为 1..3，对应的右括号为 -1..-3，其他 Token 为 0
+     */
+    static int bracketKind(int type) {
+        switch (type) {
+            case RustLexer.LPAREN:
+                return 1;
+            case RustLexer.LSQUAREBRACKET:
+                return 2;
+            case RustLexer.LCURLYBRACE:
+                return 3;
+            case RustLexer.RPAREN:
+                return -1;
+            case RustLexer.RSQUAREBRACKET:
+                return -2;
+            case RustLexer.RCURLYBRACE:
+                return -3;
+            default:
+                return 0;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package CompilerFronted.AnalysisService.language;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 编辑器文档仓库
+ *
+ * 按 uri 保存每个文档的最新版本（{@link TextDocument}），编辑器功能请求携带 (uri, version)：
+ * - 版本与已保存的相同：直接复用，文本、Token、解析树与已计算的功能结果都不再重复处理
+ * - 版本更新：以新文本创建文档，并保留上一版本供增量计算（只保留一级）
+ * - 版本更旧（乱序到达的过期请求）：临时计算，不替换已保存的版本
+ *
+ * 文档数超过上限时按 LRU 顺序淘汰。所有公开方法都是线程安全的。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class DocumentStore {
+
+    private final int maxDocuments;
+    private final LinkedHashMap<String, TextDocument> documents;
+
+    /**
+     * 构造函数
+     *
+     * @param maxDocuments 保存的文档数上限
+     */
+    public DocumentStore(int maxDocuments) {
+        this.maxDocuments = Math.max(1, maxDocuments);
+        this.documents = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * 获取指定版本的文档，必要时以新文本更新
+     *
+     * @param uri 文档标识
+     * @param version 版本号
+     * @param text 文本提供者，只在版本未保存时调用（例如按需解码请求体）
+     * @return 文档
+     */
+    public TextDocument update(String uri, int version, Supplier<String> text) {
+        TextDocument current;
+        synchronized (this) {
+            current = documents.get(uri);
+            if (current != null && current.getVersion() == version) {
+                return current;
+            }
+        }
+
+        // 读取文本在锁外进行
+        String content = text.get();
+        synchronized (this) {
+            TextDocument latest = documents.get(uri);
+            if (latest != null && latest.getVersion() == version) {
+                return latest;
+            }
+            if (latest != null && latest.getVersion() > version) {
+                return new TextDocument(uri, version, content, null);
+            }
+            if (latest != null) {
+                latest.dropPrevious();
+            }
+            TextDocument document = new TextDocument(uri, version, content, latest);
+            documents.put(uri, document);
+            evict();
+            return document;
+        }
+    }
+
+    /**
+     * 获取已保存的最新版本
+     *
+     * @return 文档，未保存时返回 null
+     */
+    public synchronized TextDocument get(String uri) {
+        return documents.get(uri);
+    }
+
+    /**
+     * 关闭文档
+     *
+     * @return 被移除的文档，未保存时返回 null
+     */
+    public synchronized TextDocument remove(String uri) {
+        return documents.remove(uri);
+    }
+
+    public synchronized int size() {
+        return documents.size();
+    }
+
+    public int getMaxDocuments() {
+        return maxDocuments;
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<String, TextDocument>> it = documents.entrySet().iterator();
+        while (documents.size() > maxDocuments && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+}
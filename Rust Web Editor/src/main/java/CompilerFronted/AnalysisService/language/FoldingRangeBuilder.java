@@ -0,0 +1,144 @@
+package CompilerFronted.AnalysisService.language;
+
+import CompilerFronted.AnalysisService.models.FoldingRange;
+import CompilerFronted.Core.RustLexer;
+
+import org.antlr.v4.runtime.Token;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 由 Token 流与括号配对计算可折叠区域（不需要语法分析）
+ *
+ * - 代码块：跨行的 {} 对，覆盖块表达式以及函数、结构体、枚举、trait、impl、mod 等条目体；
+ *   折叠到右花括号的上一行，右花括号保持可见（便于 } else { 之类的写法）
+ * - 注释：跨行的块注释（含块文档注释），以及同类行注释（//、///、//!）占据的连续多行
+ * - 导入：use 语句中跨行的 {} 分组，以及相邻行上连续的多条 use
+ *
+ * 行号从 0 开始，按 \n 计（与 Token 的行号一致）。结果按起始行排序。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+class FoldingRangeBuilder {
+
+    static final String COMMENT = "comment";
+    static final String IMPORTS = "imports";
+
+    private final List<Token> tokens;
+    private final BracketIndex brackets;
+    private final List<FoldingRange> ranges = new ArrayList<>();
+
+    FoldingRangeBuilder(List<Token> tokens, BracketIndex brackets) {
+        this.tokens = tokens;
+        this.brackets = brackets;
+    }
+
+    List<FoldingRange> build() {
+        int bracket = 0;
+        boolean inUse = false;
+        int useStart = -1;
+        int useEnd = -1;
+        int useCount = 0;
+        int commentType = -1;
+        int commentStart = -1;
+        int commentEnd = -1;
+
+        for (int i = 0; i < tokens.size(); i++) {
+            Token token = tokens.get(i);
+            int type = token.getType();
+            if (type == RustLexer.WHITESPACE || type == RustLexer.NEWLINE) {
+                continue;
+            }
+            int line = token.getLine() - 1;
+
+            // 行注释：同类且行号连续时合并
+            if (type == RustLexer.LINE_COMMENT || type == RustLexer.INNER_LINE_DOC
+                || type == RustLexer.OUTER_LINE_DOC) {
+                if (type == commentType && line == commentEnd + 1) {
+                    commentEnd = line;
+                } else {
+                    add(commentStart, commentEnd, COMMENT);
+                    commentType = type;
+                    commentStart = line;
+                    commentEnd = line;
+                }
+                continue;
+            }
+            add(commentStart, commentEnd, COMMENT);
+            commentType = -1;
+            commentStart = -1;
+            commentEnd = -1;
+            if (type >= RustLexer.BLOCK_COMMENT && type <= RustLexer.BLOCK_COMMENT_OR_DOC) {
+                add(line, lastLine(token), COMMENT);
+                continue;
+            }
+
+            // use 语句：从 use 到 ; 为止，相邻行上的多条 use 合并为一组
+            if (type == RustLexer.KW_USE) {
+                if (useStart < 0 || line > useEnd + 1) {
+                    addImports(useStart, useEnd, useCount);
+                    useStart = line;
+                    useCount = 0;
+                }
+                useCount++;
+                inUse = true;
+            } else if (type == RustLexer.SEMI && inUse) {
+                inUse = false;
+                useEnd = line;
+            }
+
+            // 括号按出现顺序编号，与 Token 同步前进
+            if (bracket < brackets.size() && brackets.tokenIndex(bracket) == i) {
+                int partner = brackets.partner(bracket);
+                if (type == RustLexer.LCURLYBRACE && partner > bracket) {
+                    int closeLine = tokens.get(brackets.tokenIndex(partner)).getLine() - 1;
+                    add(line, closeLine - 1, inUse ? IMPORTS : null);
+                }
+                bracket++;
+            }
+        }
+        add(commentStart, commentEnd, COMMENT);
+        addImports(useStart, useEnd, useCount);
+
+        // 起始行相同时外层在前
+        ranges.sort(Comparator.comparingInt(FoldingRange::getStartLine)
+            .thenComparing(Comparator.comparingInt(FoldingRange::getEndLine).reversed()));
+        return ranges;
+    }
+
+    /**
+     * 记录跨行的区域，单行或无效的区域忽略
+     */
+    private void add(int startLine, int endLine, String kind) {
+        if (startLine >= 0 && endLine > startLine) {
+            ranges.add(new FoldingRange(startLine, endLine, kind));
+        }
+    }
+
+    /**
+     * 记录连续的 use；只有一条时不记录，其中跨行的分组已作为 {} 区域记录
+     */
+    private void addImports(int startLine, int endLine, int count) {
+        if (count > 1) {
+            add(startLine, endLine, IMPORTS);
+        }
+    }
+
+    /**
+     * Token 最后一个字符所在的行
+     */
+    private static int lastLine(Token token) {
+        String text = token.getText();
+        int line = token.getLine() - 1;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                line++;
+            }
+        }
+        return line;
+    }
+}
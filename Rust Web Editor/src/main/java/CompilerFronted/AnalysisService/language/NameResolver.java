@@ -0,0 +1,991 @@
+package CompilerFronted.AnalysisService.language;
+
+import CompilerFronted.Core.RustLexer;
+import CompilerFronted.Core.RustParser;
+import CompilerFronted.Core.RustParserBaseVisitor;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.RuleNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 名称解析
+ *
+ * 在解析树上建立作用域树（crate、module、函数、块、闭包、match 分支、if let / while let / for），
+ * 并把每个名称 Token 解析到其定义，生成 {@link ReferenceIndex}：
+ * - 进入 crate / module / 块时先声明其中的全部条目（条目在整个作用域内可见），
+ *   impl 中的关联函数与常量、枚举变体记入对应类型的成员作用域，供 Type::name 路径解析
+ * - let 先访问初始化表达式再绑定模式，因此 let x = x + 1 中右侧的 x 指向之前的绑定；
+ *   同名的新绑定遮蔽旧绑定，只影响之后的代码
+ * - 模式中的标识符是新绑定；以大写字母开头且已能解析为变体、常量、结构体或静态变量时视为引用
+ * - 路径表达式、类型路径与 use 路径逐段解析：首段在作用域链中查找（crate、self、super、Self 特殊处理），
+ *   之后的各段在上一段定义的成员作用域中查找，遇到无法解析的段即停止
+ * - 宏参数不参与语法分析，其中的标识符按名称在当前作用域中查找（跳过 . 之后的字段与方法名）
+ *
+ * 方法调用与字段访问需要类型信息，不做解析。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+class NameResolver extends RustParserBaseVisitor<Void> {
+
+    private final TextDocument document;
+    private final List<Token> tokens;
+
+    private final List<Definition> definitions = new ArrayList<>();
+    private int[] starts = new int[64];
+    private int[] ends = new int[64];
+    private int[] targets = new int[64];
+    private boolean[] declarationFlags = new boolean[64];
+    private int count;
+
+    // 声明阶段创建的模块作用域，访问阶段进入同一个作用域
+    private final Map<ParserRuleContext, Scope> moduleScopes = new IdentityHashMap<>();
+    private final List<Import> pendingImports = new ArrayList<>();
+
+    private Scope scope;
+    private String bindingKind;                     // 非 null 时正在绑定模式
+    private Map<String, Definition> patternBindings; // 同一模式内的同名绑定（或模式）指向同一定义
+
+    NameResolver(TextDocument document) {
+        this.document = document;
+        this.tokens = document.getTokens();
+    }
+
+    /**
+     * 解析整个 crate
+     */
+    ReferenceIndex resolve(RustParser.CrateContext crate) {
+        visit(crate);
+        String[] names = new String[definitions.size()];
+        String[] kinds = new String[definitions.size()];
+        int[] canonical = new int[definitions.size()];
+        for (Definition definition : definitions) {
+            names[definition.id] = definition.name;
+            kinds[definition.id] = definition.kind;
+            canonical[definition.id] = definition.canonical().id;
+        }
+        return new ReferenceIndex(names, kinds, canonical, starts, ends, targets, declarationFlags, count);
+    }
+
+    // ==================== 分派 ====================
+
+    /**
+     * 检入的 RustParser 未以 -visitor 生成，上下文没有 accept(visitor)，
+     * 这里按类型分派到本类覆盖的 visitXxx，其余节点访问子节点
+     */
+    @Override
+    public Void visit(ParseTree tree) {
+        if (!(tree instanceof ParserRuleContext)) {
+            return null;
+        }
+        switch (((ParserRuleContext) tree).getRuleIndex()) {
+            case RustParser.RULE_crate:
+                return visitCrate((RustParser.CrateContext) tree);
+            case RustParser.RULE_module:
+                return visitModule((RustParser.ModuleContext) tree);
+            case RustParser.RULE_useDeclaration:
+                return visitUseDeclaration((RustParser.UseDeclarationContext) tree);
+            case RustParser.RULE_implementation:
+                return visitImplementation((RustParser.ImplementationContext) tree);
+            case RustParser.RULE_function_:
+                return visitFunction_((RustParser.Function_Context) tree);
+            case RustParser.RULE_blockExpression:
+                return visitBlockExpression((RustParser.BlockExpressionContext) tree);
+            case RustParser.RULE_letStatement:
+                return visitLetStatement((RustParser.LetStatementContext) tree);
+            case RustParser.RULE_closureExpression:
+                return visitClosureExpression((RustParser.ClosureExpressionContext) tree);
+            case RustParser.RULE_ifLetExpression:
+                return visitIfLetExpression((RustParser.IfLetExpressionContext) tree);
+            case RustParser.RULE_predicatePatternLoopExpression:
+                return visitPredicatePatternLoopExpression((RustParser.PredicatePatternLoopExpressionContext) tree);
+            case RustParser.RULE_iteratorLoopExpression:
+                return visitIteratorLoopExpression((RustParser.IteratorLoopExpressionContext) tree);
+            case RustParser.RULE_matchArms:
+                return visitMatchArms((RustParser.MatchArmsContext) tree);
+            case RustParser.RULE_identifierPattern:
+                return visitIdentifierPattern((RustParser.IdentifierPatternContext) tree);
+            case RustParser.RULE_structPatternField:
+                return visitStructPatternField((RustParser.StructPatternFieldContext) tree);
+            case RustParser.RULE_pathInExpression:
+                return visitPathInExpression((RustParser.PathInExpressionContext) tree);
+            case RustParser.RULE_typePath:
+                return visitTypePath((RustParser.TypePathContext) tree);
+            case RustParser.RULE_structExprField:
+                return visitStructExprField((RustParser.StructExprFieldContext) tree);
+            case RustParser.RULE_macroInvocation:
+                return visitMacroInvocation((RustParser.MacroInvocationContext) tree);
+            case RustParser.RULE_macroInvocationSemi:
+                return visitMacroInvocationSemi((RustParser.MacroInvocationSemiContext) tree);
+            case RustParser.RULE_tokenTreeToken:
+                return visitTokenTreeToken((RustParser.TokenTreeTokenContext) tree);
+            default:
+                return visitChildren((RuleNode) tree);
+        }
+    }
+
+    @Override
+    public Void visitChildren(RuleNode node) {
+        for (int i = 0; i < node.getChildCount(); i++) {
+            visit(node.getChild(i));
+        }
+        return null;
+    }
+
+    // ==================== 作用域与条目 ====================
+
+    @Override
+    public Void visitCrate(RustParser.CrateContext ctx) {
+        scope = new Scope(null, true);
+        declareItems(ctx.item(), scope);
+        resolvePendingImports();
+        visitChildren(ctx);
+        return null;
+    }
+
+    @Override
+    public Void visitModule(RustParser.ModuleContext ctx) {
+        Scope moduleScope = moduleScopes.get(ctx);
+        if (moduleScope == null) {
+            return null;
+        }
+        Scope outer = scope;
+        scope = moduleScope;
+        for (RustParser.ItemContext item : ctx.item()) {
+            visit(item);
+        }
+        scope = outer;
+        return null;
+    }
+
+    @Override
+    public Void visitUseDeclaration(RustParser.UseDeclarationContext ctx) {
+        // 已在声明阶段处理
+        return null;
+    }
+
+    @Override
+    public Void visitImplementation(RustParser.ImplementationContext ctx) {
+        RustParser.Type_Context type = ctx.traitImpl() != null ? ctx.traitImpl().type_()
+            : ctx.inherentImpl() != null ? ctx.inherentImpl().type_() : null;
+        Scope outer = scope;
+        scope = new Scope(outer, false);
+        scope.selfType = resolveTypeName(type, outer);
+        visitChildren(ctx);
+        scope = outer;
+        return null;
+    }
+
+    @Override
+    public Void visitFunction_(RustParser.Function_Context ctx) {
+        Scope outer = scope;
+        scope = new Scope(outer, false);
+        if (ctx.genericParams() != null) {
+            visit(ctx.genericParams());
+        }
+        RustParser.FunctionParametersContext parameters = ctx.functionParameters();
+        if (parameters != null) {
+            RustParser.SelfParamContext self = parameters.selfParam();
+            if (self != null) {
+                Token token = self.shorthandSelf() != null ? self.shorthandSelf().KW_SELFVALUE().getSymbol()
+                    : self.typedSelf() != null ? self.typedSelf().KW_SELFVALUE().getSymbol() : null;
+                if (token != null) {
+                    declare(scope, "self", "parameter", token);
+                }
+                if (self.typedSelf() != null && self.typedSelf().type_() != null) {
+                    visit(self.typedSelf().type_());
+                }
+            }
+            for (RustParser.FunctionParamContext param : parameters.functionParam()) {
+                RustParser.FunctionParamPatternContext pattern = param.functionParamPattern();
+                if (pattern != null) {
+                    if (pattern.type_() != null) {
+                        visit(pattern.type_());
+                    }
+                    bind(pattern.pattern(), "parameter");
+                } else if (param.type_() != null) {
+                    visit(param.type_());
+                }
+            }
+        }
+        if (ctx.functionReturnType() != null) {
+            visit(ctx.functionReturnType());
+        }
+        if (ctx.whereClause() != null) {
+            visit(ctx.whereClause());
+        }
+        if (ctx.blockExpression() != null) {
+            visit(ctx.blockExpression());
+        }
+        scope = outer;
+        return null;
+    }
+
+    @Override
+    public Void visitBlockExpression(RustParser.BlockExpressionContext ctx) {
+        Scope outer = scope;
+        scope = new Scope(outer, false);
+        if (ctx.statements() != null) {
+            List<RustParser.ItemContext> items = new ArrayList<>();
+            for (RustParser.StatementContext statement : ctx.statements().statement()) {
+                if (statement.item() != null) {
+                    items.add(statement.item());
+                }
+            }
+            if (!items.isEmpty()) {
+                declareItems(items, scope);
+                resolvePendingImports();
+            }
+        }
+        visitChildren(ctx);
+        scope = outer;
+        return null;
+    }
+
+    // ==================== 绑定 ====================
+
+    @Override
+    public Void visitLetStatement(RustParser.LetStatementContext ctx) {
+        if (ctx.expression() != null) {
+            visit(ctx.expression());
+        }
+        if (ctx.type_() != null) {
+            visit(ctx.type_());
+        }
+        bind(ctx.patternNoTopAlt(), "variable");
+        return null;
+    }
+
+    @Override
+    public Void visitClosureExpression(RustParser.ClosureExpressionContext ctx) {
+        Scope outer = scope;
+        scope = new Scope(outer, false);
+        if (ctx.closureParameters() != null) {
+            for (RustParser.ClosureParamContext param : ctx.closureParameters().closureParam()) {
+                if (param.type_() != null) {
+                    visit(param.type_());
+                }
+                bind(param.pattern(), "parameter");
+            }
+        }
+        if (ctx.typeNoBounds() != null) {
+            visit(ctx.typeNoBounds());
+        }
+        if (ctx.expression() != null) {
+            visit(ctx.expression());
+        }
+        if (ctx.blockExpression() != null) {
+            visit(ctx.blockExpression());
+        }
+        scope = outer;
+        return null;
+    }
+
+    @Override
+    public Void visitIfLetExpression(RustParser.IfLetExpressionContext ctx) {
+        if (ctx.expression() != null) {
+            visit(ctx.expression());
+        }
+        Scope outer = scope;
+        scope = new Scope(outer, false);
+        bind(ctx.pattern(), "variable");
+        if (!ctx.blockExpression().isEmpty()) {
+            visit(ctx.blockExpression(0));
+        }
+        scope = outer;
+        // else 分支看不到模式中的绑定
+        if (ctx.blockExpression().size() > 1) {
+            visit(ctx.blockExpression(1));
+        } else if (ctx.ifExpression() != null) {
+            visit(ctx.ifExpression());
+        } else if (ctx.ifLetExpression() != null) {
+            visit(ctx.ifLetExpression());
+        }
+        return null;
+    }
+
+    @Override
+    public Void visitPredicatePatternLoopExpression(RustParser.PredicatePatternLoopExpressionContext ctx) {
+        visitPatternScope(ctx.expression(), ctx.pattern(), ctx.blockExpression());
+        return null;
+    }
+
+    @Override
+    public Void visitIteratorLoopExpression(RustParser.IteratorLoopExpressionContext ctx) {
+        visitPatternScope(ctx.expression(), ctx.pattern(), ctx.blockExpression());
+        return null;
+    }
+
+    /**
+     * while let / for：表达式在外层作用域，模式的绑定只在循环体内可见
+     */
+    private void visitPatternScope(RustParser.ExpressionContext expression, RustParser.PatternContext pattern,
+                                   RustParser.BlockExpressionContext body) {
+        if (expression != null) {
+            visit(expression);
+        }
+        Scope outer = scope;
+        scope = new Scope(outer, false);
+        bind(pattern, "variable");
+        if (body != null) {
+            visit(body);
+        }
+        scope = outer;
+    }
+
+    @Override
+    public Void visitMatchArms(RustParser.MatchArmsContext ctx) {
+        // 子节点依次为 matchArm => 表达式，每个分支一个作用域
+        Scope outer = scope;
+        for (int i = 0; i < ctx.getChildCount(); i++) {
+            ParseTree child = ctx.getChild(i);
+            if (child instanceof RustParser.MatchArmContext) {
+                RustParser.MatchArmContext arm = (RustParser.MatchArmContext) child;
+                scope = new Scope(outer, false);
+                bind(arm.pattern(), "variable");
+                if (arm.matchArmGuard() != null) {
+                    visit(arm.matchArmGuard());
+                }
+            } else if (child instanceof ParserRuleContext) {
+                visit(child);
+                scope = outer;
+            }
+        }
+        scope = outer;
+        return null;
+    }
+
+    /**
+     * 以绑定模式访问模式：其中的标识符模式声明为 kind 类型的新名称
+     */
+    private void bind(ParserRuleContext pattern, String kind) {
+        if (pattern == null) {
+            return;
+        }
+        String outerKind = bindingKind;
+        Map<String, Definition> outerBindings = patternBindings;
+        bindingKind = kind;
+        patternBindings = new HashMap<>();
+        visit(pattern);
+        bindingKind = outerKind;
+        patternBindings = outerBindings;
+    }
+
+    @Override
+    public Void visitIdentifierPattern(RustParser.IdentifierPatternContext ctx) {
+        if (bindingKind != null && ctx.identifier() != null) {
+            bindIdentifier(ctx.identifier());
+        }
+        if (ctx.pattern() != null) {
+            visit(ctx.pattern());
+        }
+        return null;
+    }
+
+    @Override
+    public Void visitStructPatternField(RustParser.StructPatternFieldContext ctx) {
+        if (ctx.pattern() != null) {
+            visit(ctx.pattern());
+        } else if (bindingKind != null && ctx.identifier() != null) {
+            // 简写 Point { x, .. } 绑定 x
+            bindIdentifier(ctx.identifier());
+        }
+        return null;
+    }
+
+    private void bindIdentifier(RustParser.IdentifierContext identifier) {
+        Token token = identifier.getStart();
+        String name = nameOf(token);
+        if (name == null) {
+            return;
+        }
+        if (Character.isUpperCase(name.charAt(0))) {
+            Definition existing = scope.lookup(name);
+            if (existing != null && isPatternConstant(existing.canonical().kind)) {
+                reference(token, existing);
+                return;
+            }
+        }
+        Definition previous = patternBindings.get(name);
+        if (previous != null) {
+            reference(token, previous);
+            return;
+        }
+        patternBindings.put(name, declare(scope, name, bindingKind, token));
+    }
+
+    private static boolean isPatternConstant(String kind) {
+        return "variant".equals(kind) || "constant".equals(kind) || "struct".equals(kind) || "static".equals(kind);
+    }
+
+    // ==================== 路径与引用 ====================
+
+    @Override
+    public Void visitPathInExpression(RustParser.PathInExpressionContext ctx) {
+        List<RustParser.PathIdentSegmentContext> segments = new ArrayList<>();
+        for (RustParser.PathExprSegmentContext segment : ctx.pathExprSegment()) {
+            segments.add(segment.pathIdentSegment());
+        }
+        resolvePath(segments, scope);
+        // 泛型参数中的类型
+        for (RustParser.PathExprSegmentContext segment : ctx.pathExprSegment()) {
+            if (segment.genericArgs() != null) {
+                visit(segment.genericArgs());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Void visitTypePath(RustParser.TypePathContext ctx) {
+        List<RustParser.PathIdentSegmentContext> segments = new ArrayList<>();
+        for (RustParser.TypePathSegmentContext segment : ctx.typePathSegment()) {
+            segments.add(segment.pathIdentSegment());
+        }
+        resolvePath(segments, scope);
+        for (RustParser.TypePathSegmentContext segment : ctx.typePathSegment()) {
+            if (segment.genericArgs() != null) {
+                visit(segment.genericArgs());
+            }
+            if (segment.typePathFn() != null) {
+                visit(segment.typePathFn());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Void visitStructExprField(RustParser.StructExprFieldContext ctx) {
+        if (ctx.expression() != null) {
+            // 字段名需要类型信息，只访问值
+            visit(ctx.expression());
+        } else if (ctx.identifier() != null) {
+            // 简写 Point { x } 引用变量 x
+            Token token = ctx.identifier().getStart();
+            Definition definition = scope.lookup(nameOf(token));
+            if (definition != null) {
+                reference(token, definition);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Void visitMacroInvocation(RustParser.MacroInvocationContext ctx) {
+        if (ctx.delimTokenTree() != null) {
+            visit(ctx.delimTokenTree());
+        }
+        return null;
+    }
+
+    @Override
+    public Void visitMacroInvocationSemi(RustParser.MacroInvocationSemiContext ctx) {
+        for (RustParser.TokenTreeContext tree : ctx.tokenTree()) {
+            visit(tree);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visitTokenTreeToken(RustParser.TokenTreeTokenContext ctx) {
+        Token token = ctx.getStart();
+        if (token.getType() != RustLexer.NON_KEYWORD_IDENTIFIER && token.getType() != RustLexer.RAW_IDENTIFIER) {
+            return null;
+        }
+        // 跳过字段 / 方法名（. 之后）、宏名（! 之前）与路径中间的段（:: 之后）
+        Token before = neighbour(token, -1);
+        Token after = neighbour(token, 1);
+        if ((before != null && (before.getType() == RustLexer.DOT || before.getType() == RustLexer.PATHSEP))
+            || (after != null && after.getType() == RustLexer.NOT)) {
+            return null;
+        }
+        Definition definition = scope.lookup(nameOf(token));
+        if (definition != null) {
+            reference(token, definition);
+        }
+        return null;
+    }
+
+    /**
+     * 默认通道上相邻的 Token
+     */
+    private Token neighbour(Token token, int direction) {
+        for (int i = token.getTokenIndex() + direction; i >= 0 && i < tokens.size(); i += direction) {
+            if (tokens.get(i).getChannel() == Token.DEFAULT_CHANNEL) {
+                return tokens.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 逐段解析路径，记录每个已解析段的引用
+     *
+     * @return 最后一个已解析段的定义
+     */
+    private Definition resolvePath(List<RustParser.PathIdentSegmentContext> segments, Scope from) {
+        Definition current = null;
+        Scope lookupScope = null;
+        for (int i = 0; i < segments.size(); i++) {
+            RustParser.PathIdentSegmentContext segment = segments.get(i);
+            if (segment == null) {
+                return current;
+            }
+            // 段只有一个 Token，按 Token 类型判断关键字段，避免逐个扫描子节点
+            Token token = segment.getStart();
+            int type = token.getType();
+            if (i == 0 && type == RustLexer.KW_CRATE) {
+                lookupScope = from.root();
+                continue;
+            } else if (type == RustLexer.KW_SUPER) {
+                Scope module = i == 0 ? from.module() : lookupScope;
+                if (module == null || module.parent == null) {
+                    return current;
+                }
+                lookupScope = module.parent.module();
+                continue;
+            } else if (i == 0 && type == RustLexer.KW_SELFVALUE && segments.size() > 1) {
+                lookupScope = from.module();
+                continue;
+            } else if (i == 0 && type == RustLexer.KW_SELFTYPE) {
+                current = from.selfType();
+                if (current == null) {
+                    return null;
+                }
+                lookupScope = current.canonical().members;
+                continue;
+            }
+            String name = type == RustLexer.KW_SELFVALUE ? "self" : nameOf(token);
+            if (name == null) {
+                return current;
+            }
+            Definition definition;
+            if (i == 0) {
+                definition = from.lookup(name);
+            } else {
+                definition = lookupScope != null ? lookupScope.bindings.get(name) : null;
+            }
+            if (definition == null) {
+                return current;
+            }
+            reference(token, definition);
+            current = definition;
+            lookupScope = definition.canonical().members;
+        }
+        return current;
+    }
+
+    /**
+     * impl 的类型名（只处理单段或多段类型路径，忽略引用、元组等）
+     */
+    private Definition resolveTypeName(RustParser.Type_Context type, Scope from) {
+        RustParser.TypePathContext path = typePathOf(type);
+        if (path == null) {
+            return null;
+        }
+        Definition current = null;
+        Scope lookupScope = from;
+        for (RustParser.TypePathSegmentContext segment : path.typePathSegment()) {
+            String name = segment.pathIdentSegment() != null ? nameOf(segment.pathIdentSegment().getStart()) : null;
+            if (name == null || lookupScope == null) {
+                return null;
+            }
+            current = lookupScope == from ? from.lookup(name) : lookupScope.bindings.get(name);
+            if (current == null) {
+                return null;
+            }
+            current = current.canonical();
+            lookupScope = current.members;
+        }
+        return current;
+    }
+
+    /**
+     * 类型中的单个类型路径；裸路径 Point 按语法的第一个可行分支解析为 traitObjectTypeOneBound
+     */
+    private static RustParser.TypePathContext typePathOf(RustParser.Type_Context type) {
+        RustParser.TypeNoBoundsContext noBounds = type != null ? type.typeNoBounds() : null;
+        if (noBounds == null) {
+            return null;
+        }
+        if (noBounds.typePath() != null) {
+            return noBounds.typePath();
+        }
+        RustParser.TraitObjectTypeOneBoundContext oneBound = noBounds.traitObjectTypeOneBound();
+        if (oneBound != null && oneBound.KW_DYN() == null && oneBound.traitBound() != null) {
+            return oneBound.traitBound().typePath();
+        }
+        return null;
+    }
+
+    // ==================== 条目声明 ====================
+
+    /**
+     * 声明作用域中的全部条目；impl 在其他条目之后处理，以便解析其类型
+     */
+    private void declareItems(List<RustParser.ItemContext> items, Scope target) {
+        List<RustParser.ImplementationContext> impls = new ArrayList<>();
+        for (RustParser.ItemContext item : items) {
+            RustParser.VisItemContext visItem = item.visItem();
+            if (visItem == null) {
+                continue;
+            }
+            if (visItem.module() != null) {
+                RustParser.ModuleContext module = visItem.module();
+                Definition definition = declare(target, module.identifier(), "module");
+                Scope moduleScope = new Scope(target, true);
+                moduleScopes.put(module, moduleScope);
+                if (definition != null) {
+                    definition.members = moduleScope;
+                }
+                declareItems(module.item(), moduleScope);
+            } else if (visItem.function_() != null) {
+                declare(target, visItem.function_().identifier(), "function");
+            } else if (visItem.struct_() != null) {
+                RustParser.Struct_Context struct = visItem.struct_();
+                declare(target, struct.structStruct() != null ? struct.structStruct().identifier()
+                    : struct.tupleStruct() != null ? struct.tupleStruct().identifier() : null, "struct");
+            } else if (visItem.enumeration() != null) {
+                RustParser.EnumerationContext enumeration = visItem.enumeration();
+                Definition definition = declare(target, enumeration.identifier(), "enum");
+                if (definition != null && enumeration.enumItems() != null) {
+                    for (RustParser.EnumItemContext variant : enumeration.enumItems().enumItem()) {
+                        declare(definition.members(), variant.identifier(), "variant");
+                    }
+                }
+            } else if (visItem.trait_() != null) {
+                RustParser.Trait_Context trait = visItem.trait_();
+                Definition definition = declare(target, trait.identifier(), "trait");
+                if (definition != null) {
+                    declareAssociatedItems(trait.associatedItem(), definition.members());
+                }
+            } else if (visItem.typeAlias() != null) {
+                declare(target, visItem.typeAlias().identifier(), "type");
+            } else if (visItem.constantItem() != null) {
+                declare(target, visItem.constantItem().identifier(), "constant");
+            } else if (visItem.staticItem() != null) {
+                declare(target, visItem.staticItem().identifier(), "static");
+            } else if (visItem.useDeclaration() != null) {
+                declareUseTree(visItem.useDeclaration().useTree(), new ArrayList<>(), target);
+            } else if (visItem.implementation() != null) {
+                impls.add(visItem.implementation());
+            }
+        }
+        for (RustParser.ImplementationContext impl : impls) {
+            RustParser.Type_Context type;
+            List<RustParser.AssociatedItemContext> associatedItems;
+            if (impl.traitImpl() != null) {
+                type = impl.traitImpl().type_();
+                associatedItems = impl.traitImpl().associatedItem();
+            } else if (impl.inherentImpl() != null) {
+                type = impl.inherentImpl().type_();
+                associatedItems = impl.inherentImpl().associatedItem();
+            } else {
+                continue;
+            }
+            Definition self = resolveTypeName(type, target);
+            // 类型不在本文档中（例如 impl Display for i32）时关联条目仍然有定义，只是无法经路径引用
+            declareAssociatedItems(associatedItems, self != null ? self.members() : new Scope(null, false));
+        }
+    }
+
+    private void declareAssociatedItems(List<RustParser.AssociatedItemContext> items, Scope members) {
+        for (RustParser.AssociatedItemContext item : items) {
+            if (item.function_() != null) {
+                declare(members, item.function_().identifier(), "method");
+            } else if (item.constantItem() != null) {
+                declare(members, item.constantItem().identifier(), "constant");
+            } else if (item.typeAlias() != null) {
+                declare(members, item.typeAlias().identifier(), "type");
+            }
+        }
+    }
+
+    /**
+     * 声明 use 树中的导入；路径的解析推迟到同一作用域的条目全部声明之后
+     *
+     * @param prefix 外层 use 树的路径段
+     */
+    private void declareUseTree(RustParser.UseTreeContext tree, List<RustParser.SimplePathSegmentContext> prefix,
+                                Scope target) {
+        if (tree == null) {
+            return;
+        }
+        List<RustParser.SimplePathSegmentContext> path = new ArrayList<>(prefix);
+        if (tree.simplePath() != null) {
+            path.addAll(tree.simplePath().simplePathSegment());
+        }
+        if (tree.STAR() != null) {
+            pendingImports.add(new Import(path, prefix.size(), null, null, true, target));
+            return;
+        }
+        if (tree.LCURLYBRACE() != null) {
+            if (tree.simplePath() != null) {
+                // 前缀段只解析一次
+                pendingImports.add(new Import(path, prefix.size(), null, null, false, target));
+            }
+            for (RustParser.UseTreeContext child : tree.useTree()) {
+                declareUseTree(child, path, target);
+            }
+            return;
+        }
+        if (path.isEmpty()) {
+            return;
+        }
+        // use a::b 导入 b；use a::{self} 导入 a；use a::b as c 导入 c；as _ 不引入名称
+        RustParser.SimplePathSegmentContext last = path.get(path.size() - 1);
+        Token nameToken;
+        if (tree.KW_AS() != null) {
+            nameToken = tree.identifier() != null ? tree.identifier().getStart() : null;
+        } else {
+            nameToken = last.getStart();
+        }
+        Definition definition = null;
+        if (nameToken != null) {
+            String name = last.getStart().getType() == RustLexer.KW_SELFVALUE && tree.KW_AS() == null && path.size() > 1
+                ? nameOf(path.get(path.size() - 2).getStart()) : nameOf(nameToken);
+            if (name != null && !"self".equals(name)) {
+                definition = newDefinition(name, "import");
+                target.bindings.put(name, definition);
+                record(nameToken, definition, true);
+            }
+        }
+        pendingImports.add(new Import(path, prefix.size(), definition, tree.KW_AS() != null ? null : last, false,
+            target));
+    }
+
+    /**
+     * 解析 use 路径：记录各段的引用，并把导入的定义指向路径的最终定义
+     */
+    private void resolvePendingImports() {
+        List<Import> imports = new ArrayList<>(pendingImports);
+        pendingImports.clear();
+        for (Import use : imports) {
+            Definition current = null;
+            Scope lookupScope = null;
+            for (int i = 0; i < use.path.size(); i++) {
+                RustParser.SimplePathSegmentContext segment = use.path.get(i);
+                boolean recordSegment = i >= use.firstNewSegment && segment != use.bindingSegment;
+                int type = segment.getStart().getType();
+                if (i == 0 && type == RustLexer.KW_CRATE) {
+                    lookupScope = use.scope.root();
+                    continue;
+                } else if (type == RustLexer.KW_SELFVALUE) {
+                    // self::a 相对于当前模块；a::{self} 导入 a 本身
+                    if (i == 0) {
+                        lookupScope = use.scope.module();
+                    }
+                    continue;
+                } else if (type == RustLexer.KW_SUPER) {
+                    Scope module = i == 0 ? use.scope.module() : lookupScope;
+                    if (module == null || module.parent == null) {
+                        current = null;
+                        break;
+                    }
+                    lookupScope = module.parent.module();
+                    continue;
+                }
+                String name = nameOf(segment.getStart());
+                Definition definition = name == null ? null
+                    : i == 0 ? use.scope.lookup(name)
+                    : lookupScope != null ? lookupScope.bindings.get(name) : null;
+                if (definition == null || definition == use.definition) {
+                    current = null;
+                    break;
+                }
+                if (recordSegment) {
+                    reference(segment.getStart(), definition);
+                }
+                current = definition;
+                lookupScope = definition.canonical().members;
+            }
+            if (use.definition != null && current != null) {
+                use.definition.target = current;
+                use.definition.members = current.canonical().members;
+            }
+            if (use.glob && lookupScope != null && lookupScope != use.scope) {
+                // use a::* 引入 a 的全部名称，不覆盖作用域中已有的名称
+                for (Map.Entry<String, Definition> entry : lookupScope.bindings.entrySet()) {
+                    use.scope.bindings.putIfAbsent(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+    }
+
+    // ==================== 记录 ====================
+
+    private Definition declare(Scope target, RustParser.IdentifierContext identifier, String kind) {
+        if (identifier == null || identifier.getStart() == null || identifier.exception != null) {
+            return null;
+        }
+        Token token = identifier.getStart();
+        String name = nameOf(token);
+        return name != null ? declare(target, name, kind, token) : null;
+    }
+
+    private Definition declare(Scope target, String name, String kind, Token token) {
+        Definition definition = newDefinition(name, kind);
+        target.bindings.put(name, definition);
+        record(token, definition, true);
+        return definition;
+    }
+
+    private Definition newDefinition(String name, String kind) {
+        Definition definition = new Definition(definitions.size(), name, kind);
+        definitions.add(definition);
+        return definition;
+    }
+
+    private void reference(Token token, Definition definition) {
+        record(token, definition, false);
+    }
+
+    private void record(Token token, Definition definition, boolean declaration) {
+        if (token.getStartIndex() < 0 || token.getStopIndex() < token.getStartIndex()) {
+            return;
+        }
+        if (count == starts.length) {
+            int capacity = count * 2;
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            targets = Arrays.copyOf(targets, capacity);
+            declarationFlags = Arrays.copyOf(declarationFlags, capacity);
+        }
+        starts[count] = document.toUtf16(token.getStartIndex());
+        ends[count] = document.toUtf16(token.getStopIndex() + 1);
+        targets[count] = definition.id;
+        declarationFlags[count] = declaration;
+        count++;
+    }
+
+    /**
+     * 标识符 Token 的名称（原始标识符去掉 r# 前缀）；错误恢复插入的 Token 返回 null
+     */
+    private static String nameOf(Token token) {
+        if (token == null || token.getStartIndex() < 0) {
+            return null;
+        }
+        String text = token.getText();
+        if (token.getType() == RustLexer.RAW_IDENTIFIER && text.startsWith("r#")) {
+            return text.substring(2);
+        }
+        return text == null || text.isEmpty() || text.startsWith("<") ? null : text;
+    }
+
+    /**
+     * 作用域：名称到定义的映射，按 parent 链查找
+     */
+    private static class Scope {
+        final Scope parent;
+        final boolean module;       // crate 或 mod，self / super 相对于最近的模块作用域
+        final Map<String, Definition> bindings = new HashMap<>();
+        Definition selfType;        // impl 块中 Self 所指的类型
+
+        Scope(Scope parent, boolean module) {
+            this.parent = parent;
+            this.module = module;
+        }
+
+        Definition lookup(String name) {
+            for (Scope s = this; s != null; s = s.parent) {
+                Definition definition = s.bindings.get(name);
+                if (definition != null) {
+                    return definition;
+                }
+            }
+            return null;
+        }
+
+        Scope module() {
+            Scope s = this;
+            while (!s.module && s.parent != null) {
+                s = s.parent;
+            }
+            return s;
+        }
+
+        Scope root() {
+            Scope s = this;
+            while (s.parent != null) {
+                s = s.parent;
+            }
+            return s;
+        }
+
+        Definition selfType() {
+            for (Scope s = this; s != null; s = s.parent) {
+                if (s.selfType != null) {
+                    return s.selfType;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 定义
+     */
+    private static class Definition {
+        final int id;
+        final String name;
+        final String kind;
+        Scope members;          // 模块的条目、类型的关联条目与变体
+        Definition target;      // 导入所指的定义
+
+        Definition(int id, String name, String kind) {
+            this.id = id;
+            this.name = name;
+            this.kind = kind;
+        }
+
+        Scope members() {
+            if (members == null) {
+                members = new Scope(null, false);
+            }
+            return members;
+        }
+
+        /**
+         * 沿导入链找到最终定义（导入链成环时停在环上）
+         */
+        Definition canonical() {
+            Definition definition = this;
+            for (int steps = 0; definition.target != null && steps < 16; steps++) {
+                definition = definition.target;
+            }
+            return definition;
+        }
+    }
+
+    /**
+     * 待解析的 use 路径
+     */
+    private static class Import {
+        final List<RustParser.SimplePathSegmentContext> path;
+        final int firstNewSegment;                       // 之前的段已由外层 use 树记录
+        final Definition definition;                     // 导入引入的名称，前缀与 * 为 null
+        final RustParser.SimplePathSegmentContext bindingSegment; // 同时是导入名称的末段
+        final boolean glob;
+        final Scope scope;
+
+        Import(List<RustParser.SimplePathSegmentContext> path, int firstNewSegment, Definition definition,
+               RustParser.SimplePathSegmentContext bindingSegment, boolean glob, Scope scope) {
+            this.path = path;
+            this.firstNewSegment = firstNewSegment;
+            this.definition = definition;
+            this.bindingSegment = bindingSegment;
+            this.glob = glob;
+            this.scope = scope;
+        }
+    }
+}
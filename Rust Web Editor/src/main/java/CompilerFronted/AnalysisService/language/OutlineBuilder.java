@@ -0,0 +1,382 @@
+package CompilerFronted.AnalysisService.language;
+
+import CompilerFronted.AnalysisService.models.DocumentSymbol;
+import CompilerFronted.Core.RustLexer;
+import CompilerFronted.Core.RustParser;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 文档大纲生成器
+ *
+ * 只沿着条目的嵌套结构下行：crate → item → module / trait / impl → 关联条目，
+ * 遇到函数体、结构体字段、枚举变体、常量初始化表达式即停止，
+ * 访问的节点数与条目数成正比，而不是与解析树大小成正比。
+ *
+ * 收录的条目：module、function_、struct_、enumeration、trait_、implementation、
+ * constantItem、staticItem；trait / impl 中的函数记为 method。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+class OutlineBuilder {
+
+    // 条目体内的修改含有这些字符时可能改变括号配对或 Token 边界（字符串、字符、注释、原始字符串）
+    private static final String STRUCTURAL_CHARS = "{}()[]\"'/*#\\";
+
+    private final TextDocument document;
+
+    OutlineBuilder(TextDocument document) {
+        this.document = document;
+    }
+
+    /**
+     * 生成顶层条目列表
+     */
+    List<DocumentSymbol> build(RustParser.CrateContext crate) {
+        List<DocumentSymbol> symbols = new ArrayList<>();
+        for (RustParser.ItemContext item : crate.item()) {
+            addItem(item, symbols);
+        }
+        return symbols;
+    }
+
+    private void addItem(RustParser.ItemContext item, List<DocumentSymbol> out) {
+        RustParser.VisItemContext visItem = item.visItem();
+        if (visItem == null) {
+            return;
+        }
+        DocumentSymbol symbol = null;
+        if (visItem.module() != null) {
+            RustParser.ModuleContext module = visItem.module();
+            symbol = named(item, module.identifier(), "module", null);
+            if (symbol != null) {
+                for (RustParser.ItemContext child : module.item()) {
+                    addItem(child, symbol.children);
+                }
+            }
+        } else if (visItem.function_() != null) {
+            symbol = function(item, visItem.function_(), "function");
+        } else if (visItem.struct_() != null) {
+            RustParser.Struct_Context struct = visItem.struct_();
+            if (struct.structStruct() != null) {
+                RustParser.StructStructContext structStruct = struct.structStruct();
+                symbol = named(item, structStruct.identifier(), "struct", null);
+                setBody(symbol, structStruct.LCURLYBRACE(), structStruct.RCURLYBRACE());
+            } else if (struct.tupleStruct() != null) {
+                symbol = named(item, struct.tupleStruct().identifier(), "struct", null);
+            }
+        } else if (visItem.enumeration() != null) {
+            RustParser.EnumerationContext enumeration = visItem.enumeration();
+            symbol = named(item, enumeration.identifier(), "enum", null);
+            setBody(symbol, enumeration.LCURLYBRACE(), enumeration.RCURLYBRACE());
+        } else if (visItem.trait_() != null) {
+            RustParser.Trait_Context trait = visItem.trait_();
+            symbol = named(item, trait.identifier(), "trait", null);
+            if (symbol != null) {
+                addAssociatedItems(trait.associatedItem(), symbol.children);
+            }
+        } else if (visItem.implementation() != null) {
+            symbol = implementation(item, visItem.implementation());
+        } else if (visItem.constantItem() != null) {
+            RustParser.ConstantItemContext constant = visItem.constantItem();
+            symbol = named(item, constant.identifier(), "constant", sourceText(constant.type_()));
+        } else if (visItem.staticItem() != null) {
+            RustParser.StaticItemContext staticItem = visItem.staticItem();
+            symbol = named(item, staticItem.identifier(), "static", sourceText(staticItem.type_()));
+        }
+        if (symbol != null) {
+            out.add(symbol);
+        }
+    }
+
+    private DocumentSymbol implementation(RustParser.ItemContext item, RustParser.ImplementationContext impl) {
+        List<RustParser.AssociatedItemContext> associatedItems;
+        ParserRuleContext selection;
+        String name;
+        if (impl.traitImpl() != null) {
+            RustParser.TraitImplContext traitImpl = impl.traitImpl();
+            selection = traitImpl.type_();
+            name = "impl " + sourceText(traitImpl.typePath()) + " for " + sourceText(traitImpl.type_());
+            associatedItems = traitImpl.associatedItem();
+        } else if (impl.inherentImpl() != null) {
+            RustParser.InherentImplContext inherentImpl = impl.inherentImpl();
+            selection = inherentImpl.type_();
+            name = "impl " + sourceText(inherentImpl.type_());
+            associatedItems = inherentImpl.associatedItem();
+        } else {
+            return null;
+        }
+        if (selection == null || selection.start == null) {
+            return null;
+        }
+        DocumentSymbol symbol = new DocumentSymbol(name, "impl", null, startOf(item), endOf(item),
+            startOf(selection), endOf(selection));
+        addAssociatedItems(associatedItems, symbol.children);
+        return symbol;
+    }
+
+    private void addAssociatedItems(List<RustParser.AssociatedItemContext> items, List<DocumentSymbol> out) {
+        for (RustParser.AssociatedItemContext item : items) {
+            DocumentSymbol symbol = null;
+            if (item.function_() != null) {
+                symbol = function(item, item.function_(), "method");
+            } else if (item.constantItem() != null) {
+                RustParser.ConstantItemContext constant = item.constantItem();
+                symbol = named(item, constant.identifier(), "constant", sourceText(constant.type_()));
+            }
+            if (symbol != null) {
+                out.add(symbol);
+            }
+        }
+    }
+
+    /**
+     * 函数：detail 为参数列表与返回类型，条目体为函数体花括号内部
+     */
+    private DocumentSymbol function(ParserRuleContext item, RustParser.Function_Context function, String kind) {
+        String detail = null;
+        if (function.LPAREN() != null) {
+            ParserRuleContext last = function.whereClause() != null ? function.whereClause()
+                : function.functionReturnType();
+            Token stop = last != null && last.stop != null ? last.stop
+                : function.RPAREN() != null ? function.RPAREN().getSymbol() : null;
+            detail = sourceText(function.LPAREN().getSymbol(), stop);
+        }
+        DocumentSymbol symbol = named(item, function.identifier(), kind, detail);
+        RustParser.BlockExpressionContext body = function.blockExpression();
+        if (body != null) {
+            setBody(symbol, body.LCURLYBRACE(), body.RCURLYBRACE());
+        }
+        return symbol;
+    }
+
+    /**
+     * 以标识符为符号名的条目；标识符在错误恢复中缺失时不收录
+     */
+    private DocumentSymbol named(ParserRuleContext item, ParserRuleContext identifier, String kind, String detail) {
+        if (identifier == null || identifier.start == null || identifier.exception != null) {
+            return null;
+        }
+        return new DocumentSymbol(identifier.getText(), kind, detail, startOf(item), endOf(item),
+            startOf(identifier), endOf(identifier));
+    }
+
+    private void setBody(DocumentSymbol symbol, TerminalNode open, TerminalNode close) {
+        if (symbol == null || !isPresent(open) || !isPresent(close)) {
+            return;
+        }
+        symbol.bodyStart = document.toUtf16(open.getSymbol().getStopIndex() + 1);
+        symbol.bodyEnd = document.toUtf16(close.getSymbol().getStartIndex());
+    }
+
+    /**
+     * 错误恢复插入的缺失 Token 没有源代码位置
+     */
+    private static boolean isPresent(TerminalNode node) {
+        return node != null && !(node instanceof ErrorNode) && node.getSymbol().getStartIndex() >= 0;
+    }
+
+    private int startOf(ParserRuleContext context) {
+        return document.toUtf16(context.start.getStartIndex());
+    }
+
+    private int endOf(ParserRuleContext context) {
+        Token stop = context.stop;
+        if (stop == null || stop.getTokenIndex() < context.start.getTokenIndex() || stop.getStopIndex() < 0) {
+            return startOf(context);
+        }
+        return document.toUtf16(stop.getStopIndex() + 1);
+    }
+
+    private static String sourceText(ParserRuleContext context) {
+        return context == null ? null : sourceText(context.start, context.stop);
+    }
+
+    /**
+     * 区间 [start, stop] 的源代码，连续空白压缩为一个空格
+     */
+    private static String sourceText(Token start, Token stop) {
+        if (start == null || stop == null || stop.getStopIndex() < start.getStartIndex()) {
+            return null;
+        }
+        String text = start.getInputStream().getText(Interval.of(start.getStartIndex(), stop.getStopIndex()));
+        return text.replaceAll("\\s+", " ");
+    }
+
+    /**
+     * 由上一版本的大纲推出本版本的大纲
+     *
+     * 修改完全落在某个条目体内部、且删除与插入的文本都不含 {@link #STRUCTURAL_CHARS}
+     * 时，条目结构通常不变，只需把修改之后的区间平移；否则返回 null，由调用方重新解析。
+     * 修改紧邻引号或 # 时（例如在字符串前补 r 变为原始字符串）同样不做平移。
+     * 最后从修改处重新词法分析，确认 Token 流重新对齐（见 {@link #tokensResync}）。
+     *
+     * @param outline 上一版本的大纲（不会被修改）
+     * @param before 上一版本的文档
+     * @param after 本版本的文本
+     * @return 平移后的大纲，无法平移时返回 null
+     */
+    static List<DocumentSymbol> rebase(List<DocumentSymbol> outline, TextDocument before, String after) {
+        String previous = before.getText();
+        TextEdit edit = TextEdit.diff(previous, after);
+        if (!isBodyLocal(outline, edit)
+            || containsAny(previous, edit.start, edit.oldEnd)
+            || containsAny(after, edit.start, edit.newEnd)
+            || (edit.newEnd < after.length() && "\"#'".indexOf(after.charAt(edit.newEnd)) >= 0)
+            || !tokensResync(before.getTokens(), previous, after, edit)) {
+            return null;
+        }
+        return shift(outline, edit);
+    }
+
+    /**
+     * 从修改处之前重新词法分析新文本，判断 Token 流是否与旧流重新对齐且括号不变
+     *
+     * 修改文本本身不含结构字符并不能保证 Token 边界不变：例如删除 // 注释所在行的换行，
+     * 下一行的 } 会并入注释。因此从修改处前两个 Token 开始重新分析：
+     * - 旧流中被越过的括号 Token 必须在新流中以相同类型、平移后的位置出现，新流也不能多出括号
+     * - 修改之后出现与旧流位置（平移后）、类型、终点都相同的 Token，且前两个默认通道 Token
+     *   的类型一致（词法分析器的全部状态，见 RustLexerBase）时视为重新对齐，其后的 Token 必然相同
+     * Token 下标为码点，与 UTF-16 的修改区间分别换算。
+     */
+    private static boolean tokensResync(List<Token> tokens, String before, String after, TextEdit edit) {
+        int start = before.codePointCount(0, edit.start);
+        int oldEnd = start + before.codePointCount(edit.start, edit.oldEnd);
+        int newEnd = start + after.codePointCount(edit.start, edit.newEnd);
+        int delta = newEnd - oldEnd;
+
+        // 修改处前第二个 Token：覆盖其之后 Token 的超前查看
+        int restart = 0;
+        while (restart + 1 < tokens.size() && tokens.get(restart + 1).getStartIndex() < start) {
+            restart++;
+        }
+        restart = Math.max(0, restart - 1);
+        int currentIndex = previousDefault(tokens, restart);
+        Token current = tokenAt(tokens, currentIndex);
+        Token previous = tokenAt(tokens, previousDefault(tokens, currentIndex));
+
+        Token from = tokens.get(restart);
+        CharStream input = CharStreams.fromString(after);
+        input.seek(from.getStartIndex());
+        RustLexer lexer = new RustLexer(input);
+        lexer.removeErrorListeners();
+        lexer.setLine(from.getLine());
+        lexer.setCharPositionInLine(from.getCharPositionInLine());
+        lexer.setPrecedingTokens(previous, current);
+
+        int old = restart;
+        int previousType = typeOf(previous);
+        int currentType = typeOf(current);
+        while (true) {
+            Token token = lexer.nextToken();
+            int position = token.getStartIndex();
+            boolean bracket = BracketIndex.bracketKind(token.getType()) != 0;
+            if (position < start || position >= newEnd) {
+                int oldPosition = position < start ? position : position - delta;
+                while (old < tokens.size() && tokens.get(old).getStartIndex() < oldPosition) {
+                    if (BracketIndex.bracketKind(tokens.get(old++).getType()) != 0) {
+                        return false;
+                    }
+                }
+                Token counterpart = old < tokens.size() ? tokens.get(old) : null;
+                if (counterpart != null && counterpart.getStartIndex() == oldPosition
+                    && counterpart.getType() == token.getType()
+                    && (counterpart.getStopIndex() < start || counterpart.getStartIndex() >= oldEnd)
+                    && mapStop(counterpart.getStopIndex(), oldEnd, delta) == token.getStopIndex()) {
+                    if (position >= newEnd) {
+                        int oldCurrent = previousDefault(tokens, old);
+                        int oldPrevious = previousDefault(tokens, oldCurrent);
+                        if (typeOf(tokenAt(tokens, oldCurrent)) == currentType
+                            && typeOf(tokenAt(tokens, oldPrevious)) == previousType) {
+                            return true;
+                        }
+                    }
+                    old++;
+                } else if (bracket) {
+                    return false;
+                }
+            } else if (bracket) {
+                return false;
+            }
+            if (token.getType() == Token.EOF) {
+                return false;
+            }
+            if (token.getChannel() == Token.DEFAULT_CHANNEL) {
+                previousType = currentType;
+                currentType = token.getType();
+            }
+        }
+    }
+
+    /**
+     * 下标 index 之前最近的默认通道 Token 的下标，没有时返回 -1
+     */
+    private static int previousDefault(List<Token> tokens, int index) {
+        for (int i = index - 1; i >= 0; i--) {
+            if (tokens.get(i).getChannel() == Token.DEFAULT_CHANNEL) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static Token tokenAt(List<Token> tokens, int index) {
+        return index >= 0 ? tokens.get(index) : null;
+    }
+
+    private static int typeOf(Token token) {
+        return token != null ? token.getType() : Token.INVALID_TYPE;
+    }
+
+    private static int mapStop(int stop, int oldEnd, int delta) {
+        return stop >= oldEnd ? stop + delta : stop;
+    }
+
+    private static boolean isBodyLocal(List<DocumentSymbol> symbols, TextEdit edit) {
+        for (DocumentSymbol symbol : symbols) {
+            if (symbol.start <= edit.start && edit.oldEnd <= symbol.end) {
+                if (symbol.hasBody() && symbol.bodyStart <= edit.start && edit.oldEnd <= symbol.bodyEnd) {
+                    return true;
+                }
+                return isBodyLocal(symbol.children, edit);
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsAny(String text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (STRUCTURAL_CHARS.indexOf(text.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<DocumentSymbol> shift(List<DocumentSymbol> symbols, TextEdit edit) {
+        List<DocumentSymbol> shifted = new ArrayList<>(symbols.size());
+        for (DocumentSymbol symbol : symbols) {
+            DocumentSymbol copy = new DocumentSymbol(symbol.name, symbol.kind, symbol.detail,
+                edit.mapStart(symbol.start), edit.mapEnd(symbol.end),
+                edit.mapStart(symbol.selectionStart), edit.mapEnd(symbol.selectionEnd));
+            if (symbol.hasBody()) {
+                copy.bodyStart = edit.mapStart(symbol.bodyStart);
+                copy.bodyEnd = edit.mapEnd(symbol.bodyEnd);
+            }
+            copy.children = shift(symbol.children, edit);
+            shifted.add(copy);
+        }
+        return shifted;
+    }
+}
@@ -0,0 +1,198 @@
+package CompilerFronted.AnalysisService.language;
+
+import CompilerFronted.AnalysisService.models.SymbolOccurrence;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 文档的引用索引（由 {@link NameResolver} 生成，不可变）
+ *
+ * 每次出现是一个名称 Token 的 UTF-16 区间，记录其所指的定义。
+ * 名称 Token 互不重叠，所以区间树退化为按起点排序的不相交区间：
+ * 光标处的查找是对 starts 的一次二分，O(log n)，不需要遍历解析树。
+ *
+ * 指向同一最终定义的出现（经 use 导入的别名归并到被导入的定义）按 CSR 格式分组保存，
+ * 查找引用只需取出一组，O(log n + k)。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+class ReferenceIndex {
+
+    // 定义
+    private final String[] names;
+    private final String[] kinds;
+    private final int[] canonical;          // 沿导入链找到的最终定义
+    private final int[] declarations;       // 定义处的出现下标，没有时为 -1
+
+    // 出现，按起点排序
+    private final int[] starts;
+    private final int[] ends;
+    private final int[] definitions;
+    private final boolean[] declarationFlags;
+
+    // 按最终定义分组的出现下标
+    private final int[] groupOffsets;
+    private final int[] groupOccurrences;
+
+    /**
+     * @param names 定义名
+     * @param kinds 定义类型
+     * @param canonical 每个定义的最终定义
+     * @param starts 出现的起点（任意顺序）
+     * @param ends 出现的终点
+     * @param definitions 出现所指的定义
+     * @param declarationFlags 出现是否为定义处
+     * @param count 出现数
+     */
+    ReferenceIndex(String[] names, String[] kinds, int[] canonical,
+                   int[] starts, int[] ends, int[] definitions, boolean[] declarationFlags, int count) {
+        this.names = names;
+        this.kinds = kinds;
+        this.canonical = canonical;
+
+        // 按 (起点, 原下标) 排序；同一位置重复记录的出现只保留第一个
+        long[] order = new long[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = ((long) starts[i] << 32) | i;
+        }
+        Arrays.sort(order);
+        int[] sortedStarts = new int[count];
+        int[] sortedEnds = new int[count];
+        int[] sortedDefinitions = new int[count];
+        boolean[] sortedFlags = new boolean[count];
+        int size = 0;
+        for (long key : order) {
+            int i = (int) key;
+            if (size > 0 && sortedStarts[size - 1] == starts[i]) {
+                continue;
+            }
+            sortedStarts[size] = starts[i];
+            sortedEnds[size] = ends[i];
+            sortedDefinitions[size] = definitions[i];
+            sortedFlags[size] = declarationFlags[i];
+            size++;
+        }
+        this.starts = Arrays.copyOf(sortedStarts, size);
+        this.ends = Arrays.copyOf(sortedEnds, size);
+        this.definitions = Arrays.copyOf(sortedDefinitions, size);
+        this.declarationFlags = Arrays.copyOf(sortedFlags, size);
+
+        this.declarations = new int[names.length];
+        Arrays.fill(declarations, -1);
+        groupOffsets = new int[names.length + 1];
+        for (int i = 0; i < size; i++) {
+            if (this.declarationFlags[i] && declarations[this.definitions[i]] < 0) {
+                declarations[this.definitions[i]] = i;
+            }
+            groupOffsets[canonical[this.definitions[i]] + 1]++;
+        }
+        for (int d = 0; d < names.length; d++) {
+            groupOffsets[d + 1] += groupOffsets[d];
+        }
+        groupOccurrences = new int[size];
+        int[] fill = Arrays.copyOf(groupOffsets, names.length);
+        for (int i = 0; i < size; i++) {
+            groupOccurrences[fill[canonical[this.definitions[i]]]++] = i;
+        }
+    }
+
+    /**
+     * 出现数
+     */
+    int size() {
+        return starts.length;
+    }
+
+    int start(int occurrence) {
+        return starts[occurrence];
+    }
+
+    int end(int occurrence) {
+        return ends[occurrence];
+    }
+
+    String kind(int occurrence) {
+        return kinds[definitions[occurrence]];
+    }
+
+    /**
+     * 沿导入链找到的最终定义的类型（导入外部 crate 的名称仍为 import）
+     */
+    String targetKind(int occurrence) {
+        return kinds[canonical[definitions[occurrence]]];
+    }
+
+    boolean isDeclaration(int occurrence) {
+        return declarationFlags[occurrence];
+    }
+
+    /**
+     * 光标处的出现：区间包含 offset，或 offset 紧接在名称末尾
+     *
+     * @return 出现下标，没有时返回 -1
+     */
+    int occurrenceAt(int offset) {
+        int low = 0;
+        int high = starts.length - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] <= offset) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found >= 0 && offset <= ends[found] ? found : -1;
+    }
+
+    /**
+     * 光标处名称的定义；导入的名称跳转到被导入的定义（在本文档中时）
+     *
+     * @return 定义处，光标不在已解析的名称上时返回 null
+     */
+    SymbolOccurrence definitionAt(int offset) {
+        int occurrence = occurrenceAt(offset);
+        if (occurrence < 0) {
+            return null;
+        }
+        int definition = definitions[occurrence];
+        int target = declarations[canonical[definition]] >= 0 ? canonical[definition] : definition;
+        int declaration = declarations[target];
+        return declaration >= 0 ? toOccurrence(declaration, target, true) : null;
+    }
+
+    /**
+     * 光标处名称的全部出现（含经导入别名的出现），按位置排序
+     *
+     * @param includeDeclaration 是否包含定义处
+     */
+    List<SymbolOccurrence> referencesAt(int offset, boolean includeDeclaration) {
+        int occurrence = occurrenceAt(offset);
+        if (occurrence < 0) {
+            return Collections.emptyList();
+        }
+        int group = canonical[definitions[occurrence]];
+        List<SymbolOccurrence> references = new ArrayList<>(groupOffsets[group + 1] - groupOffsets[group]);
+        for (int k = groupOffsets[group]; k < groupOffsets[group + 1]; k++) {
+            int i = groupOccurrences[k];
+            // 导入处声明的是别名，对被导入的定义而言是一次引用
+            boolean declaration = declarationFlags[i] && definitions[i] == group;
+            if (includeDeclaration || !declaration) {
+                references.add(toOccurrence(i, definitions[i], declaration));
+            }
+        }
+        return references;
+    }
+
+    private SymbolOccurrence toOccurrence(int occurrence, int definition, boolean declaration) {
+        return new SymbolOccurrence(names[definition], kinds[definition],
+            starts[occurrence], ends[occurrence], declaration);
+    }
+}
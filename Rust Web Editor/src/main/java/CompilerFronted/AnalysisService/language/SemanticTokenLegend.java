@@ -0,0 +1,50 @@
+package CompilerFronted.AnalysisService.language;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 语义 Token 的图例（与 LSP SemanticTokensLegend 一致）
+ *
+ * 编码结果中的 type 为 {@link #TOKEN_TYPES} 的下标，modifiers 为 {@link #TOKEN_MODIFIERS}
+ * 下标对应位的按位或。客户端注册语义 Token 提供者时先取得图例，之后只传输整数。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public final class SemanticTokenLegend {
+
+    static final int NAMESPACE = 0;
+    static final int TYPE = 1;
+    static final int STRUCT = 2;
+    static final int ENUM = 3;
+    static final int INTERFACE = 4;
+    static final int ENUM_MEMBER = 5;
+    static final int FUNCTION = 6;
+    static final int METHOD = 7;
+    static final int MACRO = 8;
+    static final int PARAMETER = 9;
+    static final int VARIABLE = 10;
+    static final int KEYWORD = 11;
+    static final int COMMENT = 12;
+    static final int STRING = 13;
+    static final int NUMBER = 14;
+    static final int LIFETIME = 15;
+
+    static final int DECLARATION = 1;
+    static final int READONLY = 1 << 1;
+    static final int STATIC = 1 << 2;
+    static final int DOCUMENTATION = 1 << 3;
+
+    public static final List<String> TOKEN_TYPES = Collections.unmodifiableList(Arrays.asList(
+        "namespace", "type", "struct", "enum", "interface", "enumMember", "function", "method",
+        "macro", "parameter", "variable", "keyword", "comment", "string", "number", "lifetime"));
+
+    public static final List<String> TOKEN_MODIFIERS = Collections.unmodifiableList(Arrays.asList(
+        "declaration", "readonly", "static", "documentation"));
+
+    private SemanticTokenLegend() {
+    }
+}
@@ -0,0 +1,264 @@
+package CompilerFronted.AnalysisService.language;
+
+import CompilerFronted.AnalysisService.models.SemanticTokensEdit;
+import CompilerFronted.Core.RustLexer;
+
+import org.antlr.v4.runtime.Token;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static CompilerFronted.AnalysisService.language.SemanticTokenLegend.*;
+
+/**
+ * 由 RustLexer 的 Token 流生成语义 Token（LSP 相对编码）
+ *
+ * 分类直接取自词法分析结果，因此原始字符串、生命周期与字符字面量、嵌套块注释等
+ * 与编辑器基于正则的高亮不一致的地方都以词法分析器为准：
+ * - 关键字、字面量、注释（文档注释带 documentation 修饰）、生命周期按 Token 类型分类
+ * - 标识符按 {@link ReferenceIndex} 中的出现分类（导入的名称取被导入定义的类型），
+ *   定义处带 declaration 修饰；未解析的标识符后跟 ! 或位于 macro_rules! 之后时为宏，
+ *   其余不输出，交给编辑器的高亮
+ * - 跨行的 Token（块注释、多行字符串）按行拆分，每段不含换行符
+ *
+ * 行列以 UTF-16 为单位，换行符为 \n、\r\n 或 \r，与编辑器一致。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+class SemanticTokensBuilder {
+
+    private final TextDocument document;
+    private final String text;
+
+    // 编码结果
+    private int[] data = new int[256];
+    private int size;
+    private int previousLine;
+    private int previousColumn;
+
+    // 扫描位置
+    private int position;
+    private int line;
+    private int lineStart;
+
+    SemanticTokensBuilder(TextDocument document) {
+        this.document = document;
+        this.text = document.getText();
+    }
+
+    /**
+     * 生成完整的语义 Token 数据
+     */
+    int[] build() {
+        List<Token> tokens = document.getTokens();
+        ReferenceIndex references = document.getReferenceIndex();
+        int occurrence = 0;
+        for (int i = 0; i < tokens.size(); i++) {
+            Token token = tokens.get(i);
+            int type = token.getType();
+            if (type == Token.EOF || type == RustLexer.WHITESPACE || type == RustLexer.NEWLINE) {
+                continue;
+            }
+            int start = document.toUtf16(token.getStartIndex());
+            int end = document.toUtf16(token.getStopIndex() + 1);
+
+            int tokenType;
+            int modifiers = 0;
+            if (type == RustLexer.NON_KEYWORD_IDENTIFIER || type == RustLexer.RAW_IDENTIFIER) {
+                while (occurrence < references.size() && references.start(occurrence) < start) {
+                    occurrence++;
+                }
+                if (occurrence < references.size() && references.start(occurrence) == start) {
+                    String kind = references.targetKind(occurrence);
+                    tokenType = identifierType(kind);
+                    modifiers = identifierModifiers(kind);
+                    if (references.isDeclaration(occurrence)) {
+                        modifiers |= DECLARATION;
+                    }
+                } else if (previousType(tokens, i, 1) == RustLexer.NOT
+                    && previousType(tokens, i, 2) == RustLexer.KW_MACRORULES) {
+                    tokenType = MACRO;
+                    modifiers = DECLARATION;
+                } else if (isMacroName(tokens, i)) {
+                    tokenType = MACRO;
+                } else {
+                    continue;
+                }
+            } else {
+                tokenType = lexicalType(type);
+                if (tokenType < 0) {
+                    continue;
+                }
+                if (type >= RustLexer.INNER_LINE_DOC && type <= RustLexer.OUTER_BLOCK_DOC) {
+                    modifiers = DOCUMENTATION;
+                }
+            }
+            emit(start, end, tokenType, modifiers);
+        }
+        return Arrays.copyOf(data, size);
+    }
+
+    /**
+     * 两次结果之间的修改：去掉公共前缀与后缀，剩余部分作为一次替换
+     *
+     * 前缀与后缀都按 Token（5 个整数）对齐。相对编码使一处编辑通常只影响其后的第一个 Token，
+     * 所以修改量与编辑区域成正比，而与文档大小无关。
+     *
+     * @return 修改，两次结果相同时返回 null
+     */
+    static SemanticTokensEdit diff(int[] before, int[] after) {
+        int limit = Math.min(before.length, after.length);
+        int prefix = 0;
+        while (prefix < limit && before[prefix] == after[prefix]) {
+            prefix++;
+        }
+        if (prefix == before.length && prefix == after.length) {
+            return null;
+        }
+        prefix -= prefix % 5;
+        int suffix = 0;
+        while (suffix < limit - prefix
+            && before[before.length - 1 - suffix] == after[after.length - 1 - suffix]) {
+            suffix++;
+        }
+        suffix -= suffix % 5;
+        return new SemanticTokensEdit(prefix, before.length - prefix - suffix,
+            Arrays.copyOfRange(after, prefix, after.length - suffix));
+    }
+
+    private static int lexicalType(int type) {
+        if (type == RustLexer.KW_STATICLIFETIME || type == RustLexer.KW_UNDERLINELIFETIME
+            || type == RustLexer.LIFETIME_OR_LABEL) {
+            return LIFETIME;
+        }
+        if (type == RustLexer.KW_MACRORULES) {
+            return MACRO;
+        }
+        if (type >= RustLexer.KW_AS && type <= RustLexer.KW_DOLLARCRATE) {
+            return KEYWORD;
+        }
+        if (type >= RustLexer.LINE_COMMENT && type <= RustLexer.SHEBANG) {
+            return COMMENT;
+        }
+        if (type >= RustLexer.CHAR_LITERAL && type <= RustLexer.RAW_BYTE_STRING_LITERAL) {
+            return STRING;
+        }
+        if (type >= RustLexer.INTEGER_LITERAL && type <= RustLexer.FLOAT_LITERAL) {
+            return NUMBER;
+        }
+        return -1;
+    }
+
+    private static int identifierType(String kind) {
+        switch (kind) {
+            case "variable":
+            case "constant":
+            case "static":
+                return VARIABLE;
+            case "parameter":
+                return PARAMETER;
+            case "function":
+                return FUNCTION;
+            case "method":
+                return METHOD;
+            case "struct":
+                return STRUCT;
+            case "enum":
+                return ENUM;
+            case "variant":
+                return ENUM_MEMBER;
+            case "trait":
+                return INTERFACE;
+            case "type":
+                return TYPE;
+            default:
+                // module，以及导入自外部 crate 的名称
+                return NAMESPACE;
+        }
+    }
+
+    private static int identifierModifiers(String kind) {
+        if ("constant".equals(kind)) {
+            return READONLY;
+        }
+        return "static".equals(kind) ? STATIC : 0;
+    }
+
+    /**
+     * 标识符之后（跳过空白与注释）是否为 !（!= 是单独的 Token）
+     */
+    private static boolean isMacroName(List<Token> tokens, int index) {
+        for (int i = index + 1; i < tokens.size(); i++) {
+            Token token = tokens.get(i);
+            if (token.getChannel() == Token.DEFAULT_CHANNEL) {
+                return token.getType() == RustLexer.NOT;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 向前第 n 个默认通道 Token 的类型，没有时返回 EOF
+     */
+    private static int previousType(List<Token> tokens, int index, int n) {
+        for (int i = index - 1; i >= 0; i--) {
+            Token token = tokens.get(i);
+            if (token.getChannel() == Token.DEFAULT_CHANNEL && --n == 0) {
+                return token.getType();
+            }
+        }
+        return Token.EOF;
+    }
+
+    /**
+     * 输出 [start, end) 区间的 Token，跨行时每行一段
+     */
+    private void emit(int start, int end, int tokenType, int modifiers) {
+        advanceTo(start);
+        int segment = start;
+        while (position < end) {
+            char c = text.charAt(position);
+            if (c == '\n' || c == '\r') {
+                append(segment, position, tokenType, modifiers);
+                advanceTo(Math.min(end, c == '\r' && position + 1 < end && text.charAt(position + 1) == '\n'
+                    ? position + 2 : position + 1));
+                segment = position;
+            } else {
+                position++;
+            }
+        }
+        append(segment, end, tokenType, modifiers);
+    }
+
+    /**
+     * 扫描到 offset，沿途统计行号与行首位置
+     */
+    private void advanceTo(int offset) {
+        while (position < offset) {
+            char c = text.charAt(position++);
+            if (c == '\n' || (c == '\r' && (position >= text.length() || text.charAt(position) != '\n'))) {
+                line++;
+                lineStart = position;
+            }
+        }
+    }
+
+    private void append(int start, int end, int tokenType, int modifiers) {
+        if (end <= start) {
+            return;
+        }
+        if (size + 5 > data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+        int column = start - lineStart;
+        data[size++] = line - previousLine;
+        data[size++] = line == previousLine ? column - previousColumn : column;
+        data[size++] = end - start;
+        data[size++] = tokenType;
+        data[size++] = modifiers;
+        previousLine = line;
+        previousColumn = column;
+    }
+}
@@ -0,0 +1,292 @@
+package CompilerFronted.AnalysisService.language;
+
+import CompilerFronted.AnalysisService.analyzers.LexicalAnalyzer;
+import CompilerFronted.AnalysisService.analyzers.SyntaxAnalyzer;
+import CompilerFronted.AnalysisService.models.BracketPair;
+import CompilerFronted.AnalysisService.models.DocumentSymbol;
+import CompilerFronted.AnalysisService.models.ErrorInfo;
+import CompilerFronted.AnalysisService.models.FoldingRange;
+import CompilerFronted.AnalysisService.models.SemanticTokens;
+import CompilerFronted.AnalysisService.models.SemanticTokensEdit;
+import CompilerFronted.AnalysisService.models.SymbolOccurrence;
+import CompilerFronted.Core.RustParser;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.Token;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 编辑器文档的一个版本
+ *
+ * 同一 (uri, version) 的文本不会改变，因此 Token、解析树以及在其上计算的
+ * 各项编辑器功能（大纲、引用索引等）都只在首次使用时计算一次，之后直接复用：
+ * - Token 与解析树按需生成，只用到 Token 的功能不会触发语法分析
+ * - 语法分析采用两阶段预测（{@link SyntaxAnalyzer#analyzeTwoStage()}）
+ * - previous 为同一文档的上一版本，供可以增量更新的功能使用
+ *
+ * 所有计算方法都是线程安全的。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class TextDocument {
+
+    private final String uri;
+    private final int version;
+    private final String text;
+    private TextDocument previous;
+
+    private int[] utf16Offsets;
+    private List<Token> tokens;
+    private SyntaxAnalyzer syntaxAnalyzer;
+    private RustParser.CrateContext crate;
+    private List<DocumentSymbol> outline;
+    private boolean outlineRebased;
+    private ReferenceIndex references;
+    private int[] semanticTokens;
+    private BracketIndex brackets;
+    private List<FoldingRange> foldingRanges;
+
+    /**
+     * 构造函数
+     *
+     * @param uri 文档标识
+     * @param version 版本号，由编辑器在每次修改后递增
+     * @param text 文档全文
+     * @param previous 上一版本，没有时为 null
+     */
+    public TextDocument(String uri, int version, String text, TextDocument previous) {
+        this.uri = uri;
+        this.version = version;
+        this.text = text;
+        this.previous = previous;
+        if (text.length() != text.codePointCount(0, text.length())) {
+            utf16Offsets = buildUtf16Offsets(text);
+        }
+    }
+
+    public String getUri() { return uri; }
+    public int getVersion() { return version; }
+    public String getText() { return text; }
+
+    /**
+     * 上一版本
+     */
+    synchronized TextDocument getPrevious() {
+        return previous;
+    }
+
+    /**
+     * 释放对上一版本的引用，避免版本链无限增长
+     */
+    synchronized void dropPrevious() {
+        previous = null;
+    }
+
+    /**
+     * 包含末尾 EOF 的 Token 列表（下标与 Token 编号一致）
+     */
+    public synchronized List<Token> getTokens() {
+        if (tokens == null) {
+            tokens = new LexicalAnalyzer(text).getTokensWithEOF();
+        }
+        return tokens;
+    }
+
+    /**
+     * 解析树，首次调用时执行语法分析
+     */
+    public synchronized RustParser.CrateContext getParseTree() {
+        if (crate == null) {
+            syntaxAnalyzer = new SyntaxAnalyzer(new CommonTokenStream(new ListTokenSource(getTokens())));
+            crate = (RustParser.CrateContext) syntaxAnalyzer.analyzeTwoStage();
+        }
+        return crate;
+    }
+
+    /**
+     * 语法错误
+     */
+    public synchronized List<ErrorInfo> getErrors() {
+        getParseTree();
+        return syntaxAnalyzer.getErrors();
+    }
+
+    /**
+     * 是否已执行过语法分析
+     */
+    public synchronized boolean isParsed() {
+        return crate != null;
+    }
+
+    /**
+     * 文档大纲
+     *
+     * 上一版本已有大纲、且本次修改只落在某个条目体内部时，
+     * 直接平移上一版本大纲的区间，不做语法分析（见 {@link OutlineBuilder#rebase}）。
+     */
+    public synchronized List<DocumentSymbol> getOutline() {
+        if (outline == null) {
+            TextDocument before = getPrevious();
+            List<DocumentSymbol> previousOutline = before != null ? before.peekOutline() : null;
+            if (previousOutline != null) {
+                outline = OutlineBuilder.rebase(previousOutline, before, text);
+                outlineRebased = outline != null;
+            }
+            if (outline == null) {
+                outline = new OutlineBuilder(this).build(getParseTree());
+            }
+        }
+        return outline;
+    }
+
+    /**
+     * 大纲是否由上一版本平移得到
+     */
+    public synchronized boolean isOutlineRebased() {
+        return outlineRebased;
+    }
+
+    private synchronized List<DocumentSymbol> peekOutline() {
+        return outline;
+    }
+
+    /**
+     * 名称解析得到的引用索引，首次使用时在解析树上执行一遍 {@link NameResolver}
+     */
+    synchronized ReferenceIndex getReferenceIndex() {
+        if (references == null) {
+            references = new NameResolver(this).resolve(getParseTree());
+        }
+        return references;
+    }
+
+    /**
+     * 跳转到定义
+     *
+     * @param offset 光标的 UTF-16 偏移
+     * @return 定义处，光标不在已解析的名称上时返回 null
+     */
+    public SymbolOccurrence findDefinition(int offset) {
+        return getReferenceIndex().definitionAt(offset);
+    }
+
+    /**
+     * 查找引用
+     *
+     * @param offset 光标的 UTF-16 偏移
+     * @param includeDeclaration 是否包含定义处
+     * @return 按位置排序的全部出现
+     */
+    public List<SymbolOccurrence> findReferences(int offset, boolean includeDeclaration) {
+        return getReferenceIndex().referencesAt(offset, includeDeclaration);
+    }
+
+    /**
+     * 语义 Token（完整结果），resultId 为版本号
+     */
+    public SemanticTokens getSemanticTokens() {
+        return new SemanticTokens(String.valueOf(version), semanticTokenData(), null);
+    }
+
+    /**
+     * 相对于上一结果的语义 Token 增量
+     *
+     * previousResultId 为本版本或仍保留的上一版本、且该版本已计算过语义 Token 时返回 edits
+     * （结果相同时为空列表），否则退回完整结果。
+     *
+     * @param previousResultId 客户端持有的上一结果标识
+     */
+    public SemanticTokens getSemanticTokensDelta(String previousResultId) {
+        String resultId = String.valueOf(version);
+        int[] data = semanticTokenData();
+        int[] before = null;
+        if (resultId.equals(previousResultId)) {
+            before = data;
+        } else {
+            TextDocument previousDocument = getPrevious();
+            if (previousDocument != null && String.valueOf(previousDocument.getVersion()).equals(previousResultId)) {
+                before = previousDocument.peekSemanticTokens();
+            }
+        }
+        if (before == null) {
+            return new SemanticTokens(resultId, data, null);
+        }
+        SemanticTokensEdit edit = SemanticTokensBuilder.diff(before, data);
+        return new SemanticTokens(resultId, null,
+            edit != null ? Collections.singletonList(edit) : Collections.emptyList());
+    }
+
+    private synchronized int[] semanticTokenData() {
+        if (semanticTokens == null) {
+            semanticTokens = new SemanticTokensBuilder(this).build();
+        }
+        return semanticTokens;
+    }
+
+    private synchronized int[] peekSemanticTokens() {
+        return semanticTokens;
+    }
+
+    /**
+     * 括号配对索引，只需要 Token，不触发语法分析
+     */
+    synchronized BracketIndex getBracketIndex() {
+        if (brackets == null) {
+            brackets = new BracketIndex(this);
+        }
+        return brackets;
+    }
+
+    /**
+     * 可折叠区域，由 Token 与括号配对计算，不触发语法分析
+     */
+    public synchronized List<FoldingRange> getFoldingRanges() {
+        if (foldingRanges == null) {
+            foldingRanges = new FoldingRangeBuilder(getTokens(), getBracketIndex()).build();
+        }
+        return foldingRanges;
+    }
+
+    /**
+     * 光标旁括号的配对
+     *
+     * @param offset 光标的 UTF-16 偏移
+     * @return 配对，光标不在括号旁或括号未配对时返回 null
+     */
+    public BracketPair findMatchingBracket(int offset) {
+        return getBracketIndex().pairAt(offset);
+    }
+
+    /**
+     * 码点下标转换为 UTF-16 偏移（ANTLR 的字符下标以码点为单位）
+     */
+    public int toUtf16(int index) {
+        if (index < 0) {
+            return 0;
+        }
+        if (utf16Offsets == null) {
+            return Math.min(index, text.length());
+        }
+        return utf16Offsets[Math.min(index, utf16Offsets.length - 1)];
+    }
+
+    /**
+     * 建立码点下标到 UTF-16 偏移的映射（长度为码点数 + 1）
+     */
+    private static int[] buildUtf16Offsets(String text) {
+        int[] offsets = new int[text.codePointCount(0, text.length()) + 1];
+        int cp = 0;
+        int i = 0;
+        while (i < text.length()) {
+            offsets[cp++] = i;
+            i += Character.charCount(text.codePointAt(i));
+        }
+        offsets[cp] = i;
+        return offsets;
+    }
+}
@@ -0,0 +1,67 @@
+package CompilerFronted.AnalysisService.language;
+
+/**
+ * 两个版本之间的单处文本替换
+ *
+ * 由公共前缀与公共后缀推出：旧文本的 [start, oldEnd) 被替换为新文本的 [start, newEnd)。
+ * 编辑器两次请求之间通常只有一处连续修改（输入、删除、粘贴），
+ * 多处修改时得到的是覆盖所有修改的最小区间。偏移均为 UTF-16 单位。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+final class TextEdit {
+
+    final int start;
+    final int oldEnd;
+    final int newEnd;
+
+    private TextEdit(int start, int oldEnd, int newEnd) {
+        this.start = start;
+        this.oldEnd = oldEnd;
+        this.newEnd = newEnd;
+    }
+
+    /**
+     * 计算 before → after 的替换区间
+     */
+    static TextEdit diff(String before, String after) {
+        int limit = Math.min(before.length(), after.length());
+        int prefix = 0;
+        while (prefix < limit && before.charAt(prefix) == after.charAt(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < limit - prefix
+            && before.charAt(before.length() - 1 - suffix) == after.charAt(after.length() - 1 - suffix)) {
+            suffix++;
+        }
+        return new TextEdit(prefix, before.length() - suffix, after.length() - suffix);
+    }
+
+    /**
+     * 长度变化
+     */
+    int delta() {
+        return newEnd - oldEnd;
+    }
+
+    /**
+     * 旧文本中的区间起点映射到新文本
+     *
+     * 纯插入发生在起点处时起点不动（插入的内容位于区间之后）。
+     */
+    int mapStart(int offset) {
+        return offset >= oldEnd && offset > start ? offset + delta() : offset;
+    }
+
+    /**
+     * 旧文本中的区间终点映射到新文本
+     *
+     * 纯插入发生在终点处时终点随之后移（插入的内容位于区间之内）。
+     */
+    int mapEnd(int offset) {
+        return offset >= oldEnd ? offset + delta() : offset;
+    }
+}
@@ -0,0 +1,601 @@
+package CompilerFronted.AnalysisService.language;
+
+import CompilerFronted.AnalysisService.models.DocumentSymbol;
+import CompilerFronted.AnalysisService.models.WorkspaceSymbol;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 工作区符号索引
+ *
+ * 每个文件的条目定义（由 {@link OutlineBuilder} 提取，impl 块只作为方法的外层条目）
+ * 保存为一个不可变的 {@link FileSymbols}。搜索使用按小写名排序的 {@link SortedKeys}：
+ * 排序键与原名称分别连续存放在一个 char[] 中，另有每个符号一个 64 位字符掩码
+ * （a-z、0-9、_ 各占一位），二分查找与模糊扫描都是顺序内存访问，不逐个解引用 String。
+ *
+ * 增量更新采用与 LSM 树相同的思路：
+ * - 全部文件合并成一个全局 SortedKeys
+ * - 更新的文件先进入 pending，搜索时与全局表一起检索；被替换或移除的文件标记为 retired，检索时跳过
+ * - pending 超过 {@link #MAX_PENDING} 个文件时（或调用 {@link #compact()}），
+ *   把 pending 多路归并进全局表，同时丢弃 retired 的条目
+ *
+ * 搜索结果先列出前缀匹配（不区分大小写，按名称排序），
+ * 不足 limit 时再补充子序列模糊匹配（按得分排序）。所有公开方法都是线程安全的。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class WorkspaceSymbolIndex {
+
+    static final int MAX_PENDING = 8;
+
+    private static final String[] KINDS = {
+        "module", "function", "method", "struct", "enum", "trait", "constant", "static"
+    };
+
+    private final Map<String, FileSymbols> files = new ConcurrentHashMap<>();
+    private SortedKeys merged = SortedKeys.EMPTY;
+    private final List<FileSymbols> pending = new ArrayList<>();
+
+    /**
+     * 以文件的大纲更新索引
+     *
+     * @param path 文件标识
+     * @param outline 文件大纲
+     */
+    public void update(String path, List<DocumentSymbol> outline) {
+        put(new FileSymbols(path, outline));
+    }
+
+    /**
+     * 解析文件并更新索引
+     *
+     * @param path 文件标识
+     * @param text 文件内容
+     * @return 文件中的符号数
+     */
+    public int update(String path, String text) {
+        FileSymbols symbols = new FileSymbols(path, new TextDocument(path, 0, text, null).getOutline());
+        put(symbols);
+        return symbols.size();
+    }
+
+    private synchronized void put(FileSymbols symbols) {
+        retire(files.put(symbols.path, symbols));
+        pending.add(symbols);
+    }
+
+    /**
+     * 从索引中移除文件
+     *
+     * @return 文件是否在索引中
+     */
+    public synchronized boolean remove(String path) {
+        FileSymbols removed = files.remove(path);
+        retire(removed);
+        return removed != null;
+    }
+
+    private void retire(FileSymbols symbols) {
+        if (symbols != null) {
+            symbols.retired = true;
+            pending.remove(symbols);
+        }
+    }
+
+    /**
+     * 清空索引
+     */
+    public synchronized void clear() {
+        files.clear();
+        pending.clear();
+        merged = SortedKeys.EMPTY;
+    }
+
+    /**
+     * 把 pending 合并进全局表，例如在批量建立索引之后
+     */
+    public synchronized void compact() {
+        List<SortedKeys> parts = new ArrayList<>(pending.size() + 1);
+        parts.add(merged);
+        for (FileSymbols symbols : pending) {
+            parts.add(symbols.keys);
+        }
+        merged = SortedKeys.merge(parts);
+        pending.clear();
+    }
+
+    public boolean contains(String path) {
+        return files.containsKey(path);
+    }
+
+    public int getFileCount() {
+        return files.size();
+    }
+
+    public int getSymbolCount() {
+        int count = 0;
+        for (FileSymbols symbols : files.values()) {
+            count += symbols.size();
+        }
+        return count;
+    }
+
+    /**
+     * 本次搜索检索的表：全局表与 pending 中各文件的表
+     */
+    private synchronized List<SortedKeys> tables() {
+        if (pending.size() > MAX_PENDING) {
+            compact();
+        }
+        List<SortedKeys> tables = new ArrayList<>(pending.size() + 1);
+        tables.add(merged);
+        for (FileSymbols symbols : pending) {
+            tables.add(symbols.keys);
+        }
+        return tables;
+    }
+
+    /**
+     * 搜索符号
+     *
+     * @param query 查询串，不区分大小写；空串按名称顺序列出全部符号
+     * @param limit 结果数上限
+     * @return 前缀匹配在前、模糊匹配在后的结果
+     */
+    public List<WorkspaceSymbol> search(String query, int limit) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        String key = toKey(query);
+        List<SortedKeys> tables = tables();
+        List<WorkspaceSymbol> results = new ArrayList<>(Math.min(limit, 64));
+
+        // 1. 前缀匹配：各表二分定位，按排序键多路归并
+        PriorityQueue<Cursor> cursors = new PriorityQueue<>(tables.size(), Cursor.ORDER);
+        for (SortedKeys table : tables) {
+            Cursor cursor = new Cursor(table, table.lowerBound(key) - 1);
+            if (cursor.advance(key)) {
+                cursors.add(cursor);
+            }
+        }
+        while (!cursors.isEmpty() && results.size() < limit) {
+            Cursor cursor = cursors.poll();
+            results.add(cursor.table.symbol(cursor.index));
+            if (cursor.advance(key)) {
+                cursors.add(cursor);
+            }
+        }
+        if (results.size() >= limit || key.isEmpty()) {
+            return results;
+        }
+
+        // 2. 模糊匹配：掩码过滤后检查子序列，保留得分最高的若干个
+        int wanted = limit - results.size();
+        long mask = mask(key, 0, key.length());
+        PriorityQueue<Match> best = new PriorityQueue<>(wanted + 1, Match.ORDER);
+        for (SortedKeys table : tables) {
+            long[] masks = table.masks;
+            for (int i = 0; i < masks.length; i++) {
+                if ((masks[i] & mask) != mask || table.startsWith(i, key)) {
+                    continue;
+                }
+                int score = table.fuzzyScore(i, key);
+                if (score < 0 || table.owners[i].retired) {
+                    continue;
+                }
+                Match match = new Match(table, i, score);
+                if (best.size() < wanted) {
+                    best.add(match);
+                } else if (Match.ORDER.compare(match, best.peek()) > 0) {
+                    best.poll();
+                    best.add(match);
+                }
+            }
+        }
+        Match[] matches = best.toArray(new Match[0]);
+        Arrays.sort(matches, Match.ORDER.reversed());
+        for (Match match : matches) {
+            results.add(match.table.symbol(match.index));
+        }
+        return results;
+    }
+
+    /**
+     * 排序键：逐字符转小写（保持长度不变，与原名称逐字符对应）
+     */
+    static String toKey(String name) {
+        char[] chars = name.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 字符掩码：a-z 为第 0-25 位，0-9 为第 26-35 位，_ 为第 36 位
+     */
+    static long mask(CharSequence key, int start, int end) {
+        long mask = 0;
+        for (int i = start; i < end; i++) {
+            char c = key.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                mask |= 1L << (c - 'a');
+            } else if (c >= '0' && c <= '9') {
+                mask |= 1L << (26 + c - '0');
+            } else if (c == '_') {
+                mask |= 1L << 36;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 一个文件的符号（不可变；被替换或移除后标记为 retired）
+     */
+    private static class FileSymbols {
+        final String path;
+        final String[] names;
+        final byte[] kinds;
+        final String[] containers;
+        final int[] ranges;     // 每个符号 4 个：start, end, selectionStart, selectionEnd
+        final SortedKeys keys;
+        volatile boolean retired;
+
+        FileSymbols(String path, List<DocumentSymbol> outline) {
+            this.path = path;
+            List<DocumentSymbol> flat = new ArrayList<>();
+            List<String> parents = new ArrayList<>();
+            flatten(outline, null, flat, parents);
+
+            int size = flat.size();
+            names = new String[size];
+            kinds = new byte[size];
+            containers = new String[size];
+            ranges = new int[size * 4];
+            for (int i = 0; i < size; i++) {
+                DocumentSymbol symbol = flat.get(i);
+                names[i] = symbol.name;
+                kinds[i] = (byte) Math.max(0, Arrays.asList(KINDS).indexOf(symbol.kind));
+                containers[i] = parents.get(i);
+                ranges[i * 4] = symbol.start;
+                ranges[i * 4 + 1] = symbol.end;
+                ranges[i * 4 + 2] = symbol.selectionStart;
+                ranges[i * 4 + 3] = symbol.selectionEnd;
+            }
+            keys = SortedKeys.of(this);
+        }
+
+        private static void flatten(List<DocumentSymbol> symbols, String container,
+                                    List<DocumentSymbol> flat, List<String> parents) {
+            for (DocumentSymbol symbol : symbols) {
+                // impl 块本身不是定义，只作为其中方法的外层条目
+                if (!"impl".equals(symbol.kind)) {
+                    flat.add(symbol);
+                    parents.add(container);
+                }
+                flatten(symbol.children, symbol.name, flat, parents);
+            }
+        }
+
+        int size() {
+            return names.length;
+        }
+
+        WorkspaceSymbol symbol(int i) {
+            return new WorkspaceSymbol(names[i], KINDS[kinds[i]], containers[i], path,
+                ranges[i * 4], ranges[i * 4 + 1], ranges[i * 4 + 2], ranges[i * 4 + 3]);
+        }
+    }
+
+    /**
+     * 按 (排序键, 名称) 排序的符号表
+     *
+     * 第 i 个符号的排序键为 keys[offsets[i], offsets[i + 1])，原名称为 names 的同一区间；
+     * owners[i] / indexes[i] 指回所属文件中的符号。
+     */
+    private static class SortedKeys {
+        static final SortedKeys EMPTY = new SortedKeys(new char[0], new char[0], new int[1], new long[0],
+            new FileSymbols[0], new int[0]);
+
+        final char[] keys;
+        final char[] names;
+        final int[] offsets;
+        final long[] masks;
+        final FileSymbols[] owners;
+        final int[] indexes;
+
+        SortedKeys(char[] keys, char[] names, int[] offsets, long[] masks, FileSymbols[] owners, int[] indexes) {
+            this.keys = keys;
+            this.names = names;
+            this.offsets = offsets;
+            this.masks = masks;
+            this.owners = owners;
+            this.indexes = indexes;
+        }
+
+        /**
+         * 单个文件的表
+         */
+        static SortedKeys of(FileSymbols file) {
+            int size = file.size();
+            String[] keyStrings = new String[size];
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                keyStrings[i] = toKey(file.names[i]);
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparing((Integer i) -> keyStrings[i]).thenComparing(i -> file.names[i]));
+
+            Builder builder = new Builder(size, 16 * size);
+            for (int i : order) {
+                builder.add(keyStrings[i], file.names[i], file, i);
+            }
+            return builder.build();
+        }
+
+        /**
+         * 多路归并若干张表，跳过 retired 文件的符号
+         */
+        static SortedKeys merge(List<SortedKeys> parts) {
+            int size = 0;
+            int chars = 0;
+            PriorityQueue<Cursor> cursors = new PriorityQueue<>(Math.max(1, parts.size()), Cursor.ORDER);
+            for (SortedKeys part : parts) {
+                size += part.size();
+                chars += part.keys.length;
+                Cursor cursor = new Cursor(part, -1);
+                if (cursor.advance("")) {
+                    cursors.add(cursor);
+                }
+            }
+            Builder builder = new Builder(size, chars);
+            while (!cursors.isEmpty()) {
+                Cursor cursor = cursors.poll();
+                builder.copy(cursor.table, cursor.index);
+                if (cursor.advance("")) {
+                    cursors.add(cursor);
+                }
+            }
+            return builder.build();
+        }
+
+        int size() {
+            return masks.length;
+        }
+
+        /**
+         * 第 i 个排序键与 key 比较
+         */
+        int compareKey(int i, String key) {
+            int start = offsets[i];
+            int length = offsets[i + 1] - start;
+            int n = Math.min(length, key.length());
+            for (int k = 0; k < n; k++) {
+                char c = keys[start + k];
+                char d = key.charAt(k);
+                if (c != d) {
+                    return c - d;
+                }
+            }
+            return length - key.length();
+        }
+
+        /**
+         * 按 (排序键, 名称) 比较两张表中的符号
+         */
+        static int compare(SortedKeys a, int i, SortedKeys b, int j) {
+            int result = compareRange(a.keys, a.offsets[i], a.offsets[i + 1], b.keys, b.offsets[j], b.offsets[j + 1]);
+            return result != 0 ? result
+                : compareRange(a.names, a.offsets[i], a.offsets[i + 1], b.names, b.offsets[j], b.offsets[j + 1]);
+        }
+
+        private static int compareRange(char[] a, int aStart, int aEnd, char[] b, int bStart, int bEnd) {
+            int n = Math.min(aEnd - aStart, bEnd - bStart);
+            for (int k = 0; k < n; k++) {
+                char c = a[aStart + k];
+                char d = b[bStart + k];
+                if (c != d) {
+                    return c - d;
+                }
+            }
+            return (aEnd - aStart) - (bEnd - bStart);
+        }
+
+        boolean startsWith(int i, String key) {
+            int start = offsets[i];
+            if (offsets[i + 1] - start < key.length()) {
+                return false;
+            }
+            for (int k = 0; k < key.length(); k++) {
+                if (keys[start + k] != key.charAt(k)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 第一个排序键不小于 key 的下标
+         */
+        int lowerBound(String key) {
+            int low = 0;
+            int high = size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compareKey(mid, key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        int keyLength(int i) {
+            return offsets[i + 1] - offsets[i];
+        }
+
+        /**
+         * 子序列匹配得分，不匹配时返回 -1
+         *
+         * 每个匹配字符 1 分；紧接上一个匹配字符 +3；位于单词开头（名称开头、_ 之后、驼峰大写）+5
+         */
+        int fuzzyScore(int i, String query) {
+            int start = offsets[i];
+            int end = offsets[i + 1];
+            int score = 0;
+            int previous = -2;
+            int position = start;
+            for (int q = 0; q < query.length(); q++) {
+                char c = query.charAt(q);
+                while (position < end && keys[position] != c) {
+                    position++;
+                }
+                if (position == end) {
+                    return -1;
+                }
+                score++;
+                if (position == previous + 1) {
+                    score += 3;
+                }
+                if (position == start || keys[position - 1] == '_'
+                    || (Character.isUpperCase(names[position]) && !Character.isUpperCase(names[position - 1]))) {
+                    score += 5;
+                }
+                previous = position++;
+            }
+            return score;
+        }
+
+        WorkspaceSymbol symbol(int i) {
+            return owners[i].symbol(indexes[i]);
+        }
+
+        /**
+         * 顺序追加符号的构建器
+         */
+        private static class Builder {
+            private final int[] offsets;
+            private final long[] masks;
+            private final FileSymbols[] owners;
+            private final int[] indexes;
+            private char[] keys;
+            private char[] names;
+            private int size;
+            private int length;
+
+            Builder(int capacity, int chars) {
+                offsets = new int[capacity + 1];
+                masks = new long[capacity];
+                owners = new FileSymbols[capacity];
+                indexes = new int[capacity];
+                keys = new char[Math.max(16, chars)];
+                names = new char[keys.length];
+            }
+
+            void add(String key, String name, FileSymbols owner, int index) {
+                ensureCapacity(key.length());
+                key.getChars(0, key.length(), keys, length);
+                name.getChars(0, name.length(), names, length);
+                masks[size] = mask(key, 0, key.length());
+                append(key.length(), owner, index);
+            }
+
+            void copy(SortedKeys table, int i) {
+                int start = table.offsets[i];
+                int keyLength = table.keyLength(i);
+                ensureCapacity(keyLength);
+                System.arraycopy(table.keys, start, keys, length, keyLength);
+                System.arraycopy(table.names, start, names, length, keyLength);
+                masks[size] = table.masks[i];
+                append(keyLength, table.owners[i], table.indexes[i]);
+            }
+
+            private void append(int keyLength, FileSymbols owner, int index) {
+                owners[size] = owner;
+                indexes[size] = index;
+                length += keyLength;
+                size++;
+                offsets[size] = length;
+            }
+
+            private void ensureCapacity(int extra) {
+                if (length + extra > keys.length) {
+                    int capacity = Math.max(keys.length * 2, length + extra);
+                    keys = Arrays.copyOf(keys, capacity);
+                    names = Arrays.copyOf(names, capacity);
+                }
+            }
+
+            SortedKeys build() {
+                return new SortedKeys(Arrays.copyOf(keys, length), Arrays.copyOf(names, length),
+                    Arrays.copyOf(offsets, size + 1), Arrays.copyOf(masks, size),
+                    Arrays.copyOf(owners, size), Arrays.copyOf(indexes, size));
+            }
+        }
+    }
+
+    /**
+     * 多路归并中某张表的当前位置
+     */
+    private static class Cursor {
+        static final Comparator<Cursor> ORDER = (a, b) -> SortedKeys.compare(a.table, a.index, b.table, b.index);
+
+        final SortedKeys table;
+        int index;
+
+        Cursor(SortedKeys table, int index) {
+            this.table = table;
+            this.index = index;
+        }
+
+        /**
+         * 移到下一个以 prefix 开头、且所属文件未被替换的符号
+         *
+         * @return 是否还有这样的符号
+         */
+        boolean advance(String prefix) {
+            while (++index < table.size()) {
+                if (!table.startsWith(index, prefix)) {
+                    return false;
+                }
+                if (!table.owners[index].retired) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 模糊匹配候选：得分高者优先，同分时排序键短者优先，再按名称
+     */
+    private static class Match {
+        static final Comparator<Match> ORDER = (a, b) -> {
+            if (a.score != b.score) {
+                return Integer.compare(a.score, b.score);
+            }
+            int lengths = Integer.compare(b.table.keyLength(b.index), a.table.keyLength(a.index));
+            return lengths != 0 ? lengths : SortedKeys.compare(b.table, b.index, a.table, a.index);
+        };
+
+        final SortedKeys table;
+        final int index;
+        final int score;
+
+        Match(SortedKeys table, int index, int score) {
+            this.table = table;
+            this.index = index;
+            this.score = score;
+        }
+    }
+}
@@ -3,8 +3,9 @@ package CompilerFronted.AnalysisService.models;
 /**
  * AST（抽象语法树）信息类
  * 
- * 存储抽象语法树的DOT格式表示：
+ * 存储抽象语法树的表示：
  * - DOT 格式：用于 Graphviz 可视化
+ * - 列式树结构：用于客户端虚拟化树视图（仅在 trees=structure / both 时存在）
  * 
  * @author Compiler Frontend Team
  * @version 1.0
@@ -12,6 +13,7 @@ package CompilerFronted.AnalysisService.models;
  */
 public class ASTInfo {
     public String dot;
+    public TreeStructure structure;
 
     public ASTInfo() {
         this.dot = "";
@@ -29,4 +31,12 @@ public class ASTInfo {
     public void setDot(String dot) { 
         this.dot = dot; 
     }
+    
+    public TreeStructure getStructure() { 
+        return structure; 
+    }
+    
+    public void setStructure(TreeStructure structure) { 
+        this.structure = structure; 
+    }
 }
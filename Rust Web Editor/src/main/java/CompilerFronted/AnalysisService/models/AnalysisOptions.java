@@ -0,0 +1,110 @@
+package CompilerFronted.AnalysisService.models;
+
+/**
+ * 分析选项
+ *
+ * 控制一次分析请求的输出内容与编码方式，
+ * 默认值与原有的 /analyse 行为保持一致。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class AnalysisOptions {
+
+    /**
+     * Token 流的编码方式
+     */
+    public enum TokenEncoding {
+        OBJECTS,    // 每个 Token 一个 JSON 对象（默认）
+        COMPACT     // 列式编码：类型字典 + 并行数组，不含文本
+    }
+
+    /**
+     * 语法分析方式
+     */
+    public enum ParseMode {
+        SEQUENTIAL, // 整个文件一次 crate() 解析（默认）
+        PARALLEL    // 顶层 item 分组并发解析，结果与顺序解析一致，出错时自动回退
+    }
+
+    /**
+     * 词法分析方式
+     */
+    public enum LexMode {
+        SEQUENTIAL, // 单线程词法分析（默认）
+        PARALLEL    // 大文件按行切块推测性并发分析，结果与顺序分析一致
+    }
+
+    /**
+     * CST / AST 的输出形式
+     */
+    public enum TreeFormat {
+        DOT,        // DOT 文本（默认）
+        STRUCTURE,  // 列式树结构（TreeStructure），不生成 DOT
+        BOTH        // 两者都输出
+    }
+
+    private TokenEncoding tokenEncoding;
+    private ParseMode parseMode;
+    private LexMode lexMode;
+    private TreeFormat treeFormat;
+    private long lispMaxLength;         // LISP 文本的最大字符数，0 表示不限制
+    private boolean saveDebugOutput;    // 是否写入 debug_output/（批量分析时关闭）
+    private int maxErrors;              // 语法错误上限，达到后停止解析；0 表示不限制
+    private boolean dedupeErrors;       // 同一出错 Token 上的级联错误只报告第一个
+
+    public AnalysisOptions() {
+        this.tokenEncoding = TokenEncoding.OBJECTS;
+        this.saveDebugOutput = true;
+        this.parseMode = ParseMode.SEQUENTIAL;
+        this.lexMode = LexMode.SEQUENTIAL;
+        this.treeFormat = TreeFormat.DOT;
+    }
+
+    /**
+     * 复制构造（新增字段时需在此同步复制）
+     */
+    public AnalysisOptions(AnalysisOptions other) {
+        this.tokenEncoding = other.tokenEncoding;
+        this.parseMode = other.parseMode;
+        this.lexMode = other.lexMode;
+        this.treeFormat = other.treeFormat;
+        this.lispMaxLength = other.lispMaxLength;
+        this.saveDebugOutput = other.saveDebugOutput;
+        this.maxErrors = other.maxErrors;
+        this.dedupeErrors = other.dedupeErrors;
+    }
+
+    /**
+     * 默认选项
+     */
+    public static AnalysisOptions defaults() {
+        return new AnalysisOptions();
+    }
+
+    // Getters and Setters
+    public TokenEncoding getTokenEncoding() { return tokenEncoding; }
+    public void setTokenEncoding(TokenEncoding tokenEncoding) { this.tokenEncoding = tokenEncoding; }
+    public ParseMode getParseMode() { return parseMode; }
+    public void setParseMode(ParseMode parseMode) { this.parseMode = parseMode; }
+    public LexMode getLexMode() { return lexMode; }
+    public void setLexMode(LexMode lexMode) { this.lexMode = lexMode; }
+    public TreeFormat getTreeFormat() { return treeFormat; }
+    public void setTreeFormat(TreeFormat treeFormat) { this.treeFormat = treeFormat; }
+    public long getLispMaxLength() { return lispMaxLength; }
+    public void setLispMaxLength(long lispMaxLength) { this.lispMaxLength = lispMaxLength; }
+    public boolean isSaveDebugOutput() { return saveDebugOutput; }
+    public void setSaveDebugOutput(boolean saveDebugOutput) { this.saveDebugOutput = saveDebugOutput; }
+    public int getMaxErrors() { return maxErrors; }
+    public void setMaxErrors(int maxErrors) { this.maxErrors = maxErrors; }
+    public boolean isDedupeErrors() { return dedupeErrors; }
+    public void setDedupeErrors(boolean dedupeErrors) { this.dedupeErrors = dedupeErrors; }
+
+    /**
+     * 是否设置了错误上限或去重（此时结果附带 {@link ErrorSummary}）
+     */
+    public boolean hasErrorPolicy() {
+        return maxErrors > 0 || dedupeErrors;
+    }
+}
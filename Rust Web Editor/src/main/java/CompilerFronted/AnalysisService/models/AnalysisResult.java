@@ -6,9 +6,11 @@ import java.util.List;
 public class AnalysisResult {
     public boolean success;
     public List<TokenInfo> tokens;
+    public CompactTokenStream compactTokens;    // 仅在列式编码时存在，此时 tokens 为空
     public ParseTreeInfo parseTree;
     public ASTInfo ast;
     public List<ErrorInfo> errors;
+    public ErrorSummary errorSummary;   // 仅在设置了错误上限或去重时存在
 
     public AnalysisResult() {
         this.tokens = new ArrayList<>();
@@ -24,6 +26,9 @@ public class AnalysisResult {
     public List<TokenInfo> getTokens() { return tokens; }
     public void setTokens(List<TokenInfo> tokens) { this.tokens = tokens; }
     
+    public CompactTokenStream getCompactTokens() { return compactTokens; }
+    public void setCompactTokens(CompactTokenStream compactTokens) { this.compactTokens = compactTokens; }
+    
     public ParseTreeInfo getParseTree() { return parseTree; }
     public void setParseTree(ParseTreeInfo parseTree) { this.parseTree = parseTree; }
     
@@ -32,4 +37,6 @@ public class AnalysisResult {
     
     public List<ErrorInfo> getErrors() { return errors; }
     public void setErrors(List<ErrorInfo> errors) { this.errors = errors; }
+    public ErrorSummary getErrorSummary() { return errorSummary; }
+    public void setErrorSummary(ErrorSummary errorSummary) { this.errorSummary = errorSummary; }
 }
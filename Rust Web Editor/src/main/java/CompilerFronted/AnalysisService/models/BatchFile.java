@@ -0,0 +1,65 @@
+package CompilerFronted.AnalysisService.models;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+
+import java.io.IOException;
+
+/**
+ * 批量分析的输入文件
+ *
+ * NDJSON 批量请求中的每一行对应一个 BatchFile：{"path": "...", "code": "..."}
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class BatchFile {
+    public String path;
+    public String code;
+
+    public BatchFile() {
+    }
+
+    public BatchFile(String path, String code) {
+        this.path = path;
+        this.code = code;
+    }
+
+    /**
+     * 打开分析用的字符流；子类可直接基于文件字节实现，避免生成字符串
+     */
+    public CharStream openCharStream() throws IOException {
+        return CharStreams.fromString(code != null ? code : "");
+    }
+
+    /**
+     * 源代码的 UTF-8 字节数
+     */
+    public long getByteLength() throws IOException {
+        if (code == null) {
+            return 0;
+        }
+        long length = 0;
+        for (int i = 0; i < code.length(); i++) {
+            char c = code.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < code.length() && Character.isLowSurrogate(code.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    // Getters and Setters
+    public String getPath() { return path; }
+    public void setPath(String path) { this.path = path; }
+    public String getCode() { return code; }
+    public void setCode(String code) { this.code = code; }
+}
@@ -0,0 +1,41 @@
+package CompilerFronted.AnalysisService.models;
+
+/**
+ * 批量分析中单个文件的结果
+ *
+ * - index：文件在请求中的序号（结果按完成顺序输出，客户端据此对应）
+ * - success：分析是否成功（语法错误同样记为 false，详见 result.errors）
+ * - error：分析过程本身失败时的异常信息，此时 result 为 null
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class BatchFileResult {
+    public int index;
+    public String path;
+    public boolean success;
+    public long durationMillis;
+    public int bytes;
+    public AnalysisResult result;
+    public String error;
+
+    public BatchFileResult(int index, String path) {
+        this.index = index;
+        this.path = path;
+    }
+
+    // Getters and Setters
+    public int getIndex() { return index; }
+    public String getPath() { return path; }
+    public boolean isSuccess() { return success; }
+    public void setSuccess(boolean success) { this.success = success; }
+    public long getDurationMillis() { return durationMillis; }
+    public void setDurationMillis(long durationMillis) { this.durationMillis = durationMillis; }
+    public int getBytes() { return bytes; }
+    public void setBytes(int bytes) { this.bytes = bytes; }
+    public AnalysisResult getResult() { return result; }
+    public void setResult(AnalysisResult result) { this.result = result; }
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
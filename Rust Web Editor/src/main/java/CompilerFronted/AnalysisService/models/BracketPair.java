@@ -0,0 +1,24 @@
+package CompilerFronted.AnalysisService.models;
+
+/**
+ * 一对匹配的括号
+ *
+ * - open / close：左右括号的 UTF-16 偏移（括号各占一个字符）
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class BracketPair {
+    public int open;
+    public int close;
+
+    public BracketPair(int open, int close) {
+        this.open = open;
+        this.close = close;
+    }
+
+    // Getters
+    public int getOpen() { return open; }
+    public int getClose() { return close; }
+}
@@ -0,0 +1,43 @@
+package CompilerFronted.AnalysisService.models;
+
+/**
+ * 列式 Token 流
+ *
+ * TokenInfo 列表在 JSON 中每个 Token 都重复 type 名称和字段名，
+ * 约 80 字节/Token。列式编码把 Token 拆成并行数组：
+ * - typeNames：Token 类型字典，types[i] 是字典下标
+ * - starts / lengths：Token 在源代码中的起始偏移与长度（UTF-16 单位，与 JS 字符串一致）
+ * - lineOffsets：每一行起始处的偏移，行号与列号由客户端二分查找得到
+ *
+ * Token 文本不再传输，客户端已经持有源代码，按 starts/lengths 截取即可。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class CompactTokenStream {
+    public String[] typeNames;
+    public int[] types;
+    public int[] starts;
+    public int[] lengths;
+    public int[] lineOffsets;
+
+    public CompactTokenStream(String[] typeNames, int[] types, int[] starts, int[] lengths, int[] lineOffsets) {
+        this.typeNames = typeNames;
+        this.types = types;
+        this.starts = starts;
+        this.lengths = lengths;
+        this.lineOffsets = lineOffsets;
+    }
+
+    // Getters
+    public String[] getTypeNames() { return typeNames; }
+    public int[] getTypes() { return types; }
+    public int[] getStarts() { return starts; }
+    public int[] getLengths() { return lengths; }
+    public int[] getLineOffsets() { return lineOffsets; }
+
+    public int size() {
+        return types.length;
+    }
+}
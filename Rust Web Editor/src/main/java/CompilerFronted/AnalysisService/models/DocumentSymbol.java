@@ -0,0 +1,65 @@
+package CompilerFronted.AnalysisService.models;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 文档大纲中的一个符号
+ *
+ * 区间均为 UTF-16 偏移（与 JS 字符串一致），左闭右开：
+ * - start / end：整个条目（含外部属性与条目体）
+ * - selectionStart / selectionEnd：符号名（impl 为实现的类型）
+ *
+ * kind 取值：module、function、method、struct、enum、trait、impl、constant、static
+ *
+ * bodyStart / bodyEnd 为条目体花括号内部的区间（函数体、结构体字段、枚举变体），
+ * 只在服务端用于判断编辑是否落在条目体内，不参与序列化；没有条目体时为 -1。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class DocumentSymbol {
+    public String name;
+    public String kind;
+    public String detail;
+    public int start;
+    public int end;
+    public int selectionStart;
+    public int selectionEnd;
+    public List<DocumentSymbol> children;
+
+    public transient int bodyStart = -1;
+    public transient int bodyEnd = -1;
+
+    public DocumentSymbol(String name, String kind, String detail, int start, int end,
+                          int selectionStart, int selectionEnd) {
+        this.name = name;
+        this.kind = kind;
+        this.detail = detail;
+        this.start = start;
+        this.end = end;
+        this.selectionStart = selectionStart;
+        this.selectionEnd = selectionEnd;
+        this.children = new ArrayList<>();
+    }
+
+    // Getters
+    public String getName() { return name; }
+    public String getKind() { return kind; }
+    public String getDetail() { return detail; }
+    public int getStart() { return start; }
+    public int getEnd() { return end; }
+    public int getSelectionStart() { return selectionStart; }
+    public int getSelectionEnd() { return selectionEnd; }
+    public List<DocumentSymbol> getChildren() { return children; }
+    public int getBodyStart() { return bodyStart; }
+    public int getBodyEnd() { return bodyEnd; }
+
+    /**
+     * 是否有条目体
+     */
+    public boolean hasBody() {
+        return bodyStart >= 0;
+    }
+}
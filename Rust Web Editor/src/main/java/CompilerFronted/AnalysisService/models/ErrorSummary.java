@@ -0,0 +1,42 @@
+package CompilerFronted.AnalysisService.models;
+
+/**
+ * 语法错误统计
+ *
+ * 仅在设置了错误上限（maxErrors）或错误去重（dedupeErrors）时随结果返回：
+ * - total：语法分析器报告的错误总数（含被去重的级联错误）
+ * - reported：写入 errors 的错误数
+ * - duplicates：与之前的错误位于同一个出错 Token 而被去重的错误数
+ * - truncated：是否因达到错误上限而提前结束解析，此时其余 Token 未经检查
+ * - examinedTokens：解析器检查过的默认通道 Token 数（提前结束时截至最后一个错误）
+ * - density：错误密度 reported / examinedTokens；粘贴的非 Rust 文件通常远高于正常代码
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class ErrorSummary {
+    public int total;
+    public int reported;
+    public int duplicates;
+    public boolean truncated;
+    public int examinedTokens;
+    public double density;
+
+    public ErrorSummary(int total, int reported, int duplicates, boolean truncated, int examinedTokens) {
+        this.total = total;
+        this.reported = reported;
+        this.duplicates = duplicates;
+        this.truncated = truncated;
+        this.examinedTokens = examinedTokens;
+        this.density = examinedTokens > 0 ? (double) reported / examinedTokens : 0;
+    }
+
+    // Getters
+    public int getTotal() { return total; }
+    public int getReported() { return reported; }
+    public int getDuplicates() { return duplicates; }
+    public boolean isTruncated() { return truncated; }
+    public int getExaminedTokens() { return examinedTokens; }
+    public double getDensity() { return density; }
+}
@@ -0,0 +1,28 @@
+package CompilerFronted.AnalysisService.models;
+
+/**
+ * 可折叠区域（与 LSP FoldingRange 一致，只折叠整行）
+ *
+ * - startLine / endLine：从 0 开始的行号，闭区间；折叠后 startLine 保持可见
+ * - kind：comment、imports，代码块为 null
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class FoldingRange {
+    public int startLine;
+    public int endLine;
+    public String kind;
+
+    public FoldingRange(int startLine, int endLine, String kind) {
+        this.startLine = startLine;
+        this.endLine = endLine;
+        this.kind = kind;
+    }
+
+    // Getters
+    public int getStartLine() { return startLine; }
+    public int getEndLine() { return endLine; }
+    public String getKind() { return kind; }
+}
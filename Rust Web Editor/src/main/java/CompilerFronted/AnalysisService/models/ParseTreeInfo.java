@@ -3,6 +3,7 @@ package CompilerFronted.AnalysisService.models;
 public class ParseTreeInfo {
     public String lisp;
     public String dot;
+    public TreeStructure structure;     // 仅在 trees=structure / both 时存在
 
     public ParseTreeInfo() {
         this.lisp = "";
@@ -14,4 +15,6 @@ public class ParseTreeInfo {
     public void setLisp(String lisp) { this.lisp = lisp; }
     public String getDot() { return dot; }
     public void setDot(String dot) { this.dot = dot; }
+    public TreeStructure getStructure() { return structure; }
+    public void setStructure(TreeStructure structure) { this.structure = structure; }
 }
@@ -0,0 +1,32 @@
+package CompilerFronted.AnalysisService.models;
+
+import java.util.List;
+
+/**
+ * 语义 Token 结果（与 LSP SemanticTokens / SemanticTokensDelta 一致）
+ *
+ * - resultId：结果标识（文档版本号），下次请求增量时作为 previousResultId 传回
+ * - data：完整结果，每个 Token 5 个整数：与上一 Token 的行差、列差（同一行时）或列号、
+ *   长度、类型下标、修饰位；行列与长度均以 UTF-16 为单位
+ * - edits：增量结果，对上一结果 data 数组的修改；与 data 只有一个非空
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class SemanticTokens {
+    public String resultId;
+    public int[] data;
+    public List<SemanticTokensEdit> edits;
+
+    public SemanticTokens(String resultId, int[] data, List<SemanticTokensEdit> edits) {
+        this.resultId = resultId;
+        this.data = data;
+        this.edits = edits;
+    }
+
+    // Getters
+    public String getResultId() { return resultId; }
+    public int[] getData() { return data; }
+    public List<SemanticTokensEdit> getEdits() { return edits; }
+}
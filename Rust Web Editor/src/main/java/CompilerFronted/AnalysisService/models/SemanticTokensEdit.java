@@ -0,0 +1,25 @@
+package CompilerFronted.AnalysisService.models;
+
+/**
+ * 对上一语义 Token 结果 data 数组的一次修改：从 start 起删除 deleteCount 个整数并插入 data
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class SemanticTokensEdit {
+    public int start;
+    public int deleteCount;
+    public int[] data;
+
+    public SemanticTokensEdit(int start, int deleteCount, int[] data) {
+        this.start = start;
+        this.deleteCount = deleteCount;
+        this.data = data;
+    }
+
+    // Getters
+    public int getStart() { return start; }
+    public int getDeleteCount() { return deleteCount; }
+    public int[] getData() { return data; }
+}
@@ -0,0 +1,36 @@
+package CompilerFronted.AnalysisService.models;
+
+/**
+ * 名称的一次出现（跳转到定义、查找引用的结果）
+ *
+ * - kind：所指定义的类型（variable、parameter、function、method、struct、enum、variant、
+ *   trait、type、constant、static、module、import）
+ * - start / end：名称的 UTF-16 偏移，左闭右开
+ * - declaration：是否为定义处本身
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class SymbolOccurrence {
+    public String name;
+    public String kind;
+    public int start;
+    public int end;
+    public boolean declaration;
+
+    public SymbolOccurrence(String name, String kind, int start, int end, boolean declaration) {
+        this.name = name;
+        this.kind = kind;
+        this.start = start;
+        this.end = end;
+        this.declaration = declaration;
+    }
+
+    // Getters
+    public String getName() { return name; }
+    public String getKind() { return kind; }
+    public int getStart() { return start; }
+    public int getEnd() { return end; }
+    public boolean isDeclaration() { return declaration; }
+}
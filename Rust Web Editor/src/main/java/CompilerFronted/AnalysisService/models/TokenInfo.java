@@ -1,28 +1,126 @@
 package CompilerFronted.AnalysisService.models;
 
+import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.Token;
-import org.antlr.v4.runtime.Vocabulary;
+import org.antlr.v4.runtime.misc.Interval;
 
-import CompilerFronted.Core.RustParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
+
+/**
+ * Token 信息
+ *
+ * 为减少大文件的对象分配，文本按类型区分存储：
+ * - 关键字与标点：共享 {@link TokenTable} 中的常量
+ * - 标识符、字面量、注释等：只记录源码字符流中的区间，序列化时才读取文本
+ *
+ * JSON 结构保持不变：{"type", "text", "line", "column"}。
+ */
+@JsonAdapter(TokenInfo.Adapter.class)
 public class TokenInfo {
     public String type;
-    public String text;
+    public String text;     // 可变文本的 Token 为 null，通过 getText() 从源码视图读取
     public int line;
     public int column;
 
+    // 源码视图：[start, stop] 为码点区间
+    private transient CharStream source;
+    private transient int start;
+    private transient int stop;
+
     public TokenInfo(Token token) {
-        this.type = token.getType() > 0 ? RustParser.VOCABULARY.getSymbolicName(token.getType()) : "EOF";
-        this.text = token.getText();
+        this.type = TokenTable.typeName(token.getType());
+        this.text = TokenTable.fixedText(token.getType());
+        if (text == null) {
+            this.source = token.getInputStream();
+            this.start = token.getStartIndex();
+            this.stop = token.getStopIndex();
+            if (source == null) {
+                this.text = token.getText();
+            }
+        }
         this.line = token.getLine();
         this.column = token.getCharPositionInLine();
     }
 
+    public TokenInfo(String type, String text, int line, int column) {
+        this.type = type;
+        this.text = text;
+        this.line = line;
+        this.column = column;
+    }
+
+    /**
+     * Token 类型编号对应的符号名称
+     */
+    public static String typeName(int type) {
+        return TokenTable.typeName(type);
+    }
+
     // Getters
     public String getType() { return type; }
-    public String getText() { return text; }
+    public String getText() { return text != null || source == null ? text : source.getText(Interval.of(start, stop)); }
     public int getLine() { return line; }
     public int getColumn() { return column; }
 
-    // toString
+    /**
+     * JSON 读写：按需读取源码视图中的文本，字段与原有格式一致
+     */
+    static class Adapter extends TypeAdapter<TokenInfo> {
+        @Override
+        public void write(JsonWriter out, TokenInfo token) throws IOException {
+            if (token == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("type").value(token.getType());
+            out.name("text").value(token.getText());
+            out.name("line").value(token.getLine());
+            out.name("column").value(token.getColumn());
+            out.endObject();
+        }
+
+        @Override
+        public TokenInfo read(JsonReader in) throws IOException {
+            String type = null;
+            String text = null;
+            int line = 0;
+            int column = 0;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "type":
+                        type = readString(in);
+                        break;
+                    case "text":
+                        text = readString(in);
+                        break;
+                    case "line":
+                        line = in.nextInt();
+                        break;
+                    case "column":
+                        column = in.nextInt();
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return new TokenInfo(type, text, line, column);
+        }
+
+        private static String readString(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            return in.nextString();
+        }
+    }
 }
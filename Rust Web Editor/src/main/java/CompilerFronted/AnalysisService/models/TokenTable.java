@@ -0,0 +1,61 @@
+package CompilerFronted.AnalysisService.models;
+
+import CompilerFronted.Core.RustParser;
+
+import org.antlr.v4.runtime.Vocabulary;
+
+/**
+ * Token 类型的静态查找表
+ *
+ * - 类型名：启动时从 VOCABULARY 一次性解析，按类型编号直接索引
+ * - 固定文本：关键字与标点（fn、let、(、; 等）的文本由类型唯一确定，
+ *   所有 Token 共享同一个字符串常量，不再为每个 Token 复制文本
+ *
+ * 标识符、字面量与注释等可变文本的 Token 返回 null，由 {@link TokenInfo} 以源码视图表示。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public final class TokenTable {
+
+    private static final String[] TYPE_NAMES;
+    private static final String[] FIXED_TEXTS;
+
+    static {
+        Vocabulary vocabulary = RustParser.VOCABULARY;
+        int size = vocabulary.getMaxTokenType() + 1;
+        TYPE_NAMES = new String[size];
+        FIXED_TEXTS = new String[size];
+        for (int type = 1; type < size; type++) {
+            TYPE_NAMES[type] = vocabulary.getSymbolicName(type);
+            // 字面量名形如 'fn'、''static'：去掉首尾引号即为 Token 文本（语法中没有转义字符）
+            String literal = vocabulary.getLiteralName(type);
+            if (literal != null && literal.length() >= 2) {
+                FIXED_TEXTS[type] = literal.substring(1, literal.length() - 1).intern();
+            }
+        }
+    }
+
+    private TokenTable() {
+    }
+
+    /**
+     * Token 类型编号对应的符号名称
+     */
+    public static String typeName(int type) {
+        if (type <= 0) {
+            return "EOF";
+        }
+        return type < TYPE_NAMES.length ? TYPE_NAMES[type] : null;
+    }
+
+    /**
+     * 固定文本类型的 Token 文本
+     *
+     * @return 共享的文本常量；文本不固定的类型返回 null
+     */
+    public static String fixedText(int type) {
+        return type > 0 && type < FIXED_TEXTS.length ? FIXED_TEXTS[type] : null;
+    }
+}
@@ -0,0 +1,57 @@
+package CompilerFronted.AnalysisService.models;
+
+/**
+ * 列式树结构
+ *
+ * DOT 文本只能交给 Graphviz 整体布局，大型语法树需要等待很久。
+ * 本结构把树拆成并行数组，客户端可以只展开、只布局可见的部分（虚拟化树视图、Canvas）：
+ * - 节点按层序（BFS）排列，根节点下标为 0，同一父节点的子节点下标连续
+ * - names：节点名字典（CST 为规则名与 Token 类型名，AST 为节点标签），nameIds[i] 是字典下标
+ * - tokens：终结符节点对应的 Token 下标（与 tokens / compactTokens 一致，EOF 为 Token 总数），非终结符为 -1
+ * - starts / ends：节点覆盖的源代码区间 [start, end)（UTF-16 单位，与 JS 字符串一致）
+ * - firstChildren / childCounts：子节点为 [firstChildren[i], firstChildren[i] + childCounts[i])
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class TreeStructure {
+    public String[] names;
+    public int[] nameIds;
+    public int[] tokens;
+    public int[] starts;
+    public int[] ends;
+    public int[] firstChildren;
+    public int[] childCounts;
+
+    public TreeStructure(String[] names, int[] nameIds, int[] tokens, int[] starts, int[] ends,
+                         int[] firstChildren, int[] childCounts) {
+        this.names = names;
+        this.nameIds = nameIds;
+        this.tokens = tokens;
+        this.starts = starts;
+        this.ends = ends;
+        this.firstChildren = firstChildren;
+        this.childCounts = childCounts;
+    }
+
+    // Getters
+    public String[] getNames() { return names; }
+    public int[] getNameIds() { return nameIds; }
+    public int[] getTokens() { return tokens; }
+    public int[] getStarts() { return starts; }
+    public int[] getEnds() { return ends; }
+    public int[] getFirstChildren() { return firstChildren; }
+    public int[] getChildCounts() { return childCounts; }
+
+    public int size() {
+        return nameIds.length;
+    }
+
+    /**
+     * 节点名
+     */
+    public String getName(int node) {
+        return names[nameIds[node]];
+    }
+}
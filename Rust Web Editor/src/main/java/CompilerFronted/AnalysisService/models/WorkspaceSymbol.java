@@ -0,0 +1,45 @@
+package CompilerFronted.AnalysisService.models;
+
+/**
+ * 工作区符号搜索结果
+ *
+ * - path：符号所在文件（工作区索引中的文件标识）
+ * - container：外层条目名（例如方法所在的 "impl Point"），顶层条目为 null
+ * - kind 与区间的含义同 {@link DocumentSymbol}
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class WorkspaceSymbol {
+    public String name;
+    public String kind;
+    public String container;
+    public String path;
+    public int start;
+    public int end;
+    public int selectionStart;
+    public int selectionEnd;
+
+    public WorkspaceSymbol(String name, String kind, String container, String path,
+                           int start, int end, int selectionStart, int selectionEnd) {
+        this.name = name;
+        this.kind = kind;
+        this.container = container;
+        this.path = path;
+        this.start = start;
+        this.end = end;
+        this.selectionStart = selectionStart;
+        this.selectionEnd = selectionEnd;
+    }
+
+    // Getters
+    public String getName() { return name; }
+    public String getKind() { return kind; }
+    public String getContainer() { return container; }
+    public String getPath() { return path; }
+    public int getStart() { return start; }
+    public int getEnd() { return end; }
+    public int getSelectionStart() { return selectionStart; }
+    public int getSelectionEnd() { return selectionEnd; }
+}
@@ -0,0 +1,149 @@
+package CompilerFronted.AnalysisService.render;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DOT 图的内存表示
+ *
+ * 只覆盖 CSTGenerator / ASTGenerator 实际输出的 DOT 子集：
+ * - 图级属性（rankdir）
+ * - 全局 node / edge 默认属性
+ * - 带属性的节点定义
+ * - 有向边 a -> b
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class DotGraph {
+
+    /**
+     * 图中的一个节点
+     */
+    public static class Node {
+        private final String id;
+        private final int index;
+        private final Map<String, String> attributes = new HashMap<>();
+        private final List<Node> children = new ArrayList<>();
+        private Node parent;
+
+        Node(String id, int index) {
+            this.id = id;
+            this.index = index;
+        }
+
+        public String getId() { return id; }
+        public int getIndex() { return index; }
+        public List<Node> getChildren() { return children; }
+        public Node getParent() { return parent; }
+
+        public String getLabel() {
+            String label = attributes.get("label");
+            return label != null ? label : id;
+        }
+
+        public String getAttribute(String name) {
+            return attributes.get(name);
+        }
+
+        void setAttribute(String name, String value) {
+            attributes.put(name, value);
+        }
+    }
+
+    /**
+     * 图中的一条有向边
+     */
+    public static class Edge {
+        private final Node from;
+        private final Node to;
+
+        Edge(Node from, Node to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        public Node getFrom() { return from; }
+        public Node getTo() { return to; }
+    }
+
+    private final Map<String, Node> nodes = new LinkedHashMap<>();
+    private final List<Edge> edges = new ArrayList<>();
+    private final Map<String, String> graphAttributes = new HashMap<>();
+    private final Map<String, String> defaultNodeAttributes = new HashMap<>();
+    private final Map<String, String> defaultEdgeAttributes = new HashMap<>();
+
+    /**
+     * 获取节点，不存在时按 DOT 语义隐式创建
+     */
+    public Node getOrCreateNode(String id) {
+        Node node = nodes.get(id);
+        if (node == null) {
+            node = new Node(id, nodes.size());
+            nodes.put(id, node);
+        }
+        return node;
+    }
+
+    /**
+     * 添加一条边；第一次出现的父边同时确定树结构
+     */
+    public void addEdge(String fromId, String toId) {
+        Node from = getOrCreateNode(fromId);
+        Node to = getOrCreateNode(toId);
+        edges.add(new Edge(from, to));
+        if (to.parent == null && to != from && !isAncestor(to, from)) {
+            to.parent = from;
+            from.children.add(to);
+        }
+    }
+
+    /**
+     * 获取节点属性，节点未显式设置时回退到全局默认属性
+     */
+    public String getNodeAttribute(Node node, String name, String fallback) {
+        String value = node.getAttribute(name);
+        if (value == null) {
+            value = defaultNodeAttributes.get(name);
+        }
+        return value != null ? value : fallback;
+    }
+
+    public String getEdgeAttribute(String name, String fallback) {
+        String value = defaultEdgeAttributes.get(name);
+        return value != null ? value : fallback;
+    }
+
+    public List<Node> getNodes() { return new ArrayList<>(nodes.values()); }
+    public int getNodeCount() { return nodes.size(); }
+    public List<Edge> getEdges() { return edges; }
+    public Map<String, String> getGraphAttributes() { return graphAttributes; }
+    public Map<String, String> getDefaultNodeAttributes() { return defaultNodeAttributes; }
+    public Map<String, String> getDefaultEdgeAttributes() { return defaultEdgeAttributes; }
+
+    /**
+     * 获取所有根节点（没有树父节点的节点），按定义顺序
+     */
+    public List<Node> getRoots() {
+        List<Node> roots = new ArrayList<>();
+        for (Node node : nodes.values()) {
+            if (node.parent == null) {
+                roots.add(node);
+            }
+        }
+        return roots;
+    }
+
+    private static boolean isAncestor(Node candidate, Node node) {
+        for (Node current = node; current != null; current = current.parent) {
+            if (current == candidate) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
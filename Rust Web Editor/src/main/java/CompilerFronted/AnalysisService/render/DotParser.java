@@ -0,0 +1,277 @@
+package CompilerFronted.AnalysisService.render;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 轻量级 DOT 解析器
+ *
+ * 解析 CSTGenerator / ASTGenerator 生成的 DOT 文本，构造 {@link DotGraph}。
+ * 支持的语法子集：
+ * - digraph / graph 头部与花括号
+ * - a=b 形式的图属性语句
+ * - node / edge / graph 默认属性语句
+ * - 节点语句 id [k=v, ...]
+ * - 边语句 a -> b -> c [k=v, ...]
+ * - 行注释与块注释
+ *
+ * 不支持子图、HTML 标签等完整 DOT 语法，遇到无法识别的内容时抛出
+ * {@link IllegalArgumentException}，由调用方回退到客户端渲染。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class DotParser {
+
+    private final String text;
+    private int pos;
+    private String peeked;
+
+    private DotParser(String text) {
+        this.text = text;
+        this.pos = 0;
+    }
+
+    /**
+     * 解析 DOT 文本
+     *
+     * @param dot DOT 格式字符串
+     * @return 解析得到的图
+     */
+    public static DotGraph parse(String dot) {
+        if (dot == null || dot.isEmpty()) {
+            throw new IllegalArgumentException("DOT source is empty");
+        }
+        return new DotParser(dot).parseGraph();
+    }
+
+    private DotGraph parseGraph() {
+        DotGraph graph = new DotGraph();
+
+        String head = next();
+        if ("strict".equals(head)) {
+            head = next();
+        }
+        if (!"digraph".equals(head) && !"graph".equals(head)) {
+            throw new IllegalArgumentException("DOT source must start with digraph or graph");
+        }
+        String token = next();
+        if (!"{".equals(token)) {
+            // 图名称
+            token = next();
+        }
+        expect("{", token);
+
+        while (true) {
+            token = next();
+            if (token == null) {
+                throw new IllegalArgumentException("Unexpected end of DOT source");
+            }
+            if ("}".equals(token)) {
+                break;
+            }
+            if (";".equals(token)) {
+                continue;
+            }
+            parseStatement(graph, token);
+        }
+        return graph;
+    }
+
+    private void parseStatement(DotGraph graph, String first) {
+        String id = unquote(first);
+
+        if ("node".equals(first) || "edge".equals(first) || "graph".equals(first)) {
+            Map<String, String> attributes = "[".equals(peek()) ? parseAttributes() : new LinkedHashMap<>();
+            if ("node".equals(first)) {
+                graph.getDefaultNodeAttributes().putAll(attributes);
+            } else if ("edge".equals(first)) {
+                graph.getDefaultEdgeAttributes().putAll(attributes);
+            } else {
+                graph.getGraphAttributes().putAll(attributes);
+            }
+            return;
+        }
+
+        String following = peek();
+        if ("=".equals(following)) {
+            // 图属性语句，例如 rankdir=TB
+            next();
+            graph.getGraphAttributes().put(id, unquote(next()));
+            return;
+        }
+
+        if ("->".equals(following) || "--".equals(following)) {
+            List<String> chain = new ArrayList<>();
+            chain.add(id);
+            while ("->".equals(peek()) || "--".equals(peek())) {
+                next();
+                chain.add(unquote(next()));
+            }
+            if ("[".equals(peek())) {
+                // 边属性只影响样式，这里忽略单条边的属性
+                parseAttributes();
+            }
+            for (int i = 0; i + 1 < chain.size(); i++) {
+                graph.addEdge(chain.get(i), chain.get(i + 1));
+            }
+            return;
+        }
+
+        DotGraph.Node node = graph.getOrCreateNode(id);
+        if ("[".equals(following)) {
+            for (Map.Entry<String, String> entry : parseAttributes().entrySet()) {
+                node.setAttribute(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private Map<String, String> parseAttributes() {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        expect("[", next());
+        while (true) {
+            String token = next();
+            if (token == null) {
+                throw new IllegalArgumentException("Unterminated attribute list");
+            }
+            if ("]".equals(token)) {
+                return attributes;
+            }
+            if (",".equals(token) || ";".equals(token)) {
+                continue;
+            }
+            String key = unquote(token);
+            expect("=", next());
+            attributes.put(key, unquote(next()));
+        }
+    }
+
+    private void expect(String expected, String actual) {
+        if (!expected.equals(actual)) {
+            throw new IllegalArgumentException("Expected '" + expected + "' but found '" + actual + "' at offset " + pos);
+        }
+    }
+
+    private String peek() {
+        if (peeked == null) {
+            peeked = readToken();
+        }
+        return peeked;
+    }
+
+    private String next() {
+        if (peeked != null) {
+            String token = peeked;
+            peeked = null;
+            return token;
+        }
+        return readToken();
+    }
+
+    /**
+     * 读取下一个词法单元；带引号的字符串保留引号，便于与关键字区分
+     */
+    private String readToken() {
+        skipWhitespaceAndComments();
+        if (pos >= text.length()) {
+            return null;
+        }
+
+        char c = text.charAt(pos);
+        if (c == '"') {
+            int start = pos++;
+            while (pos < text.length()) {
+                char ch = text.charAt(pos);
+                if (ch == '\\' && pos + 1 < text.length()) {
+                    pos += 2;
+                } else if (ch == '"') {
+                    pos++;
+                    return text.substring(start, pos);
+                } else {
+                    pos++;
+                }
+            }
+            throw new IllegalArgumentException("Unterminated string literal");
+        }
+        if (c == '-' && pos + 1 < text.length() && (text.charAt(pos + 1) == '>' || text.charAt(pos + 1) == '-')) {
+            pos += 2;
+            return text.substring(pos - 2, pos);
+        }
+        if (c == '{' || c == '}' || c == '[' || c == ']' || c == '=' || c == ',' || c == ';') {
+            pos++;
+            return String.valueOf(c);
+        }
+
+        int start = pos;
+        while (pos < text.length() && isIdentifierChar(text.charAt(pos))) {
+            pos++;
+        }
+        if (start == pos) {
+            throw new IllegalArgumentException("Unexpected character '" + c + "' at offset " + pos);
+        }
+        return text.substring(start, pos);
+    }
+
+    private void skipWhitespaceAndComments() {
+        while (pos < text.length()) {
+            char c = text.charAt(pos);
+            if (Character.isWhitespace(c)) {
+                pos++;
+            } else if (c == '/' && pos + 1 < text.length() && text.charAt(pos + 1) == '/') {
+                while (pos < text.length() && text.charAt(pos) != '\n') {
+                    pos++;
+                }
+            } else if (c == '/' && pos + 1 < text.length() && text.charAt(pos + 1) == '*') {
+                int end = text.indexOf("*/", pos + 2);
+                pos = end < 0 ? text.length() : end + 2;
+            } else if (c == '#' && (pos == 0 || text.charAt(pos - 1) == '\n')) {
+                // 预处理器风格的行
+                while (pos < text.length() && text.charAt(pos) != '\n') {
+                    pos++;
+                }
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static boolean isIdentifierChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '.';
+    }
+
+    /**
+     * 去掉引号并还原 DOT 转义序列
+     *
+     * 与 DotEscaper 的转义规则互逆：
+     * \\ → \，\" → "，\n / \t / \r 保持为对应的控制字符
+     */
+    static String unquote(String token) {
+        if (token == null || token.length() < 2 || token.charAt(0) != '"') {
+            return token;
+        }
+        String body = token.substring(1, token.length() - 1);
+        if (body.indexOf('\\') < 0) {
+            return body;
+        }
+        StringBuilder sb = new StringBuilder(body.length());
+        for (int i = 0; i < body.length(); i++) {
+            char c = body.charAt(i);
+            if (c == '\\' && i + 1 < body.length()) {
+                char escaped = body.charAt(++i);
+                switch (escaped) {
+                    case 'n': sb.append('\n'); break;
+                    case 't': sb.append('\t'); break;
+                    case 'r': sb.append('\r'); break;
+                    case 'l': sb.append('\n'); break;
+                    default: sb.append(escaped); break;
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,143 @@
+package CompilerFronted.AnalysisService.render;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 服务端 SVG 渲染缓存
+ *
+ * 以 DOT 文本的 SHA-256 作为键缓存渲染好的 SVG：
+ * - 相同的 DOT（同一份代码的 CST/AST）只做一次布局
+ * - 按 SVG 字节总量限制缓存大小，超出时按 LRU 顺序淘汰
+ * - 哈希值同时作为强 ETag，客户端可以用 If-None-Match 协商缓存
+ *
+ * 所有公开方法都是线程安全的；布局在锁外进行，
+ * 并发请求同一张图时最多重复渲染一次，不会阻塞其他请求。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class SvgRenderCache {
+
+    /**
+     * 缓存条目：渲染结果及其哈希
+     */
+    public static class RenderedSvg {
+        private final String hash;
+        private final byte[] svg;
+
+        RenderedSvg(String hash, byte[] svg) {
+            this.hash = hash;
+            this.svg = svg;
+        }
+
+        public String getHash() { return hash; }
+        public byte[] getSvg() { return svg; }
+
+        /**
+         * 强 ETag（带引号）
+         */
+        public String getETag() {
+            return "\"" + hash + "\"";
+        }
+    }
+
+    private final long maxBytes;
+    private final LinkedHashMap<String, RenderedSvg> entries;
+    private long currentBytes;
+    private long hits;
+    private long misses;
+
+    /**
+     * 构造函数
+     *
+     * @param maxBytes 缓存中 SVG 字节总量上限
+     */
+    public SvgRenderCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+        this.entries = new LinkedHashMap<>(64, 0.75f, true);
+    }
+
+    /**
+     * 获取 DOT 对应的 SVG，未命中时渲染并放入缓存
+     *
+     * @param dot DOT 格式字符串
+     * @return 渲染结果
+     * @throws IllegalArgumentException DOT 超出支持的语法子集
+     */
+    public RenderedSvg render(String dot) {
+        String hash = hash(dot);
+        RenderedSvg cached = get(hash);
+        if (cached != null) {
+            return cached;
+        }
+
+        byte[] svg = SvgRenderer.renderDot(dot).getBytes(StandardCharsets.UTF_8);
+        RenderedSvg rendered = new RenderedSvg(hash, svg);
+        put(rendered);
+        return rendered;
+    }
+
+    /**
+     * 按哈希查找已渲染的 SVG
+     *
+     * @param hash DOT 的 SHA-256 十六进制串
+     * @return 缓存条目，未命中时返回 null
+     */
+    public synchronized RenderedSvg get(String hash) {
+        RenderedSvg entry = entries.get(hash);
+        if (entry != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return entry;
+    }
+
+    private synchronized void put(RenderedSvg rendered) {
+        if (rendered.svg.length > maxBytes) {
+            // 单个结果超过上限，不缓存
+            return;
+        }
+        RenderedSvg previous = entries.put(rendered.hash, rendered);
+        if (previous != null) {
+            currentBytes -= previous.svg.length;
+        }
+        currentBytes += rendered.svg.length;
+
+        Iterator<Map.Entry<String, RenderedSvg>> it = entries.entrySet().iterator();
+        while (currentBytes > maxBytes && it.hasNext()) {
+            RenderedSvg eldest = it.next().getValue();
+            it.remove();
+            currentBytes -= eldest.svg.length;
+        }
+    }
+
+    public synchronized int size() { return entries.size(); }
+    public synchronized long getCurrentBytes() { return currentBytes; }
+    public synchronized long getHits() { return hits; }
+    public synchronized long getMisses() { return misses; }
+    public long getMaxBytes() { return maxBytes; }
+
+    /**
+     * 计算 DOT 文本的 SHA-256 十六进制摘要
+     */
+    public static String hash(String dot) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] bytes = digest.digest(dot.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(bytes.length * 2);
+            for (byte b : bytes) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package CompilerFronted.AnalysisService.render;
+
+/**
+ * SVG 渲染器
+ *
+ * 将 {@link TreeLayout} 的布局结果输出为 SVG 文本，
+ * 元素结构与 Graphviz 的 SVG 输出保持一致（g.graph / g.node / g.edge），
+ * 前端的缩放、拖拽、导出逻辑无需区分渲染来源。
+ *
+ * 支持的 DOT 样式属性：
+ * - shape: ellipse（默认）/ box
+ * - style: filled
+ * - fillcolor / fontcolor / color
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class SvgRenderer {
+
+    /**
+     * 解析、布局并渲染 DOT 文本
+     *
+     * @param dot DOT 格式字符串
+     * @return SVG 文本
+     */
+    public static String renderDot(String dot) {
+        return render(TreeLayout.layout(DotParser.parse(dot)));
+    }
+
+    /**
+     * 渲染已完成布局的图
+     *
+     * @param layout 布局结果
+     * @return SVG 文本
+     */
+    public static String render(TreeLayout layout) {
+        DotGraph graph = layout.getGraph();
+        StringBuilder svg = new StringBuilder(256 + graph.getNodeCount() * 320);
+
+        double w = layout.getTotalWidth();
+        double h = layout.getTotalHeight();
+        String edgeColor = graph.getEdgeAttribute("color", "black");
+
+        svg.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n");
+        svg.append("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"").append(num(w))
+           .append("pt\" height=\"").append(num(h))
+           .append("pt\" viewBox=\"0.00 0.00 ").append(num(w)).append(' ').append(num(h)).append("\">\n");
+        svg.append("<defs><marker id=\"arrowhead\" markerWidth=\"10\" markerHeight=\"7\" refX=\"10\" refY=\"3.5\" orient=\"auto\">")
+           .append("<polygon points=\"0 0, 10 3.5, 0 7\" fill=\"").append(escapeXml(edgeColor)).append("\"/></marker></defs>\n");
+        svg.append("<g id=\"graph0\" class=\"graph\">\n");
+
+        // 先画边，节点覆盖在边的上方
+        int edgeIndex = 0;
+        for (DotGraph.Edge edge : graph.getEdges()) {
+            DotGraph.Node from = edge.getFrom();
+            DotGraph.Node to = edge.getTo();
+            double x1, y1, x2, y2;
+            if (layout.isLeftToRight()) {
+                x1 = layout.getCenterX(from) + layout.getWidth(from) / 2;
+                y1 = layout.getCenterY(from);
+                x2 = layout.getCenterX(to) - layout.getWidth(to) / 2;
+                y2 = layout.getCenterY(to);
+            } else {
+                x1 = layout.getCenterX(from);
+                y1 = layout.getCenterY(from) + layout.getHeight(from) / 2;
+                x2 = layout.getCenterX(to);
+                y2 = layout.getCenterY(to) - layout.getHeight(to) / 2;
+            }
+            svg.append("<g id=\"edge").append(++edgeIndex).append("\" class=\"edge\"><title>")
+               .append(escapeXml(from.getId())).append("&#45;&gt;").append(escapeXml(to.getId())).append("</title>")
+               .append("<path fill=\"none\" stroke=\"").append(escapeXml(edgeColor)).append("\" d=\"M")
+               .append(num(x1)).append(',').append(num(y1)).append(" L").append(num(x2)).append(',').append(num(y2))
+               .append("\" marker-end=\"url(#arrowhead)\"/></g>\n");
+        }
+
+        for (DotGraph.Node node : graph.getNodes()) {
+            appendNode(svg, graph, layout, node);
+        }
+
+        svg.append("</g>\n</svg>\n");
+        return svg.toString();
+    }
+
+    private static void appendNode(StringBuilder svg, DotGraph graph, TreeLayout layout, DotGraph.Node node) {
+        double cx = layout.getCenterX(node);
+        double cy = layout.getCenterY(node);
+        double nw = layout.getWidth(node);
+        double nh = layout.getHeight(node);
+
+        String shape = graph.getNodeAttribute(node, "shape", "ellipse");
+        String style = graph.getNodeAttribute(node, "style", "");
+        String fill = style.contains("filled") ? graph.getNodeAttribute(node, "fillcolor", "lightgrey") : "none";
+        String stroke = graph.getNodeAttribute(node, "color", "black");
+        String fontColor = graph.getNodeAttribute(node, "fontcolor", "black");
+
+        svg.append("<g id=\"node").append(node.getIndex() + 1).append("\" class=\"node\"><title>")
+           .append(escapeXml(node.getId())).append("</title>");
+
+        if ("box".equals(shape) || "rect".equals(shape) || "rectangle".equals(shape) || "square".equals(shape)) {
+            svg.append("<polygon fill=\"").append(escapeXml(fill)).append("\" stroke=\"").append(escapeXml(stroke))
+               .append("\" points=\"")
+               .append(num(cx - nw / 2)).append(',').append(num(cy - nh / 2)).append(' ')
+               .append(num(cx + nw / 2)).append(',').append(num(cy - nh / 2)).append(' ')
+               .append(num(cx + nw / 2)).append(',').append(num(cy + nh / 2)).append(' ')
+               .append(num(cx - nw / 2)).append(',').append(num(cy + nh / 2)).append("\"/>");
+        } else {
+            svg.append("<ellipse fill=\"").append(escapeXml(fill)).append("\" stroke=\"").append(escapeXml(stroke))
+               .append("\" cx=\"").append(num(cx)).append("\" cy=\"").append(num(cy))
+               .append("\" rx=\"").append(num(nw / 2)).append("\" ry=\"").append(num(nh / 2)).append("\"/>");
+        }
+
+        String[] lines = node.getLabel().split("\n", -1);
+        double firstBaseline = cy - (lines.length - 1) * TreeLayout.LINE_HEIGHT / 2 + TreeLayout.FONT_SIZE / 3;
+        for (int i = 0; i < lines.length; i++) {
+            svg.append("<text text-anchor=\"middle\" x=\"").append(num(cx)).append("\" y=\"")
+               .append(num(firstBaseline + i * TreeLayout.LINE_HEIGHT))
+               .append("\" font-family=\"Times,serif\" font-size=\"").append(num(TreeLayout.FONT_SIZE))
+               .append("\" fill=\"").append(escapeXml(fontColor)).append("\">")
+               .append(escapeXml(lines[i])).append("</text>");
+        }
+        svg.append("</g>\n");
+    }
+
+    /**
+     * 保留两位小数输出坐标；避免每个坐标都走 String.format
+     */
+    private static String num(double value) {
+        long scaled = Math.round(value * 100);
+        StringBuilder sb = new StringBuilder(12);
+        if (scaled < 0) {
+            sb.append('-');
+            scaled = -scaled;
+        }
+        long fraction = scaled % 100;
+        sb.append(scaled / 100).append('.');
+        if (fraction < 10) {
+            sb.append('0');
+        }
+        return sb.append(fraction).toString();
+    }
+
+    /**
+     * XML 文本转义
+     */
+    static String escapeXml(String text) {
+        StringBuilder sb = null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            String replacement;
+            switch (c) {
+                case '&': replacement = "&amp;"; break;
+                case '<': replacement = "&lt;"; break;
+                case '>': replacement = "&gt;"; break;
+                case '"': replacement = "&quot;"; break;
+                case '\'': replacement = "&#39;"; break;
+                default: replacement = null; break;
+            }
+            if (replacement == null && c < 0x20 && c != '\t') {
+                replacement = " ";
+            }
+            if (replacement != null) {
+                if (sb == null) {
+                    sb = new StringBuilder(text.length() + 16);
+                    sb.append(text, 0, i);
+                }
+                sb.append(replacement);
+            } else if (sb != null) {
+                sb.append(c);
+            }
+        }
+        return sb == null ? text : sb.toString();
+    }
+}
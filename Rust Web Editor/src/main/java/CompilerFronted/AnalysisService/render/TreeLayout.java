@@ -0,0 +1,214 @@
+package CompilerFronted.AnalysisService.render;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 分层树布局
+ *
+ * CST / AST 的 DOT 图本质上是树（或森林），因此不需要 Graphviz 的通用
+ * 分层布局算法，用线性时间的"子树包围盒"布局即可：
+ * 1. 后序计算每棵子树所需的水平跨度
+ * 2. 先序把父节点放在其子树跨度的中央，子节点依次向右排列
+ * 3. 同一深度的节点处于同一层，层高取该层最高节点
+ *
+ * 所有遍历都使用显式栈，避免深层语法树导致递归栈溢出。
+ * 非树边（同一节点的第二个父节点、环）只参与绘制，不参与布局。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class TreeLayout {
+
+    // 尺寸参数，单位与 Graphviz 一致（pt）
+    public static final double FONT_SIZE = 14.0;
+    public static final double CHAR_WIDTH = 7.5;
+    public static final double LINE_HEIGHT = 16.0;
+    public static final double MIN_NODE_WIDTH = 54.0;
+    public static final double MIN_NODE_HEIGHT = 36.0;
+    public static final double NODE_SEPARATION = 18.0;
+    public static final double RANK_SEPARATION = 48.0;
+    public static final double MARGIN = 8.0;
+
+    private final DotGraph graph;
+    private final boolean leftToRight;
+
+    // 按节点下标存储的布局结果（中心坐标与尺寸）
+    private final double[] centerX;
+    private final double[] centerY;
+    private final double[] width;
+    private final double[] height;
+    private double totalWidth;
+    private double totalHeight;
+
+    private TreeLayout(DotGraph graph) {
+        this.graph = graph;
+        this.leftToRight = "LR".equalsIgnoreCase(graph.getGraphAttributes().get("rankdir"));
+        int n = graph.getNodeCount();
+        this.centerX = new double[n];
+        this.centerY = new double[n];
+        this.width = new double[n];
+        this.height = new double[n];
+    }
+
+    /**
+     * 计算图的布局
+     *
+     * @param graph 已解析的 DOT 图
+     * @return 布局结果
+     */
+    public static TreeLayout layout(DotGraph graph) {
+        TreeLayout layout = new TreeLayout(graph);
+        layout.compute();
+        return layout;
+    }
+
+    private void compute() {
+        List<DotGraph.Node> nodes = graph.getNodes();
+        int n = nodes.size();
+        if (n == 0) {
+            totalWidth = 2 * MARGIN;
+            totalHeight = 2 * MARGIN;
+            return;
+        }
+
+        // 节点尺寸（LR 布局时在计算阶段交换宽高，最后再交换坐标轴）
+        for (DotGraph.Node node : nodes) {
+            double w = Math.max(MIN_NODE_WIDTH, textWidth(node.getLabel()) + 24);
+            double h = Math.max(MIN_NODE_HEIGHT, lineCount(node.getLabel()) * LINE_HEIGHT + 20);
+            width[node.getIndex()] = leftToRight ? h : w;
+            height[node.getIndex()] = leftToRight ? w : h;
+        }
+
+        // 1. 先序遍历，记录深度
+        DotGraph.Node[] preorder = new DotGraph.Node[n];
+        int[] depth = new int[n];
+        int count = 0;
+        int maxDepth = 0;
+        Deque<DotGraph.Node> stack = new ArrayDeque<>();
+        List<DotGraph.Node> roots = graph.getRoots();
+        for (int r = roots.size() - 1; r >= 0; r--) {
+            stack.push(roots.get(r));
+        }
+        while (!stack.isEmpty()) {
+            DotGraph.Node node = stack.pop();
+            preorder[count++] = node;
+            List<DotGraph.Node> children = node.getChildren();
+            for (int i = children.size() - 1; i >= 0; i--) {
+                DotGraph.Node child = children.get(i);
+                depth[child.getIndex()] = depth[node.getIndex()] + 1;
+                maxDepth = Math.max(maxDepth, depth[child.getIndex()]);
+                stack.push(child);
+            }
+        }
+
+        // 2. 逆先序 = 子节点先于父节点，计算子树跨度
+        double[] span = new double[n];
+        for (int i = count - 1; i >= 0; i--) {
+            DotGraph.Node node = preorder[i];
+            span[node.getIndex()] = Math.max(width[node.getIndex()], childrenSpan(node, span));
+        }
+
+        // 3. 每层的高度与纵坐标
+        double[] levelHeight = new double[maxDepth + 1];
+        for (int i = 0; i < count; i++) {
+            int idx = preorder[i].getIndex();
+            levelHeight[depth[idx]] = Math.max(levelHeight[depth[idx]], height[idx]);
+        }
+        double[] levelTop = new double[maxDepth + 1];
+        double y = MARGIN;
+        for (int d = 0; d <= maxDepth; d++) {
+            levelTop[d] = y;
+            y += levelHeight[d] + RANK_SEPARATION;
+        }
+        double extentY = y - RANK_SEPARATION + MARGIN;
+
+        // 4. 先序分配横坐标
+        double[] left = new double[n];
+        double cursor = MARGIN;
+        for (DotGraph.Node root : roots) {
+            left[root.getIndex()] = cursor;
+            cursor += span[root.getIndex()] + NODE_SEPARATION;
+        }
+        double extentX = cursor - NODE_SEPARATION + MARGIN;
+
+        for (int i = 0; i < count; i++) {
+            DotGraph.Node node = preorder[i];
+            int idx = node.getIndex();
+            centerX[idx] = left[idx] + span[idx] / 2;
+            centerY[idx] = levelTop[depth[idx]] + levelHeight[depth[idx]] / 2;
+
+            double childLeft = left[idx] + (span[idx] - childrenSpan(node, span)) / 2;
+            for (DotGraph.Node child : node.getChildren()) {
+                left[child.getIndex()] = childLeft;
+                childLeft += span[child.getIndex()] + NODE_SEPARATION;
+            }
+        }
+
+        if (leftToRight) {
+            for (int i = 0; i < n; i++) {
+                double tmp = centerX[i];
+                centerX[i] = centerY[i];
+                centerY[i] = tmp;
+                tmp = width[i];
+                width[i] = height[i];
+                height[i] = tmp;
+            }
+            totalWidth = extentY;
+            totalHeight = extentX;
+        } else {
+            totalWidth = extentX;
+            totalHeight = extentY;
+        }
+    }
+
+    private static double childrenSpan(DotGraph.Node node, double[] span) {
+        List<DotGraph.Node> children = node.getChildren();
+        if (children.isEmpty()) {
+            return 0;
+        }
+        double total = NODE_SEPARATION * (children.size() - 1);
+        for (DotGraph.Node child : children) {
+            total += span[child.getIndex()];
+        }
+        return total;
+    }
+
+    /**
+     * 估算标签宽度（取最长的一行）
+     */
+    static double textWidth(String label) {
+        int longest = 0;
+        int current = 0;
+        for (int i = 0; i < label.length(); i++) {
+            if (label.charAt(i) == '\n') {
+                longest = Math.max(longest, current);
+                current = 0;
+            } else {
+                current++;
+            }
+        }
+        return Math.max(longest, current) * CHAR_WIDTH;
+    }
+
+    static int lineCount(String label) {
+        int lines = 1;
+        for (int i = 0; i < label.length(); i++) {
+            if (label.charAt(i) == '\n') {
+                lines++;
+            }
+        }
+        return lines;
+    }
+
+    public DotGraph getGraph() { return graph; }
+    public boolean isLeftToRight() { return leftToRight; }
+    public double getCenterX(DotGraph.Node node) { return centerX[node.getIndex()]; }
+    public double getCenterY(DotGraph.Node node) { return centerY[node.getIndex()]; }
+    public double getWidth(DotGraph.Node node) { return width[node.getIndex()]; }
+    public double getHeight(DotGraph.Node node) { return height[node.getIndex()]; }
+    public double getTotalWidth() { return totalWidth; }
+    public double getTotalHeight() { return totalHeight; }
+}
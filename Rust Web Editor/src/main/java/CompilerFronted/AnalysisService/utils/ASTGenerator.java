@@ -4,6 +4,8 @@ import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.TerminalNode;
 import CompilerFronted.Core.RustParser;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -25,6 +27,10 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public class ASTGenerator {
     
+    // 节点样式（label 之后的 DOT 属性）
+    private static final String TERMINAL_STYLE = ", fillcolor=black, shape=ellipse, fontcolor=white";
+    private static final String RULE_STYLE = ", fillcolor=lightcoral, shape=ellipse, fontcolor=black";
+    
     /**
      * AST 节点表示
      */
@@ -33,6 +39,7 @@ public class ASTGenerator {
         private String type;    // V_T 或者 V_N
         private List<ASTNode> children;     // 兄弟列表
         private boolean isTerminal;         // 当前节点是否是 V_T
+        private ParseTree source;           // 对应的 ParseTree 节点（提供源代码区间与 Token）
         
         public ASTNode(String label, String type, boolean isTerminal) {
             this.label = label;
@@ -49,6 +56,8 @@ public class ASTGenerator {
         public String getType() { return type; }
         public List<ASTNode> getChildren() { return children; }
         public boolean isTerminal() { return isTerminal; }
+        public ParseTree getSource() { return source; }
+        public void setSource(ParseTree source) { this.source = source; }
         
         public boolean hasChildren() {
             return !children.isEmpty();
@@ -73,21 +82,37 @@ public class ASTGenerator {
      * @return DOT 格式字符串
      */
     public static String generateASTDotString(ASTNode astRoot) {
-        StringBuilder dot = new StringBuilder();
+        StringBuilder dot = new StringBuilder(4096);
+        try {
+            writeASTDot(astRoot, dot);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return dot.toString();
+    }
+    
+    /**
+     * 将 AST 的 DOT 格式直接写入输出目标
+     * 
+     * @param astRoot AST 根节点
+     * @param out 输出目标（StringBuilder 或 Writer）
+     * @throws IOException 写出失败
+     */
+    public static void writeASTDot(ASTNode astRoot, Appendable out) throws IOException {
+        DotWriter dot = new DotWriter(out);
         AtomicInteger nodeIdCounter = new AtomicInteger(0);
         
         // DOT 文件头部
-        dot.append("digraph AST {\n");
-        dot.append("  rankdir=TB;\n");
-        dot.append("  node [shape=ellipse, style=filled];\n");
-        dot.append("  edge [color=darkgreen];\n");
-        dot.append("\n");
+        dot.raw("digraph AST {\n");
+        dot.raw("  rankdir=TB;\n");
+        dot.raw("  node [shape=ellipse, style=filled];\n");
+        dot.raw("  edge [color=darkgreen];\n");
+        dot.raw("\n");
         
         // 递归生成节点和连接
         generateASTDotRecursive(astRoot, dot, nodeIdCounter, -1);
         
-        dot.append("}\n");
-        return dot.toString();
+        dot.raw("}\n");
     }
     
     /**
@@ -101,7 +126,9 @@ public class ASTGenerator {
             
             // 过滤掉语法糖（括号、分号等）
             if (shouldKeepTerminal(text)) {
-                return new ASTNode(text, "TERMINAL", true);
+                ASTNode terminalNode = new ASTNode(text, "TERMINAL", true);
+                terminalNode.setSource(tree);
+                return terminalNode;
             }
             return null; // 不保留的终端节点
         } else {
@@ -110,6 +137,7 @@ public class ASTGenerator {
             
             // 创建当前节点
             ASTNode currentNode = new ASTNode(getSimplifiedRuleName(ruleName), "RULE", false);
+            currentNode.setSource(tree);
             
             // 递归处理子节点
             for (int i = 0; i < tree.getChildCount(); i++) {
@@ -138,30 +166,24 @@ public class ASTGenerator {
     /**
      * 递归生成 AST 的 DOT 表示
      */
-    private static void generateASTDotRecursive(ASTNode node, StringBuilder dot, 
-                                              AtomicInteger nodeIdCounter, int parentId) {
+    private static void generateASTDotRecursive(ASTNode node, DotWriter dot, 
+                                              AtomicInteger nodeIdCounter, int parentId) throws IOException {
         int currentNodeId = nodeIdCounter.getAndIncrement();
         
         // 根据节点类型设置不同颜色和形状
-        String fillColor, shape, fontColor;
+        String style;
         if (node.isTerminal()) {
-            // 叶子节点（终端节点）：蓝色填充，白色字体
-            fillColor = "black";
-            shape = "ellipse";
-            fontColor = "white";
+            // 叶子节点（终端节点）：黑色填充，白色字体
+            style = TERMINAL_STYLE;
         } else {
             // 非终端节点：粉红色填充，黑色字体
-            fillColor = "lightcoral";
-            shape = "ellipse";
-            fontColor = "black";
+            style = RULE_STYLE;
         }
-        String escapedLabel = CSTGenerator.escapeDotLabel(node.getLabel());
         
-        dot.append(String.format("  node%d [label=\"%s\", fillcolor=%s, shape=%s, fontcolor=%s];\n", 
-                                currentNodeId, escapedLabel, fillColor, shape, fontColor));
+        dot.node(currentNodeId, node.getLabel(), style);
         
         if (parentId >= 0) {
-            dot.append(String.format("  node%d -> node%d;\n", parentId, currentNodeId));
+            dot.edge(parentId, currentNodeId);
         }
         
         // 递归处理子节点
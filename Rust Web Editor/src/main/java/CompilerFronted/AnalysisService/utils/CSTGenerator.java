@@ -6,6 +6,8 @@ import org.antlr.v4.runtime.tree.TerminalNode;
 
 import CompilerFronted.Core.RustParser;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -65,23 +67,42 @@ public class CSTGenerator {
      * @return 完整的 DOT 格式字符串，适用于 Graphviz 渲染具体语法树
      */
     public static String generateDotString(ParseTree tree, RustParser parser) {
-        StringBuilder dot = new StringBuilder();
+        StringBuilder dot = new StringBuilder(4096);
+        try {
+            writeDot(tree, parser, dot);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return dot.toString();
+    }
+
+    /**
+     * 将具体语法树的 DOT 格式直接写入输出目标
+     * 
+     * 与 generateDotString 输出相同，适合直接写入响应 Writer，
+     * 避免为大型语法树构建完整的中间字符串。
+     * 
+     * @param tree ANTLR 解析生成的完整语法树根节点
+     * @param parser Rust语法分析器实例
+     * @param out 输出目标（StringBuilder 或 Writer）
+     * @throws IOException 写出失败
+     */
+    public static void writeDot(ParseTree tree, RustParser parser, Appendable out) throws IOException {
+        DotWriter dot = new DotWriter(out);
         AtomicInteger nodeIdCounter = new AtomicInteger(0);
         
         // DOT 文件头部：定义有向图
-        dot.append("digraph CST {\n");
-        dot.append("  rankdir=TB;\n");  // 从上到下布局
-        dot.append("  node [shape=ellipse, style=filled, fillcolor=lightblue];\n");  // 节点样式
-        dot.append("  edge [color=black];\n");  // 边的样式
-        dot.append("\n");
+        dot.raw("digraph CST {\n");
+        dot.raw("  rankdir=TB;\n");  // 从上到下布局
+        dot.raw("  node [shape=ellipse, style=filled, fillcolor=lightblue];\n");  // 节点样式
+        dot.raw("  edge [color=black];\n");  // 边的样式
+        dot.raw("\n");
         
         // 递归生成所有节点和连接关系
         generateDotRecursive(tree, parser, dot, nodeIdCounter, -1);
         
         // DOT 文件尾部
-        dot.append("}\n");
-        
-        return dot.toString();
+        dot.raw("}\n");
     }
 
     /**
@@ -102,31 +123,23 @@ public class CSTGenerator {
      * 
      * @param tree 当前处理的 ParseTree 节点（保持完整结构）
      * @param parser Rust语法分析器实例
-     * @param dot DOT字符串构建器
+     * @param dot DOT 输出
      * @param nodeIdCounter 全局节点ID计数器，确保ID唯一性
      * @param parentId 父节点的ID，-1表示根节点
      * @return 当前节点的ID
      */
     private static int generateDotRecursive(ParseTree tree, RustParser parser, 
-                                          StringBuilder dot, AtomicInteger nodeIdCounter, int parentId) {
+                                          DotWriter dot, AtomicInteger nodeIdCounter, int parentId) throws IOException {
         
         // 为当前节点分配唯一ID
         int currentNodeId = nodeIdCounter.getAndIncrement();
         
-        // 获取节点的文本表示
-        String nodeText = getNodeDisplayText(tree, parser);
-        String escapedLabel = escapeDotLabel(nodeText);
-        
-        // 根据节点类型设置不同的样式
-        String nodeStyle = getNodeStyle(tree);
-        
-        // 生成当前节点的DOT定义
-        dot.append(String.format("  node%d [label=\"%s\"%s];\n", 
-                                currentNodeId, escapedLabel, nodeStyle));
+        // 生成当前节点的DOT定义（标签在写出时转义），根据节点类型设置不同的样式
+        dot.node(currentNodeId, getNodeDisplayText(tree, parser), getNodeStyle(tree));
         
         // 如果有父节点，则创建从父节点到当前节点的连接
         if (parentId >= 0) {
-            dot.append(String.format("  node%d -> node%d;\n", parentId, currentNodeId));
+            dot.edge(parentId, currentNodeId);
         }
         
         // 递归处理所有子节点
@@ -235,15 +248,7 @@ public class CSTGenerator {
      * @return 转义后的安全文本，可在 DOT 格式中使用
      */
     public static String escapeDotLabel(String text) {
-        if (text == null) {
-            return "";
-        }
-        
-        return text
-            .replace("\\", "\\\\")   // 反斜杠转义（必须最先处理）
-            .replace("\"", "\\\"")   // 双引号转义
-            .replace("\n", "\\n")    // 换行符转义
-            .replace("\t", "\\t")    // 制表符转义
-            .replace("\r", "\\r");   // 回车符转义
+        // 单遍转义，无需转义时直接返回原字符串
+        return DotEscaper.escape(text);
     }
 }
@@ -0,0 +1,149 @@
+package CompilerFronted.AnalysisService.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * DOT 标签转义
+ *
+ * CST / AST 生成器共用的单遍转义实现，规则为：
+ * 反斜杠 \ → \\，双引号 " → \"，换行 → \n，制表 → \t，回车 → \r
+ *
+ * 绝大多数标签（规则名、标识符、运算符）不含需要转义的字符：
+ * - {@link #escape(String)} 此时直接返回原字符串，不分配新对象
+ * - {@link #escape(String, Appendable)} 把原文整段追加到调用方的缓冲；
+ *   需要转义时只在特殊字符处断开，其余按区间写出
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public final class DotEscaper {
+
+    private DotEscaper() {
+    }
+
+    /**
+     * 转义标签
+     *
+     * @param text 原始文本，null 视为空串
+     * @return 转义后的文本；无需转义时返回 text 本身
+     */
+    public static String escape(String text) {
+        if (text == null) {
+            return "";
+        }
+        int first = indexOfSpecial(text, 0);
+        if (first < 0) {
+            return text;
+        }
+        StringBuilder builder = new StringBuilder(text.length() + 8);
+        try {
+            appendEscaped(text, first, builder);
+        } catch (IOException e) {
+            // StringBuilder 不会抛出 IOException
+            throw new UncheckedIOException(e);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 把转义后的标签追加到调用方提供的缓冲（StringBuilder 或 Writer）
+     *
+     * @param text 原始文本，null 视为空串
+     * @param out 输出目标
+     * @throws IOException 写出失败
+     */
+    public static void escape(String text, Appendable out) throws IOException {
+        if (text == null) {
+            return;
+        }
+        int first = indexOfSpecial(text, 0);
+        if (first < 0) {
+            out.append(text);
+            return;
+        }
+        appendEscaped(text, first, out);
+    }
+
+    /**
+     * 第一个需要转义的字符下标，没有时返回 -1
+     */
+    static int indexOfSpecial(String text, int from) {
+        for (int i = from; i < text.length(); i++) {
+            if (replacement(text.charAt(i)) != 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 从 first（第一个特殊字符）开始，按区间写出原文与转义序列
+     */
+    private static void appendEscaped(String text, int first, Appendable out) throws IOException {
+        int start = 0;
+        for (int i = first; i < text.length(); i++) {
+            char escaped = replacement(text.charAt(i));
+            if (escaped != 0) {
+                appendRange(text, start, i, out);
+                out.append('\\');
+                out.append(escaped);
+                start = i + 1;
+            }
+        }
+        appendRange(text, start, text.length(), out);
+    }
+
+    /**
+     * 转义后反斜杠之后的字符；无需转义时返回 0
+     */
+    private static char replacement(char c) {
+        switch (c) {
+            case '\\':
+                return '\\';
+            case '"':
+                return '"';
+            case '\n':
+                return 'n';
+            case '\t':
+                return 't';
+            case '\r':
+                return 'r';
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * 写出 text[start, end) 或 chars[start, end)（DotWriter 共用）
+     *
+     * Writer.append(CharSequence, int, int) 会创建子串，因此 Writer 改用 write；
+     * 字符数组对 StringBuilder 直接追加，其他目标包装为 CharBuffer。
+     */
+    static void appendRange(String text, int start, int end, Appendable out) throws IOException {
+        if (start >= end) {
+            return;
+        }
+        if (out instanceof Writer) {
+            ((Writer) out).write(text, start, end - start);
+        } else {
+            out.append(text, start, end);
+        }
+    }
+
+    static void appendRange(char[] chars, int start, int end, Appendable out) throws IOException {
+        if (start >= end) {
+            return;
+        }
+        if (out instanceof StringBuilder) {
+            ((StringBuilder) out).append(chars, start, end - start);
+        } else if (out instanceof Writer) {
+            ((Writer) out).write(chars, start, end - start);
+        } else {
+            out.append(CharBuffer.wrap(chars, start, end - start));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package CompilerFronted.AnalysisService.utils;
+
+import java.io.IOException;
+
+/**
+ * DOT 格式的流式输出
+ *
+ * CST / AST 生成器共用的底层写出工具，直接写入目标 Appendable
+ * （StringBuilder 或响应 Writer），替代逐个节点、逐条边的 String.format：
+ * - 节点编号手工格式化到复用的字符缓冲，不创建中间字符串
+ * - 标签由 {@link DotEscaper} 单遍转义，直接写入目标，无需转义时整段写出
+ *
+ * 输出格式与原有生成器一致：
+ * <pre>
+ *   node3 [label="..."&lt;属性&gt;];
+ *   node1 -&gt; node3;
+ * </pre>
+ *
+ * 非线程安全；每次生成使用独立实例。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class DotWriter {
+
+    private final Appendable out;
+    private final char[] digits = new char[11];
+
+    public DotWriter(Appendable out) {
+        this.out = out;
+    }
+
+    /**
+     * 写出原样文本（图的头部、尾部等）
+     */
+    public DotWriter raw(String text) throws IOException {
+        out.append(text);
+        return this;
+    }
+
+    /**
+     * 写出节点定义：  node{id} [label="{label}"{attributes}];
+     *
+     * @param id 节点编号
+     * @param label 未转义的标签文本
+     * @param attributes 追加在 label 之后的属性（以 ", " 开头），无则为空串
+     */
+    public DotWriter node(int id, String label, String attributes) throws IOException {
+        out.append("  node");
+        appendInt(id);
+        out.append(" [label=\"");
+        DotEscaper.escape(label, out);
+        out.append('"');
+        out.append(attributes);
+        out.append("];\n");
+        return this;
+    }
+
+    /**
+     * 写出边：  node{from} -> node{to};
+     */
+    public DotWriter edge(int from, int to) throws IOException {
+        out.append("  node");
+        appendInt(from);
+        out.append(" -> node");
+        appendInt(to);
+        out.append(";\n");
+        return this;
+    }
+
+    private void appendInt(int value) throws IOException {
+        if (value >= 0 && value < 10) {
+            out.append((char) ('0' + value));
+            return;
+        }
+        long remaining = value;
+        boolean negative = remaining < 0;
+        if (negative) {
+            remaining = -remaining;
+        }
+        int position = digits.length;
+        do {
+            digits[--position] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining > 0);
+        if (negative) {
+            digits[--position] = '-';
+        }
+        DotEscaper.appendRange(digits, position, digits.length, out);
+    }
+}
@@ -0,0 +1,162 @@
+package CompilerFronted.AnalysisService.utils;
+
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.Trees;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 解析树 LISP 格式的流式输出
+ *
+ * 输出与 ParseTree.toStringTree(parser) 完全一致，但：
+ * - 迭代遍历（显式栈），深层嵌套的解析树不会栈溢出
+ * - 直接写入目标 Appendable（StringBuilder 或响应 Writer），不产生逐层拼接的中间字符串
+ * - 可选的最大长度：超出时截断并追加 {@link #TRUNCATION_MARKER}
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class LispTreeWriter {
+
+    /** 截断标记 */
+    public static final String TRUNCATION_MARKER = " ...<truncated>";
+
+    /** 不限制长度 */
+    public static final long UNLIMITED = 0;
+
+    private final List<String> ruleNames;
+    private final long maxLength;
+
+    // 单次写出的状态
+    private Appendable out;
+    private long written;
+    private boolean truncated;
+
+    /**
+     * @param parser 语法分析器（提供规则名）
+     * @param maxLength 最大字符数（不含截断标记），{@link #UNLIMITED} 表示不限制
+     */
+    public LispTreeWriter(Parser parser, long maxLength) {
+        this.ruleNames = Arrays.asList(parser.getRuleNames());
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * 生成 LISP 字符串
+     */
+    public String toString(ParseTree tree) {
+        StringBuilder builder = new StringBuilder();
+        try {
+            write(tree, builder);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 把 LISP 格式写入目标
+     *
+     * @param tree 解析树
+     * @param target 输出目标
+     * @return 是否因超出最大长度而截断
+     * @throws IOException 写出失败
+     */
+    public boolean write(ParseTree tree, Appendable target) throws IOException {
+        out = target;
+        written = 0;
+        truncated = false;
+
+        // 栈中保存尚未闭合的内部节点及其下一个待输出子节点的下标
+        ParseTree[] nodes = new ParseTree[64];
+        int[] next = new int[64];
+        int depth = 0;
+
+        if (open(tree)) {
+            nodes[0] = tree;
+            depth = 1;
+        }
+        while (depth > 0 && !truncated) {
+            ParseTree node = nodes[depth - 1];
+            int index = next[depth - 1];
+            if (index == node.getChildCount()) {
+                append(")");
+                depth--;
+                continue;
+            }
+            next[depth - 1] = index + 1;
+            if (index > 0) {
+                append(" ");
+            }
+            ParseTree child = node.getChild(index);
+            if (open(child)) {
+                if (depth == nodes.length) {
+                    nodes = Arrays.copyOf(nodes, depth * 2);
+                    next = Arrays.copyOf(next, depth * 2);
+                }
+                nodes[depth] = child;
+                next[depth] = 0;
+                depth++;
+            }
+        }
+        out = null;
+        return truncated;
+    }
+
+    /**
+     * 输出节点文本；内部节点输出 "(文本 " 并返回 true
+     */
+    private boolean open(ParseTree node) throws IOException {
+        String text = Trees.getNodeText(node, ruleNames);
+        if (node.getChildCount() == 0) {
+            appendEscaped(text);
+            return false;
+        }
+        append("(");
+        appendEscaped(text);
+        append(" ");
+        return true;
+    }
+
+    /**
+     * 与 Utils.escapeWhitespace(text, false) 相同的转义
+     */
+    private void appendEscaped(String text) throws IOException {
+        int start = 0;
+        for (int i = 0; i < text.length() && !truncated; i++) {
+            char c = text.charAt(i);
+            String escape = c == '\t' ? "\\t" : c == '\n' ? "\\n" : c == '\r' ? "\\r" : null;
+            if (escape != null) {
+                append(text, start, i);
+                append(escape);
+                start = i + 1;
+            }
+        }
+        append(text, start, text.length());
+    }
+
+    private void append(String text) throws IOException {
+        append(text, 0, text.length());
+    }
+
+    private void append(String text, int start, int end) throws IOException {
+        if (truncated || start >= end) {
+            return;
+        }
+        int length = end - start;
+        if (maxLength > UNLIMITED && written + length > maxLength) {
+            out.append(text, start, start + (int) (maxLength - written));
+            out.append(TRUNCATION_MARKER);
+            written = maxLength;
+            truncated = true;
+            return;
+        }
+        out.append(text, start, end);
+        written += length;
+    }
+}
@@ -0,0 +1,157 @@
+package CompilerFronted.AnalysisService.utils;
+
+import CompilerFronted.AnalysisService.models.TokenTable;
+import CompilerFronted.AnalysisService.models.TreeStructure;
+import CompilerFronted.Core.RustParser;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 列式树结构生成器
+ *
+ * 把 ParseTree 或 AST 按层序展开为 {@link TreeStructure}：
+ * 已收集的节点列表本身就是 BFS 队列，遍历是迭代的，子节点下标天然连续。
+ *
+ * 节点区间取自 Token 的起止位置（码点），源代码含增补平面字符时
+ * 按 utf16Offsets 换算为 UTF-16 偏移。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class TreeStructureGenerator {
+
+    private final int[] utf16Offsets;
+
+    /**
+     * @param utf16Offsets 码点下标到 UTF-16 偏移的映射，源代码只含 BMP 字符时为 null
+     */
+    public TreeStructureGenerator(int[] utf16Offsets) {
+        this.utf16Offsets = utf16Offsets;
+    }
+
+    /**
+     * 具体语法树：规则节点名为规则名，终结符节点名为 Token 类型名
+     */
+    public TreeStructure fromParseTree(ParseTree root, RustParser parser) {
+        String[] ruleNames = parser.getRuleNames();
+        Columns columns = new Columns();
+        List<ParseTree> nodes = new ArrayList<>();
+        nodes.add(root);
+        for (int i = 0; i < nodes.size(); i++) {
+            ParseTree node = nodes.get(i);
+            String name = node instanceof ParserRuleContext
+                ? ruleNames[((ParserRuleContext) node).getRuleIndex()]
+                : TokenTable.typeName(tokenOf(node).getType());
+            columns.add(name, node, nodes.size(), node.getChildCount());
+            for (int c = 0; c < node.getChildCount(); c++) {
+                nodes.add(node.getChild(c));
+            }
+        }
+        return columns.build();
+    }
+
+    /**
+     * 抽象语法树：节点名为 AST 标签
+     */
+    public TreeStructure fromAST(ASTGenerator.ASTNode root) {
+        Columns columns = new Columns();
+        List<ASTGenerator.ASTNode> nodes = new ArrayList<>();
+        nodes.add(root);
+        for (int i = 0; i < nodes.size(); i++) {
+            ASTGenerator.ASTNode node = nodes.get(i);
+            columns.add(node.getLabel(), node.getSource(), nodes.size(), node.getChildren().size());
+            nodes.addAll(node.getChildren());
+        }
+        return columns.build();
+    }
+
+    private static Token tokenOf(ParseTree node) {
+        return ((TerminalNode) node).getSymbol();
+    }
+
+    private int toUtf16(int index) {
+        if (index < 0) {
+            return 0;
+        }
+        if (utf16Offsets == null) {
+            return index;
+        }
+        return utf16Offsets[Math.min(index, utf16Offsets.length - 1)];
+    }
+
+    /**
+     * 逐节点追加的并行数组
+     */
+    private class Columns {
+        private final Map<String, Integer> nameIndex = new HashMap<>();
+        private final List<String> names = new ArrayList<>();
+        private int size;
+        private int[] nameIds = new int[256];
+        private int[] tokens = new int[256];
+        private int[] starts = new int[256];
+        private int[] ends = new int[256];
+        private int[] firstChildren = new int[256];
+        private int[] childCounts = new int[256];
+
+        void add(String name, ParseTree source, int firstChild, int childCount) {
+            if (size == nameIds.length) {
+                int capacity = size * 2;
+                nameIds = Arrays.copyOf(nameIds, capacity);
+                tokens = Arrays.copyOf(tokens, capacity);
+                starts = Arrays.copyOf(starts, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+                firstChildren = Arrays.copyOf(firstChildren, capacity);
+                childCounts = Arrays.copyOf(childCounts, capacity);
+            }
+            Integer id = nameIndex.get(name);
+            if (id == null) {
+                id = names.size();
+                nameIndex.put(name, id);
+                names.add(name);
+            }
+            nameIds[size] = id;
+            tokens[size] = -1;
+
+            // 节点区间：[首 Token 起点, 末 Token 终点)，空规则为起点处的空区间
+            int start = 0;
+            int end = 0;
+            if (source instanceof TerminalNode) {
+                Token token = tokenOf(source);
+                tokens[size] = token.getTokenIndex();
+                start = token.getStartIndex();
+                end = Math.max(start, token.getStopIndex() + 1);
+            } else if (source instanceof ParserRuleContext) {
+                ParserRuleContext context = (ParserRuleContext) source;
+                if (context.start != null) {
+                    start = context.start.getStartIndex();
+                    end = start;
+                    if (context.stop != null && context.stop.getTokenIndex() >= context.start.getTokenIndex()) {
+                        end = Math.max(start, context.stop.getStopIndex() + 1);
+                    }
+                }
+            }
+            starts[size] = toUtf16(start);
+            ends[size] = toUtf16(end);
+            firstChildren[size] = firstChild;
+            childCounts[size] = childCount;
+            size++;
+        }
+
+        TreeStructure build() {
+            return new TreeStructure(names.toArray(new String[0]),
+                Arrays.copyOf(nameIds, size), Arrays.copyOf(tokens, size),
+                Arrays.copyOf(starts, size), Arrays.copyOf(ends, size),
+                Arrays.copyOf(firstChildren, size), Arrays.copyOf(childCounts, size));
+        }
+    }
+}
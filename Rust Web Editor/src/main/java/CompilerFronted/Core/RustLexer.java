@@ -1,4 +1,4 @@
-// Generated from RustLexer.g4 by ANTLR 4.13.2
+// Generated from RustLexer.g4 by ANTLR 4.13.1
 package CompilerFronted.Core;
 import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.CharStream;
@@ -11,7 +11,7 @@ import org.antlr.v4.runtime.misc.*;
 
 @SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast", "CheckReturnValue", "this-escape"})
 public class RustLexer extends RustLexerBase {
-	static { RuntimeMetaData.checkVersion("4.13.2", RuntimeMetaData.VERSION); }
+	static { RuntimeMetaData.checkVersion("4.13.1", RuntimeMetaData.VERSION); }
 
 	protected static final DFA[] _decisionToDFA;
 	protected static final PredictionContextCache _sharedContextCache =
@@ -197,22 +197,24 @@ public class RustLexer extends RustLexerBase {
 	private boolean SHEBANG_sempred(RuleContext _localctx, int predIndex) {
 		switch (predIndex) {
 		case 0:
-			return this.SOF();
+			return this.SOF(1);
+		case 1:
+			return this.SOF(1);
 		}
 		return true;
 	}
 	private boolean FLOAT_LITERAL_sempred(RuleContext _localctx, int predIndex) {
 		switch (predIndex) {
-		case 1:
-			return this.floatLiteralPossible();
 		case 2:
+			return this.floatLiteralPossible();
+		case 3:
 			return this.floatDotPossible();
 		}
 		return true;
 	}
 
 	public static final String _serializedATN =
-		"\u0004\u0000\u0082\u04a4\u0006\uffff\uffff\u0002\u0000\u0007\u0000\u0002"+
+		"\u0004\u0000\u0082\u04ab\u0006\uffff\uffff\u0002\u0000\u0007\u0000\u0002"+
 		"\u0001\u0007\u0001\u0002\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002"+
 		"\u0004\u0007\u0004\u0002\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002"+
 		"\u0007\u0007\u0007\u0002\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002"+
@@ -305,508 +307,509 @@ public class RustLexer extends RustLexerBase {
 		"\fB\u02de\tB\u0003B\u02e0\bB\u0001B\u0001B\u0001C\u0001C\u0001C\u0001"+
 		"C\u0001C\u0001C\u0003C\u02ea\bC\u0001C\u0001C\u0005C\u02ee\bC\nC\fC\u02f1"+
 		"\tC\u0001C\u0001C\u0001C\u0001C\u0001C\u0001D\u0001D\u0001D\u0003D\u02fb"+
-		"\bD\u0001D\u0001D\u0001E\u0001E\u0003E\u0301\bE\u0001E\u0001E\u0001E\u0001"+
-		"E\u0005E\u0307\bE\nE\fE\u030a\tE\u0001E\u0001E\u0001F\u0001F\u0001F\u0001"+
-		"F\u0001G\u0001G\u0001G\u0003G\u0315\bG\u0001G\u0001G\u0001H\u0001H\u0001"+
-		"H\u0001H\u0001H\u0003H\u031e\bH\u0001H\u0001H\u0001I\u0001I\u0001I\u0001"+
-		"I\u0001I\u0001I\u0005I\u0328\bI\nI\fI\u032b\tI\u0001I\u0001I\u0001J\u0001"+
-		"J\u0001J\u0001K\u0001K\u0001K\u0001K\u0001K\u0001K\u0005K\u0338\bK\nK"+
-		"\fK\u033b\tK\u0001K\u0003K\u033e\bK\u0001L\u0001L\u0001L\u0001L\u0001"+
-		"L\u0001L\u0003L\u0346\bL\u0001L\u0001L\u0001M\u0001M\u0001M\u0001M\u0001"+
-		"M\u0001M\u0005M\u0350\bM\nM\fM\u0353\tM\u0001M\u0001M\u0001N\u0001N\u0001"+
-		"N\u0001N\u0001N\u0001O\u0001O\u0001O\u0001O\u0001O\u0001O\u0001O\u0003"+
-		"O\u0363\bO\u0001P\u0001P\u0001P\u0001P\u0001P\u0001P\u0001P\u0003P\u036c"+
-		"\bP\u0001Q\u0001Q\u0001Q\u0001R\u0001R\u0001R\u0001R\u0001R\u0001R\u0003"+
-		"R\u0377\bR\u0001R\u0003R\u037a\bR\u0001R\u0003R\u037d\bR\u0001R\u0003"+
-		"R\u0380\bR\u0001R\u0003R\u0383\bR\u0001R\u0001R\u0001S\u0001S\u0001S\u0001"+
-		"T\u0001T\u0001T\u0001U\u0001U\u0001U\u0001U\u0003U\u0391\bU\u0001U\u0003"+
-		"U\u0394\bU\u0001V\u0001V\u0001V\u0005V\u0399\bV\nV\fV\u039c\tV\u0001W"+
-		"\u0001W\u0001W\u0001W\u0005W\u03a2\bW\nW\fW\u03a5\tW\u0001W\u0001W\u0001"+
-		"W\u0005W\u03aa\bW\nW\fW\u03ad\tW\u0001X\u0001X\u0001X\u0001X\u0005X\u03b3"+
-		"\bX\nX\fX\u03b6\tX\u0001X\u0001X\u0001X\u0005X\u03bb\bX\nX\fX\u03be\t"+
-		"X\u0001Y\u0001Y\u0001Y\u0001Y\u0005Y\u03c4\bY\nY\fY\u03c7\tY\u0001Y\u0001"+
-		"Y\u0005Y\u03cb\bY\nY\fY\u03ce\tY\u0001Z\u0001Z\u0001Z\u0001Z\u0001Z\u0001"+
-		"Z\u0001Z\u0001Z\u0003Z\u03d8\bZ\u0001Z\u0003Z\u03db\bZ\u0001Z\u0003Z\u03de"+
-		"\bZ\u0003Z\u03e0\bZ\u0001[\u0001[\u0001[\u0001[\u0001[\u0001[\u0001[\u0001"+
+		"\bD\u0001D\u0001D\u0001E\u0001E\u0001E\u0001E\u0001E\u0001E\u0001E\u0003"+
+		"E\u0306\bE\u0001E\u0005E\u0309\bE\nE\fE\u030c\tE\u0001E\u0001E\u0001F"+
+		"\u0001F\u0001F\u0001F\u0001G\u0001G\u0001G\u0003G\u0317\bG\u0001G\u0001"+
+		"G\u0001H\u0001H\u0001H\u0001H\u0001H\u0003H\u0320\bH\u0001H\u0001H\u0001"+
+		"I\u0001I\u0001I\u0001I\u0001I\u0001I\u0005I\u032a\bI\nI\fI\u032d\tI\u0001"+
+		"I\u0001I\u0001J\u0001J\u0001J\u0001K\u0001K\u0001K\u0001K\u0001K\u0001"+
+		"K\u0005K\u033a\bK\nK\fK\u033d\tK\u0001K\u0003K\u0340\bK\u0001L\u0001L"+
+		"\u0001L\u0001L\u0001L\u0001L\u0003L\u0348\bL\u0001L\u0001L\u0001M\u0001"+
+		"M\u0001M\u0001M\u0001M\u0001M\u0005M\u0352\bM\nM\fM\u0355\tM\u0001M\u0001"+
+		"M\u0001N\u0001N\u0001N\u0001N\u0001N\u0001O\u0001O\u0001O\u0001O\u0001"+
+		"O\u0001O\u0001O\u0003O\u0365\bO\u0001P\u0001P\u0001P\u0001P\u0001P\u0001"+
+		"P\u0001P\u0003P\u036e\bP\u0001Q\u0001Q\u0001Q\u0001R\u0001R\u0001R\u0001"+
+		"R\u0001R\u0001R\u0003R\u0379\bR\u0001R\u0003R\u037c\bR\u0001R\u0003R\u037f"+
+		"\bR\u0001R\u0003R\u0382\bR\u0001R\u0003R\u0385\bR\u0001R\u0001R\u0001"+
+		"S\u0001S\u0001S\u0001T\u0001T\u0001T\u0001U\u0001U\u0001U\u0001U\u0003"+
+		"U\u0393\bU\u0001U\u0003U\u0396\bU\u0001V\u0001V\u0001V\u0005V\u039b\b"+
+		"V\nV\fV\u039e\tV\u0001W\u0001W\u0001W\u0001W\u0005W\u03a4\bW\nW\fW\u03a7"+
+		"\tW\u0001W\u0001W\u0001W\u0005W\u03ac\bW\nW\fW\u03af\tW\u0001X\u0001X"+
+		"\u0001X\u0001X\u0005X\u03b5\bX\nX\fX\u03b8\tX\u0001X\u0001X\u0001X\u0005"+
+		"X\u03bd\bX\nX\fX\u03c0\tX\u0001Y\u0001Y\u0001Y\u0001Y\u0005Y\u03c6\bY"+
+		"\nY\fY\u03c9\tY\u0001Y\u0001Y\u0005Y\u03cd\bY\nY\fY\u03d0\tY\u0001Z\u0001"+
+		"Z\u0001Z\u0001Z\u0005Z\u03d6\bZ\nZ\fZ\u03d9\tZ\u0001Z\u0001Z\u0001Z\u0001"+
+		"Z\u0003Z\u03df\bZ\u0001Z\u0003Z\u03e2\bZ\u0001Z\u0003Z\u03e5\bZ\u0003"+
+		"Z\u03e7\bZ\u0001[\u0001[\u0001[\u0001[\u0001[\u0001[\u0001[\u0001[\u0001"+
 		"[\u0001[\u0001[\u0001[\u0001[\u0001[\u0001[\u0001[\u0001[\u0001[\u0001"+
 		"[\u0001[\u0001[\u0001[\u0001[\u0001[\u0001[\u0001[\u0001[\u0001[\u0001"+
 		"[\u0001[\u0001[\u0001[\u0001[\u0001[\u0001[\u0001[\u0001[\u0001[\u0001"+
-		"[\u0001[\u0001[\u0003[\u040a\b[\u0001\\\u0001\\\u0001\\\u0001\\\u0001"+
-		"\\\u0001\\\u0003\\\u0412\b\\\u0001]\u0001]\u0003]\u0416\b]\u0001]\u0005"+
-		"]\u0419\b]\n]\f]\u041c\t]\u0001]\u0001]\u0001^\u0001^\u0001_\u0001_\u0001"+
-		"`\u0001`\u0001a\u0001a\u0001a\u0001b\u0001b\u0001c\u0001c\u0001d\u0001"+
-		"d\u0001e\u0001e\u0001f\u0001f\u0001g\u0001g\u0001h\u0001h\u0001i\u0001"+
-		"i\u0001j\u0001j\u0001k\u0001k\u0001k\u0001l\u0001l\u0001l\u0001m\u0001"+
-		"m\u0001m\u0001n\u0001n\u0001n\u0001o\u0001o\u0001o\u0001p\u0001p\u0001"+
-		"p\u0001q\u0001q\u0001q\u0001r\u0001r\u0001r\u0001s\u0001s\u0001s\u0001"+
-		"t\u0001t\u0001t\u0001u\u0001u\u0001u\u0001u\u0001v\u0001v\u0001v\u0001"+
-		"v\u0001w\u0001w\u0001x\u0001x\u0001x\u0001y\u0001y\u0001y\u0001z\u0001"+
-		"z\u0001{\u0001{\u0001|\u0001|\u0001|\u0001}\u0001}\u0001}\u0001~\u0001"+
-		"~\u0001\u007f\u0001\u007f\u0001\u0080\u0001\u0080\u0001\u0081\u0001\u0081"+
-		"\u0001\u0081\u0001\u0082\u0001\u0082\u0001\u0082\u0001\u0082\u0001\u0083"+
-		"\u0001\u0083\u0001\u0083\u0001\u0083\u0001\u0084\u0001\u0084\u0001\u0085"+
-		"\u0001\u0085\u0001\u0086\u0001\u0086\u0001\u0087\u0001\u0087\u0001\u0087"+
-		"\u0001\u0088\u0001\u0088\u0001\u0088\u0001\u0089\u0001\u0089\u0001\u0089"+
-		"\u0001\u008a\u0001\u008a\u0001\u008b\u0001\u008b\u0001\u008c\u0001\u008c"+
-		"\u0001\u008d\u0001\u008d\u0001\u008e\u0001\u008e\u0001\u008f\u0001\u008f"+
-		"\u0001\u0090\u0001\u0090\u0001\u0091\u0001\u0091\u0001\u0092\u0001\u0092"+
-		"\u0004\u02a6\u02cc\u02ef\u0339\u0000\u0093\u0001\u0001\u0003\u0002\u0005"+
-		"\u0003\u0007\u0004\t\u0005\u000b\u0006\r\u0007\u000f\b\u0011\t\u0013\n"+
-		"\u0015\u000b\u0017\f\u0019\r\u001b\u000e\u001d\u000f\u001f\u0010!\u0011"+
-		"#\u0012%\u0013\'\u0014)\u0015+\u0016-\u0017/\u00181\u00193\u001a5\u001b"+
-		"7\u001c9\u001d;\u001e=\u001f? A!C\"E#G$I%K&M\'O(Q)S*U+W,Y-[.]/_0a1c2e"+
-		"3g4i5k6m7o8q9s\u0000u\u0000w\u0000y\u0000{:};\u007f<\u0081=\u0083>\u0085"+
-		"?\u0087@\u0089A\u008bB\u008dC\u008fD\u0091E\u0093F\u0095G\u0097\u0000"+
-		"\u0099H\u009bI\u009dJ\u009f\u0000\u00a1\u0000\u00a3\u0000\u00a5\u0000"+
-		"\u00a7\u0000\u00a9\u0000\u00abK\u00adL\u00afM\u00b1N\u00b3O\u00b5P\u00b7"+
-		"\u0000\u00b9\u0000\u00bb\u0000\u00bd\u0000\u00bf\u0000\u00c1\u0000\u00c3"+
-		"Q\u00c5R\u00c7S\u00c9T\u00cbU\u00cdV\u00cfW\u00d1X\u00d3Y\u00d5Z\u00d7"+
-		"[\u00d9\\\u00db]\u00dd^\u00df_\u00e1`\u00e3a\u00e5b\u00e7c\u00e9d\u00eb"+
-		"e\u00edf\u00efg\u00f1h\u00f3i\u00f5j\u00f7k\u00f9l\u00fbm\u00fdn\u00ff"+
-		"o\u0101p\u0103q\u0105r\u0107s\u0109t\u010bu\u010dv\u010fw\u0111x\u0113"+
-		"y\u0115z\u0117{\u0119|\u011b}\u011d~\u011f\u007f\u0121\u0080\u0123\u0081"+
-		"\u0125\u0082\u0001\u0000\u0015\u0296\u0000AZaz\u00aa\u00aa\u00b5\u00b5"+
-		"\u00ba\u00ba\u00c0\u00d6\u00d8\u00f6\u00f8\u02c1\u02c6\u02d1\u02e0\u02e4"+
-		"\u02ec\u02ec\u02ee\u02ee\u0370\u0374\u0376\u0377\u037a\u037d\u037f\u037f"+
-		"\u0386\u0386\u0388\u038a\u038c\u038c\u038e\u03a1\u03a3\u03f5\u03f7\u0481"+
-		"\u048a\u052f\u0531\u0556\u0559\u0559\u0560\u0588\u05d0\u05ea\u05ef\u05f2"+
-		"\u0620\u064a\u066e\u066f\u0671\u06d3\u06d5\u06d5\u06e5\u06e6\u06ee\u06ef"+
-		"\u06fa\u06fc\u06ff\u06ff\u0710\u0710\u0712\u072f\u074d\u07a5\u07b1\u07b1"+
-		"\u07ca\u07ea\u07f4\u07f5\u07fa\u07fa\u0800\u0815\u081a\u081a\u0824\u0824"+
-		"\u0828\u0828\u0840\u0858\u0860\u086a\u0870\u0887\u0889\u088e\u08a0\u08c9"+
-		"\u0904\u0939\u093d\u093d\u0950\u0950\u0958\u0961\u0971\u0980\u0985\u098c"+
-		"\u098f\u0990\u0993\u09a8\u09aa\u09b0\u09b2\u09b2\u09b6\u09b9\u09bd\u09bd"+
-		"\u09ce\u09ce\u09dc\u09dd\u09df\u09e1\u09f0\u09f1\u09fc\u09fc\u0a05\u0a0a"+
-		"\u0a0f\u0a10\u0a13\u0a28\u0a2a\u0a30\u0a32\u0a33\u0a35\u0a36\u0a38\u0a39"+
-		"\u0a59\u0a5c\u0a5e\u0a5e\u0a72\u0a74\u0a85\u0a8d\u0a8f\u0a91\u0a93\u0aa8"+
-		"\u0aaa\u0ab0\u0ab2\u0ab3\u0ab5\u0ab9\u0abd\u0abd\u0ad0\u0ad0\u0ae0\u0ae1"+
-		"\u0af9\u0af9\u0b05\u0b0c\u0b0f\u0b10\u0b13\u0b28\u0b2a\u0b30\u0b32\u0b33"+
-		"\u0b35\u0b39\u0b3d\u0b3d\u0b5c\u0b5d\u0b5f\u0b61\u0b71\u0b71\u0b83\u0b83"+
-		"\u0b85\u0b8a\u0b8e\u0b90\u0b92\u0b95\u0b99\u0b9a\u0b9c\u0b9c\u0b9e\u0b9f"+
-		"\u0ba3\u0ba4\u0ba8\u0baa\u0bae\u0bb9\u0bd0\u0bd0\u0c05\u0c0c\u0c0e\u0c10"+
-		"\u0c12\u0c28\u0c2a\u0c39\u0c3d\u0c3d\u0c58\u0c5a\u0c5d\u0c5d\u0c60\u0c61"+
-		"\u0c80\u0c80\u0c85\u0c8c\u0c8e\u0c90\u0c92\u0ca8\u0caa\u0cb3\u0cb5\u0cb9"+
-		"\u0cbd\u0cbd\u0cdd\u0cde\u0ce0\u0ce1\u0cf1\u0cf2\u0d04\u0d0c\u0d0e\u0d10"+
-		"\u0d12\u0d3a\u0d3d\u0d3d\u0d4e\u0d4e\u0d54\u0d56\u0d5f\u0d61\u0d7a\u0d7f"+
-		"\u0d85\u0d96\u0d9a\u0db1\u0db3\u0dbb\u0dbd\u0dbd\u0dc0\u0dc6\u0e01\u0e30"+
-		"\u0e32\u0e33\u0e40\u0e46\u0e81\u0e82\u0e84\u0e84\u0e86\u0e8a\u0e8c\u0ea3"+
-		"\u0ea5\u0ea5\u0ea7\u0eb0\u0eb2\u0eb3\u0ebd\u0ebd\u0ec0\u0ec4\u0ec6\u0ec6"+
-		"\u0edc\u0edf\u0f00\u0f00\u0f40\u0f47\u0f49\u0f6c\u0f88\u0f8c\u1000\u102a"+
-		"\u103f\u103f\u1050\u1055\u105a\u105d\u1061\u1061\u1065\u1066\u106e\u1070"+
-		"\u1075\u1081\u108e\u108e\u10a0\u10c5\u10c7\u10c7\u10cd\u10cd\u10d0\u10fa"+
-		"\u10fc\u1248\u124a\u124d\u1250\u1256\u1258\u1258\u125a\u125d\u1260\u1288"+
-		"\u128a\u128d\u1290\u12b0\u12b2\u12b5\u12b8\u12be\u12c0\u12c0\u12c2\u12c5"+
-		"\u12c8\u12d6\u12d8\u1310\u1312\u1315\u1318\u135a\u1380\u138f\u13a0\u13f5"+
-		"\u13f8\u13fd\u1401\u166c\u166f\u167f\u1681\u169a\u16a0\u16ea\u16ee\u16f8"+
-		"\u1700\u1711\u171f\u1731\u1740\u1751\u1760\u176c\u176e\u1770\u1780\u17b3"+
-		"\u17d7\u17d7\u17dc\u17dc\u1820\u1878\u1880\u1884\u1887\u18a8\u18aa\u18aa"+
-		"\u18b0\u18f5\u1900\u191e\u1950\u196d\u1970\u1974\u1980\u19ab\u19b0\u19c9"+
-		"\u1a00\u1a16\u1a20\u1a54\u1aa7\u1aa7\u1b05\u1b33\u1b45\u1b4c\u1b83\u1ba0"+
-		"\u1bae\u1baf\u1bba\u1be5\u1c00\u1c23\u1c4d\u1c4f\u1c5a\u1c7d\u1c80\u1c88"+
-		"\u1c90\u1cba\u1cbd\u1cbf\u1ce9\u1cec\u1cee\u1cf3\u1cf5\u1cf6\u1cfa\u1cfa"+
-		"\u1d00\u1dbf\u1e00\u1f15\u1f18\u1f1d\u1f20\u1f45\u1f48\u1f4d\u1f50\u1f57"+
-		"\u1f59\u1f59\u1f5b\u1f5b\u1f5d\u1f5d\u1f5f\u1f7d\u1f80\u1fb4\u1fb6\u1fbc"+
-		"\u1fbe\u1fbe\u1fc2\u1fc4\u1fc6\u1fcc\u1fd0\u1fd3\u1fd6\u1fdb\u1fe0\u1fec"+
-		"\u1ff2\u1ff4\u1ff6\u1ffc\u2071\u2071\u207f\u207f\u2090\u209c\u2102\u2102"+
-		"\u2107\u2107\u210a\u2113\u2115\u2115\u2119\u211d\u2124\u2124\u2126\u2126"+
-		"\u2128\u2128\u212a\u212d\u212f\u2139\u213c\u213f\u2145\u2149\u214e\u214e"+
-		"\u2160\u2188\u2c00\u2ce4\u2ceb\u2cee\u2cf2\u2cf3\u2d00\u2d25\u2d27\u2d27"+
-		"\u2d2d\u2d2d\u2d30\u2d67\u2d6f\u2d6f\u2d80\u2d96\u2da0\u2da6\u2da8\u2dae"+
-		"\u2db0\u2db6\u2db8\u2dbe\u2dc0\u2dc6\u2dc8\u2dce\u2dd0\u2dd6\u2dd8\u2dde"+
-		"\u2e2f\u2e2f\u3005\u3007\u3021\u3029\u3031\u3035\u3038\u303c\u3041\u3096"+
-		"\u309d\u309f\u30a1\u30fa\u30fc\u30ff\u3105\u312f\u3131\u318e\u31a0\u31bf"+
-		"\u31f0\u31ff\u3400\u4dbf\u4e00\u8000\ua48c\u8000\ua4d0\u8000\ua4fd\u8000"+
-		"\ua500\u8000\ua60c\u8000\ua610\u8000\ua61f\u8000\ua62a\u8000\ua62b\u8000"+
-		"\ua640\u8000\ua66e\u8000\ua67f\u8000\ua69d\u8000\ua6a0\u8000\ua6ef\u8000"+
-		"\ua717\u8000\ua71f\u8000\ua722\u8000\ua788\u8000\ua78b\u8000\ua7ca\u8000"+
-		"\ua7d0\u8000\ua7d1\u8000\ua7d3\u8000\ua7d3\u8000\ua7d5\u8000\ua7d9\u8000"+
-		"\ua7f2\u8000\ua801\u8000\ua803\u8000\ua805\u8000\ua807\u8000\ua80a\u8000"+
-		"\ua80c\u8000\ua822\u8000\ua840\u8000\ua873\u8000\ua882\u8000\ua8b3\u8000"+
-		"\ua8f2\u8000\ua8f7\u8000\ua8fb\u8000\ua8fb\u8000\ua8fd\u8000\ua8fe\u8000"+
-		"\ua90a\u8000\ua925\u8000\ua930\u8000\ua946\u8000\ua960\u8000\ua97c\u8000"+
-		"\ua984\u8000\ua9b2\u8000\ua9cf\u8000\ua9cf\u8000\ua9e0\u8000\ua9e4\u8000"+
-		"\ua9e6\u8000\ua9ef\u8000\ua9fa\u8000\ua9fe\u8000\uaa00\u8000\uaa28\u8000"+
-		"\uaa40\u8000\uaa42\u8000\uaa44\u8000\uaa4b\u8000\uaa60\u8000\uaa76\u8000"+
-		"\uaa7a\u8000\uaa7a\u8000\uaa7e\u8000\uaaaf\u8000\uaab1\u8000\uaab1\u8000"+
-		"\uaab5\u8000\uaab6\u8000\uaab9\u8000\uaabd\u8000\uaac0\u8000\uaac0\u8000"+
-		"\uaac2\u8000\uaac2\u8000\uaadb\u8000\uaadd\u8000\uaae0\u8000\uaaea\u8000"+
-		"\uaaf2\u8000\uaaf4\u8000\uab01\u8000\uab06\u8000\uab09\u8000\uab0e\u8000"+
-		"\uab11\u8000\uab16\u8000\uab20\u8000\uab26\u8000\uab28\u8000\uab2e\u8000"+
-		"\uab30\u8000\uab5a\u8000\uab5c\u8000\uab69\u8000\uab70\u8000\uabe2\u8000"+
-		"\uac00\u8000\ud7a3\u8000\ud7b0\u8000\ud7c6\u8000\ud7cb\u8000\ud7fb\u8000"+
-		"\uf900\u8000\ufa6d\u8000\ufa70\u8000\ufad9\u8000\ufb00\u8000\ufb06\u8000"+
-		"\ufb13\u8000\ufb17\u8000\ufb1d\u8000\ufb1d\u8000\ufb1f\u8000\ufb28\u8000"+
-		"\ufb2a\u8000\ufb36\u8000\ufb38\u8000\ufb3c\u8000\ufb3e\u8000\ufb3e\u8000"+
-		"\ufb40\u8000\ufb41\u8000\ufb43\u8000\ufb44\u8000\ufb46\u8000\ufbb1\u8000"+
-		"\ufbd3\u8000\ufd3d\u8000\ufd50\u8000\ufd8f\u8000\ufd92\u8000\ufdc7\u8000"+
-		"\ufdf0\u8000\ufdfb\u8000\ufe70\u8000\ufe74\u8000\ufe76\u8000\ufefc\u8000"+
-		"\uff21\u8000\uff3a\u8000\uff41\u8000\uff5a\u8000\uff66\u8000\uffbe\u8000"+
-		"\uffc2\u8000\uffc7\u8000\uffca\u8000\uffcf\u8000\uffd2\u8000\uffd7\u8000"+
-		"\uffda\u8000\uffdc\u8001\u0000\u8001\u000b\u8001\r\u8001&\u8001(\u8001"+
-		":\u8001<\u8001=\u8001?\u8001M\u8001P\u8001]\u8001\u0080\u8001\u00fa\u8001"+
-		"\u0140\u8001\u0174\u8001\u0280\u8001\u029c\u8001\u02a0\u8001\u02d0\u8001"+
-		"\u0300\u8001\u031f\u8001\u032d\u8001\u034a\u8001\u0350\u8001\u0375\u8001"+
-		"\u0380\u8001\u039d\u8001\u03a0\u8001\u03c3\u8001\u03c8\u8001\u03cf\u8001"+
-		"\u03d1\u8001\u03d5\u8001\u0400\u8001\u049d\u8001\u04b0\u8001\u04d3\u8001"+
-		"\u04d8\u8001\u04fb\u8001\u0500\u8001\u0527\u8001\u0530\u8001\u0563\u8001"+
-		"\u0570\u8001\u057a\u8001\u057c\u8001\u058a\u8001\u058c\u8001\u0592\u8001"+
-		"\u0594\u8001\u0595\u8001\u0597\u8001\u05a1\u8001\u05a3\u8001\u05b1\u8001"+
-		"\u05b3\u8001\u05b9\u8001\u05bb\u8001\u05bc\u8001\u0600\u8001\u0736\u8001"+
-		"\u0740\u8001\u0755\u8001\u0760\u8001\u0767\u8001\u0780\u8001\u0785\u8001"+
-		"\u0787\u8001\u07b0\u8001\u07b2\u8001\u07ba\u8001\u0800\u8001\u0805\u8001"+
-		"\u0808\u8001\u0808\u8001\u080a\u8001\u0835\u8001\u0837\u8001\u0838\u8001"+
-		"\u083c\u8001\u083c\u8001\u083f\u8001\u0855\u8001\u0860\u8001\u0876\u8001"+
-		"\u0880\u8001\u089e\u8001\u08e0\u8001\u08f2\u8001\u08f4\u8001\u08f5\u8001"+
-		"\u0900\u8001\u0915\u8001\u0920\u8001\u0939\u8001\u0980\u8001\u09b7\u8001"+
-		"\u09be\u8001\u09bf\u8001\u0a00\u8001\u0a00\u8001\u0a10\u8001\u0a13\u8001"+
-		"\u0a15\u8001\u0a17\u8001\u0a19\u8001\u0a35\u8001\u0a60\u8001\u0a7c\u8001"+
-		"\u0a80\u8001\u0a9c\u8001\u0ac0\u8001\u0ac7\u8001\u0ac9\u8001\u0ae4\u8001"+
-		"\u0b00\u8001\u0b35\u8001\u0b40\u8001\u0b55\u8001\u0b60\u8001\u0b72\u8001"+
-		"\u0b80\u8001\u0b91\u8001\u0c00\u8001\u0c48\u8001\u0c80\u8001\u0cb2\u8001"+
-		"\u0cc0\u8001\u0cf2\u8001\u0d00\u8001\u0d23\u8001\u0e80\u8001\u0ea9\u8001"+
-		"\u0eb0\u8001\u0eb1\u8001\u0f00\u8001\u0f1c\u8001\u0f27\u8001\u0f27\u8001"+
-		"\u0f30\u8001\u0f45\u8001\u0f70\u8001\u0f81\u8001\u0fb0\u8001\u0fc4\u8001"+
-		"\u0fe0\u8001\u0ff6\u8001\u1003\u8001\u1037\u8001\u1071\u8001\u1072\u8001"+
-		"\u1075\u8001\u1075\u8001\u1083\u8001\u10af\u8001\u10d0\u8001\u10e8\u8001"+
-		"\u1103\u8001\u1126\u8001\u1144\u8001\u1144\u8001\u1147\u8001\u1147\u8001"+
-		"\u1150\u8001\u1172\u8001\u1176\u8001\u1176\u8001\u1183\u8001\u11b2\u8001"+
-		"\u11c1\u8001\u11c4\u8001\u11da\u8001\u11da\u8001\u11dc\u8001\u11dc\u8001"+
-		"\u1200\u8001\u1211\u8001\u1213\u8001\u122b\u8001\u123f\u8001\u1240\u8001"+
-		"\u1280\u8001\u1286\u8001\u1288\u8001\u1288\u8001\u128a\u8001\u128d\u8001"+
-		"\u128f\u8001\u129d\u8001\u129f\u8001\u12a8\u8001\u12b0\u8001\u12de\u8001"+
-		"\u1305\u8001\u130c\u8001\u130f\u8001\u1310\u8001\u1313\u8001\u1328\u8001"+
-		"\u132a\u8001\u1330\u8001\u1332\u8001\u1333\u8001\u1335\u8001\u1339\u8001"+
-		"\u133d\u8001\u133d\u8001\u1350\u8001\u1350\u8001\u135d\u8001\u1361\u8001"+
-		"\u1400\u8001\u1434\u8001\u1447\u8001\u144a\u8001\u145f\u8001\u1461\u8001"+
-		"\u1480\u8001\u14af\u8001\u14c4\u8001\u14c5\u8001\u14c7\u8001\u14c7\u8001"+
-		"\u1580\u8001\u15ae\u8001\u15d8\u8001\u15db\u8001\u1600\u8001\u162f\u8001"+
-		"\u1644\u8001\u1644\u8001\u1680\u8001\u16aa\u8001\u16b8\u8001\u16b8\u8001"+
-		"\u1700\u8001\u171a\u8001\u1740\u8001\u1746\u8001\u1800\u8001\u182b\u8001"+
-		"\u18a0\u8001\u18df\u8001\u18ff\u8001\u1906\u8001\u1909\u8001\u1909\u8001"+
-		"\u190c\u8001\u1913\u8001\u1915\u8001\u1916\u8001\u1918\u8001\u192f\u8001"+
-		"\u193f\u8001\u193f\u8001\u1941\u8001\u1941\u8001\u19a0\u8001\u19a7\u8001"+
-		"\u19aa\u8001\u19d0\u8001\u19e1\u8001\u19e1\u8001\u19e3\u8001\u19e3\u8001"+
-		"\u1a00\u8001\u1a00\u8001\u1a0b\u8001\u1a32\u8001\u1a3a\u8001\u1a3a\u8001"+
-		"\u1a50\u8001\u1a50\u8001\u1a5c\u8001\u1a89\u8001\u1a9d\u8001\u1a9d\u8001"+
-		"\u1ab0\u8001\u1af8\u8001\u1c00\u8001\u1c08\u8001\u1c0a\u8001\u1c2e\u8001"+
-		"\u1c40\u8001\u1c40\u8001\u1c72\u8001\u1c8f\u8001\u1d00\u8001\u1d06\u8001"+
-		"\u1d08\u8001\u1d09\u8001\u1d0b\u8001\u1d30\u8001\u1d46\u8001\u1d46\u8001"+
-		"\u1d60\u8001\u1d65\u8001\u1d67\u8001\u1d68\u8001\u1d6a\u8001\u1d89\u8001"+
-		"\u1d98\u8001\u1d98\u8001\u1ee0\u8001\u1ef2\u8001\u1f02\u8001\u1f02\u8001"+
-		"\u1f04\u8001\u1f10\u8001\u1f12\u8001\u1f33\u8001\u1fb0\u8001\u1fb0\u8001"+
-		"\u2000\u8001\u2399\u8001\u2400\u8001\u246e\u8001\u2480\u8001\u2543\u8001"+
-		"\u2f90\u8001\u2ff0\u8001\u3000\u8001\u342f\u8001\u3441\u8001\u3446\u8001"+
-		"\u4400\u8001\u4646\u8001\u6800\u8001\u6a38\u8001\u6a40\u8001\u6a5e\u8001"+
-		"\u6a70\u8001\u6abe\u8001\u6ad0\u8001\u6aed\u8001\u6b00\u8001\u6b2f\u8001"+
-		"\u6b40\u8001\u6b43\u8001\u6b63\u8001\u6b77\u8001\u6b7d\u8001\u6b8f\u8001"+
-		"\u6e40\u8001\u6e7f\u8001\u6f00\u8001\u6f4a\u8001\u6f50\u8001\u6f50\u8001"+
-		"\u6f93\u8001\u6f9f\u8001\u6fe0\u8001\u6fe1\u8001\u6fe3\u8001\u6fe3\u8001"+
-		"\u7000\u8001\u87f7\u8001\u8800\u8001\u8cd5\u8001\u8d00\u8001\u8d08\u8001"+
-		"\uaff0\u8001\uaff3\u8001\uaff5\u8001\uaffb\u8001\uaffd\u8001\uaffe\u8001"+
-		"\ub000\u8001\ub122\u8001\ub132\u8001\ub132\u8001\ub150\u8001\ub152\u8001"+
-		"\ub155\u8001\ub155\u8001\ub164\u8001\ub167\u8001\ub170\u8001\ub2fb\u8001"+
-		"\ubc00\u8001\ubc6a\u8001\ubc70\u8001\ubc7c\u8001\ubc80\u8001\ubc88\u8001"+
-		"\ubc90\u8001\ubc99\u8001\ud400\u8001\ud454\u8001\ud456\u8001\ud49c\u8001"+
-		"\ud49e\u8001\ud49f\u8001\ud4a2\u8001\ud4a2\u8001\ud4a5\u8001\ud4a6\u8001"+
-		"\ud4a9\u8001\ud4ac\u8001\ud4ae\u8001\ud4b9\u8001\ud4bb\u8001\ud4bb\u8001"+
-		"\ud4bd\u8001\ud4c3\u8001\ud4c5\u8001\ud505\u8001\ud507\u8001\ud50a\u8001"+
-		"\ud50d\u8001\ud514\u8001\ud516\u8001\ud51c\u8001\ud51e\u8001\ud539\u8001"+
-		"\ud53b\u8001\ud53e\u8001\ud540\u8001\ud544\u8001\ud546\u8001\ud546\u8001"+
-		"\ud54a\u8001\ud550\u8001\ud552\u8001\ud6a5\u8001\ud6a8\u8001\ud6c0\u8001"+
-		"\ud6c2\u8001\ud6da\u8001\ud6dc\u8001\ud6fa\u8001\ud6fc\u8001\ud714\u8001"+
-		"\ud716\u8001\ud734\u8001\ud736\u8001\ud74e\u8001\ud750\u8001\ud76e\u8001"+
-		"\ud770\u8001\ud788\u8001\ud78a\u8001\ud7a8\u8001\ud7aa\u8001\ud7c2\u8001"+
-		"\ud7c4\u8001\ud7cb\u8001\udf00\u8001\udf1e\u8001\udf25\u8001\udf2a\u8001"+
-		"\ue030\u8001\ue06d\u8001\ue100\u8001\ue12c\u8001\ue137\u8001\ue13d\u8001"+
-		"\ue14e\u8001\ue14e\u8001\ue290\u8001\ue2ad\u8001\ue2c0\u8001\ue2eb\u8001"+
-		"\ue4d0\u8001\ue4eb\u8001\ue7e0\u8001\ue7e6\u8001\ue7e8\u8001\ue7eb\u8001"+
-		"\ue7ed\u8001\ue7ee\u8001\ue7f0\u8001\ue7fe\u8001\ue800\u8001\ue8c4\u8001"+
-		"\ue900\u8001\ue943\u8001\ue94b\u8001\ue94b\u8001\uee00\u8001\uee03\u8001"+
-		"\uee05\u8001\uee1f\u8001\uee21\u8001\uee22\u8001\uee24\u8001\uee24\u8001"+
-		"\uee27\u8001\uee27\u8001\uee29\u8001\uee32\u8001\uee34\u8001\uee37\u8001"+
-		"\uee39\u8001\uee39\u8001\uee3b\u8001\uee3b\u8001\uee42\u8001\uee42\u8001"+
-		"\uee47\u8001\uee47\u8001\uee49\u8001\uee49\u8001\uee4b\u8001\uee4b\u8001"+
-		"\uee4d\u8001\uee4f\u8001\uee51\u8001\uee52\u8001\uee54\u8001\uee54\u8001"+
-		"\uee57\u8001\uee57\u8001\uee59\u8001\uee59\u8001\uee5b\u8001\uee5b\u8001"+
-		"\uee5d\u8001\uee5d\u8001\uee5f\u8001\uee5f\u8001\uee61\u8001\uee62\u8001"+
-		"\uee64\u8001\uee64\u8001\uee67\u8001\uee6a\u8001\uee6c\u8001\uee72\u8001"+
-		"\uee74\u8001\uee77\u8001\uee79\u8001\uee7c\u8001\uee7e\u8001\uee7e\u8001"+
-		"\uee80\u8001\uee89\u8001\uee8b\u8001\uee9b\u8001\ueea1\u8001\ueea3\u8001"+
-		"\ueea5\u8001\ueea9\u8001\ueeab\u8001\ueebb\u8002\u0000\u8002\ua6df\u8002"+
-		"\ua700\u8002\ub739\u8002\ub740\u8002\ub81d\u8002\ub820\u8002\ucea1\u8002"+
-		"\uceb0\u8002\uebe0\u8002\uf800\u8002\ufa1d\u8003\u0000\u8003\u134a\u8003"+
-		"\u1350\u8003\u23af\u0174\u000009__\u0300\u036f\u0483\u0487\u0591\u05bd"+
-		"\u05bf\u05bf\u05c1\u05c2\u05c4\u05c5\u05c7\u05c7\u0610\u061a\u064b\u0669"+
-		"\u0670\u0670\u06d6\u06dc\u06df\u06e4\u06e7\u06e8\u06ea\u06ed\u06f0\u06f9"+
-		"\u0711\u0711\u0730\u074a\u07a6\u07b0\u07c0\u07c9\u07eb\u07f3\u07fd\u07fd"+
-		"\u0816\u0819\u081b\u0823\u0825\u0827\u0829\u082d\u0859\u085b\u0898\u089f"+
-		"\u08ca\u08e1\u08e3\u0903\u093a\u093c\u093e\u094f\u0951\u0957\u0962\u0963"+
-		"\u0966\u096f\u0981\u0983\u09bc\u09bc\u09be\u09c4\u09c7\u09c8\u09cb\u09cd"+
-		"\u09d7\u09d7\u09e2\u09e3\u09e6\u09ef\u09fe\u09fe\u0a01\u0a03\u0a3c\u0a3c"+
-		"\u0a3e\u0a42\u0a47\u0a48\u0a4b\u0a4d\u0a51\u0a51\u0a66\u0a71\u0a75\u0a75"+
-		"\u0a81\u0a83\u0abc\u0abc\u0abe\u0ac5\u0ac7\u0ac9\u0acb\u0acd\u0ae2\u0ae3"+
-		"\u0ae6\u0aef\u0afa\u0aff\u0b01\u0b03\u0b3c\u0b3c\u0b3e\u0b44\u0b47\u0b48"+
-		"\u0b4b\u0b4d\u0b55\u0b57\u0b62\u0b63\u0b66\u0b6f\u0b82\u0b82\u0bbe\u0bc2"+
-		"\u0bc6\u0bc8\u0bca\u0bcd\u0bd7\u0bd7\u0be6\u0bef\u0c00\u0c04\u0c3c\u0c3c"+
-		"\u0c3e\u0c44\u0c46\u0c48\u0c4a\u0c4d\u0c55\u0c56\u0c62\u0c63\u0c66\u0c6f"+
-		"\u0c81\u0c83\u0cbc\u0cbc\u0cbe\u0cc4\u0cc6\u0cc8\u0cca\u0ccd\u0cd5\u0cd6"+
-		"\u0ce2\u0ce3\u0ce6\u0cef\u0cf3\u0cf3\u0d00\u0d03\u0d3b\u0d3c\u0d3e\u0d44"+
-		"\u0d46\u0d48\u0d4a\u0d4d\u0d57\u0d57\u0d62\u0d63\u0d66\u0d6f\u0d81\u0d83"+
-		"\u0dca\u0dca\u0dcf\u0dd4\u0dd6\u0dd6\u0dd8\u0ddf\u0de6\u0def\u0df2\u0df3"+
-		"\u0e31\u0e31\u0e34\u0e3a\u0e47\u0e4e\u0e50\u0e59\u0eb1\u0eb1\u0eb4\u0ebc"+
-		"\u0ec8\u0ece\u0ed0\u0ed9\u0f18\u0f19\u0f20\u0f29\u0f35\u0f35\u0f37\u0f37"+
-		"\u0f39\u0f39\u0f3e\u0f3f\u0f71\u0f84\u0f86\u0f87\u0f8d\u0f97\u0f99\u0fbc"+
-		"\u0fc6\u0fc6\u102b\u103e\u1040\u1049\u1056\u1059\u105e\u1060\u1062\u1064"+
-		"\u1067\u106d\u1071\u1074\u1082\u108d\u108f\u109d\u135d\u135f\u1712\u1715"+
-		"\u1732\u1734\u1752\u1753\u1772\u1773\u17b4\u17d3\u17dd\u17dd\u17e0\u17e9"+
-		"\u180b\u180d\u180f\u1819\u1885\u1886\u18a9\u18a9\u1920\u192b\u1930\u193b"+
-		"\u1946\u194f\u19d0\u19d9\u1a17\u1a1b\u1a55\u1a5e\u1a60\u1a7c\u1a7f\u1a89"+
-		"\u1a90\u1a99\u1ab0\u1abd\u1abf\u1ace\u1b00\u1b04\u1b34\u1b44\u1b50\u1b59"+
-		"\u1b6b\u1b73\u1b80\u1b82\u1ba1\u1bad\u1bb0\u1bb9\u1be6\u1bf3\u1c24\u1c37"+
-		"\u1c40\u1c49\u1c50\u1c59\u1cd0\u1cd2\u1cd4\u1ce8\u1ced\u1ced\u1cf4\u1cf4"+
-		"\u1cf7\u1cf9\u1dc0\u1dff\u203f\u2040\u2054\u2054\u20d0\u20dc\u20e1\u20e1"+
-		"\u20e5\u20f0\u2cef\u2cf1\u2d7f\u2d7f\u2de0\u2dff\u302a\u302f\u3099\u309a"+
-		"\u8000\ua620\u8000\ua629\u8000\ua66f\u8000\ua66f\u8000\ua674\u8000\ua67d"+
-		"\u8000\ua69e\u8000\ua69f\u8000\ua6f0\u8000\ua6f1\u8000\ua802\u8000\ua802"+
-		"\u8000\ua806\u8000\ua806\u8000\ua80b\u8000\ua80b\u8000\ua823\u8000\ua827"+
-		"\u8000\ua82c\u8000\ua82c\u8000\ua880\u8000\ua881\u8000\ua8b4\u8000\ua8c5"+
-		"\u8000\ua8d0\u8000\ua8d9\u8000\ua8e0\u8000\ua8f1\u8000\ua8ff\u8000\ua909"+
-		"\u8000\ua926\u8000\ua92d\u8000\ua947\u8000\ua953\u8000\ua980\u8000\ua983"+
-		"\u8000\ua9b3\u8000\ua9c0\u8000\ua9d0\u8000\ua9d9\u8000\ua9e5\u8000\ua9e5"+
-		"\u8000\ua9f0\u8000\ua9f9\u8000\uaa29\u8000\uaa36\u8000\uaa43\u8000\uaa43"+
-		"\u8000\uaa4c\u8000\uaa4d\u8000\uaa50\u8000\uaa59\u8000\uaa7b\u8000\uaa7d"+
-		"\u8000\uaab0\u8000\uaab0\u8000\uaab2\u8000\uaab4\u8000\uaab7\u8000\uaab8"+
-		"\u8000\uaabe\u8000\uaabf\u8000\uaac1\u8000\uaac1\u8000\uaaeb\u8000\uaaef"+
-		"\u8000\uaaf5\u8000\uaaf6\u8000\uabe3\u8000\uabea\u8000\uabec\u8000\uabed"+
-		"\u8000\uabf0\u8000\uabf9\u8000\ufb1e\u8000\ufb1e\u8000\ufe00\u8000\ufe0f"+
-		"\u8000\ufe20\u8000\ufe2f\u8000\ufe33\u8000\ufe34\u8000\ufe4d\u8000\ufe4f"+
-		"\u8000\uff10\u8000\uff19\u8000\uff3f\u8000\uff3f\u8001\u01fd\u8001\u01fd"+
-		"\u8001\u02e0\u8001\u02e0\u8001\u0376\u8001\u037a\u8001\u04a0\u8001\u04a9"+
-		"\u8001\u0a01\u8001\u0a03\u8001\u0a05\u8001\u0a06\u8001\u0a0c\u8001\u0a0f"+
-		"\u8001\u0a38\u8001\u0a3a\u8001\u0a3f\u8001\u0a3f\u8001\u0ae5\u8001\u0ae6"+
-		"\u8001\u0d24\u8001\u0d27\u8001\u0d30\u8001\u0d39\u8001\u0eab\u8001\u0eac"+
-		"\u8001\u0efd\u8001\u0eff\u8001\u0f46\u8001\u0f50\u8001\u0f82\u8001\u0f85"+
-		"\u8001\u1000\u8001\u1002\u8001\u1038\u8001\u1046\u8001\u1066\u8001\u1070"+
-		"\u8001\u1073\u8001\u1074\u8001\u107f\u8001\u1082\u8001\u10b0\u8001\u10ba"+
-		"\u8001\u10c2\u8001\u10c2\u8001\u10f0\u8001\u10f9\u8001\u1100\u8001\u1102"+
-		"\u8001\u1127\u8001\u1134\u8001\u1136\u8001\u113f\u8001\u1145\u8001\u1146"+
-		"\u8001\u1173\u8001\u1173\u8001\u1180\u8001\u1182\u8001\u11b3\u8001\u11c0"+
-		"\u8001\u11c9\u8001\u11cc\u8001\u11ce\u8001\u11d9\u8001\u122c\u8001\u1237"+
-		"\u8001\u123e\u8001\u123e\u8001\u1241\u8001\u1241\u8001\u12df\u8001\u12ea"+
-		"\u8001\u12f0\u8001\u12f9\u8001\u1300\u8001\u1303\u8001\u133b\u8001\u133c"+
-		"\u8001\u133e\u8001\u1344\u8001\u1347\u8001\u1348\u8001\u134b\u8001\u134d"+
-		"\u8001\u1357\u8001\u1357\u8001\u1362\u8001\u1363\u8001\u1366\u8001\u136c"+
-		"\u8001\u1370\u8001\u1374\u8001\u1435\u8001\u1446\u8001\u1450\u8001\u1459"+
-		"\u8001\u145e\u8001\u145e\u8001\u14b0\u8001\u14c3\u8001\u14d0\u8001\u14d9"+
-		"\u8001\u15af\u8001\u15b5\u8001\u15b8\u8001\u15c0\u8001\u15dc\u8001\u15dd"+
-		"\u8001\u1630\u8001\u1640\u8001\u1650\u8001\u1659\u8001\u16ab\u8001\u16b7"+
-		"\u8001\u16c0\u8001\u16c9\u8001\u171d\u8001\u172b\u8001\u1730\u8001\u1739"+
-		"\u8001\u182c\u8001\u183a\u8001\u18e0\u8001\u18e9\u8001\u1930\u8001\u1935"+
-		"\u8001\u1937\u8001\u1938\u8001\u193b\u8001\u193e\u8001\u1940\u8001\u1940"+
-		"\u8001\u1942\u8001\u1943\u8001\u1950\u8001\u1959\u8001\u19d1\u8001\u19d7"+
-		"\u8001\u19da\u8001\u19e0\u8001\u19e4\u8001\u19e4\u8001\u1a01\u8001\u1a0a"+
-		"\u8001\u1a33\u8001\u1a39\u8001\u1a3b\u8001\u1a3e\u8001\u1a47\u8001\u1a47"+
-		"\u8001\u1a51\u8001\u1a5b\u8001\u1a8a\u8001\u1a99\u8001\u1c2f\u8001\u1c36"+
-		"\u8001\u1c38\u8001\u1c3f\u8001\u1c50\u8001\u1c59\u8001\u1c92\u8001\u1ca7"+
-		"\u8001\u1ca9\u8001\u1cb6\u8001\u1d31\u8001\u1d36\u8001\u1d3a\u8001\u1d3a"+
-		"\u8001\u1d3c\u8001\u1d3d\u8001\u1d3f\u8001\u1d45\u8001\u1d47\u8001\u1d47"+
-		"\u8001\u1d50\u8001\u1d59\u8001\u1d8a\u8001\u1d8e\u8001\u1d90\u8001\u1d91"+
-		"\u8001\u1d93\u8001\u1d97\u8001\u1da0\u8001\u1da9\u8001\u1ef3\u8001\u1ef6"+
-		"\u8001\u1f00\u8001\u1f01\u8001\u1f03\u8001\u1f03\u8001\u1f34\u8001\u1f3a"+
-		"\u8001\u1f3e\u8001\u1f42\u8001\u1f50\u8001\u1f59\u8001\u3440\u8001\u3440"+
-		"\u8001\u3447\u8001\u3455\u8001\u6a60\u8001\u6a69\u8001\u6ac0\u8001\u6ac9"+
-		"\u8001\u6af0\u8001\u6af4\u8001\u6b30\u8001\u6b36\u8001\u6b50\u8001\u6b59"+
-		"\u8001\u6f4f\u8001\u6f4f\u8001\u6f51\u8001\u6f87\u8001\u6f8f\u8001\u6f92"+
-		"\u8001\u6fe4\u8001\u6fe4\u8001\u6ff0\u8001\u6ff1\u8001\ubc9d\u8001\ubc9e"+
-		"\u8001\ucf00\u8001\ucf2d\u8001\ucf30\u8001\ucf46\u8001\ud165\u8001\ud169"+
-		"\u8001\ud16d\u8001\ud172\u8001\ud17b\u8001\ud182\u8001\ud185\u8001\ud18b"+
-		"\u8001\ud1aa\u8001\ud1ad\u8001\ud242\u8001\ud244\u8001\ud7ce\u8001\ud7ff"+
-		"\u8001\uda00\u8001\uda36\u8001\uda3b\u8001\uda6c\u8001\uda75\u8001\uda75"+
-		"\u8001\uda84\u8001\uda84\u8001\uda9b\u8001\uda9f\u8001\udaa1\u8001\udaaf"+
-		"\u8001\ue000\u8001\ue006\u8001\ue008\u8001\ue018\u8001\ue01b\u8001\ue021"+
-		"\u8001\ue023\u8001\ue024\u8001\ue026\u8001\ue02a\u8001\ue08f\u8001\ue08f"+
-		"\u8001\ue130\u8001\ue136\u8001\ue140\u8001\ue149\u8001\ue2ae\u8001\ue2ae"+
-		"\u8001\ue2ec\u8001\ue2f9\u8001\ue4ec\u8001\ue4f9\u8001\ue8d0\u8001\ue8d6"+
-		"\u8001\ue944\u8001\ue94a\u8001\ue950\u8001\ue959\u8001\ufbf0\u8001\ufbf9"+
-		"\u800e\u0100\u800e\u01ef\u0004\u0000\u1885\u1886\u2118\u2118\u212e\u212e"+
-		"\u309b\u309c\u0004\u0000\u00b7\u00b7\u0387\u0387\u1369\u1371\u19da\u19da"+
-		"\u0002\u0000!!//\u0002\u0000\n\n\r\r\u0002\u0000!!**\u0001\u0000**\u0001"+
-		"\u0000//\u0007\u0000  \u00a0\u00a0\u1680\u1680\u2000\u200a\u202f\u202f"+
-		"\u205f\u205f\u3000\u3000\u0004\u0000\t\n\r\r\'\'\\\\\u0001\u0000\"\"\u0005"+
-		"\u000000\\\\nnrrtt\u0002\u0000\"\"\'\'\u0001\u000001\u0002\u000001__\u0002"+
-		"\u0000EEee\u0002\u0000++--\u0001\u000007\u0001\u000009\u0003\u000009A"+
-		"Faf\u04e4\u0000\u0001\u0001\u0000\u0000\u0000\u0000\u0003\u0001\u0000"+
-		"\u0000\u0000\u0000\u0005\u0001\u0000\u0000\u0000\u0000\u0007\u0001\u0000"+
-		"\u0000\u0000\u0000\t\u0001\u0000\u0000\u0000\u0000\u000b\u0001\u0000\u0000"+
-		"\u0000\u0000\r\u0001\u0000\u0000\u0000\u0000\u000f\u0001\u0000\u0000\u0000"+
-		"\u0000\u0011\u0001\u0000\u0000\u0000\u0000\u0013\u0001\u0000\u0000\u0000"+
-		"\u0000\u0015\u0001\u0000\u0000\u0000\u0000\u0017\u0001\u0000\u0000\u0000"+
-		"\u0000\u0019\u0001\u0000\u0000\u0000\u0000\u001b\u0001\u0000\u0000\u0000"+
-		"\u0000\u001d\u0001\u0000\u0000\u0000\u0000\u001f\u0001\u0000\u0000\u0000"+
-		"\u0000!\u0001\u0000\u0000\u0000\u0000#\u0001\u0000\u0000\u0000\u0000%"+
-		"\u0001\u0000\u0000\u0000\u0000\'\u0001\u0000\u0000\u0000\u0000)\u0001"+
-		"\u0000\u0000\u0000\u0000+\u0001\u0000\u0000\u0000\u0000-\u0001\u0000\u0000"+
-		"\u0000\u0000/\u0001\u0000\u0000\u0000\u00001\u0001\u0000\u0000\u0000\u0000"+
-		"3\u0001\u0000\u0000\u0000\u00005\u0001\u0000\u0000\u0000\u00007\u0001"+
-		"\u0000\u0000\u0000\u00009\u0001\u0000\u0000\u0000\u0000;\u0001\u0000\u0000"+
-		"\u0000\u0000=\u0001\u0000\u0000\u0000\u0000?\u0001\u0000\u0000\u0000\u0000"+
-		"A\u0001\u0000\u0000\u0000\u0000C\u0001\u0000\u0000\u0000\u0000E\u0001"+
-		"\u0000\u0000\u0000\u0000G\u0001\u0000\u0000\u0000\u0000I\u0001\u0000\u0000"+
-		"\u0000\u0000K\u0001\u0000\u0000\u0000\u0000M\u0001\u0000\u0000\u0000\u0000"+
-		"O\u0001\u0000\u0000\u0000\u0000Q\u0001\u0000\u0000\u0000\u0000S\u0001"+
-		"\u0000\u0000\u0000\u0000U\u0001\u0000\u0000\u0000\u0000W\u0001\u0000\u0000"+
-		"\u0000\u0000Y\u0001\u0000\u0000\u0000\u0000[\u0001\u0000\u0000\u0000\u0000"+
-		"]\u0001\u0000\u0000\u0000\u0000_\u0001\u0000\u0000\u0000\u0000a\u0001"+
-		"\u0000\u0000\u0000\u0000c\u0001\u0000\u0000\u0000\u0000e\u0001\u0000\u0000"+
-		"\u0000\u0000g\u0001\u0000\u0000\u0000\u0000i\u0001\u0000\u0000\u0000\u0000"+
-		"k\u0001\u0000\u0000\u0000\u0000m\u0001\u0000\u0000\u0000\u0000o\u0001"+
-		"\u0000\u0000\u0000\u0000q\u0001\u0000\u0000\u0000\u0000{\u0001\u0000\u0000"+
-		"\u0000\u0000}\u0001\u0000\u0000\u0000\u0000\u007f\u0001\u0000\u0000\u0000"+
-		"\u0000\u0081\u0001\u0000\u0000\u0000\u0000\u0083\u0001\u0000\u0000\u0000"+
-		"\u0000\u0085\u0001\u0000\u0000\u0000\u0000\u0087\u0001\u0000\u0000\u0000"+
-		"\u0000\u0089\u0001\u0000\u0000\u0000\u0000\u008b\u0001\u0000\u0000\u0000"+
-		"\u0000\u008d\u0001\u0000\u0000\u0000\u0000\u008f\u0001\u0000\u0000\u0000"+
-		"\u0000\u0091\u0001\u0000\u0000\u0000\u0000\u0093\u0001\u0000\u0000\u0000"+
-		"\u0000\u0095\u0001\u0000\u0000\u0000\u0000\u0099\u0001\u0000\u0000\u0000"+
-		"\u0000\u009b\u0001\u0000\u0000\u0000\u0000\u009d\u0001\u0000\u0000\u0000"+
-		"\u0000\u00ab\u0001\u0000\u0000\u0000\u0000\u00ad\u0001\u0000\u0000\u0000"+
-		"\u0000\u00af\u0001\u0000\u0000\u0000\u0000\u00b1\u0001\u0000\u0000\u0000"+
-		"\u0000\u00b3\u0001\u0000\u0000\u0000\u0000\u00b5\u0001\u0000\u0000\u0000"+
-		"\u0000\u00c3\u0001\u0000\u0000\u0000\u0000\u00c5\u0001\u0000\u0000\u0000"+
-		"\u0000\u00c7\u0001\u0000\u0000\u0000\u0000\u00c9\u0001\u0000\u0000\u0000"+
-		"\u0000\u00cb\u0001\u0000\u0000\u0000\u0000\u00cd\u0001\u0000\u0000\u0000"+
-		"\u0000\u00cf\u0001\u0000\u0000\u0000\u0000\u00d1\u0001\u0000\u0000\u0000"+
-		"\u0000\u00d3\u0001\u0000\u0000\u0000\u0000\u00d5\u0001\u0000\u0000\u0000"+
-		"\u0000\u00d7\u0001\u0000\u0000\u0000\u0000\u00d9\u0001\u0000\u0000\u0000"+
-		"\u0000\u00db\u0001\u0000\u0000\u0000\u0000\u00dd\u0001\u0000\u0000\u0000"+
-		"\u0000\u00df\u0001\u0000\u0000\u0000\u0000\u00e1\u0001\u0000\u0000\u0000"+
-		"\u0000\u00e3\u0001\u0000\u0000\u0000\u0000\u00e5\u0001\u0000\u0000\u0000"+
-		"\u0000\u00e7\u0001\u0000\u0000\u0000\u0000\u00e9\u0001\u0000\u0000\u0000"+
-		"\u0000\u00eb\u0001\u0000\u0000\u0000\u0000\u00ed\u0001\u0000\u0000\u0000"+
-		"\u0000\u00ef\u0001\u0000\u0000\u0000\u0000\u00f1\u0001\u0000\u0000\u0000"+
-		"\u0000\u00f3\u0001\u0000\u0000\u0000\u0000\u00f5\u0001\u0000\u0000\u0000"+
-		"\u0000\u00f7\u0001\u0000\u0000\u0000\u0000\u00f9\u0001\u0000\u0000\u0000"+
-		"\u0000\u00fb\u0001\u0000\u0000\u0000\u0000\u00fd\u0001\u0000\u0000\u0000"+
-		"\u0000\u00ff\u0001\u0000\u0000\u0000\u0000\u0101\u0001\u0000\u0000\u0000"+
-		"\u0000\u0103\u0001\u0000\u0000\u0000\u0000\u0105\u0001\u0000\u0000\u0000"+
-		"\u0000\u0107\u0001\u0000\u0000\u0000\u0000\u0109\u0001\u0000\u0000\u0000"+
-		"\u0000\u010b\u0001\u0000\u0000\u0000\u0000\u010d\u0001\u0000\u0000\u0000"+
-		"\u0000\u010f\u0001\u0000\u0000\u0000\u0000\u0111\u0001\u0000\u0000\u0000"+
-		"\u0000\u0113\u0001\u0000\u0000\u0000\u0000\u0115\u0001\u0000\u0000\u0000"+
-		"\u0000\u0117\u0001\u0000\u0000\u0000\u0000\u0119\u0001\u0000\u0000\u0000"+
-		"\u0000\u011b\u0001\u0000\u0000\u0000\u0000\u011d\u0001\u0000\u0000\u0000"+
-		"\u0000\u011f\u0001\u0000\u0000\u0000\u0000\u0121\u0001\u0000\u0000\u0000"+
-		"\u0000\u0123\u0001\u0000\u0000\u0000\u0000\u0125\u0001\u0000\u0000\u0000"+
-		"\u0001\u0127\u0001\u0000\u0000\u0000\u0003\u012a\u0001\u0000\u0000\u0000"+
-		"\u0005\u0130\u0001\u0000\u0000\u0000\u0007\u0136\u0001\u0000\u0000\u0000"+
-		"\t\u013f\u0001\u0000\u0000\u0000\u000b\u0145\u0001\u0000\u0000\u0000\r"+
-		"\u014a\u0001\u0000\u0000\u0000\u000f\u014f\u0001\u0000\u0000\u0000\u0011"+
-		"\u0156\u0001\u0000\u0000\u0000\u0013\u015c\u0001\u0000\u0000\u0000\u0015"+
-		"\u015f\u0001\u0000\u0000\u0000\u0017\u0163\u0001\u0000\u0000\u0000\u0019"+
-		"\u0166\u0001\u0000\u0000\u0000\u001b\u016b\u0001\u0000\u0000\u0000\u001d"+
-		"\u016e\u0001\u0000\u0000\u0000\u001f\u0172\u0001\u0000\u0000\u0000!\u0177"+
-		"\u0001\u0000\u0000\u0000#\u017d\u0001\u0000\u0000\u0000%\u0181\u0001\u0000"+
-		"\u0000\u0000\'\u0186\u0001\u0000\u0000\u0000)\u018a\u0001\u0000\u0000"+
-		"\u0000+\u018e\u0001\u0000\u0000\u0000-\u0192\u0001\u0000\u0000\u0000/"+
-		"\u0199\u0001\u0000\u0000\u00001\u019e\u0001\u0000\u0000\u00003\u01a3\u0001"+
-		"\u0000\u0000\u00005\u01aa\u0001\u0000\u0000\u00007\u01b1\u0001\u0000\u0000"+
-		"\u00009\u01b7\u0001\u0000\u0000\u0000;\u01bd\u0001\u0000\u0000\u0000="+
-		"\u01c2\u0001\u0000\u0000\u0000?\u01c7\u0001\u0000\u0000\u0000A\u01ce\u0001"+
-		"\u0000\u0000\u0000C\u01d2\u0001\u0000\u0000\u0000E\u01d8\u0001\u0000\u0000"+
-		"\u0000G\u01de\u0001\u0000\u0000\u0000I\u01e4\u0001\u0000\u0000\u0000K"+
-		"\u01ea\u0001\u0000\u0000\u0000M\u01ee\u0001\u0000\u0000\u0000O\u01f7\u0001"+
-		"\u0000\u0000\u0000Q\u01fe\u0001\u0000\u0000\u0000S\u0202\u0001\u0000\u0000"+
-		"\u0000U\u0205\u0001\u0000\u0000\u0000W\u020b\u0001\u0000\u0000\u0000Y"+
-		"\u0211\u0001\u0000\u0000\u0000[\u021a\u0001\u0000\u0000\u0000]\u021f\u0001"+
-		"\u0000\u0000\u0000_\u0226\u0001\u0000\u0000\u0000a\u022e\u0001\u0000\u0000"+
-		"\u0000c\u0236\u0001\u0000\u0000\u0000e\u023c\u0001\u0000\u0000\u0000g"+
-		"\u0240\u0001\u0000\u0000\u0000i\u0246\u0001\u0000\u0000\u0000k\u024e\u0001"+
-		"\u0000\u0000\u0000m\u025a\u0001\u0000\u0000\u0000o\u025d\u0001\u0000\u0000"+
-		"\u0000q\u0271\u0001\u0000\u0000\u0000s\u0275\u0001\u0000\u0000\u0000u"+
-		"\u027a\u0001\u0000\u0000\u0000w\u027c\u0001\u0000\u0000\u0000y\u027e\u0001"+
-		"\u0000\u0000\u0000{\u0280\u0001\u0000\u0000\u0000}\u0295\u0001\u0000\u0000"+
-		"\u0000\u007f\u02b4\u0001\u0000\u0000\u0000\u0081\u02b8\u0001\u0000\u0000"+
-		"\u0000\u0083\u02c4\u0001\u0000\u0000\u0000\u0085\u02d4\u0001\u0000\u0000"+
-		"\u0000\u0087\u02e3\u0001\u0000\u0000\u0000\u0089\u02fa\u0001\u0000\u0000"+
-		"\u0000\u008b\u02fe\u0001\u0000\u0000\u0000\u008d\u030d\u0001\u0000\u0000"+
-		"\u0000\u008f\u0314\u0001\u0000\u0000\u0000\u0091\u0318\u0001\u0000\u0000"+
-		"\u0000\u0093\u0321\u0001\u0000\u0000\u0000\u0095\u032e\u0001\u0000\u0000"+
-		"\u0000\u0097\u033d\u0001\u0000\u0000\u0000\u0099\u033f\u0001\u0000\u0000"+
-		"\u0000\u009b\u0349\u0001\u0000\u0000\u0000\u009d\u0356\u0001\u0000\u0000"+
-		"\u0000\u009f\u0362\u0001\u0000\u0000\u0000\u00a1\u036b\u0001\u0000\u0000"+
-		"\u0000\u00a3\u036d\u0001\u0000\u0000\u0000\u00a5\u0370\u0001\u0000\u0000"+
-		"\u0000\u00a7\u0386\u0001\u0000\u0000\u0000\u00a9\u0389\u0001\u0000\u0000"+
-		"\u0000\u00ab\u0390\u0001\u0000\u0000\u0000\u00ad\u0395\u0001\u0000\u0000"+
-		"\u0000\u00af\u039d\u0001\u0000\u0000\u0000\u00b1\u03ae\u0001\u0000\u0000"+
-		"\u0000\u00b3\u03bf\u0001\u0000\u0000\u0000\u00b5\u03cf\u0001\u0000\u0000"+
-		"\u0000\u00b7\u0409\u0001\u0000\u0000\u0000\u00b9\u0411\u0001\u0000\u0000"+
-		"\u0000\u00bb\u0413\u0001\u0000\u0000\u0000\u00bd\u041f\u0001\u0000\u0000"+
-		"\u0000\u00bf\u0421\u0001\u0000\u0000\u0000\u00c1\u0423\u0001\u0000\u0000"+
-		"\u0000\u00c3\u0425\u0001\u0000\u0000\u0000\u00c5\u0428\u0001\u0000\u0000"+
-		"\u0000\u00c7\u042a\u0001\u0000\u0000\u0000\u00c9\u042c\u0001\u0000\u0000"+
-		"\u0000\u00cb\u042e\u0001\u0000\u0000\u0000\u00cd\u0430\u0001\u0000\u0000"+
-		"\u0000\u00cf\u0432\u0001\u0000\u0000\u0000\u00d1\u0434\u0001\u0000\u0000"+
-		"\u0000\u00d3\u0436\u0001\u0000\u0000\u0000\u00d5\u0438\u0001\u0000\u0000"+
-		"\u0000\u00d7\u043a\u0001\u0000\u0000\u0000\u00d9\u043d\u0001\u0000\u0000"+
-		"\u0000\u00db\u0440\u0001\u0000\u0000\u0000\u00dd\u0443\u0001\u0000\u0000"+
-		"\u0000\u00df\u0446\u0001\u0000\u0000\u0000\u00e1\u0449\u0001\u0000\u0000"+
-		"\u0000\u00e3\u044c\u0001\u0000\u0000\u0000\u00e5\u044f\u0001\u0000\u0000"+
-		"\u0000\u00e7\u0452\u0001\u0000\u0000\u0000\u00e9\u0455\u0001\u0000\u0000"+
-		"\u0000\u00eb\u0458\u0001\u0000\u0000\u0000\u00ed\u045c\u0001\u0000\u0000"+
-		"\u0000\u00ef\u0460\u0001\u0000\u0000\u0000\u00f1\u0462\u0001\u0000\u0000"+
-		"\u0000\u00f3\u0465\u0001\u0000\u0000\u0000\u00f5\u0468\u0001\u0000\u0000"+
-		"\u0000\u00f7\u046a\u0001\u0000\u0000\u0000\u00f9\u046c\u0001\u0000\u0000"+
-		"\u0000\u00fb\u046f\u0001\u0000\u0000\u0000\u00fd\u0472\u0001\u0000\u0000"+
-		"\u0000\u00ff\u0474\u0001\u0000\u0000\u0000\u0101\u0476\u0001\u0000\u0000"+
-		"\u0000\u0103\u0478\u0001\u0000\u0000\u0000\u0105\u047b\u0001\u0000\u0000"+
-		"\u0000\u0107\u047f\u0001\u0000\u0000\u0000\u0109\u0483\u0001\u0000\u0000"+
-		"\u0000\u010b\u0485\u0001\u0000\u0000\u0000\u010d\u0487\u0001\u0000\u0000"+
-		"\u0000\u010f\u0489\u0001\u0000\u0000\u0000\u0111\u048c\u0001\u0000\u0000"+
-		"\u0000\u0113\u048f\u0001\u0000\u0000\u0000\u0115\u0492\u0001\u0000\u0000"+
-		"\u0000\u0117\u0494\u0001\u0000\u0000\u0000\u0119\u0496\u0001\u0000\u0000"+
-		"\u0000\u011b\u0498\u0001\u0000\u0000\u0000\u011d\u049a\u0001\u0000\u0000"+
-		"\u0000\u011f\u049c\u0001\u0000\u0000\u0000\u0121\u049e\u0001\u0000\u0000"+
-		"\u0000\u0123\u04a0\u0001\u0000\u0000\u0000\u0125\u04a2\u0001\u0000\u0000"+
-		"\u0000\u0127\u0128\u0005a\u0000\u0000\u0128\u0129\u0005s\u0000\u0000\u0129"+
-		"\u0002\u0001\u0000\u0000\u0000\u012a\u012b\u0005b\u0000\u0000\u012b\u012c"+
-		"\u0005r\u0000\u0000\u012c\u012d\u0005e\u0000\u0000\u012d\u012e\u0005a"+
-		"\u0000\u0000\u012e\u012f\u0005k\u0000\u0000\u012f\u0004\u0001\u0000\u0000"+
-		"\u0000\u0130\u0131\u0005c\u0000\u0000\u0131\u0132\u0005o\u0000\u0000\u0132"+
-		"\u0133\u0005n\u0000\u0000\u0133\u0134\u0005s\u0000\u0000\u0134\u0135\u0005"+
-		"t\u0000\u0000\u0135\u0006\u0001\u0000\u0000\u0000\u0136\u0137\u0005c\u0000"+
-		"\u0000\u0137\u0138\u0005o\u0000\u0000\u0138\u0139\u0005n\u0000\u0000\u0139"+
-		"\u013a\u0005t\u0000\u0000\u013a\u013b\u0005i\u0000\u0000\u013b\u013c\u0005"+
-		"n\u0000\u0000\u013c\u013d\u0005u\u0000\u0000\u013d\u013e\u0005e\u0000"+
-		"\u0000\u013e\b\u0001\u0000\u0000\u0000\u013f\u0140\u0005c\u0000\u0000"+
-		"\u0140\u0141\u0005r\u0000\u0000\u0141\u0142\u0005a\u0000\u0000\u0142\u0143"+
-		"\u0005t\u0000\u0000\u0143\u0144\u0005e\u0000\u0000\u0144\n\u0001\u0000"+
-		"\u0000\u0000\u0145\u0146\u0005e\u0000\u0000\u0146\u0147\u0005l\u0000\u0000"+
-		"\u0147\u0148\u0005s\u0000\u0000\u0148\u0149\u0005e\u0000\u0000\u0149\f"+
-		"\u0001\u0000\u0000\u0000\u014a\u014b\u0005e\u0000\u0000\u014b\u014c\u0005"+
-		"n\u0000\u0000\u014c\u014d\u0005u\u0000\u0000\u014d\u014e\u0005m\u0000"+
-		"\u0000\u014e\u000e\u0001\u0000\u0000\u0000\u014f\u0150\u0005e\u0000\u0000"+
-		"\u0150\u0151\u0005x\u0000\u0000\u0151\u0152\u0005t\u0000\u0000\u0152\u0153"+
-		"\u0005e\u0000\u0000\u0153\u0154\u0005r\u0000\u0000\u0154\u0155\u0005n"+
-		"\u0000\u0000\u0155\u0010\u0001\u0000\u0000\u0000\u0156\u0157\u0005f\u0000"+
-		"\u0000\u0157\u0158\u0005a\u0000\u0000\u0158\u0159\u0005l\u0000\u0000\u0159"+
-		"\u015a\u0005s\u0000\u0000\u015a\u015b\u0005e\u0000\u0000\u015b\u0012\u0001"+
-		"\u0000\u0000\u0000\u015c\u015d\u0005f\u0000\u0000\u015d\u015e\u0005n\u0000"+
-		"\u0000\u015e\u0014\u0001\u0000\u0000\u0000\u015f\u0160\u0005f\u0000\u0000"+
-		"\u0160\u0161\u0005o\u0000\u0000\u0161\u0162\u0005r\u0000\u0000\u0162\u0016"+
-		"\u0001\u0000\u0000\u0000\u0163\u0164\u0005i\u0000\u0000\u0164\u0165\u0005"+
-		"f\u0000\u0000\u0165\u0018\u0001\u0000\u0000\u0000\u0166\u0167\u0005i\u0000"+
-		"\u0000\u0167\u0168\u0005m\u0000\u0000\u0168\u0169\u0005p\u0000\u0000\u0169"+
-		"\u016a\u0005l\u0000\u0000\u016a\u001a\u0001\u0000\u0000\u0000\u016b\u016c"+
-		"\u0005i\u0000\u0000\u016c\u016d\u0005n\u0000\u0000\u016d\u001c\u0001\u0000"+
-		"\u0000\u0000\u016e\u016f\u0005l\u0000\u0000\u016f\u0170\u0005e\u0000\u0000"+
-		"\u0170\u0171\u0005t\u0000\u0000\u0171\u001e\u0001\u0000\u0000\u0000\u0172"+
-		"\u0173\u0005l\u0000\u0000\u0173\u0174\u0005o\u0000\u0000\u0174\u0175\u0005"+
-		"o\u0000\u0000\u0175\u0176\u0005p\u0000\u0000\u0176 \u0001\u0000\u0000"+
-		"\u0000\u0177\u0178\u0005m\u0000\u0000\u0178\u0179\u0005a\u0000\u0000\u0179"+
-		"\u017a\u0005t\u0000\u0000\u017a\u017b\u0005c\u0000\u0000\u017b\u017c\u0005"+
-		"h\u0000\u0000\u017c\"\u0001\u0000\u0000\u0000\u017d\u017e\u0005m\u0000"+
-		"\u0000\u017e\u017f\u0005o\u0000\u0000\u017f\u0180\u0005d\u0000\u0000\u0180"+
-		"$\u0001\u0000\u0000\u0000\u0181\u0182\u0005m\u0000\u0000\u0182\u0183\u0005"+
+		"[\u0001[\u0003[\u0411\b[\u0001\\\u0001\\\u0001\\\u0001\\\u0001\\\u0001"+
+		"\\\u0003\\\u0419\b\\\u0001]\u0001]\u0003]\u041d\b]\u0001]\u0005]\u0420"+
+		"\b]\n]\f]\u0423\t]\u0001]\u0001]\u0001^\u0001^\u0001_\u0001_\u0001`\u0001"+
+		"`\u0001a\u0001a\u0001a\u0001b\u0001b\u0001c\u0001c\u0001d\u0001d\u0001"+
+		"e\u0001e\u0001f\u0001f\u0001g\u0001g\u0001h\u0001h\u0001i\u0001i\u0001"+
+		"j\u0001j\u0001k\u0001k\u0001k\u0001l\u0001l\u0001l\u0001m\u0001m\u0001"+
+		"m\u0001n\u0001n\u0001n\u0001o\u0001o\u0001o\u0001p\u0001p\u0001p\u0001"+
+		"q\u0001q\u0001q\u0001r\u0001r\u0001r\u0001s\u0001s\u0001s\u0001t\u0001"+
+		"t\u0001t\u0001u\u0001u\u0001u\u0001u\u0001v\u0001v\u0001v\u0001v\u0001"+
+		"w\u0001w\u0001x\u0001x\u0001x\u0001y\u0001y\u0001y\u0001z\u0001z\u0001"+
+		"{\u0001{\u0001|\u0001|\u0001|\u0001}\u0001}\u0001}\u0001~\u0001~\u0001"+
+		"\u007f\u0001\u007f\u0001\u0080\u0001\u0080\u0001\u0081\u0001\u0081\u0001"+
+		"\u0081\u0001\u0082\u0001\u0082\u0001\u0082\u0001\u0082\u0001\u0083\u0001"+
+		"\u0083\u0001\u0083\u0001\u0083\u0001\u0084\u0001\u0084\u0001\u0085\u0001"+
+		"\u0085\u0001\u0086\u0001\u0086\u0001\u0087\u0001\u0087\u0001\u0087\u0001"+
+		"\u0088\u0001\u0088\u0001\u0088\u0001\u0089\u0001\u0089\u0001\u0089\u0001"+
+		"\u008a\u0001\u008a\u0001\u008b\u0001\u008b\u0001\u008c\u0001\u008c\u0001"+
+		"\u008d\u0001\u008d\u0001\u008e\u0001\u008e\u0001\u008f\u0001\u008f\u0001"+
+		"\u0090\u0001\u0090\u0001\u0091\u0001\u0091\u0001\u0092\u0001\u0092\u0004"+
+		"\u02a6\u02cc\u02ef\u033b\u0000\u0093\u0001\u0001\u0003\u0002\u0005\u0003"+
+		"\u0007\u0004\t\u0005\u000b\u0006\r\u0007\u000f\b\u0011\t\u0013\n\u0015"+
+		"\u000b\u0017\f\u0019\r\u001b\u000e\u001d\u000f\u001f\u0010!\u0011#\u0012"+
+		"%\u0013\'\u0014)\u0015+\u0016-\u0017/\u00181\u00193\u001a5\u001b7\u001c"+
+		"9\u001d;\u001e=\u001f? A!C\"E#G$I%K&M\'O(Q)S*U+W,Y-[.]/_0a1c2e3g4i5k6"+
+		"m7o8q9s\u0000u\u0000w\u0000y\u0000{:};\u007f<\u0081=\u0083>\u0085?\u0087"+
+		"@\u0089A\u008bB\u008dC\u008fD\u0091E\u0093F\u0095G\u0097\u0000\u0099H"+
+		"\u009bI\u009dJ\u009f\u0000\u00a1\u0000\u00a3\u0000\u00a5\u0000\u00a7\u0000"+
+		"\u00a9\u0000\u00abK\u00adL\u00afM\u00b1N\u00b3O\u00b5P\u00b7\u0000\u00b9"+
+		"\u0000\u00bb\u0000\u00bd\u0000\u00bf\u0000\u00c1\u0000\u00c3Q\u00c5R\u00c7"+
+		"S\u00c9T\u00cbU\u00cdV\u00cfW\u00d1X\u00d3Y\u00d5Z\u00d7[\u00d9\\\u00db"+
+		"]\u00dd^\u00df_\u00e1`\u00e3a\u00e5b\u00e7c\u00e9d\u00ebe\u00edf\u00ef"+
+		"g\u00f1h\u00f3i\u00f5j\u00f7k\u00f9l\u00fbm\u00fdn\u00ffo\u0101p\u0103"+
+		"q\u0105r\u0107s\u0109t\u010bu\u010dv\u010fw\u0111x\u0113y\u0115z\u0117"+
+		"{\u0119|\u011b}\u011d~\u011f\u007f\u0121\u0080\u0123\u0081\u0125\u0082"+
+		"\u0001\u0000\u0015\u0296\u0000AZaz\u00aa\u00aa\u00b5\u00b5\u00ba\u00ba"+
+		"\u00c0\u00d6\u00d8\u00f6\u00f8\u02c1\u02c6\u02d1\u02e0\u02e4\u02ec\u02ec"+
+		"\u02ee\u02ee\u0370\u0374\u0376\u0377\u037a\u037d\u037f\u037f\u0386\u0386"+
+		"\u0388\u038a\u038c\u038c\u038e\u03a1\u03a3\u03f5\u03f7\u0481\u048a\u052f"+
+		"\u0531\u0556\u0559\u0559\u0560\u0588\u05d0\u05ea\u05ef\u05f2\u0620\u064a"+
+		"\u066e\u066f\u0671\u06d3\u06d5\u06d5\u06e5\u06e6\u06ee\u06ef\u06fa\u06fc"+
+		"\u06ff\u06ff\u0710\u0710\u0712\u072f\u074d\u07a5\u07b1\u07b1\u07ca\u07ea"+
+		"\u07f4\u07f5\u07fa\u07fa\u0800\u0815\u081a\u081a\u0824\u0824\u0828\u0828"+
+		"\u0840\u0858\u0860\u086a\u0870\u0887\u0889\u088e\u08a0\u08c9\u0904\u0939"+
+		"\u093d\u093d\u0950\u0950\u0958\u0961\u0971\u0980\u0985\u098c\u098f\u0990"+
+		"\u0993\u09a8\u09aa\u09b0\u09b2\u09b2\u09b6\u09b9\u09bd\u09bd\u09ce\u09ce"+
+		"\u09dc\u09dd\u09df\u09e1\u09f0\u09f1\u09fc\u09fc\u0a05\u0a0a\u0a0f\u0a10"+
+		"\u0a13\u0a28\u0a2a\u0a30\u0a32\u0a33\u0a35\u0a36\u0a38\u0a39\u0a59\u0a5c"+
+		"\u0a5e\u0a5e\u0a72\u0a74\u0a85\u0a8d\u0a8f\u0a91\u0a93\u0aa8\u0aaa\u0ab0"+
+		"\u0ab2\u0ab3\u0ab5\u0ab9\u0abd\u0abd\u0ad0\u0ad0\u0ae0\u0ae1\u0af9\u0af9"+
+		"\u0b05\u0b0c\u0b0f\u0b10\u0b13\u0b28\u0b2a\u0b30\u0b32\u0b33\u0b35\u0b39"+
+		"\u0b3d\u0b3d\u0b5c\u0b5d\u0b5f\u0b61\u0b71\u0b71\u0b83\u0b83\u0b85\u0b8a"+
+		"\u0b8e\u0b90\u0b92\u0b95\u0b99\u0b9a\u0b9c\u0b9c\u0b9e\u0b9f\u0ba3\u0ba4"+
+		"\u0ba8\u0baa\u0bae\u0bb9\u0bd0\u0bd0\u0c05\u0c0c\u0c0e\u0c10\u0c12\u0c28"+
+		"\u0c2a\u0c39\u0c3d\u0c3d\u0c58\u0c5a\u0c5d\u0c5d\u0c60\u0c61\u0c80\u0c80"+
+		"\u0c85\u0c8c\u0c8e\u0c90\u0c92\u0ca8\u0caa\u0cb3\u0cb5\u0cb9\u0cbd\u0cbd"+
+		"\u0cdd\u0cde\u0ce0\u0ce1\u0cf1\u0cf2\u0d04\u0d0c\u0d0e\u0d10\u0d12\u0d3a"+
+		"\u0d3d\u0d3d\u0d4e\u0d4e\u0d54\u0d56\u0d5f\u0d61\u0d7a\u0d7f\u0d85\u0d96"+
+		"\u0d9a\u0db1\u0db3\u0dbb\u0dbd\u0dbd\u0dc0\u0dc6\u0e01\u0e30\u0e32\u0e33"+
+		"\u0e40\u0e46\u0e81\u0e82\u0e84\u0e84\u0e86\u0e8a\u0e8c\u0ea3\u0ea5\u0ea5"+
+		"\u0ea7\u0eb0\u0eb2\u0eb3\u0ebd\u0ebd\u0ec0\u0ec4\u0ec6\u0ec6\u0edc\u0edf"+
+		"\u0f00\u0f00\u0f40\u0f47\u0f49\u0f6c\u0f88\u0f8c\u1000\u102a\u103f\u103f"+
+		"\u1050\u1055\u105a\u105d\u1061\u1061\u1065\u1066\u106e\u1070\u1075\u1081"+
+		"\u108e\u108e\u10a0\u10c5\u10c7\u10c7\u10cd\u10cd\u10d0\u10fa\u10fc\u1248"+
+		"\u124a\u124d\u1250\u1256\u1258\u1258\u125a\u125d\u1260\u1288\u128a\u128d"+
+		"\u1290\u12b0\u12b2\u12b5\u12b8\u12be\u12c0\u12c0\u12c2\u12c5\u12c8\u12d6"+
+		"\u12d8\u1310\u1312\u1315\u1318\u135a\u1380\u138f\u13a0\u13f5\u13f8\u13fd"+
+		"\u1401\u166c\u166f\u167f\u1681\u169a\u16a0\u16ea\u16ee\u16f8\u1700\u1711"+
+		"\u171f\u1731\u1740\u1751\u1760\u176c\u176e\u1770\u1780\u17b3\u17d7\u17d7"+
+		"\u17dc\u17dc\u1820\u1878\u1880\u1884\u1887\u18a8\u18aa\u18aa\u18b0\u18f5"+
+		"\u1900\u191e\u1950\u196d\u1970\u1974\u1980\u19ab\u19b0\u19c9\u1a00\u1a16"+
+		"\u1a20\u1a54\u1aa7\u1aa7\u1b05\u1b33\u1b45\u1b4c\u1b83\u1ba0\u1bae\u1baf"+
+		"\u1bba\u1be5\u1c00\u1c23\u1c4d\u1c4f\u1c5a\u1c7d\u1c80\u1c88\u1c90\u1cba"+
+		"\u1cbd\u1cbf\u1ce9\u1cec\u1cee\u1cf3\u1cf5\u1cf6\u1cfa\u1cfa\u1d00\u1dbf"+
+		"\u1e00\u1f15\u1f18\u1f1d\u1f20\u1f45\u1f48\u1f4d\u1f50\u1f57\u1f59\u1f59"+
+		"\u1f5b\u1f5b\u1f5d\u1f5d\u1f5f\u1f7d\u1f80\u1fb4\u1fb6\u1fbc\u1fbe\u1fbe"+
+		"\u1fc2\u1fc4\u1fc6\u1fcc\u1fd0\u1fd3\u1fd6\u1fdb\u1fe0\u1fec\u1ff2\u1ff4"+
+		"\u1ff6\u1ffc\u2071\u2071\u207f\u207f\u2090\u209c\u2102\u2102\u2107\u2107"+
+		"\u210a\u2113\u2115\u2115\u2119\u211d\u2124\u2124\u2126\u2126\u2128\u2128"+
+		"\u212a\u212d\u212f\u2139\u213c\u213f\u2145\u2149\u214e\u214e\u2160\u2188"+
+		"\u2c00\u2ce4\u2ceb\u2cee\u2cf2\u2cf3\u2d00\u2d25\u2d27\u2d27\u2d2d\u2d2d"+
+		"\u2d30\u2d67\u2d6f\u2d6f\u2d80\u2d96\u2da0\u2da6\u2da8\u2dae\u2db0\u2db6"+
+		"\u2db8\u2dbe\u2dc0\u2dc6\u2dc8\u2dce\u2dd0\u2dd6\u2dd8\u2dde\u2e2f\u2e2f"+
+		"\u3005\u3007\u3021\u3029\u3031\u3035\u3038\u303c\u3041\u3096\u309d\u309f"+
+		"\u30a1\u30fa\u30fc\u30ff\u3105\u312f\u3131\u318e\u31a0\u31bf\u31f0\u31ff"+
+		"\u3400\u4dbf\u4e00\u8000\ua48c\u8000\ua4d0\u8000\ua4fd\u8000\ua500\u8000"+
+		"\ua60c\u8000\ua610\u8000\ua61f\u8000\ua62a\u8000\ua62b\u8000\ua640\u8000"+
+		"\ua66e\u8000\ua67f\u8000\ua69d\u8000\ua6a0\u8000\ua6ef\u8000\ua717\u8000"+
+		"\ua71f\u8000\ua722\u8000\ua788\u8000\ua78b\u8000\ua7ca\u8000\ua7d0\u8000"+
+		"\ua7d1\u8000\ua7d3\u8000\ua7d3\u8000\ua7d5\u8000\ua7d9\u8000\ua7f2\u8000"+
+		"\ua801\u8000\ua803\u8000\ua805\u8000\ua807\u8000\ua80a\u8000\ua80c\u8000"+
+		"\ua822\u8000\ua840\u8000\ua873\u8000\ua882\u8000\ua8b3\u8000\ua8f2\u8000"+
+		"\ua8f7\u8000\ua8fb\u8000\ua8fb\u8000\ua8fd\u8000\ua8fe\u8000\ua90a\u8000"+
+		"\ua925\u8000\ua930\u8000\ua946\u8000\ua960\u8000\ua97c\u8000\ua984\u8000"+
+		"\ua9b2\u8000\ua9cf\u8000\ua9cf\u8000\ua9e0\u8000\ua9e4\u8000\ua9e6\u8000"+
+		"\ua9ef\u8000\ua9fa\u8000\ua9fe\u8000\uaa00\u8000\uaa28\u8000\uaa40\u8000"+
+		"\uaa42\u8000\uaa44\u8000\uaa4b\u8000\uaa60\u8000\uaa76\u8000\uaa7a\u8000"+
+		"\uaa7a\u8000\uaa7e\u8000\uaaaf\u8000\uaab1\u8000\uaab1\u8000\uaab5\u8000"+
+		"\uaab6\u8000\uaab9\u8000\uaabd\u8000\uaac0\u8000\uaac0\u8000\uaac2\u8000"+
+		"\uaac2\u8000\uaadb\u8000\uaadd\u8000\uaae0\u8000\uaaea\u8000\uaaf2\u8000"+
+		"\uaaf4\u8000\uab01\u8000\uab06\u8000\uab09\u8000\uab0e\u8000\uab11\u8000"+
+		"\uab16\u8000\uab20\u8000\uab26\u8000\uab28\u8000\uab2e\u8000\uab30\u8000"+
+		"\uab5a\u8000\uab5c\u8000\uab69\u8000\uab70\u8000\uabe2\u8000\uac00\u8000"+
+		"\ud7a3\u8000\ud7b0\u8000\ud7c6\u8000\ud7cb\u8000\ud7fb\u8000\uf900\u8000"+
+		"\ufa6d\u8000\ufa70\u8000\ufad9\u8000\ufb00\u8000\ufb06\u8000\ufb13\u8000"+
+		"\ufb17\u8000\ufb1d\u8000\ufb1d\u8000\ufb1f\u8000\ufb28\u8000\ufb2a\u8000"+
+		"\ufb36\u8000\ufb38\u8000\ufb3c\u8000\ufb3e\u8000\ufb3e\u8000\ufb40\u8000"+
+		"\ufb41\u8000\ufb43\u8000\ufb44\u8000\ufb46\u8000\ufbb1\u8000\ufbd3\u8000"+
+		"\ufd3d\u8000\ufd50\u8000\ufd8f\u8000\ufd92\u8000\ufdc7\u8000\ufdf0\u8000"+
+		"\ufdfb\u8000\ufe70\u8000\ufe74\u8000\ufe76\u8000\ufefc\u8000\uff21\u8000"+
+		"\uff3a\u8000\uff41\u8000\uff5a\u8000\uff66\u8000\uffbe\u8000\uffc2\u8000"+
+		"\uffc7\u8000\uffca\u8000\uffcf\u8000\uffd2\u8000\uffd7\u8000\uffda\u8000"+
+		"\uffdc\u8001\u0000\u8001\u000b\u8001\r\u8001&\u8001(\u8001:\u8001<\u8001"+
+		"=\u8001?\u8001M\u8001P\u8001]\u8001\u0080\u8001\u00fa\u8001\u0140\u8001"+
+		"\u0174\u8001\u0280\u8001\u029c\u8001\u02a0\u8001\u02d0\u8001\u0300\u8001"+
+		"\u031f\u8001\u032d\u8001\u034a\u8001\u0350\u8001\u0375\u8001\u0380\u8001"+
+		"\u039d\u8001\u03a0\u8001\u03c3\u8001\u03c8\u8001\u03cf\u8001\u03d1\u8001"+
+		"\u03d5\u8001\u0400\u8001\u049d\u8001\u04b0\u8001\u04d3\u8001\u04d8\u8001"+
+		"\u04fb\u8001\u0500\u8001\u0527\u8001\u0530\u8001\u0563\u8001\u0570\u8001"+
+		"\u057a\u8001\u057c\u8001\u058a\u8001\u058c\u8001\u0592\u8001\u0594\u8001"+
+		"\u0595\u8001\u0597\u8001\u05a1\u8001\u05a3\u8001\u05b1\u8001\u05b3\u8001"+
+		"\u05b9\u8001\u05bb\u8001\u05bc\u8001\u0600\u8001\u0736\u8001\u0740\u8001"+
+		"\u0755\u8001\u0760\u8001\u0767\u8001\u0780\u8001\u0785\u8001\u0787\u8001"+
+		"\u07b0\u8001\u07b2\u8001\u07ba\u8001\u0800\u8001\u0805\u8001\u0808\u8001"+
+		"\u0808\u8001\u080a\u8001\u0835\u8001\u0837\u8001\u0838\u8001\u083c\u8001"+
+		"\u083c\u8001\u083f\u8001\u0855\u8001\u0860\u8001\u0876\u8001\u0880\u8001"+
+		"\u089e\u8001\u08e0\u8001\u08f2\u8001\u08f4\u8001\u08f5\u8001\u0900\u8001"+
+		"\u0915\u8001\u0920\u8001\u0939\u8001\u0980\u8001\u09b7\u8001\u09be\u8001"+
+		"\u09bf\u8001\u0a00\u8001\u0a00\u8001\u0a10\u8001\u0a13\u8001\u0a15\u8001"+
+		"\u0a17\u8001\u0a19\u8001\u0a35\u8001\u0a60\u8001\u0a7c\u8001\u0a80\u8001"+
+		"\u0a9c\u8001\u0ac0\u8001\u0ac7\u8001\u0ac9\u8001\u0ae4\u8001\u0b00\u8001"+
+		"\u0b35\u8001\u0b40\u8001\u0b55\u8001\u0b60\u8001\u0b72\u8001\u0b80\u8001"+
+		"\u0b91\u8001\u0c00\u8001\u0c48\u8001\u0c80\u8001\u0cb2\u8001\u0cc0\u8001"+
+		"\u0cf2\u8001\u0d00\u8001\u0d23\u8001\u0e80\u8001\u0ea9\u8001\u0eb0\u8001"+
+		"\u0eb1\u8001\u0f00\u8001\u0f1c\u8001\u0f27\u8001\u0f27\u8001\u0f30\u8001"+
+		"\u0f45\u8001\u0f70\u8001\u0f81\u8001\u0fb0\u8001\u0fc4\u8001\u0fe0\u8001"+
+		"\u0ff6\u8001\u1003\u8001\u1037\u8001\u1071\u8001\u1072\u8001\u1075\u8001"+
+		"\u1075\u8001\u1083\u8001\u10af\u8001\u10d0\u8001\u10e8\u8001\u1103\u8001"+
+		"\u1126\u8001\u1144\u8001\u1144\u8001\u1147\u8001\u1147\u8001\u1150\u8001"+
+		"\u1172\u8001\u1176\u8001\u1176\u8001\u1183\u8001\u11b2\u8001\u11c1\u8001"+
+		"\u11c4\u8001\u11da\u8001\u11da\u8001\u11dc\u8001\u11dc\u8001\u1200\u8001"+
+		"\u1211\u8001\u1213\u8001\u122b\u8001\u123f\u8001\u1240\u8001\u1280\u8001"+
+		"\u1286\u8001\u1288\u8001\u1288\u8001\u128a\u8001\u128d\u8001\u128f\u8001"+
+		"\u129d\u8001\u129f\u8001\u12a8\u8001\u12b0\u8001\u12de\u8001\u1305\u8001"+
+		"\u130c\u8001\u130f\u8001\u1310\u8001\u1313\u8001\u1328\u8001\u132a\u8001"+
+		"\u1330\u8001\u1332\u8001\u1333\u8001\u1335\u8001\u1339\u8001\u133d\u8001"+
+		"\u133d\u8001\u1350\u8001\u1350\u8001\u135d\u8001\u1361\u8001\u1400\u8001"+
+		"\u1434\u8001\u1447\u8001\u144a\u8001\u145f\u8001\u1461\u8001\u1480\u8001"+
+		"\u14af\u8001\u14c4\u8001\u14c5\u8001\u14c7\u8001\u14c7\u8001\u1580\u8001"+
+		"\u15ae\u8001\u15d8\u8001\u15db\u8001\u1600\u8001\u162f\u8001\u1644\u8001"+
+		"\u1644\u8001\u1680\u8001\u16aa\u8001\u16b8\u8001\u16b8\u8001\u1700\u8001"+
+		"\u171a\u8001\u1740\u8001\u1746\u8001\u1800\u8001\u182b\u8001\u18a0\u8001"+
+		"\u18df\u8001\u18ff\u8001\u1906\u8001\u1909\u8001\u1909\u8001\u190c\u8001"+
+		"\u1913\u8001\u1915\u8001\u1916\u8001\u1918\u8001\u192f\u8001\u193f\u8001"+
+		"\u193f\u8001\u1941\u8001\u1941\u8001\u19a0\u8001\u19a7\u8001\u19aa\u8001"+
+		"\u19d0\u8001\u19e1\u8001\u19e1\u8001\u19e3\u8001\u19e3\u8001\u1a00\u8001"+
+		"\u1a00\u8001\u1a0b\u8001\u1a32\u8001\u1a3a\u8001\u1a3a\u8001\u1a50\u8001"+
+		"\u1a50\u8001\u1a5c\u8001\u1a89\u8001\u1a9d\u8001\u1a9d\u8001\u1ab0\u8001"+
+		"\u1af8\u8001\u1c00\u8001\u1c08\u8001\u1c0a\u8001\u1c2e\u8001\u1c40\u8001"+
+		"\u1c40\u8001\u1c72\u8001\u1c8f\u8001\u1d00\u8001\u1d06\u8001\u1d08\u8001"+
+		"\u1d09\u8001\u1d0b\u8001\u1d30\u8001\u1d46\u8001\u1d46\u8001\u1d60\u8001"+
+		"\u1d65\u8001\u1d67\u8001\u1d68\u8001\u1d6a\u8001\u1d89\u8001\u1d98\u8001"+
+		"\u1d98\u8001\u1ee0\u8001\u1ef2\u8001\u1f02\u8001\u1f02\u8001\u1f04\u8001"+
+		"\u1f10\u8001\u1f12\u8001\u1f33\u8001\u1fb0\u8001\u1fb0\u8001\u2000\u8001"+
+		"\u2399\u8001\u2400\u8001\u246e\u8001\u2480\u8001\u2543\u8001\u2f90\u8001"+
+		"\u2ff0\u8001\u3000\u8001\u342f\u8001\u3441\u8001\u3446\u8001\u4400\u8001"+
+		"\u4646\u8001\u6800\u8001\u6a38\u8001\u6a40\u8001\u6a5e\u8001\u6a70\u8001"+
+		"\u6abe\u8001\u6ad0\u8001\u6aed\u8001\u6b00\u8001\u6b2f\u8001\u6b40\u8001"+
+		"\u6b43\u8001\u6b63\u8001\u6b77\u8001\u6b7d\u8001\u6b8f\u8001\u6e40\u8001"+
+		"\u6e7f\u8001\u6f00\u8001\u6f4a\u8001\u6f50\u8001\u6f50\u8001\u6f93\u8001"+
+		"\u6f9f\u8001\u6fe0\u8001\u6fe1\u8001\u6fe3\u8001\u6fe3\u8001\u7000\u8001"+
+		"\u87f7\u8001\u8800\u8001\u8cd5\u8001\u8d00\u8001\u8d08\u8001\uaff0\u8001"+
+		"\uaff3\u8001\uaff5\u8001\uaffb\u8001\uaffd\u8001\uaffe\u8001\ub000\u8001"+
+		"\ub122\u8001\ub132\u8001\ub132\u8001\ub150\u8001\ub152\u8001\ub155\u8001"+
+		"\ub155\u8001\ub164\u8001\ub167\u8001\ub170\u8001\ub2fb\u8001\ubc00\u8001"+
+		"\ubc6a\u8001\ubc70\u8001\ubc7c\u8001\ubc80\u8001\ubc88\u8001\ubc90\u8001"+
+		"\ubc99\u8001\ud400\u8001\ud454\u8001\ud456\u8001\ud49c\u8001\ud49e\u8001"+
+		"\ud49f\u8001\ud4a2\u8001\ud4a2\u8001\ud4a5\u8001\ud4a6\u8001\ud4a9\u8001"+
+		"\ud4ac\u8001\ud4ae\u8001\ud4b9\u8001\ud4bb\u8001\ud4bb\u8001\ud4bd\u8001"+
+		"\ud4c3\u8001\ud4c5\u8001\ud505\u8001\ud507\u8001\ud50a\u8001\ud50d\u8001"+
+		"\ud514\u8001\ud516\u8001\ud51c\u8001\ud51e\u8001\ud539\u8001\ud53b\u8001"+
+		"\ud53e\u8001\ud540\u8001\ud544\u8001\ud546\u8001\ud546\u8001\ud54a\u8001"+
+		"\ud550\u8001\ud552\u8001\ud6a5\u8001\ud6a8\u8001\ud6c0\u8001\ud6c2\u8001"+
+		"\ud6da\u8001\ud6dc\u8001\ud6fa\u8001\ud6fc\u8001\ud714\u8001\ud716\u8001"+
+		"\ud734\u8001\ud736\u8001\ud74e\u8001\ud750\u8001\ud76e\u8001\ud770\u8001"+
+		"\ud788\u8001\ud78a\u8001\ud7a8\u8001\ud7aa\u8001\ud7c2\u8001\ud7c4\u8001"+
+		"\ud7cb\u8001\udf00\u8001\udf1e\u8001\udf25\u8001\udf2a\u8001\ue030\u8001"+
+		"\ue06d\u8001\ue100\u8001\ue12c\u8001\ue137\u8001\ue13d\u8001\ue14e\u8001"+
+		"\ue14e\u8001\ue290\u8001\ue2ad\u8001\ue2c0\u8001\ue2eb\u8001\ue4d0\u8001"+
+		"\ue4eb\u8001\ue7e0\u8001\ue7e6\u8001\ue7e8\u8001\ue7eb\u8001\ue7ed\u8001"+
+		"\ue7ee\u8001\ue7f0\u8001\ue7fe\u8001\ue800\u8001\ue8c4\u8001\ue900\u8001"+
+		"\ue943\u8001\ue94b\u8001\ue94b\u8001\uee00\u8001\uee03\u8001\uee05\u8001"+
+		"\uee1f\u8001\uee21\u8001\uee22\u8001\uee24\u8001\uee24\u8001\uee27\u8001"+
+		"\uee27\u8001\uee29\u8001\uee32\u8001\uee34\u8001\uee37\u8001\uee39\u8001"+
+		"\uee39\u8001\uee3b\u8001\uee3b\u8001\uee42\u8001\uee42\u8001\uee47\u8001"+
+		"\uee47\u8001\uee49\u8001\uee49\u8001\uee4b\u8001\uee4b\u8001\uee4d\u8001"+
+		"\uee4f\u8001\uee51\u8001\uee52\u8001\uee54\u8001\uee54\u8001\uee57\u8001"+
+		"\uee57\u8001\uee59\u8001\uee59\u8001\uee5b\u8001\uee5b\u8001\uee5d\u8001"+
+		"\uee5d\u8001\uee5f\u8001\uee5f\u8001\uee61\u8001\uee62\u8001\uee64\u8001"+
+		"\uee64\u8001\uee67\u8001\uee6a\u8001\uee6c\u8001\uee72\u8001\uee74\u8001"+
+		"\uee77\u8001\uee79\u8001\uee7c\u8001\uee7e\u8001\uee7e\u8001\uee80\u8001"+
+		"\uee89\u8001\uee8b\u8001\uee9b\u8001\ueea1\u8001\ueea3\u8001\ueea5\u8001"+
+		"\ueea9\u8001\ueeab\u8001\ueebb\u8002\u0000\u8002\ua6df\u8002\ua700\u8002"+
+		"\ub739\u8002\ub740\u8002\ub81d\u8002\ub820\u8002\ucea1\u8002\uceb0\u8002"+
+		"\uebe0\u8002\uf800\u8002\ufa1d\u8003\u0000\u8003\u134a\u8003\u1350\u8003"+
+		"\u23af\u0174\u000009__\u0300\u036f\u0483\u0487\u0591\u05bd\u05bf\u05bf"+
+		"\u05c1\u05c2\u05c4\u05c5\u05c7\u05c7\u0610\u061a\u064b\u0669\u0670\u0670"+
+		"\u06d6\u06dc\u06df\u06e4\u06e7\u06e8\u06ea\u06ed\u06f0\u06f9\u0711\u0711"+
+		"\u0730\u074a\u07a6\u07b0\u07c0\u07c9\u07eb\u07f3\u07fd\u07fd\u0816\u0819"+
+		"\u081b\u0823\u0825\u0827\u0829\u082d\u0859\u085b\u0898\u089f\u08ca\u08e1"+
+		"\u08e3\u0903\u093a\u093c\u093e\u094f\u0951\u0957\u0962\u0963\u0966\u096f"+
+		"\u0981\u0983\u09bc\u09bc\u09be\u09c4\u09c7\u09c8\u09cb\u09cd\u09d7\u09d7"+
+		"\u09e2\u09e3\u09e6\u09ef\u09fe\u09fe\u0a01\u0a03\u0a3c\u0a3c\u0a3e\u0a42"+
+		"\u0a47\u0a48\u0a4b\u0a4d\u0a51\u0a51\u0a66\u0a71\u0a75\u0a75\u0a81\u0a83"+
+		"\u0abc\u0abc\u0abe\u0ac5\u0ac7\u0ac9\u0acb\u0acd\u0ae2\u0ae3\u0ae6\u0aef"+
+		"\u0afa\u0aff\u0b01\u0b03\u0b3c\u0b3c\u0b3e\u0b44\u0b47\u0b48\u0b4b\u0b4d"+
+		"\u0b55\u0b57\u0b62\u0b63\u0b66\u0b6f\u0b82\u0b82\u0bbe\u0bc2\u0bc6\u0bc8"+
+		"\u0bca\u0bcd\u0bd7\u0bd7\u0be6\u0bef\u0c00\u0c04\u0c3c\u0c3c\u0c3e\u0c44"+
+		"\u0c46\u0c48\u0c4a\u0c4d\u0c55\u0c56\u0c62\u0c63\u0c66\u0c6f\u0c81\u0c83"+
+		"\u0cbc\u0cbc\u0cbe\u0cc4\u0cc6\u0cc8\u0cca\u0ccd\u0cd5\u0cd6\u0ce2\u0ce3"+
+		"\u0ce6\u0cef\u0cf3\u0cf3\u0d00\u0d03\u0d3b\u0d3c\u0d3e\u0d44\u0d46\u0d48"+
+		"\u0d4a\u0d4d\u0d57\u0d57\u0d62\u0d63\u0d66\u0d6f\u0d81\u0d83\u0dca\u0dca"+
+		"\u0dcf\u0dd4\u0dd6\u0dd6\u0dd8\u0ddf\u0de6\u0def\u0df2\u0df3\u0e31\u0e31"+
+		"\u0e34\u0e3a\u0e47\u0e4e\u0e50\u0e59\u0eb1\u0eb1\u0eb4\u0ebc\u0ec8\u0ece"+
+		"\u0ed0\u0ed9\u0f18\u0f19\u0f20\u0f29\u0f35\u0f35\u0f37\u0f37\u0f39\u0f39"+
+		"\u0f3e\u0f3f\u0f71\u0f84\u0f86\u0f87\u0f8d\u0f97\u0f99\u0fbc\u0fc6\u0fc6"+
+		"\u102b\u103e\u1040\u1049\u1056\u1059\u105e\u1060\u1062\u1064\u1067\u106d"+
+		"\u1071\u1074\u1082\u108d\u108f\u109d\u135d\u135f\u1712\u1715\u1732\u1734"+
+		"\u1752\u1753\u1772\u1773\u17b4\u17d3\u17dd\u17dd\u17e0\u17e9\u180b\u180d"+
+		"\u180f\u1819\u1885\u1886\u18a9\u18a9\u1920\u192b\u1930\u193b\u1946\u194f"+
+		"\u19d0\u19d9\u1a17\u1a1b\u1a55\u1a5e\u1a60\u1a7c\u1a7f\u1a89\u1a90\u1a99"+
+		"\u1ab0\u1abd\u1abf\u1ace\u1b00\u1b04\u1b34\u1b44\u1b50\u1b59\u1b6b\u1b73"+
+		"\u1b80\u1b82\u1ba1\u1bad\u1bb0\u1bb9\u1be6\u1bf3\u1c24\u1c37\u1c40\u1c49"+
+		"\u1c50\u1c59\u1cd0\u1cd2\u1cd4\u1ce8\u1ced\u1ced\u1cf4\u1cf4\u1cf7\u1cf9"+
+		"\u1dc0\u1dff\u203f\u2040\u2054\u2054\u20d0\u20dc\u20e1\u20e1\u20e5\u20f0"+
+		"\u2cef\u2cf1\u2d7f\u2d7f\u2de0\u2dff\u302a\u302f\u3099\u309a\u8000\ua620"+
+		"\u8000\ua629\u8000\ua66f\u8000\ua66f\u8000\ua674\u8000\ua67d\u8000\ua69e"+
+		"\u8000\ua69f\u8000\ua6f0\u8000\ua6f1\u8000\ua802\u8000\ua802\u8000\ua806"+
+		"\u8000\ua806\u8000\ua80b\u8000\ua80b\u8000\ua823\u8000\ua827\u8000\ua82c"+
+		"\u8000\ua82c\u8000\ua880\u8000\ua881\u8000\ua8b4\u8000\ua8c5\u8000\ua8d0"+
+		"\u8000\ua8d9\u8000\ua8e0\u8000\ua8f1\u8000\ua8ff\u8000\ua909\u8000\ua926"+
+		"\u8000\ua92d\u8000\ua947\u8000\ua953\u8000\ua980\u8000\ua983\u8000\ua9b3"+
+		"\u8000\ua9c0\u8000\ua9d0\u8000\ua9d9\u8000\ua9e5\u8000\ua9e5\u8000\ua9f0"+
+		"\u8000\ua9f9\u8000\uaa29\u8000\uaa36\u8000\uaa43\u8000\uaa43\u8000\uaa4c"+
+		"\u8000\uaa4d\u8000\uaa50\u8000\uaa59\u8000\uaa7b\u8000\uaa7d\u8000\uaab0"+
+		"\u8000\uaab0\u8000\uaab2\u8000\uaab4\u8000\uaab7\u8000\uaab8\u8000\uaabe"+
+		"\u8000\uaabf\u8000\uaac1\u8000\uaac1\u8000\uaaeb\u8000\uaaef\u8000\uaaf5"+
+		"\u8000\uaaf6\u8000\uabe3\u8000\uabea\u8000\uabec\u8000\uabed\u8000\uabf0"+
+		"\u8000\uabf9\u8000\ufb1e\u8000\ufb1e\u8000\ufe00\u8000\ufe0f\u8000\ufe20"+
+		"\u8000\ufe2f\u8000\ufe33\u8000\ufe34\u8000\ufe4d\u8000\ufe4f\u8000\uff10"+
+		"\u8000\uff19\u8000\uff3f\u8000\uff3f\u8001\u01fd\u8001\u01fd\u8001\u02e0"+
+		"\u8001\u02e0\u8001\u0376\u8001\u037a\u8001\u04a0\u8001\u04a9\u8001\u0a01"+
+		"\u8001\u0a03\u8001\u0a05\u8001\u0a06\u8001\u0a0c\u8001\u0a0f\u8001\u0a38"+
+		"\u8001\u0a3a\u8001\u0a3f\u8001\u0a3f\u8001\u0ae5\u8001\u0ae6\u8001\u0d24"+
+		"\u8001\u0d27\u8001\u0d30\u8001\u0d39\u8001\u0eab\u8001\u0eac\u8001\u0efd"+
+		"\u8001\u0eff\u8001\u0f46\u8001\u0f50\u8001\u0f82\u8001\u0f85\u8001\u1000"+
+		"\u8001\u1002\u8001\u1038\u8001\u1046\u8001\u1066\u8001\u1070\u8001\u1073"+
+		"\u8001\u1074\u8001\u107f\u8001\u1082\u8001\u10b0\u8001\u10ba\u8001\u10c2"+
+		"\u8001\u10c2\u8001\u10f0\u8001\u10f9\u8001\u1100\u8001\u1102\u8001\u1127"+
+		"\u8001\u1134\u8001\u1136\u8001\u113f\u8001\u1145\u8001\u1146\u8001\u1173"+
+		"\u8001\u1173\u8001\u1180\u8001\u1182\u8001\u11b3\u8001\u11c0\u8001\u11c9"+
+		"\u8001\u11cc\u8001\u11ce\u8001\u11d9\u8001\u122c\u8001\u1237\u8001\u123e"+
+		"\u8001\u123e\u8001\u1241\u8001\u1241\u8001\u12df\u8001\u12ea\u8001\u12f0"+
+		"\u8001\u12f9\u8001\u1300\u8001\u1303\u8001\u133b\u8001\u133c\u8001\u133e"+
+		"\u8001\u1344\u8001\u1347\u8001\u1348\u8001\u134b\u8001\u134d\u8001\u1357"+
+		"\u8001\u1357\u8001\u1362\u8001\u1363\u8001\u1366\u8001\u136c\u8001\u1370"+
+		"\u8001\u1374\u8001\u1435\u8001\u1446\u8001\u1450\u8001\u1459\u8001\u145e"+
+		"\u8001\u145e\u8001\u14b0\u8001\u14c3\u8001\u14d0\u8001\u14d9\u8001\u15af"+
+		"\u8001\u15b5\u8001\u15b8\u8001\u15c0\u8001\u15dc\u8001\u15dd\u8001\u1630"+
+		"\u8001\u1640\u8001\u1650\u8001\u1659\u8001\u16ab\u8001\u16b7\u8001\u16c0"+
+		"\u8001\u16c9\u8001\u171d\u8001\u172b\u8001\u1730\u8001\u1739\u8001\u182c"+
+		"\u8001\u183a\u8001\u18e0\u8001\u18e9\u8001\u1930\u8001\u1935\u8001\u1937"+
+		"\u8001\u1938\u8001\u193b\u8001\u193e\u8001\u1940\u8001\u1940\u8001\u1942"+
+		"\u8001\u1943\u8001\u1950\u8001\u1959\u8001\u19d1\u8001\u19d7\u8001\u19da"+
+		"\u8001\u19e0\u8001\u19e4\u8001\u19e4\u8001\u1a01\u8001\u1a0a\u8001\u1a33"+
+		"\u8001\u1a39\u8001\u1a3b\u8001\u1a3e\u8001\u1a47\u8001\u1a47\u8001\u1a51"+
+		"\u8001\u1a5b\u8001\u1a8a\u8001\u1a99\u8001\u1c2f\u8001\u1c36\u8001\u1c38"+
+		"\u8001\u1c3f\u8001\u1c50\u8001\u1c59\u8001\u1c92\u8001\u1ca7\u8001\u1ca9"+
+		"\u8001\u1cb6\u8001\u1d31\u8001\u1d36\u8001\u1d3a\u8001\u1d3a\u8001\u1d3c"+
+		"\u8001\u1d3d\u8001\u1d3f\u8001\u1d45\u8001\u1d47\u8001\u1d47\u8001\u1d50"+
+		"\u8001\u1d59\u8001\u1d8a\u8001\u1d8e\u8001\u1d90\u8001\u1d91\u8001\u1d93"+
+		"\u8001\u1d97\u8001\u1da0\u8001\u1da9\u8001\u1ef3\u8001\u1ef6\u8001\u1f00"+
+		"\u8001\u1f01\u8001\u1f03\u8001\u1f03\u8001\u1f34\u8001\u1f3a\u8001\u1f3e"+
+		"\u8001\u1f42\u8001\u1f50\u8001\u1f59\u8001\u3440\u8001\u3440\u8001\u3447"+
+		"\u8001\u3455\u8001\u6a60\u8001\u6a69\u8001\u6ac0\u8001\u6ac9\u8001\u6af0"+
+		"\u8001\u6af4\u8001\u6b30\u8001\u6b36\u8001\u6b50\u8001\u6b59\u8001\u6f4f"+
+		"\u8001\u6f4f\u8001\u6f51\u8001\u6f87\u8001\u6f8f\u8001\u6f92\u8001\u6fe4"+
+		"\u8001\u6fe4\u8001\u6ff0\u8001\u6ff1\u8001\ubc9d\u8001\ubc9e\u8001\ucf00"+
+		"\u8001\ucf2d\u8001\ucf30\u8001\ucf46\u8001\ud165\u8001\ud169\u8001\ud16d"+
+		"\u8001\ud172\u8001\ud17b\u8001\ud182\u8001\ud185\u8001\ud18b\u8001\ud1aa"+
+		"\u8001\ud1ad\u8001\ud242\u8001\ud244\u8001\ud7ce\u8001\ud7ff\u8001\uda00"+
+		"\u8001\uda36\u8001\uda3b\u8001\uda6c\u8001\uda75\u8001\uda75\u8001\uda84"+
+		"\u8001\uda84\u8001\uda9b\u8001\uda9f\u8001\udaa1\u8001\udaaf\u8001\ue000"+
+		"\u8001\ue006\u8001\ue008\u8001\ue018\u8001\ue01b\u8001\ue021\u8001\ue023"+
+		"\u8001\ue024\u8001\ue026\u8001\ue02a\u8001\ue08f\u8001\ue08f\u8001\ue130"+
+		"\u8001\ue136\u8001\ue140\u8001\ue149\u8001\ue2ae\u8001\ue2ae\u8001\ue2ec"+
+		"\u8001\ue2f9\u8001\ue4ec\u8001\ue4f9\u8001\ue8d0\u8001\ue8d6\u8001\ue944"+
+		"\u8001\ue94a\u8001\ue950\u8001\ue959\u8001\ufbf0\u8001\ufbf9\u800e\u0100"+
+		"\u800e\u01ef\u0004\u0000\u1885\u1886\u2118\u2118\u212e\u212e\u309b\u309c"+
+		"\u0004\u0000\u00b7\u00b7\u0387\u0387\u1369\u1371\u19da\u19da\u0002\u0000"+
+		"!!//\u0002\u0000\n\n\r\r\u0002\u0000!!**\u0001\u0000**\u0001\u0000//\u0007"+
+		"\u0000  \u00a0\u00a0\u1680\u1680\u2000\u200a\u202f\u202f\u205f\u205f\u3000"+
+		"\u3000\u0004\u0000\t\n\r\r\'\'\\\\\u0001\u0000\"\"\u0005\u000000\\\\n"+
+		"nrrtt\u0002\u0000\"\"\'\'\u0001\u000001\u0002\u000001__\u0002\u0000EE"+
+		"ee\u0002\u0000++--\u0001\u000007\u0001\u000009\u0003\u000009AFaf\u04ed"+
+		"\u0000\u0001\u0001\u0000\u0000\u0000\u0000\u0003\u0001\u0000\u0000\u0000"+
+		"\u0000\u0005\u0001\u0000\u0000\u0000\u0000\u0007\u0001\u0000\u0000\u0000"+
+		"\u0000\t\u0001\u0000\u0000\u0000\u0000\u000b\u0001\u0000\u0000\u0000\u0000"+
+		"\r\u0001\u0000\u0000\u0000\u0000\u000f\u0001\u0000\u0000\u0000\u0000\u0011"+
+		"\u0001\u0000\u0000\u0000\u0000\u0013\u0001\u0000\u0000\u0000\u0000\u0015"+
+		"\u0001\u0000\u0000\u0000\u0000\u0017\u0001\u0000\u0000\u0000\u0000\u0019"+
+		"\u0001\u0000\u0000\u0000\u0000\u001b\u0001\u0000\u0000\u0000\u0000\u001d"+
+		"\u0001\u0000\u0000\u0000\u0000\u001f\u0001\u0000\u0000\u0000\u0000!\u0001"+
+		"\u0000\u0000\u0000\u0000#\u0001\u0000\u0000\u0000\u0000%\u0001\u0000\u0000"+
+		"\u0000\u0000\'\u0001\u0000\u0000\u0000\u0000)\u0001\u0000\u0000\u0000"+
+		"\u0000+\u0001\u0000\u0000\u0000\u0000-\u0001\u0000\u0000\u0000\u0000/"+
+		"\u0001\u0000\u0000\u0000\u00001\u0001\u0000\u0000\u0000\u00003\u0001\u0000"+
+		"\u0000\u0000\u00005\u0001\u0000\u0000\u0000\u00007\u0001\u0000\u0000\u0000"+
+		"\u00009\u0001\u0000\u0000\u0000\u0000;\u0001\u0000\u0000\u0000\u0000="+
+		"\u0001\u0000\u0000\u0000\u0000?\u0001\u0000\u0000\u0000\u0000A\u0001\u0000"+
+		"\u0000\u0000\u0000C\u0001\u0000\u0000\u0000\u0000E\u0001\u0000\u0000\u0000"+
+		"\u0000G\u0001\u0000\u0000\u0000\u0000I\u0001\u0000\u0000\u0000\u0000K"+
+		"\u0001\u0000\u0000\u0000\u0000M\u0001\u0000\u0000\u0000\u0000O\u0001\u0000"+
+		"\u0000\u0000\u0000Q\u0001\u0000\u0000\u0000\u0000S\u0001\u0000\u0000\u0000"+
+		"\u0000U\u0001\u0000\u0000\u0000\u0000W\u0001\u0000\u0000\u0000\u0000Y"+
+		"\u0001\u0000\u0000\u0000\u0000[\u0001\u0000\u0000\u0000\u0000]\u0001\u0000"+
+		"\u0000\u0000\u0000_\u0001\u0000\u0000\u0000\u0000a\u0001\u0000\u0000\u0000"+
+		"\u0000c\u0001\u0000\u0000\u0000\u0000e\u0001\u0000\u0000\u0000\u0000g"+
+		"\u0001\u0000\u0000\u0000\u0000i\u0001\u0000\u0000\u0000\u0000k\u0001\u0000"+
+		"\u0000\u0000\u0000m\u0001\u0000\u0000\u0000\u0000o\u0001\u0000\u0000\u0000"+
+		"\u0000q\u0001\u0000\u0000\u0000\u0000{\u0001\u0000\u0000\u0000\u0000}"+
+		"\u0001\u0000\u0000\u0000\u0000\u007f\u0001\u0000\u0000\u0000\u0000\u0081"+
+		"\u0001\u0000\u0000\u0000\u0000\u0083\u0001\u0000\u0000\u0000\u0000\u0085"+
+		"\u0001\u0000\u0000\u0000\u0000\u0087\u0001\u0000\u0000\u0000\u0000\u0089"+
+		"\u0001\u0000\u0000\u0000\u0000\u008b\u0001\u0000\u0000\u0000\u0000\u008d"+
+		"\u0001\u0000\u0000\u0000\u0000\u008f\u0001\u0000\u0000\u0000\u0000\u0091"+
+		"\u0001\u0000\u0000\u0000\u0000\u0093\u0001\u0000\u0000\u0000\u0000\u0095"+
+		"\u0001\u0000\u0000\u0000\u0000\u0099\u0001\u0000\u0000\u0000\u0000\u009b"+
+		"\u0001\u0000\u0000\u0000\u0000\u009d\u0001\u0000\u0000\u0000\u0000\u00ab"+
+		"\u0001\u0000\u0000\u0000\u0000\u00ad\u0001\u0000\u0000\u0000\u0000\u00af"+
+		"\u0001\u0000\u0000\u0000\u0000\u00b1\u0001\u0000\u0000\u0000\u0000\u00b3"+
+		"\u0001\u0000\u0000\u0000\u0000\u00b5\u0001\u0000\u0000\u0000\u0000\u00c3"+
+		"\u0001\u0000\u0000\u0000\u0000\u00c5\u0001\u0000\u0000\u0000\u0000\u00c7"+
+		"\u0001\u0000\u0000\u0000\u0000\u00c9\u0001\u0000\u0000\u0000\u0000\u00cb"+
+		"\u0001\u0000\u0000\u0000\u0000\u00cd\u0001\u0000\u0000\u0000\u0000\u00cf"+
+		"\u0001\u0000\u0000\u0000\u0000\u00d1\u0001\u0000\u0000\u0000\u0000\u00d3"+
+		"\u0001\u0000\u0000\u0000\u0000\u00d5\u0001\u0000\u0000\u0000\u0000\u00d7"+
+		"\u0001\u0000\u0000\u0000\u0000\u00d9\u0001\u0000\u0000\u0000\u0000\u00db"+
+		"\u0001\u0000\u0000\u0000\u0000\u00dd\u0001\u0000\u0000\u0000\u0000\u00df"+
+		"\u0001\u0000\u0000\u0000\u0000\u00e1\u0001\u0000\u0000\u0000\u0000\u00e3"+
+		"\u0001\u0000\u0000\u0000\u0000\u00e5\u0001\u0000\u0000\u0000\u0000\u00e7"+
+		"\u0001\u0000\u0000\u0000\u0000\u00e9\u0001\u0000\u0000\u0000\u0000\u00eb"+
+		"\u0001\u0000\u0000\u0000\u0000\u00ed\u0001\u0000\u0000\u0000\u0000\u00ef"+
+		"\u0001\u0000\u0000\u0000\u0000\u00f1\u0001\u0000\u0000\u0000\u0000\u00f3"+
+		"\u0001\u0000\u0000\u0000\u0000\u00f5\u0001\u0000\u0000\u0000\u0000\u00f7"+
+		"\u0001\u0000\u0000\u0000\u0000\u00f9\u0001\u0000\u0000\u0000\u0000\u00fb"+
+		"\u0001\u0000\u0000\u0000\u0000\u00fd\u0001\u0000\u0000\u0000\u0000\u00ff"+
+		"\u0001\u0000\u0000\u0000\u0000\u0101\u0001\u0000\u0000\u0000\u0000\u0103"+
+		"\u0001\u0000\u0000\u0000\u0000\u0105\u0001\u0000\u0000\u0000\u0000\u0107"+
+		"\u0001\u0000\u0000\u0000\u0000\u0109\u0001\u0000\u0000\u0000\u0000\u010b"+
+		"\u0001\u0000\u0000\u0000\u0000\u010d\u0001\u0000\u0000\u0000\u0000\u010f"+
+		"\u0001\u0000\u0000\u0000\u0000\u0111\u0001\u0000\u0000\u0000\u0000\u0113"+
+		"\u0001\u0000\u0000\u0000\u0000\u0115\u0001\u0000\u0000\u0000\u0000\u0117"+
+		"\u0001\u0000\u0000\u0000\u0000\u0119\u0001\u0000\u0000\u0000\u0000\u011b"+
+		"\u0001\u0000\u0000\u0000\u0000\u011d\u0001\u0000\u0000\u0000\u0000\u011f"+
+		"\u0001\u0000\u0000\u0000\u0000\u0121\u0001\u0000\u0000\u0000\u0000\u0123"+
+		"\u0001\u0000\u0000\u0000\u0000\u0125\u0001\u0000\u0000\u0000\u0001\u0127"+
+		"\u0001\u0000\u0000\u0000\u0003\u012a\u0001\u0000\u0000\u0000\u0005\u0130"+
+		"\u0001\u0000\u0000\u0000\u0007\u0136\u0001\u0000\u0000\u0000\t\u013f\u0001"+
+		"\u0000\u0000\u0000\u000b\u0145\u0001\u0000\u0000\u0000\r\u014a\u0001\u0000"+
+		"\u0000\u0000\u000f\u014f\u0001\u0000\u0000\u0000\u0011\u0156\u0001\u0000"+
+		"\u0000\u0000\u0013\u015c\u0001\u0000\u0000\u0000\u0015\u015f\u0001\u0000"+
+		"\u0000\u0000\u0017\u0163\u0001\u0000\u0000\u0000\u0019\u0166\u0001\u0000"+
+		"\u0000\u0000\u001b\u016b\u0001\u0000\u0000\u0000\u001d\u016e\u0001\u0000"+
+		"\u0000\u0000\u001f\u0172\u0001\u0000\u0000\u0000!\u0177\u0001\u0000\u0000"+
+		"\u0000#\u017d\u0001\u0000\u0000\u0000%\u0181\u0001\u0000\u0000\u0000\'"+
+		"\u0186\u0001\u0000\u0000\u0000)\u018a\u0001\u0000\u0000\u0000+\u018e\u0001"+
+		"\u0000\u0000\u0000-\u0192\u0001\u0000\u0000\u0000/\u0199\u0001\u0000\u0000"+
+		"\u00001\u019e\u0001\u0000\u0000\u00003\u01a3\u0001\u0000\u0000\u00005"+
+		"\u01aa\u0001\u0000\u0000\u00007\u01b1\u0001\u0000\u0000\u00009\u01b7\u0001"+
+		"\u0000\u0000\u0000;\u01bd\u0001\u0000\u0000\u0000=\u01c2\u0001\u0000\u0000"+
+		"\u0000?\u01c7\u0001\u0000\u0000\u0000A\u01ce\u0001\u0000\u0000\u0000C"+
+		"\u01d2\u0001\u0000\u0000\u0000E\u01d8\u0001\u0000\u0000\u0000G\u01de\u0001"+
+		"\u0000\u0000\u0000I\u01e4\u0001\u0000\u0000\u0000K\u01ea\u0001\u0000\u0000"+
+		"\u0000M\u01ee\u0001\u0000\u0000\u0000O\u01f7\u0001\u0000\u0000\u0000Q"+
+		"\u01fe\u0001\u0000\u0000\u0000S\u0202\u0001\u0000\u0000\u0000U\u0205\u0001"+
+		"\u0000\u0000\u0000W\u020b\u0001\u0000\u0000\u0000Y\u0211\u0001\u0000\u0000"+
+		"\u0000[\u021a\u0001\u0000\u0000\u0000]\u021f\u0001\u0000\u0000\u0000_"+
+		"\u0226\u0001\u0000\u0000\u0000a\u022e\u0001\u0000\u0000\u0000c\u0236\u0001"+
+		"\u0000\u0000\u0000e\u023c\u0001\u0000\u0000\u0000g\u0240\u0001\u0000\u0000"+
+		"\u0000i\u0246\u0001\u0000\u0000\u0000k\u024e\u0001\u0000\u0000\u0000m"+
+		"\u025a\u0001\u0000\u0000\u0000o\u025d\u0001\u0000\u0000\u0000q\u0271\u0001"+
+		"\u0000\u0000\u0000s\u0275\u0001\u0000\u0000\u0000u\u027a\u0001\u0000\u0000"+
+		"\u0000w\u027c\u0001\u0000\u0000\u0000y\u027e\u0001\u0000\u0000\u0000{"+
+		"\u0280\u0001\u0000\u0000\u0000}\u0295\u0001\u0000\u0000\u0000\u007f\u02b4"+
+		"\u0001\u0000\u0000\u0000\u0081\u02b8\u0001\u0000\u0000\u0000\u0083\u02c4"+
+		"\u0001\u0000\u0000\u0000\u0085\u02d4\u0001\u0000\u0000\u0000\u0087\u02e3"+
+		"\u0001\u0000\u0000\u0000\u0089\u02fa\u0001\u0000\u0000\u0000\u008b\u0305"+
+		"\u0001\u0000\u0000\u0000\u008d\u030f\u0001\u0000\u0000\u0000\u008f\u0316"+
+		"\u0001\u0000\u0000\u0000\u0091\u031a\u0001\u0000\u0000\u0000\u0093\u0323"+
+		"\u0001\u0000\u0000\u0000\u0095\u0330\u0001\u0000\u0000\u0000\u0097\u033f"+
+		"\u0001\u0000\u0000\u0000\u0099\u0341\u0001\u0000\u0000\u0000\u009b\u034b"+
+		"\u0001\u0000\u0000\u0000\u009d\u0358\u0001\u0000\u0000\u0000\u009f\u0364"+
+		"\u0001\u0000\u0000\u0000\u00a1\u036d\u0001\u0000\u0000\u0000\u00a3\u036f"+
+		"\u0001\u0000\u0000\u0000\u00a5\u0372\u0001\u0000\u0000\u0000\u00a7\u0388"+
+		"\u0001\u0000\u0000\u0000\u00a9\u038b\u0001\u0000\u0000\u0000\u00ab\u0392"+
+		"\u0001\u0000\u0000\u0000\u00ad\u0397\u0001\u0000\u0000\u0000\u00af\u039f"+
+		"\u0001\u0000\u0000\u0000\u00b1\u03b0\u0001\u0000\u0000\u0000\u00b3\u03c1"+
+		"\u0001\u0000\u0000\u0000\u00b5\u03d1\u0001\u0000\u0000\u0000\u00b7\u0410"+
+		"\u0001\u0000\u0000\u0000\u00b9\u0418\u0001\u0000\u0000\u0000\u00bb\u041a"+
+		"\u0001\u0000\u0000\u0000\u00bd\u0426\u0001\u0000\u0000\u0000\u00bf\u0428"+
+		"\u0001\u0000\u0000\u0000\u00c1\u042a\u0001\u0000\u0000\u0000\u00c3\u042c"+
+		"\u0001\u0000\u0000\u0000\u00c5\u042f\u0001\u0000\u0000\u0000\u00c7\u0431"+
+		"\u0001\u0000\u0000\u0000\u00c9\u0433\u0001\u0000\u0000\u0000\u00cb\u0435"+
+		"\u0001\u0000\u0000\u0000\u00cd\u0437\u0001\u0000\u0000\u0000\u00cf\u0439"+
+		"\u0001\u0000\u0000\u0000\u00d1\u043b\u0001\u0000\u0000\u0000\u00d3\u043d"+
+		"\u0001\u0000\u0000\u0000\u00d5\u043f\u0001\u0000\u0000\u0000\u00d7\u0441"+
+		"\u0001\u0000\u0000\u0000\u00d9\u0444\u0001\u0000\u0000\u0000\u00db\u0447"+
+		"\u0001\u0000\u0000\u0000\u00dd\u044a\u0001\u0000\u0000\u0000\u00df\u044d"+
+		"\u0001\u0000\u0000\u0000\u00e1\u0450\u0001\u0000\u0000\u0000\u00e3\u0453"+
+		"\u0001\u0000\u0000\u0000\u00e5\u0456\u0001\u0000\u0000\u0000\u00e7\u0459"+
+		"\u0001\u0000\u0000\u0000\u00e9\u045c\u0001\u0000\u0000\u0000\u00eb\u045f"+
+		"\u0001\u0000\u0000\u0000\u00ed\u0463\u0001\u0000\u0000\u0000\u00ef\u0467"+
+		"\u0001\u0000\u0000\u0000\u00f1\u0469\u0001\u0000\u0000\u0000\u00f3\u046c"+
+		"\u0001\u0000\u0000\u0000\u00f5\u046f\u0001\u0000\u0000\u0000\u00f7\u0471"+
+		"\u0001\u0000\u0000\u0000\u00f9\u0473\u0001\u0000\u0000\u0000\u00fb\u0476"+
+		"\u0001\u0000\u0000\u0000\u00fd\u0479\u0001\u0000\u0000\u0000\u00ff\u047b"+
+		"\u0001\u0000\u0000\u0000\u0101\u047d\u0001\u0000\u0000\u0000\u0103\u047f"+
+		"\u0001\u0000\u0000\u0000\u0105\u0482\u0001\u0000\u0000\u0000\u0107\u0486"+
+		"\u0001\u0000\u0000\u0000\u0109\u048a\u0001\u0000\u0000\u0000\u010b\u048c"+
+		"\u0001\u0000\u0000\u0000\u010d\u048e\u0001\u0000\u0000\u0000\u010f\u0490"+
+		"\u0001\u0000\u0000\u0000\u0111\u0493\u0001\u0000\u0000\u0000\u0113\u0496"+
+		"\u0001\u0000\u0000\u0000\u0115\u0499\u0001\u0000\u0000\u0000\u0117\u049b"+
+		"\u0001\u0000\u0000\u0000\u0119\u049d\u0001\u0000\u0000\u0000\u011b\u049f"+
+		"\u0001\u0000\u0000\u0000\u011d\u04a1\u0001\u0000\u0000\u0000\u011f\u04a3"+
+		"\u0001\u0000\u0000\u0000\u0121\u04a5\u0001\u0000\u0000\u0000\u0123\u04a7"+
+		"\u0001\u0000\u0000\u0000\u0125\u04a9\u0001\u0000\u0000\u0000\u0127\u0128"+
+		"\u0005a\u0000\u0000\u0128\u0129\u0005s\u0000\u0000\u0129\u0002\u0001\u0000"+
+		"\u0000\u0000\u012a\u012b\u0005b\u0000\u0000\u012b\u012c\u0005r\u0000\u0000"+
+		"\u012c\u012d\u0005e\u0000\u0000\u012d\u012e\u0005a\u0000\u0000\u012e\u012f"+
+		"\u0005k\u0000\u0000\u012f\u0004\u0001\u0000\u0000\u0000\u0130\u0131\u0005"+
+		"c\u0000\u0000\u0131\u0132\u0005o\u0000\u0000\u0132\u0133\u0005n\u0000"+
+		"\u0000\u0133\u0134\u0005s\u0000\u0000\u0134\u0135\u0005t\u0000\u0000\u0135"+
+		"\u0006\u0001\u0000\u0000\u0000\u0136\u0137\u0005c\u0000\u0000\u0137\u0138"+
+		"\u0005o\u0000\u0000\u0138\u0139\u0005n\u0000\u0000\u0139\u013a\u0005t"+
+		"\u0000\u0000\u013a\u013b\u0005i\u0000\u0000\u013b\u013c\u0005n\u0000\u0000"+
+		"\u013c\u013d\u0005u\u0000\u0000\u013d\u013e\u0005e\u0000\u0000\u013e\b"+
+		"\u0001\u0000\u0000\u0000\u013f\u0140\u0005c\u0000\u0000\u0140\u0141\u0005"+
+		"r\u0000\u0000\u0141\u0142\u0005a\u0000\u0000\u0142\u0143\u0005t\u0000"+
+		"\u0000\u0143\u0144\u0005e\u0000\u0000\u0144\n\u0001\u0000\u0000\u0000"+
+		"\u0145\u0146\u0005e\u0000\u0000\u0146\u0147\u0005l\u0000\u0000\u0147\u0148"+
+		"\u0005s\u0000\u0000\u0148\u0149\u0005e\u0000\u0000\u0149\f\u0001\u0000"+
+		"\u0000\u0000\u014a\u014b\u0005e\u0000\u0000\u014b\u014c\u0005n\u0000\u0000"+
+		"\u014c\u014d\u0005u\u0000\u0000\u014d\u014e\u0005m\u0000\u0000\u014e\u000e"+
+		"\u0001\u0000\u0000\u0000\u014f\u0150\u0005e\u0000\u0000\u0150\u0151\u0005"+
+		"x\u0000\u0000\u0151\u0152\u0005t\u0000\u0000\u0152\u0153\u0005e\u0000"+
+		"\u0000\u0153\u0154\u0005r\u0000\u0000\u0154\u0155\u0005n\u0000\u0000\u0155"+
+		"\u0010\u0001\u0000\u0000\u0000\u0156\u0157\u0005f\u0000\u0000\u0157\u0158"+
+		"\u0005a\u0000\u0000\u0158\u0159\u0005l\u0000\u0000\u0159\u015a\u0005s"+
+		"\u0000\u0000\u015a\u015b\u0005e\u0000\u0000\u015b\u0012\u0001\u0000\u0000"+
+		"\u0000\u015c\u015d\u0005f\u0000\u0000\u015d\u015e\u0005n\u0000\u0000\u015e"+
+		"\u0014\u0001\u0000\u0000\u0000\u015f\u0160\u0005f\u0000\u0000\u0160\u0161"+
+		"\u0005o\u0000\u0000\u0161\u0162\u0005r\u0000\u0000\u0162\u0016\u0001\u0000"+
+		"\u0000\u0000\u0163\u0164\u0005i\u0000\u0000\u0164\u0165\u0005f\u0000\u0000"+
+		"\u0165\u0018\u0001\u0000\u0000\u0000\u0166\u0167\u0005i\u0000\u0000\u0167"+
+		"\u0168\u0005m\u0000\u0000\u0168\u0169\u0005p\u0000\u0000\u0169\u016a\u0005"+
+		"l\u0000\u0000\u016a\u001a\u0001\u0000\u0000\u0000\u016b\u016c\u0005i\u0000"+
+		"\u0000\u016c\u016d\u0005n\u0000\u0000\u016d\u001c\u0001\u0000\u0000\u0000"+
+		"\u016e\u016f\u0005l\u0000\u0000\u016f\u0170\u0005e\u0000\u0000\u0170\u0171"+
+		"\u0005t\u0000\u0000\u0171\u001e\u0001\u0000\u0000\u0000\u0172\u0173\u0005"+
+		"l\u0000\u0000\u0173\u0174\u0005o\u0000\u0000\u0174\u0175\u0005o\u0000"+
+		"\u0000\u0175\u0176\u0005p\u0000\u0000\u0176 \u0001\u0000\u0000\u0000\u0177"+
+		"\u0178\u0005m\u0000\u0000\u0178\u0179\u0005a\u0000\u0000\u0179\u017a\u0005"+
+		"t\u0000\u0000\u017a\u017b\u0005c\u0000\u0000\u017b\u017c\u0005h\u0000"+
+		"\u0000\u017c\"\u0001\u0000\u0000\u0000\u017d\u017e\u0005m\u0000\u0000"+
+		"\u017e\u017f\u0005o\u0000\u0000\u017f\u0180\u0005d\u0000\u0000\u0180$"+
+		"\u0001\u0000\u0000\u0000\u0181\u0182\u0005m\u0000\u0000\u0182\u0183\u0005"+
 		"o\u0000\u0000\u0183\u0184\u0005v\u0000\u0000\u0184\u0185\u0005e\u0000"+
 		"\u0000\u0185&\u0001\u0000\u0000\u0000\u0186\u0187\u0005m\u0000\u0000\u0187"+
 		"\u0188\u0005u\u0000\u0000\u0188\u0189\u0005t\u0000\u0000\u0189(\u0001"+
@@ -987,234 +990,238 @@ public class RustLexer extends RustLexerBase {
 		"\u0000\u02fa\u02f7\u0001\u0000\u0000\u0000\u02fa\u02f8\u0001\u0000\u0000"+
 		"\u0000\u02fa\u02f9\u0001\u0000\u0000\u0000\u02fb\u02fc\u0001\u0000\u0000"+
 		"\u0000\u02fc\u02fd\u0006D\u0000\u0000\u02fd\u008a\u0001\u0000\u0000\u0000"+
-		"\u02fe\u0300\u0004E\u0000\u0000\u02ff\u0301\u0005\u8000\ufeff\u0000\u0000"+
-		"\u0300\u02ff\u0001\u0000\u0000\u0000\u0300\u0301\u0001\u0000\u0000\u0000"+
-		"\u0301\u0302\u0001\u0000\u0000\u0000\u0302\u0303\u0005#\u0000\u0000\u0303"+
-		"\u0304\u0005!\u0000\u0000\u0304\u0308\u0001\u0000\u0000\u0000\u0305\u0307"+
-		"\b\u0005\u0000\u0000\u0306\u0305\u0001\u0000\u0000\u0000\u0307\u030a\u0001"+
-		"\u0000\u0000\u0000\u0308\u0306\u0001\u0000\u0000\u0000\u0308\u0309\u0001"+
-		"\u0000\u0000\u0000\u0309\u030b\u0001\u0000\u0000\u0000\u030a\u0308\u0001"+
-		"\u0000\u0000\u0000\u030b\u030c\u0006E\u0000\u0000\u030c\u008c\u0001\u0000"+
-		"\u0000\u0000\u030d\u030e\u0007\t\u0000\u0000\u030e\u030f\u0001\u0000\u0000"+
-		"\u0000\u030f\u0310\u0006F\u0000\u0000\u0310\u008e\u0001\u0000\u0000\u0000"+
-		"\u0311\u0312\u0005\r\u0000\u0000\u0312\u0315\u0005\n\u0000\u0000\u0313"+
-		"\u0315\u0007\u0005\u0000\u0000\u0314\u0311\u0001\u0000\u0000\u0000\u0314"+
-		"\u0313\u0001\u0000\u0000\u0000\u0315\u0316\u0001\u0000\u0000\u0000\u0316"+
-		"\u0317\u0006G\u0000\u0000\u0317\u0090\u0001\u0000\u0000\u0000\u0318\u031d"+
-		"\u0005\'\u0000\u0000\u0319\u031e\b\n\u0000\u0000\u031a\u031e\u0003\u00a7"+
-		"S\u0000\u031b\u031e\u0003\u009fO\u0000\u031c\u031e\u0003\u00a5R\u0000"+
-		"\u031d\u0319\u0001\u0000\u0000\u0000\u031d\u031a\u0001\u0000\u0000\u0000"+
-		"\u031d\u031b\u0001\u0000\u0000\u0000\u031d\u031c\u0001\u0000\u0000\u0000"+
-		"\u031e\u031f\u0001\u0000\u0000\u0000\u031f\u0320\u0005\'\u0000\u0000\u0320"+
-		"\u0092\u0001\u0000\u0000\u0000\u0321\u0329\u0005\"\u0000\u0000\u0322\u0328"+
-		"\b\u000b\u0000\u0000\u0323\u0328\u0003\u00a7S\u0000\u0324\u0328\u0003"+
-		"\u009fO\u0000\u0325\u0328\u0003\u00a5R\u0000\u0326\u0328\u0003\u00a9T"+
-		"\u0000\u0327\u0322\u0001\u0000\u0000\u0000\u0327\u0323\u0001\u0000\u0000"+
-		"\u0000\u0327\u0324\u0001\u0000\u0000\u0000\u0327\u0325\u0001\u0000\u0000"+
-		"\u0000\u0327\u0326\u0001\u0000\u0000\u0000\u0328\u032b\u0001\u0000\u0000"+
-		"\u0000\u0329\u0327\u0001\u0000\u0000\u0000\u0329\u032a\u0001\u0000\u0000"+
-		"\u0000\u032a\u032c\u0001\u0000\u0000\u0000\u032b\u0329\u0001\u0000\u0000"+
-		"\u0000\u032c\u032d\u0005\"\u0000\u0000\u032d\u0094\u0001\u0000\u0000\u0000"+
-		"\u032e\u032f\u0005r\u0000\u0000\u032f\u0330\u0003\u0097K\u0000\u0330\u0096"+
-		"\u0001\u0000\u0000\u0000\u0331\u0332\u0005#\u0000\u0000\u0332\u0333\u0003"+
-		"\u0097K\u0000\u0333\u0334\u0005#\u0000\u0000\u0334\u033e\u0001\u0000\u0000"+
-		"\u0000\u0335\u0339\u0005\"\u0000\u0000\u0336\u0338\t\u0000\u0000\u0000"+
-		"\u0337\u0336\u0001\u0000\u0000\u0000\u0338\u033b\u0001\u0000\u0000\u0000"+
-		"\u0339\u033a\u0001\u0000\u0000\u0000\u0339\u0337\u0001\u0000\u0000\u0000"+
-		"\u033a\u033c\u0001\u0000\u0000\u0000\u033b\u0339\u0001\u0000\u0000\u0000"+
-		"\u033c\u033e\u0005\"\u0000\u0000\u033d\u0331\u0001\u0000\u0000\u0000\u033d"+
-		"\u0335\u0001\u0000\u0000\u0000\u033e\u0098\u0001\u0000\u0000\u0000\u033f"+
-		"\u0340\u0005b\u0000\u0000\u0340\u0341\u0005\'\u0000\u0000\u0341\u0345"+
-		"\u0001\u0000\u0000\u0000\u0342\u0346\t\u0000\u0000\u0000\u0343\u0346\u0003"+
-		"\u00a7S\u0000\u0344\u0346\u0003\u00a1P\u0000\u0345\u0342\u0001\u0000\u0000"+
-		"\u0000\u0345\u0343\u0001\u0000\u0000\u0000\u0345\u0344\u0001\u0000\u0000"+
-		"\u0000\u0346\u0347\u0001\u0000\u0000\u0000\u0347\u0348\u0005\'\u0000\u0000"+
-		"\u0348\u009a\u0001\u0000\u0000\u0000\u0349\u034a\u0005b\u0000\u0000\u034a"+
-		"\u034b\u0005\"\u0000\u0000\u034b\u0351\u0001\u0000\u0000\u0000\u034c\u0350"+
-		"\b\u000b\u0000\u0000\u034d\u0350\u0003\u00a7S\u0000\u034e\u0350\u0003"+
-		"\u00a1P\u0000\u034f\u034c\u0001\u0000\u0000\u0000\u034f\u034d\u0001\u0000"+
-		"\u0000\u0000\u034f\u034e\u0001\u0000\u0000\u0000\u0350\u0353\u0001\u0000"+
-		"\u0000\u0000\u0351\u034f\u0001\u0000\u0000\u0000\u0351\u0352\u0001\u0000"+
-		"\u0000\u0000\u0352\u0354\u0001\u0000\u0000\u0000\u0353\u0351\u0001\u0000"+
-		"\u0000\u0000\u0354\u0355\u0005\"\u0000\u0000\u0355\u009c\u0001\u0000\u0000"+
-		"\u0000\u0356\u0357\u0005b\u0000\u0000\u0357\u0358\u0005r\u0000\u0000\u0358"+
-		"\u0359\u0001\u0000\u0000\u0000\u0359\u035a\u0003\u0097K\u0000\u035a\u009e"+
-		"\u0001\u0000\u0000\u0000\u035b\u035c\u0005\\\u0000\u0000\u035c\u035d\u0005"+
-		"x\u0000\u0000\u035d\u035e\u0001\u0000\u0000\u0000\u035e\u035f\u0003\u00bd"+
-		"^\u0000\u035f\u0360\u0003\u00c1`\u0000\u0360\u0363\u0001\u0000\u0000\u0000"+
-		"\u0361\u0363\u0003\u00a3Q\u0000\u0362\u035b\u0001\u0000\u0000\u0000\u0362"+
-		"\u0361\u0001\u0000\u0000\u0000\u0363\u00a0\u0001\u0000\u0000\u0000\u0364"+
-		"\u0365\u0005\\\u0000\u0000\u0365\u0366\u0005x\u0000\u0000\u0366\u0367"+
-		"\u0001\u0000\u0000\u0000\u0367\u0368\u0003\u00c1`\u0000\u0368\u0369\u0003"+
-		"\u00c1`\u0000\u0369\u036c\u0001\u0000\u0000\u0000\u036a\u036c\u0003\u00a3"+
-		"Q\u0000\u036b\u0364\u0001\u0000\u0000\u0000\u036b\u036a\u0001\u0000\u0000"+
-		"\u0000\u036c\u00a2\u0001\u0000\u0000\u0000\u036d\u036e\u0005\\\u0000\u0000"+
-		"\u036e\u036f\u0007\f\u0000\u0000\u036f\u00a4\u0001\u0000\u0000\u0000\u0370"+
-		"\u0371\u0005\\\u0000\u0000\u0371\u0372\u0005u\u0000\u0000\u0372\u0373"+
-		"\u0005{\u0000\u0000\u0373\u0374\u0001\u0000\u0000\u0000\u0374\u0376\u0003"+
-		"\u00c1`\u0000\u0375\u0377\u0003\u00c1`\u0000\u0376\u0375\u0001\u0000\u0000"+
-		"\u0000\u0376\u0377\u0001\u0000\u0000\u0000\u0377\u0379\u0001\u0000\u0000"+
-		"\u0000\u0378\u037a\u0003\u00c1`\u0000\u0379\u0378\u0001\u0000\u0000\u0000"+
-		"\u0379\u037a\u0001\u0000\u0000\u0000\u037a\u037c\u0001\u0000\u0000\u0000"+
-		"\u037b\u037d\u0003\u00c1`\u0000\u037c\u037b\u0001\u0000\u0000\u0000\u037c"+
-		"\u037d\u0001\u0000\u0000\u0000\u037d\u037f\u0001\u0000\u0000\u0000\u037e"+
-		"\u0380\u0003\u00c1`\u0000\u037f\u037e\u0001\u0000\u0000\u0000\u037f\u0380"+
-		"\u0001\u0000\u0000\u0000\u0380\u0382\u0001\u0000\u0000\u0000\u0381\u0383"+
-		"\u0003\u00c1`\u0000\u0382\u0381\u0001\u0000\u0000\u0000\u0382\u0383\u0001"+
-		"\u0000\u0000\u0000\u0383\u0384\u0001\u0000\u0000\u0000\u0384\u0385\u0005"+
-		"}\u0000\u0000\u0385\u00a6\u0001\u0000\u0000\u0000\u0386\u0387\u0005\\"+
-		"\u0000\u0000\u0387\u0388\u0007\r\u0000\u0000\u0388\u00a8\u0001\u0000\u0000"+
-		"\u0000\u0389\u038a\u0005\\\u0000\u0000\u038a\u038b\u0005\n\u0000\u0000"+
-		"\u038b\u00aa\u0001\u0000\u0000\u0000\u038c\u0391\u0003\u00adV\u0000\u038d"+
-		"\u0391\u0003\u00b3Y\u0000\u038e\u0391\u0003\u00b1X\u0000\u038f\u0391\u0003"+
-		"\u00afW\u0000\u0390\u038c\u0001\u0000\u0000\u0000\u0390\u038d\u0001\u0000"+
-		"\u0000\u0000\u0390\u038e\u0001\u0000\u0000\u0000\u0390\u038f\u0001\u0000"+
-		"\u0000\u0000\u0391\u0393\u0001\u0000\u0000\u0000\u0392\u0394\u0003\u00b7"+
-		"[\u0000\u0393\u0392\u0001\u0000\u0000\u0000\u0393\u0394\u0001\u0000\u0000"+
-		"\u0000\u0394\u00ac\u0001\u0000\u0000\u0000\u0395\u039a\u0003\u00bf_\u0000"+
-		"\u0396\u0399\u0003\u00bf_\u0000\u0397\u0399\u0005_\u0000\u0000\u0398\u0396"+
-		"\u0001\u0000\u0000\u0000\u0398\u0397\u0001\u0000\u0000\u0000\u0399\u039c"+
-		"\u0001\u0000\u0000\u0000\u039a\u0398\u0001\u0000\u0000\u0000\u039a\u039b"+
-		"\u0001\u0000\u0000\u0000\u039b\u00ae\u0001\u0000\u0000\u0000\u039c\u039a"+
-		"\u0001\u0000\u0000\u0000\u039d\u039e\u00050\u0000\u0000\u039e\u039f\u0005"+
-		"x\u0000\u0000\u039f\u03a3\u0001\u0000\u0000\u0000\u03a0\u03a2\u0005_\u0000"+
-		"\u0000\u03a1\u03a0\u0001\u0000\u0000\u0000\u03a2\u03a5\u0001\u0000\u0000"+
-		"\u0000\u03a3\u03a1\u0001\u0000\u0000\u0000\u03a3\u03a4\u0001\u0000\u0000"+
-		"\u0000\u03a4\u03a6\u0001\u0000\u0000\u0000\u03a5\u03a3\u0001\u0000\u0000"+
-		"\u0000\u03a6\u03ab\u0003\u00c1`\u0000\u03a7\u03aa\u0003\u00c1`\u0000\u03a8"+
-		"\u03aa\u0005_\u0000\u0000\u03a9\u03a7\u0001\u0000\u0000\u0000\u03a9\u03a8"+
-		"\u0001\u0000\u0000\u0000\u03aa\u03ad\u0001\u0000\u0000\u0000\u03ab\u03a9"+
-		"\u0001\u0000\u0000\u0000\u03ab\u03ac\u0001\u0000\u0000\u0000\u03ac\u00b0"+
-		"\u0001\u0000\u0000\u0000\u03ad\u03ab\u0001\u0000\u0000\u0000\u03ae\u03af"+
-		"\u00050\u0000\u0000\u03af\u03b0\u0005o\u0000\u0000\u03b0\u03b4\u0001\u0000"+
-		"\u0000\u0000\u03b1\u03b3\u0005_\u0000\u0000\u03b2\u03b1\u0001\u0000\u0000"+
-		"\u0000\u03b3\u03b6\u0001\u0000\u0000\u0000\u03b4\u03b2\u0001\u0000\u0000"+
-		"\u0000\u03b4\u03b5\u0001\u0000\u0000\u0000\u03b5\u03b7\u0001\u0000\u0000"+
-		"\u0000\u03b6\u03b4\u0001\u0000\u0000\u0000\u03b7\u03bc\u0003\u00bd^\u0000"+
-		"\u03b8\u03bb\u0003\u00bd^\u0000\u03b9\u03bb\u0005_\u0000\u0000\u03ba\u03b8"+
-		"\u0001\u0000\u0000\u0000\u03ba\u03b9\u0001\u0000\u0000\u0000\u03bb\u03be"+
-		"\u0001\u0000\u0000\u0000\u03bc\u03ba\u0001\u0000\u0000\u0000\u03bc\u03bd"+
-		"\u0001\u0000\u0000\u0000\u03bd\u00b2\u0001\u0000\u0000\u0000\u03be\u03bc"+
-		"\u0001\u0000\u0000\u0000\u03bf\u03c0\u00050\u0000\u0000\u03c0\u03c1\u0005"+
-		"b\u0000\u0000\u03c1\u03c5\u0001\u0000\u0000\u0000\u03c2\u03c4\u0005_\u0000"+
-		"\u0000\u03c3\u03c2\u0001\u0000\u0000\u0000\u03c4\u03c7\u0001\u0000\u0000"+
-		"\u0000\u03c5\u03c3\u0001\u0000\u0000\u0000\u03c5\u03c6\u0001\u0000\u0000"+
-		"\u0000\u03c6\u03c8\u0001\u0000\u0000\u0000\u03c7\u03c5\u0001\u0000\u0000"+
-		"\u0000\u03c8\u03cc\u0007\u000e\u0000\u0000\u03c9\u03cb\u0007\u000f\u0000"+
-		"\u0000\u03ca\u03c9\u0001\u0000\u0000\u0000\u03cb\u03ce\u0001\u0000\u0000"+
-		"\u0000\u03cc\u03ca\u0001\u0000\u0000\u0000\u03cc\u03cd\u0001\u0000\u0000"+
-		"\u0000\u03cd\u00b4\u0001\u0000\u0000\u0000\u03ce\u03cc\u0001\u0000\u0000"+
-		"\u0000\u03cf\u03df\u0004Z\u0001\u0000\u03d0\u03d1\u0003\u00adV\u0000\u03d1"+
-		"\u03d2\u0005.\u0000\u0000\u03d2\u03d3\u0004Z\u0002\u0000\u03d3\u03e0\u0001"+
-		"\u0000\u0000\u0000\u03d4\u03d7\u0003\u00adV\u0000\u03d5\u03d6\u0005.\u0000"+
-		"\u0000\u03d6\u03d8\u0003\u00adV\u0000\u03d7\u03d5\u0001\u0000\u0000\u0000"+
-		"\u03d7\u03d8\u0001\u0000\u0000\u0000\u03d8\u03da\u0001\u0000\u0000\u0000"+
-		"\u03d9\u03db\u0003\u00bb]\u0000\u03da\u03d9\u0001\u0000\u0000\u0000\u03da"+
-		"\u03db\u0001\u0000\u0000\u0000\u03db\u03dd\u0001\u0000\u0000\u0000\u03dc"+
-		"\u03de\u0003\u00b9\\\u0000\u03dd\u03dc\u0001\u0000\u0000\u0000\u03dd\u03de"+
-		"\u0001\u0000\u0000\u0000\u03de\u03e0\u0001\u0000\u0000\u0000\u03df\u03d0"+
-		"\u0001\u0000\u0000\u0000\u03df\u03d4\u0001\u0000\u0000\u0000\u03e0\u00b6"+
-		"\u0001\u0000\u0000\u0000\u03e1\u03e2\u0005u\u0000\u0000\u03e2\u040a\u0005"+
-		"8\u0000\u0000\u03e3\u03e4\u0005u\u0000\u0000\u03e4\u03e5\u00051\u0000"+
-		"\u0000\u03e5\u040a\u00056\u0000\u0000\u03e6\u03e7\u0005u\u0000\u0000\u03e7"+
-		"\u03e8\u00053\u0000\u0000\u03e8\u040a\u00052\u0000\u0000\u03e9\u03ea\u0005"+
-		"u\u0000\u0000\u03ea\u03eb\u00056\u0000\u0000\u03eb\u040a\u00054\u0000"+
-		"\u0000\u03ec\u03ed\u0005u\u0000\u0000\u03ed\u03ee\u00051\u0000\u0000\u03ee"+
-		"\u03ef\u00052\u0000\u0000\u03ef\u040a\u00058\u0000\u0000\u03f0\u03f1\u0005"+
-		"u\u0000\u0000\u03f1\u03f2\u0005s\u0000\u0000\u03f2\u03f3\u0005i\u0000"+
-		"\u0000\u03f3\u03f4\u0005z\u0000\u0000\u03f4\u040a\u0005e\u0000\u0000\u03f5"+
-		"\u03f6\u0005i\u0000\u0000\u03f6\u040a\u00058\u0000\u0000\u03f7\u03f8\u0005"+
-		"i\u0000\u0000\u03f8\u03f9\u00051\u0000\u0000\u03f9\u040a\u00056\u0000"+
-		"\u0000\u03fa\u03fb\u0005i\u0000\u0000\u03fb\u03fc\u00053\u0000\u0000\u03fc"+
-		"\u040a\u00052\u0000\u0000\u03fd\u03fe\u0005i\u0000\u0000\u03fe\u03ff\u0005"+
-		"6\u0000\u0000\u03ff\u040a\u00054\u0000\u0000\u0400\u0401\u0005i\u0000"+
-		"\u0000\u0401\u0402\u00051\u0000\u0000\u0402\u0403\u00052\u0000\u0000\u0403"+
-		"\u040a\u00058\u0000\u0000\u0404\u0405\u0005i\u0000\u0000\u0405\u0406\u0005"+
-		"s\u0000\u0000\u0406\u0407\u0005i\u0000\u0000\u0407\u0408\u0005z\u0000"+
-		"\u0000\u0408\u040a\u0005e\u0000\u0000\u0409\u03e1\u0001\u0000\u0000\u0000"+
-		"\u0409\u03e3\u0001\u0000\u0000\u0000\u0409\u03e6\u0001\u0000\u0000\u0000"+
-		"\u0409\u03e9\u0001\u0000\u0000\u0000\u0409\u03ec\u0001\u0000\u0000\u0000"+
-		"\u0409\u03f0\u0001\u0000\u0000\u0000\u0409\u03f5\u0001\u0000\u0000\u0000"+
-		"\u0409\u03f7\u0001\u0000\u0000\u0000\u0409\u03fa\u0001\u0000\u0000\u0000"+
-		"\u0409\u03fd\u0001\u0000\u0000\u0000\u0409\u0400\u0001\u0000\u0000\u0000"+
-		"\u0409\u0404\u0001\u0000\u0000\u0000\u040a\u00b8\u0001\u0000\u0000\u0000"+
-		"\u040b\u040c\u0005f\u0000\u0000\u040c\u040d\u00053\u0000\u0000\u040d\u0412"+
-		"\u00052\u0000\u0000\u040e\u040f\u0005f\u0000\u0000\u040f\u0410\u00056"+
-		"\u0000\u0000\u0410\u0412\u00054\u0000\u0000\u0411\u040b\u0001\u0000\u0000"+
-		"\u0000\u0411\u040e\u0001\u0000\u0000\u0000\u0412\u00ba\u0001\u0000\u0000"+
-		"\u0000\u0413\u0415\u0007\u0010\u0000\u0000\u0414\u0416\u0007\u0011\u0000"+
-		"\u0000\u0415\u0414\u0001\u0000\u0000\u0000\u0415\u0416\u0001\u0000\u0000"+
-		"\u0000\u0416\u041a\u0001\u0000\u0000\u0000\u0417\u0419\u0005_\u0000\u0000"+
-		"\u0418\u0417\u0001\u0000\u0000\u0000\u0419\u041c\u0001\u0000\u0000\u0000"+
-		"\u041a\u0418\u0001\u0000\u0000\u0000\u041a\u041b\u0001\u0000\u0000\u0000"+
-		"\u041b\u041d\u0001\u0000\u0000\u0000\u041c\u041a\u0001\u0000\u0000\u0000"+
-		"\u041d\u041e\u0003\u00adV\u0000\u041e\u00bc\u0001\u0000\u0000\u0000\u041f"+
-		"\u0420\u0007\u0012\u0000\u0000\u0420\u00be\u0001\u0000\u0000\u0000\u0421"+
-		"\u0422\u0007\u0013\u0000\u0000\u0422\u00c0\u0001\u0000\u0000\u0000\u0423"+
-		"\u0424\u0007\u0014\u0000\u0000\u0424\u00c2\u0001\u0000\u0000\u0000\u0425"+
-		"\u0426\u0005\'\u0000\u0000\u0426\u0427\u0003q8\u0000\u0427\u00c4\u0001"+
-		"\u0000\u0000\u0000\u0428\u0429\u0005+\u0000\u0000\u0429\u00c6\u0001\u0000"+
-		"\u0000\u0000\u042a\u042b\u0005-\u0000\u0000\u042b\u00c8\u0001\u0000\u0000"+
-		"\u0000\u042c\u042d\u0005*\u0000\u0000\u042d\u00ca\u0001\u0000\u0000\u0000"+
-		"\u042e\u042f\u0005/\u0000\u0000\u042f\u00cc\u0001\u0000\u0000\u0000\u0430"+
-		"\u0431\u0005%\u0000\u0000\u0431\u00ce\u0001\u0000\u0000\u0000\u0432\u0433"+
-		"\u0005^\u0000\u0000\u0433\u00d0\u0001\u0000\u0000\u0000\u0434\u0435\u0005"+
-		"!\u0000\u0000\u0435\u00d2\u0001\u0000\u0000\u0000\u0436\u0437\u0005&\u0000"+
-		"\u0000\u0437\u00d4\u0001\u0000\u0000\u0000\u0438\u0439\u0005|\u0000\u0000"+
-		"\u0439\u00d6\u0001\u0000\u0000\u0000\u043a\u043b\u0005&\u0000\u0000\u043b"+
-		"\u043c\u0005&\u0000\u0000\u043c\u00d8\u0001\u0000\u0000\u0000\u043d\u043e"+
-		"\u0005|\u0000\u0000\u043e\u043f\u0005|\u0000\u0000\u043f\u00da\u0001\u0000"+
-		"\u0000\u0000\u0440\u0441\u0005+\u0000\u0000\u0441\u0442\u0005=\u0000\u0000"+
-		"\u0442\u00dc\u0001\u0000\u0000\u0000\u0443\u0444\u0005-\u0000\u0000\u0444"+
-		"\u0445\u0005=\u0000\u0000\u0445\u00de\u0001\u0000\u0000\u0000\u0446\u0447"+
-		"\u0005*\u0000\u0000\u0447\u0448\u0005=\u0000\u0000\u0448\u00e0\u0001\u0000"+
-		"\u0000\u0000\u0449\u044a\u0005/\u0000\u0000\u044a\u044b\u0005=\u0000\u0000"+
-		"\u044b\u00e2\u0001\u0000\u0000\u0000\u044c\u044d\u0005%\u0000\u0000\u044d"+
-		"\u044e\u0005=\u0000\u0000\u044e\u00e4\u0001\u0000\u0000\u0000\u044f\u0450"+
-		"\u0005^\u0000\u0000\u0450\u0451\u0005=\u0000\u0000\u0451\u00e6\u0001\u0000"+
-		"\u0000\u0000\u0452\u0453\u0005&\u0000\u0000\u0453\u0454\u0005=\u0000\u0000"+
-		"\u0454\u00e8\u0001\u0000\u0000\u0000\u0455\u0456\u0005|\u0000\u0000\u0456"+
-		"\u0457\u0005=\u0000\u0000\u0457\u00ea\u0001\u0000\u0000\u0000\u0458\u0459"+
-		"\u0005<\u0000\u0000\u0459\u045a\u0005<\u0000\u0000\u045a\u045b\u0005="+
-		"\u0000\u0000\u045b\u00ec\u0001\u0000\u0000\u0000\u045c\u045d\u0005>\u0000"+
-		"\u0000\u045d\u045e\u0005>\u0000\u0000\u045e\u045f\u0005=\u0000\u0000\u045f"+
-		"\u00ee\u0001\u0000\u0000\u0000\u0460\u0461\u0005=\u0000\u0000\u0461\u00f0"+
-		"\u0001\u0000\u0000\u0000\u0462\u0463\u0005=\u0000\u0000\u0463\u0464\u0005"+
-		"=\u0000\u0000\u0464\u00f2\u0001\u0000\u0000\u0000\u0465\u0466\u0005!\u0000"+
-		"\u0000\u0466\u0467\u0005=\u0000\u0000\u0467\u00f4\u0001\u0000\u0000\u0000"+
-		"\u0468\u0469\u0005>\u0000\u0000\u0469\u00f6\u0001\u0000\u0000\u0000\u046a"+
-		"\u046b\u0005<\u0000\u0000\u046b\u00f8\u0001\u0000\u0000\u0000\u046c\u046d"+
-		"\u0005>\u0000\u0000\u046d\u046e\u0005=\u0000\u0000\u046e\u00fa\u0001\u0000"+
-		"\u0000\u0000\u046f\u0470\u0005<\u0000\u0000\u0470\u0471\u0005=\u0000\u0000"+
-		"\u0471\u00fc\u0001\u0000\u0000\u0000\u0472\u0473\u0005@\u0000\u0000\u0473"+
-		"\u00fe\u0001\u0000\u0000\u0000\u0474\u0475\u0005_\u0000\u0000\u0475\u0100"+
-		"\u0001\u0000\u0000\u0000\u0476\u0477\u0005.\u0000\u0000\u0477\u0102\u0001"+
-		"\u0000\u0000\u0000\u0478\u0479\u0005.\u0000\u0000\u0479\u047a\u0005.\u0000"+
-		"\u0000\u047a\u0104\u0001\u0000\u0000\u0000\u047b\u047c\u0005.\u0000\u0000"+
-		"\u047c\u047d\u0005.\u0000\u0000\u047d\u047e\u0005.\u0000\u0000\u047e\u0106"+
-		"\u0001\u0000\u0000\u0000\u047f\u0480\u0005.\u0000\u0000\u0480\u0481\u0005"+
-		".\u0000\u0000\u0481\u0482\u0005=\u0000\u0000\u0482\u0108\u0001\u0000\u0000"+
-		"\u0000\u0483\u0484\u0005,\u0000\u0000\u0484\u010a\u0001\u0000\u0000\u0000"+
-		"\u0485\u0486\u0005;\u0000\u0000\u0486\u010c\u0001\u0000\u0000\u0000\u0487"+
-		"\u0488\u0005:\u0000\u0000\u0488\u010e\u0001\u0000\u0000\u0000\u0489\u048a"+
-		"\u0005:\u0000\u0000\u048a\u048b\u0005:\u0000\u0000\u048b\u0110\u0001\u0000"+
-		"\u0000\u0000\u048c\u048d\u0005-\u0000\u0000\u048d\u048e\u0005>\u0000\u0000"+
-		"\u048e\u0112\u0001\u0000\u0000\u0000\u048f\u0490\u0005=\u0000\u0000\u0490"+
-		"\u0491\u0005>\u0000\u0000\u0491\u0114\u0001\u0000\u0000\u0000\u0492\u0493"+
-		"\u0005#\u0000\u0000\u0493\u0116\u0001\u0000\u0000\u0000\u0494\u0495\u0005"+
-		"$\u0000\u0000\u0495\u0118\u0001\u0000\u0000\u0000\u0496\u0497\u0005?\u0000"+
-		"\u0000\u0497\u011a\u0001\u0000\u0000\u0000\u0498\u0499\u0005{\u0000\u0000"+
-		"\u0499\u011c\u0001\u0000\u0000\u0000\u049a\u049b\u0005}\u0000\u0000\u049b"+
-		"\u011e\u0001\u0000\u0000\u0000\u049c\u049d\u0005[\u0000\u0000\u049d\u0120"+
-		"\u0001\u0000\u0000\u0000\u049e\u049f\u0005]\u0000\u0000\u049f\u0122\u0001"+
-		"\u0000\u0000\u0000\u04a0\u04a1\u0005(\u0000\u0000\u04a1\u0124\u0001\u0000"+
-		"\u0000\u0000\u04a2\u04a3\u0005)\u0000\u0000\u04a3\u0126\u0001\u0000\u0000"+
-		"\u0000<\u0000\u0268\u026f\u0271\u0275\u027a\u028b\u0290\u0295\u02a0\u02a4"+
-		"\u02a6\u02b4\u02bf\u02ca\u02cc\u02dc\u02df\u02e9\u02ed\u02ef\u02fa\u0300"+
-		"\u0308\u0314\u031d\u0327\u0329\u0339\u033d\u0345\u034f\u0351\u0362\u036b"+
-		"\u0376\u0379\u037c\u037f\u0382\u0390\u0393\u0398\u039a\u03a3\u03a9\u03ab"+
-		"\u03b4\u03ba\u03bc\u03c5\u03cc\u03d7\u03da\u03dd\u03df\u0409\u0411\u0415"+
-		"\u041a\u0001\u0000\u0001\u0000";
+		"\u02fe\u02ff\u0005\u8000\ufeff\u0000\u0000\u02ff\u0300\u0004E\u0000\u0000"+
+		"\u0300\u0301\u0005#\u0000\u0000\u0301\u0306\u0005!\u0000\u0000\u0302\u0303"+
+		"\u0005#\u0000\u0000\u0303\u0304\u0004E\u0001\u0000\u0304\u0306\u0005!"+
+		"\u0000\u0000\u0305\u02fe\u0001\u0000\u0000\u0000\u0305\u0302\u0001\u0000"+
+		"\u0000\u0000\u0306\u030a\u0001\u0000\u0000\u0000\u0307\u0309\b\u0005\u0000"+
+		"\u0000\u0308\u0307\u0001\u0000\u0000\u0000\u0309\u030c\u0001\u0000\u0000"+
+		"\u0000\u030a\u0308\u0001\u0000\u0000\u0000\u030a\u030b\u0001\u0000\u0000"+
+		"\u0000\u030b\u030d\u0001\u0000\u0000\u0000\u030c\u030a\u0001\u0000\u0000"+
+		"\u0000\u030d\u030e\u0006E\u0000\u0000\u030e\u008c\u0001\u0000\u0000\u0000"+
+		"\u030f\u0310\u0007\t\u0000\u0000\u0310\u0311\u0001\u0000\u0000\u0000\u0311"+
+		"\u0312\u0006F\u0000\u0000\u0312\u008e\u0001\u0000\u0000\u0000\u0313\u0314"+
+		"\u0005\r\u0000\u0000\u0314\u0317\u0005\n\u0000\u0000\u0315\u0317\u0007"+
+		"\u0005\u0000\u0000\u0316\u0313\u0001\u0000\u0000\u0000\u0316\u0315\u0001"+
+		"\u0000\u0000\u0000\u0317\u0318\u0001\u0000\u0000\u0000\u0318\u0319\u0006"+
+		"G\u0000\u0000\u0319\u0090\u0001\u0000\u0000\u0000\u031a\u031f\u0005\'"+
+		"\u0000\u0000\u031b\u0320\b\n\u0000\u0000\u031c\u0320\u0003\u00a7S\u0000"+
+		"\u031d\u0320\u0003\u009fO\u0000\u031e\u0320\u0003\u00a5R\u0000\u031f\u031b"+
+		"\u0001\u0000\u0000\u0000\u031f\u031c\u0001\u0000\u0000\u0000\u031f\u031d"+
+		"\u0001\u0000\u0000\u0000\u031f\u031e\u0001\u0000\u0000\u0000\u0320\u0321"+
+		"\u0001\u0000\u0000\u0000\u0321\u0322\u0005\'\u0000\u0000\u0322\u0092\u0001"+
+		"\u0000\u0000\u0000\u0323\u032b\u0005\"\u0000\u0000\u0324\u032a\b\u000b"+
+		"\u0000\u0000\u0325\u032a\u0003\u00a7S\u0000\u0326\u032a\u0003\u009fO\u0000"+
+		"\u0327\u032a\u0003\u00a5R\u0000\u0328\u032a\u0003\u00a9T\u0000\u0329\u0324"+
+		"\u0001\u0000\u0000\u0000\u0329\u0325\u0001\u0000\u0000\u0000\u0329\u0326"+
+		"\u0001\u0000\u0000\u0000\u0329\u0327\u0001\u0000\u0000\u0000\u0329\u0328"+
+		"\u0001\u0000\u0000\u0000\u032a\u032d\u0001\u0000\u0000\u0000\u032b\u0329"+
+		"\u0001\u0000\u0000\u0000\u032b\u032c\u0001\u0000\u0000\u0000\u032c\u032e"+
+		"\u0001\u0000\u0000\u0000\u032d\u032b\u0001\u0000\u0000\u0000\u032e\u032f"+
+		"\u0005\"\u0000\u0000\u032f\u0094\u0001\u0000\u0000\u0000\u0330\u0331\u0005"+
+		"r\u0000\u0000\u0331\u0332\u0003\u0097K\u0000\u0332\u0096\u0001\u0000\u0000"+
+		"\u0000\u0333\u0334\u0005#\u0000\u0000\u0334\u0335\u0003\u0097K\u0000\u0335"+
+		"\u0336\u0005#\u0000\u0000\u0336\u0340\u0001\u0000\u0000\u0000\u0337\u033b"+
+		"\u0005\"\u0000\u0000\u0338\u033a\t\u0000\u0000\u0000\u0339\u0338\u0001"+
+		"\u0000\u0000\u0000\u033a\u033d\u0001\u0000\u0000\u0000\u033b\u033c\u0001"+
+		"\u0000\u0000\u0000\u033b\u0339\u0001\u0000\u0000\u0000\u033c\u033e\u0001"+
+		"\u0000\u0000\u0000\u033d\u033b\u0001\u0000\u0000\u0000\u033e\u0340\u0005"+
+		"\"\u0000\u0000\u033f\u0333\u0001\u0000\u0000\u0000\u033f\u0337\u0001\u0000"+
+		"\u0000\u0000\u0340\u0098\u0001\u0000\u0000\u0000\u0341\u0342\u0005b\u0000"+
+		"\u0000\u0342\u0343\u0005\'\u0000\u0000\u0343\u0347\u0001\u0000\u0000\u0000"+
+		"\u0344\u0348\t\u0000\u0000\u0000\u0345\u0348\u0003\u00a7S\u0000\u0346"+
+		"\u0348\u0003\u00a1P\u0000\u0347\u0344\u0001\u0000\u0000\u0000\u0347\u0345"+
+		"\u0001\u0000\u0000\u0000\u0347\u0346\u0001\u0000\u0000\u0000\u0348\u0349"+
+		"\u0001\u0000\u0000\u0000\u0349\u034a\u0005\'\u0000\u0000\u034a\u009a\u0001"+
+		"\u0000\u0000\u0000\u034b\u034c\u0005b\u0000\u0000\u034c\u034d\u0005\""+
+		"\u0000\u0000\u034d\u0353\u0001\u0000\u0000\u0000\u034e\u0352\b\u000b\u0000"+
+		"\u0000\u034f\u0352\u0003\u00a7S\u0000\u0350\u0352\u0003\u00a1P\u0000\u0351"+
+		"\u034e\u0001\u0000\u0000\u0000\u0351\u034f\u0001\u0000\u0000\u0000\u0351"+
+		"\u0350\u0001\u0000\u0000\u0000\u0352\u0355\u0001\u0000\u0000\u0000\u0353"+
+		"\u0351\u0001\u0000\u0000\u0000\u0353\u0354\u0001\u0000\u0000\u0000\u0354"+
+		"\u0356\u0001\u0000\u0000\u0000\u0355\u0353\u0001\u0000\u0000\u0000\u0356"+
+		"\u0357\u0005\"\u0000\u0000\u0357\u009c\u0001\u0000\u0000\u0000\u0358\u0359"+
+		"\u0005b\u0000\u0000\u0359\u035a\u0005r\u0000\u0000\u035a\u035b\u0001\u0000"+
+		"\u0000\u0000\u035b\u035c\u0003\u0097K\u0000\u035c\u009e\u0001\u0000\u0000"+
+		"\u0000\u035d\u035e\u0005\\\u0000\u0000\u035e\u035f\u0005x\u0000\u0000"+
+		"\u035f\u0360\u0001\u0000\u0000\u0000\u0360\u0361\u0003\u00bd^\u0000\u0361"+
+		"\u0362\u0003\u00c1`\u0000\u0362\u0365\u0001\u0000\u0000\u0000\u0363\u0365"+
+		"\u0003\u00a3Q\u0000\u0364\u035d\u0001\u0000\u0000\u0000\u0364\u0363\u0001"+
+		"\u0000\u0000\u0000\u0365\u00a0\u0001\u0000\u0000\u0000\u0366\u0367\u0005"+
+		"\\\u0000\u0000\u0367\u0368\u0005x\u0000\u0000\u0368\u0369\u0001\u0000"+
+		"\u0000\u0000\u0369\u036a\u0003\u00c1`\u0000\u036a\u036b\u0003\u00c1`\u0000"+
+		"\u036b\u036e\u0001\u0000\u0000\u0000\u036c\u036e\u0003\u00a3Q\u0000\u036d"+
+		"\u0366\u0001\u0000\u0000\u0000\u036d\u036c\u0001\u0000\u0000\u0000\u036e"+
+		"\u00a2\u0001\u0000\u0000\u0000\u036f\u0370\u0005\\\u0000\u0000\u0370\u0371"+
+		"\u0007\f\u0000\u0000\u0371\u00a4\u0001\u0000\u0000\u0000\u0372\u0373\u0005"+
+		"\\\u0000\u0000\u0373\u0374\u0005u\u0000\u0000\u0374\u0375\u0005{\u0000"+
+		"\u0000\u0375\u0376\u0001\u0000\u0000\u0000\u0376\u0378\u0003\u00c1`\u0000"+
+		"\u0377\u0379\u0003\u00c1`\u0000\u0378\u0377\u0001\u0000\u0000\u0000\u0378"+
+		"\u0379\u0001\u0000\u0000\u0000\u0379\u037b\u0001\u0000\u0000\u0000\u037a"+
+		"\u037c\u0003\u00c1`\u0000\u037b\u037a\u0001\u0000\u0000\u0000\u037b\u037c"+
+		"\u0001\u0000\u0000\u0000\u037c\u037e\u0001\u0000\u0000\u0000\u037d\u037f"+
+		"\u0003\u00c1`\u0000\u037e\u037d\u0001\u0000\u0000\u0000\u037e\u037f\u0001"+
+		"\u0000\u0000\u0000\u037f\u0381\u0001\u0000\u0000\u0000\u0380\u0382\u0003"+
+		"\u00c1`\u0000\u0381\u0380\u0001\u0000\u0000\u0000\u0381\u0382\u0001\u0000"+
+		"\u0000\u0000\u0382\u0384\u0001\u0000\u0000\u0000\u0383\u0385\u0003\u00c1"+
+		"`\u0000\u0384\u0383\u0001\u0000\u0000\u0000\u0384\u0385\u0001\u0000\u0000"+
+		"\u0000\u0385\u0386\u0001\u0000\u0000\u0000\u0386\u0387\u0005}\u0000\u0000"+
+		"\u0387\u00a6\u0001\u0000\u0000\u0000\u0388\u0389\u0005\\\u0000\u0000\u0389"+
+		"\u038a\u0007\r\u0000\u0000\u038a\u00a8\u0001\u0000\u0000\u0000\u038b\u038c"+
+		"\u0005\\\u0000\u0000\u038c\u038d\u0005\n\u0000\u0000\u038d\u00aa\u0001"+
+		"\u0000\u0000\u0000\u038e\u0393\u0003\u00adV\u0000\u038f\u0393\u0003\u00b3"+
+		"Y\u0000\u0390\u0393\u0003\u00b1X\u0000\u0391\u0393\u0003\u00afW\u0000"+
+		"\u0392\u038e\u0001\u0000\u0000\u0000\u0392\u038f\u0001\u0000\u0000\u0000"+
+		"\u0392\u0390\u0001\u0000\u0000\u0000\u0392\u0391\u0001\u0000\u0000\u0000"+
+		"\u0393\u0395\u0001\u0000\u0000\u0000\u0394\u0396\u0003\u00b7[\u0000\u0395"+
+		"\u0394\u0001\u0000\u0000\u0000\u0395\u0396\u0001\u0000\u0000\u0000\u0396"+
+		"\u00ac\u0001\u0000\u0000\u0000\u0397\u039c\u0003\u00bf_\u0000\u0398\u039b"+
+		"\u0003\u00bf_\u0000\u0399\u039b\u0005_\u0000\u0000\u039a\u0398\u0001\u0000"+
+		"\u0000\u0000\u039a\u0399\u0001\u0000\u0000\u0000\u039b\u039e\u0001\u0000"+
+		"\u0000\u0000\u039c\u039a\u0001\u0000\u0000\u0000\u039c\u039d\u0001\u0000"+
+		"\u0000\u0000\u039d\u00ae\u0001\u0000\u0000\u0000\u039e\u039c\u0001\u0000"+
+		"\u0000\u0000\u039f\u03a0\u00050\u0000\u0000\u03a0\u03a1\u0005x\u0000\u0000"+
+		"\u03a1\u03a5\u0001\u0000\u0000\u0000\u03a2\u03a4\u0005_\u0000\u0000\u03a3"+
+		"\u03a2\u0001\u0000\u0000\u0000\u03a4\u03a7\u0001\u0000\u0000\u0000\u03a5"+
+		"\u03a3\u0001\u0000\u0000\u0000\u03a5\u03a6\u0001\u0000\u0000\u0000\u03a6"+
+		"\u03a8\u0001\u0000\u0000\u0000\u03a7\u03a5\u0001\u0000\u0000\u0000\u03a8"+
+		"\u03ad\u0003\u00c1`\u0000\u03a9\u03ac\u0003\u00c1`\u0000\u03aa\u03ac\u0005"+
+		"_\u0000\u0000\u03ab\u03a9\u0001\u0000\u0000\u0000\u03ab\u03aa\u0001\u0000"+
+		"\u0000\u0000\u03ac\u03af\u0001\u0000\u0000\u0000\u03ad\u03ab\u0001\u0000"+
+		"\u0000\u0000\u03ad\u03ae\u0001\u0000\u0000\u0000\u03ae\u00b0\u0001\u0000"+
+		"\u0000\u0000\u03af\u03ad\u0001\u0000\u0000\u0000\u03b0\u03b1\u00050\u0000"+
+		"\u0000\u03b1\u03b2\u0005o\u0000\u0000\u03b2\u03b6\u0001\u0000\u0000\u0000"+
+		"\u03b3\u03b5\u0005_\u0000\u0000\u03b4\u03b3\u0001\u0000\u0000\u0000\u03b5"+
+		"\u03b8\u0001\u0000\u0000\u0000\u03b6\u03b4\u0001\u0000\u0000\u0000\u03b6"+
+		"\u03b7\u0001\u0000\u0000\u0000\u03b7\u03b9\u0001\u0000\u0000\u0000\u03b8"+
+		"\u03b6\u0001\u0000\u0000\u0000\u03b9\u03be\u0003\u00bd^\u0000\u03ba\u03bd"+
+		"\u0003\u00bd^\u0000\u03bb\u03bd\u0005_\u0000\u0000\u03bc\u03ba\u0001\u0000"+
+		"\u0000\u0000\u03bc\u03bb\u0001\u0000\u0000\u0000\u03bd\u03c0\u0001\u0000"+
+		"\u0000\u0000\u03be\u03bc\u0001\u0000\u0000\u0000\u03be\u03bf\u0001\u0000"+
+		"\u0000\u0000\u03bf\u00b2\u0001\u0000\u0000\u0000\u03c0\u03be\u0001\u0000"+
+		"\u0000\u0000\u03c1\u03c2\u00050\u0000\u0000\u03c2\u03c3\u0005b\u0000\u0000"+
+		"\u03c3\u03c7\u0001\u0000\u0000\u0000\u03c4\u03c6\u0005_\u0000\u0000\u03c5"+
+		"\u03c4\u0001\u0000\u0000\u0000\u03c6\u03c9\u0001\u0000\u0000\u0000\u03c7"+
+		"\u03c5\u0001\u0000\u0000\u0000\u03c7\u03c8\u0001\u0000\u0000\u0000\u03c8"+
+		"\u03ca\u0001\u0000\u0000\u0000\u03c9\u03c7\u0001\u0000\u0000\u0000\u03ca"+
+		"\u03ce\u0007\u000e\u0000\u0000\u03cb\u03cd\u0007\u000f\u0000\u0000\u03cc"+
+		"\u03cb\u0001\u0000\u0000\u0000\u03cd\u03d0\u0001\u0000\u0000\u0000\u03ce"+
+		"\u03cc\u0001\u0000\u0000\u0000\u03ce\u03cf\u0001\u0000\u0000\u0000\u03cf"+
+		"\u00b4\u0001\u0000\u0000\u0000\u03d0\u03ce\u0001\u0000\u0000\u0000\u03d1"+
+		"\u03d2\u0003\u00bf_\u0000\u03d2\u03d7\u0004Z\u0002\u0000\u03d3\u03d6\u0003"+
+		"\u00bf_\u0000\u03d4\u03d6\u0005_\u0000\u0000\u03d5\u03d3\u0001\u0000\u0000"+
+		"\u0000\u03d5\u03d4\u0001\u0000\u0000\u0000\u03d6\u03d9\u0001\u0000\u0000"+
+		"\u0000\u03d7\u03d5\u0001\u0000\u0000\u0000\u03d7\u03d8\u0001\u0000\u0000"+
+		"\u0000\u03d8\u03e6\u0001\u0000\u0000\u0000\u03d9\u03d7\u0001\u0000\u0000"+
+		"\u0000\u03da\u03db\u0005.\u0000\u0000\u03db\u03e7\u0004Z\u0003\u0000\u03dc"+
+		"\u03dd\u0005.\u0000\u0000\u03dd\u03df\u0003\u00adV\u0000\u03de\u03dc\u0001"+
+		"\u0000\u0000\u0000\u03de\u03df\u0001\u0000\u0000\u0000\u03df\u03e1\u0001"+
+		"\u0000\u0000\u0000\u03e0\u03e2\u0003\u00bb]\u0000\u03e1\u03e0\u0001\u0000"+
+		"\u0000\u0000\u03e1\u03e2\u0001\u0000\u0000\u0000\u03e2\u03e4\u0001\u0000"+
+		"\u0000\u0000\u03e3\u03e5\u0003\u00b9\\\u0000\u03e4\u03e3\u0001\u0000\u0000"+
+		"\u0000\u03e4\u03e5\u0001\u0000\u0000\u0000\u03e5\u03e7\u0001\u0000\u0000"+
+		"\u0000\u03e6\u03da\u0001\u0000\u0000\u0000\u03e6\u03de\u0001\u0000\u0000"+
+		"\u0000\u03e7\u00b6\u0001\u0000\u0000\u0000\u03e8\u03e9\u0005u\u0000\u0000"+
+		"\u03e9\u0411\u00058\u0000\u0000\u03ea\u03eb\u0005u\u0000\u0000\u03eb\u03ec"+
+		"\u00051\u0000\u0000\u03ec\u0411\u00056\u0000\u0000\u03ed\u03ee\u0005u"+
+		"\u0000\u0000\u03ee\u03ef\u00053\u0000\u0000\u03ef\u0411\u00052\u0000\u0000"+
+		"\u03f0\u03f1\u0005u\u0000\u0000\u03f1\u03f2\u00056\u0000\u0000\u03f2\u0411"+
+		"\u00054\u0000\u0000\u03f3\u03f4\u0005u\u0000\u0000\u03f4\u03f5\u00051"+
+		"\u0000\u0000\u03f5\u03f6\u00052\u0000\u0000\u03f6\u0411\u00058\u0000\u0000"+
+		"\u03f7\u03f8\u0005u\u0000\u0000\u03f8\u03f9\u0005s\u0000\u0000\u03f9\u03fa"+
+		"\u0005i\u0000\u0000\u03fa\u03fb\u0005z\u0000\u0000\u03fb\u0411\u0005e"+
+		"\u0000\u0000\u03fc\u03fd\u0005i\u0000\u0000\u03fd\u0411\u00058\u0000\u0000"+
+		"\u03fe\u03ff\u0005i\u0000\u0000\u03ff\u0400\u00051\u0000\u0000\u0400\u0411"+
+		"\u00056\u0000\u0000\u0401\u0402\u0005i\u0000\u0000\u0402\u0403\u00053"+
+		"\u0000\u0000\u0403\u0411\u00052\u0000\u0000\u0404\u0405\u0005i\u0000\u0000"+
+		"\u0405\u0406\u00056\u0000\u0000\u0406\u0411\u00054\u0000\u0000\u0407\u0408"+
+		"\u0005i\u0000\u0000\u0408\u0409\u00051\u0000\u0000\u0409\u040a\u00052"+
+		"\u0000\u0000\u040a\u0411\u00058\u0000\u0000\u040b\u040c\u0005i\u0000\u0000"+
+		"\u040c\u040d\u0005s\u0000\u0000\u040d\u040e\u0005i\u0000\u0000\u040e\u040f"+
+		"\u0005z\u0000\u0000\u040f\u0411\u0005e\u0000\u0000\u0410\u03e8\u0001\u0000"+
+		"\u0000\u0000\u0410\u03ea\u0001\u0000\u0000\u0000\u0410\u03ed\u0001\u0000"+
+		"\u0000\u0000\u0410\u03f0\u0001\u0000\u0000\u0000\u0410\u03f3\u0001\u0000"+
+		"\u0000\u0000\u0410\u03f7\u0001\u0000\u0000\u0000\u0410\u03fc\u0001\u0000"+
+		"\u0000\u0000\u0410\u03fe\u0001\u0000\u0000\u0000\u0410\u0401\u0001\u0000"+
+		"\u0000\u0000\u0410\u0404\u0001\u0000\u0000\u0000\u0410\u0407\u0001\u0000"+
+		"\u0000\u0000\u0410\u040b\u0001\u0000\u0000\u0000\u0411\u00b8\u0001\u0000"+
+		"\u0000\u0000\u0412\u0413\u0005f\u0000\u0000\u0413\u0414\u00053\u0000\u0000"+
+		"\u0414\u0419\u00052\u0000\u0000\u0415\u0416\u0005f\u0000\u0000\u0416\u0417"+
+		"\u00056\u0000\u0000\u0417\u0419\u00054\u0000\u0000\u0418\u0412\u0001\u0000"+
+		"\u0000\u0000\u0418\u0415\u0001\u0000\u0000\u0000\u0419\u00ba\u0001\u0000"+
+		"\u0000\u0000\u041a\u041c\u0007\u0010\u0000\u0000\u041b\u041d\u0007\u0011"+
+		"\u0000\u0000\u041c\u041b\u0001\u0000\u0000\u0000\u041c\u041d\u0001\u0000"+
+		"\u0000\u0000\u041d\u0421\u0001\u0000\u0000\u0000\u041e\u0420\u0005_\u0000"+
+		"\u0000\u041f\u041e\u0001\u0000\u0000\u0000\u0420\u0423\u0001\u0000\u0000"+
+		"\u0000\u0421\u041f\u0001\u0000\u0000\u0000\u0421\u0422\u0001\u0000\u0000"+
+		"\u0000\u0422\u0424\u0001\u0000\u0000\u0000\u0423\u0421\u0001\u0000\u0000"+
+		"\u0000\u0424\u0425\u0003\u00adV\u0000\u0425\u00bc\u0001\u0000\u0000\u0000"+
+		"\u0426\u0427\u0007\u0012\u0000\u0000\u0427\u00be\u0001\u0000\u0000\u0000"+
+		"\u0428\u0429\u0007\u0013\u0000\u0000\u0429\u00c0\u0001\u0000\u0000\u0000"+
+		"\u042a\u042b\u0007\u0014\u0000\u0000\u042b\u00c2\u0001\u0000\u0000\u0000"+
+		"\u042c\u042d\u0005\'\u0000\u0000\u042d\u042e\u0003q8\u0000\u042e\u00c4"+
+		"\u0001\u0000\u0000\u0000\u042f\u0430\u0005+\u0000\u0000\u0430\u00c6\u0001"+
+		"\u0000\u0000\u0000\u0431\u0432\u0005-\u0000\u0000\u0432\u00c8\u0001\u0000"+
+		"\u0000\u0000\u0433\u0434\u0005*\u0000\u0000\u0434\u00ca\u0001\u0000\u0000"+
+		"\u0000\u0435\u0436\u0005/\u0000\u0000\u0436\u00cc\u0001\u0000\u0000\u0000"+
+		"\u0437\u0438\u0005%\u0000\u0000\u0438\u00ce\u0001\u0000\u0000\u0000\u0439"+
+		"\u043a\u0005^\u0000\u0000\u043a\u00d0\u0001\u0000\u0000\u0000\u043b\u043c"+
+		"\u0005!\u0000\u0000\u043c\u00d2\u0001\u0000\u0000\u0000\u043d\u043e\u0005"+
+		"&\u0000\u0000\u043e\u00d4\u0001\u0000\u0000\u0000\u043f\u0440\u0005|\u0000"+
+		"\u0000\u0440\u00d6\u0001\u0000\u0000\u0000\u0441\u0442\u0005&\u0000\u0000"+
+		"\u0442\u0443\u0005&\u0000\u0000\u0443\u00d8\u0001\u0000\u0000\u0000\u0444"+
+		"\u0445\u0005|\u0000\u0000\u0445\u0446\u0005|\u0000\u0000\u0446\u00da\u0001"+
+		"\u0000\u0000\u0000\u0447\u0448\u0005+\u0000\u0000\u0448\u0449\u0005=\u0000"+
+		"\u0000\u0449\u00dc\u0001\u0000\u0000\u0000\u044a\u044b\u0005-\u0000\u0000"+
+		"\u044b\u044c\u0005=\u0000\u0000\u044c\u00de\u0001\u0000\u0000\u0000\u044d"+
+		"\u044e\u0005*\u0000\u0000\u044e\u044f\u0005=\u0000\u0000\u044f\u00e0\u0001"+
+		"\u0000\u0000\u0000\u0450\u0451\u0005/\u0000\u0000\u0451\u0452\u0005=\u0000"+
+		"\u0000\u0452\u00e2\u0001\u0000\u0000\u0000\u0453\u0454\u0005%\u0000\u0000"+
+		"\u0454\u0455\u0005=\u0000\u0000\u0455\u00e4\u0001\u0000\u0000\u0000\u0456"+
+		"\u0457\u0005^\u0000\u0000\u0457\u0458\u0005=\u0000\u0000\u0458\u00e6\u0001"+
+		"\u0000\u0000\u0000\u0459\u045a\u0005&\u0000\u0000\u045a\u045b\u0005=\u0000"+
+		"\u0000\u045b\u00e8\u0001\u0000\u0000\u0000\u045c\u045d\u0005|\u0000\u0000"+
+		"\u045d\u045e\u0005=\u0000\u0000\u045e\u00ea\u0001\u0000\u0000\u0000\u045f"+
+		"\u0460\u0005<\u0000\u0000\u0460\u0461\u0005<\u0000\u0000\u0461\u0462\u0005"+
+		"=\u0000\u0000\u0462\u00ec\u0001\u0000\u0000\u0000\u0463\u0464\u0005>\u0000"+
+		"\u0000\u0464\u0465\u0005>\u0000\u0000\u0465\u0466\u0005=\u0000\u0000\u0466"+
+		"\u00ee\u0001\u0000\u0000\u0000\u0467\u0468\u0005=\u0000\u0000\u0468\u00f0"+
+		"\u0001\u0000\u0000\u0000\u0469\u046a\u0005=\u0000\u0000\u046a\u046b\u0005"+
+		"=\u0000\u0000\u046b\u00f2\u0001\u0000\u0000\u0000\u046c\u046d\u0005!\u0000"+
+		"\u0000\u046d\u046e\u0005=\u0000\u0000\u046e\u00f4\u0001\u0000\u0000\u0000"+
+		"\u046f\u0470\u0005>\u0000\u0000\u0470\u00f6\u0001\u0000\u0000\u0000\u0471"+
+		"\u0472\u0005<\u0000\u0000\u0472\u00f8\u0001\u0000\u0000\u0000\u0473\u0474"+
+		"\u0005>\u0000\u0000\u0474\u0475\u0005=\u0000\u0000\u0475\u00fa\u0001\u0000"+
+		"\u0000\u0000\u0476\u0477\u0005<\u0000\u0000\u0477\u0478\u0005=\u0000\u0000"+
+		"\u0478\u00fc\u0001\u0000\u0000\u0000\u0479\u047a\u0005@\u0000\u0000\u047a"+
+		"\u00fe\u0001\u0000\u0000\u0000\u047b\u047c\u0005_\u0000\u0000\u047c\u0100"+
+		"\u0001\u0000\u0000\u0000\u047d\u047e\u0005.\u0000\u0000\u047e\u0102\u0001"+
+		"\u0000\u0000\u0000\u047f\u0480\u0005.\u0000\u0000\u0480\u0481\u0005.\u0000"+
+		"\u0000\u0481\u0104\u0001\u0000\u0000\u0000\u0482\u0483\u0005.\u0000\u0000"+
+		"\u0483\u0484\u0005.\u0000\u0000\u0484\u0485\u0005.\u0000\u0000\u0485\u0106"+
+		"\u0001\u0000\u0000\u0000\u0486\u0487\u0005.\u0000\u0000\u0487\u0488\u0005"+
+		".\u0000\u0000\u0488\u0489\u0005=\u0000\u0000\u0489\u0108\u0001\u0000\u0000"+
+		"\u0000\u048a\u048b\u0005,\u0000\u0000\u048b\u010a\u0001\u0000\u0000\u0000"+
+		"\u048c\u048d\u0005;\u0000\u0000\u048d\u010c\u0001\u0000\u0000\u0000\u048e"+
+		"\u048f\u0005:\u0000\u0000\u048f\u010e\u0001\u0000\u0000\u0000\u0490\u0491"+
+		"\u0005:\u0000\u0000\u0491\u0492\u0005:\u0000\u0000\u0492\u0110\u0001\u0000"+
+		"\u0000\u0000\u0493\u0494\u0005-\u0000\u0000\u0494\u0495\u0005>\u0000\u0000"+
+		"\u0495\u0112\u0001\u0000\u0000\u0000\u0496\u0497\u0005=\u0000\u0000\u0497"+
+		"\u0498\u0005>\u0000\u0000\u0498\u0114\u0001\u0000\u0000\u0000\u0499\u049a"+
+		"\u0005#\u0000\u0000\u049a\u0116\u0001\u0000\u0000\u0000\u049b\u049c\u0005"+
+		"$\u0000\u0000\u049c\u0118\u0001\u0000\u0000\u0000\u049d\u049e\u0005?\u0000"+
+		"\u0000\u049e\u011a\u0001\u0000\u0000\u0000\u049f\u04a0\u0005{\u0000\u0000"+
+		"\u04a0\u011c\u0001\u0000\u0000\u0000\u04a1\u04a2\u0005}\u0000\u0000\u04a2"+
+		"\u011e\u0001\u0000\u0000\u0000\u04a3\u04a4\u0005[\u0000\u0000\u04a4\u0120"+
+		"\u0001\u0000\u0000\u0000\u04a5\u04a6\u0005]\u0000\u0000\u04a6\u0122\u0001"+
+		"\u0000\u0000\u0000\u04a7\u04a8\u0005(\u0000\u0000\u04a8\u0124\u0001\u0000"+
+		"\u0000\u0000\u04a9\u04aa\u0005)\u0000\u0000\u04aa\u0126\u0001\u0000\u0000"+
+		"\u0000>\u0000\u0268\u026f\u0271\u0275\u027a\u028b\u0290\u0295\u02a0\u02a4"+
+		"\u02a6\u02b4\u02bf\u02ca\u02cc\u02dc\u02df\u02e9\u02ed\u02ef\u02fa\u0305"+
+		"\u030a\u0316\u031f\u0329\u032b\u033b\u033f\u0347\u0351\u0353\u0364\u036d"+
+		"\u0378\u037b\u037e\u0381\u0384\u0392\u0395\u039a\u039c\u03a5\u03ab\u03ad"+
+		"\u03b6\u03bc\u03be\u03c7\u03ce\u03d5\u03d7\u03de\u03e1\u03e4\u03e6\u0410"+
+		"\u0418\u041c\u0421\u0001\u0000\u0001\u0000";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
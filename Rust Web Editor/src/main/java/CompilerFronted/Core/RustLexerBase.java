@@ -23,9 +23,26 @@ public abstract class RustLexerBase extends Lexer{
         return next;
     }
 
+    /**
+     * Restores the default-channel history used by floatLiteralPossible(),
+     * so lexing can resume in the middle of an input.
+     */
+    public void setPrecedingTokens(Token previous, Token current){
+        this.previous = previous;
+        this.current = current;
+    }
+
     public boolean SOF(){
         return _input.LA(-1) <=0;
     }
+
+    /**
+     * SOF() for a predicate placed after the rule has already matched
+     * {@code consumed} characters of the current token.
+     */
+    public boolean SOF(int consumed){
+        return _input.LA(-1 - consumed) <=0;
+    }
     
     public boolean next(char expect){
         return _input.LA(1) == expect;
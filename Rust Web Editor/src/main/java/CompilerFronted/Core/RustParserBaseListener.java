@@ -1,4 +1,4 @@
-// Generated from RustParser.g4 by ANTLR 4.13.2
+// Generated from RustParser.g4 by ANTLR 4.13.1
 package CompilerFronted.Core;
 
 import org.antlr.v4.runtime.ParserRuleContext;
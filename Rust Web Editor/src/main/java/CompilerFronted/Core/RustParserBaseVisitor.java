@@ -1,5 +1,5 @@
 package CompilerFronted.Core;
-// Generated from RustParser.g4 by ANTLR 4.13.2
+// Generated from RustParser.g4 by ANTLR 4.13.1
 import org.antlr.v4.runtime.tree.AbstractParseTreeVisitor;
 
 /**
@@ -0,0 +1,204 @@
+package WebServer;
+
+import io.javalin.http.Context;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 动态响应的 gzip 压缩
+ *
+ * 响应体先缓冲到阈值大小：未超过阈值的小响应原样发送，
+ * 超过阈值且客户端接受 gzip 时切换为流式压缩，不再整体缓冲。
+ *
+ * 配置（系统属性）：
+ * - compression.level：gzip 压缩级别 1–9，默认 6
+ * - compression.minBytes：启用压缩的最小响应字节数，默认 1024
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class ResponseCompression {
+
+    public static final int LEVEL = Math.max(1, Math.min(9, Integer.getInteger("compression.level", 6)));
+    public static final int MIN_BYTES = Math.max(0, Integer.getInteger("compression.minBytes", 1024));
+
+    private ResponseCompression() {
+    }
+
+    /**
+     * 打开响应输出流；调用方写完后必须关闭
+     *
+     * @param ctx 请求上下文（内容类型等响应头需在写入前设置）
+     * @param counter 记录字节数的指标
+     * @return 输出流
+     */
+    public static OutputStream open(Context ctx, ServerMetrics.Counter counter) {
+        ctx.header("Vary", appendVary(ctx.res().getHeader("Vary"), "Accept-Encoding"));
+        return new CompressingOutputStream(ctx, counter, acceptsGzip(ctx.header("Accept-Encoding")));
+    }
+
+    /**
+     * 将完整的字节数组写出为响应（可能压缩）
+     */
+    public static void send(Context ctx, byte[] body, ServerMetrics.Counter counter) throws IOException {
+        try (OutputStream out = open(ctx, counter)) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * 判断 Accept-Encoding 是否接受 gzip（q=0 视为拒绝）
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim().toLowerCase();
+            if (name.equals("gzip") || name.equals("*")) {
+                for (int i = 1; i < parts.length; i++) {
+                    String param = parts[i].trim();
+                    if (param.startsWith("q=")) {
+                        try {
+                            return Double.parseDouble(param.substring(2)) > 0;
+                        } catch (NumberFormatException e) {
+                            return false;
+                        }
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static String appendVary(String existing, String header) {
+        if (existing == null || existing.isEmpty()) {
+            return header;
+        }
+        return existing.contains(header) ? existing : existing + ", " + header;
+    }
+
+    /**
+     * 阈值缓冲 + 按需切换 gzip 的输出流
+     */
+    private static class CompressingOutputStream extends OutputStream {
+        private final Context ctx;
+        private final ServerMetrics.Counter counter;
+        private final boolean gzipAccepted;
+
+        private ByteArrayOutputStream buffer;
+        private CountingOutputStream raw;
+        private OutputStream target;
+        private long originalBytes;
+        private boolean compressed;
+        private boolean closed;
+
+        CompressingOutputStream(Context ctx, ServerMetrics.Counter counter, boolean gzipAccepted) {
+            this.ctx = ctx;
+            this.counter = counter;
+            this.gzipAccepted = gzipAccepted;
+            this.buffer = new ByteArrayOutputStream(Math.max(256, Math.min(MIN_BYTES, 64 * 1024)));
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            originalBytes += len;
+            if (target != null) {
+                target.write(b, off, len);
+                return;
+            }
+            buffer.write(b, off, len);
+            if (buffer.size() > MIN_BYTES) {
+                switchToStreaming(gzipAccepted);
+            }
+        }
+
+        /**
+         * 超过阈值：确定编码并把缓冲内容写出
+         */
+        private void switchToStreaming(boolean compress) throws IOException {
+            raw = new CountingOutputStream(ctx.res().getOutputStream());
+            if (compress) {
+                ctx.header("Content-Encoding", "gzip");
+                compressed = true;
+                target = new LeveledGzipOutputStream(raw, LEVEL);
+            } else {
+                target = raw;
+            }
+            buffer.writeTo(target);
+            buffer = null;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (target != null) {
+                target.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (target == null) {
+                // 小响应：原样发送，附带准确的 Content-Length
+                ctx.res().setContentLength(buffer.size());
+                switchToStreaming(false);
+            }
+            if (target instanceof GZIPOutputStream) {
+                ((GZIPOutputStream) target).finish();
+            }
+            target.flush();
+            counter.record(originalBytes, raw.count, compressed);
+        }
+    }
+
+    /**
+     * 可指定压缩级别的 GZIPOutputStream
+     *
+     * 启用 syncFlush，使 flush() 能把已写入的数据立即推送给客户端（NDJSON 流式响应依赖此行为）。
+     */
+    static class LeveledGzipOutputStream extends GZIPOutputStream {
+        LeveledGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out, 8 * 1024, true);
+            def.setLevel(level);
+        }
+    }
+
+    /**
+     * 统计实际写出字节数
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
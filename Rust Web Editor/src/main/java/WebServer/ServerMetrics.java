@@ -0,0 +1,103 @@
+package WebServer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 服务端传输指标
+ *
+ * 按响应类别（分析结果、渲染结果、静态资源）统计请求数、压缩次数、
+ * 原始字节数与实际发送字节数，通过 GET /metrics 以 JSON 输出。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public class ServerMetrics {
+
+    private final Map<String, Counter> counters = new LinkedHashMap<>();
+
+    public ServerMetrics(String... categories) {
+        for (String category : categories) {
+            counters.put(category, new Counter());
+        }
+    }
+
+    /**
+     * 获取某一类别的计数器
+     *
+     * @param category 类别名称，必须在构造时声明
+     * @return 计数器
+     */
+    public Counter counter(String category) {
+        Counter counter = counters.get(category);
+        if (counter == null) {
+            throw new IllegalArgumentException("Unknown metrics category: " + category);
+        }
+        return counter;
+    }
+
+    /**
+     * 生成指标快照，用于序列化输出
+     */
+    public Map<String, Map<String, Long>> snapshot() {
+        Map<String, Map<String, Long>> snapshot = new LinkedHashMap<>();
+        long totalOriginal = 0;
+        long totalSent = 0;
+        for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+            Counter counter = entry.getValue();
+            snapshot.put(entry.getKey(), counter.snapshot());
+            totalOriginal += counter.originalBytes.get();
+            totalSent += counter.sentBytes.get();
+        }
+        Map<String, Long> total = new LinkedHashMap<>();
+        total.put("originalBytes", totalOriginal);
+        total.put("sentBytes", totalSent);
+        total.put("bytesSaved", totalOriginal - totalSent);
+        snapshot.put("total", total);
+        return snapshot;
+    }
+
+    /**
+     * 单一类别的计数器（线程安全）
+     */
+    public static class Counter {
+        private final AtomicLong responses = new AtomicLong();
+        private final AtomicLong compressedResponses = new AtomicLong();
+        private final AtomicLong originalBytes = new AtomicLong();
+        private final AtomicLong sentBytes = new AtomicLong();
+
+        /**
+         * 记录一次响应
+         *
+         * @param original 未压缩的响应体字节数
+         * @param sent 实际写出的字节数
+         * @param compressed 是否经过压缩
+         */
+        public void record(long original, long sent, boolean compressed) {
+            responses.incrementAndGet();
+            if (compressed) {
+                compressedResponses.incrementAndGet();
+            }
+            originalBytes.addAndGet(original);
+            sentBytes.addAndGet(sent);
+        }
+
+        public long getResponses() { return responses.get(); }
+        public long getCompressedResponses() { return compressedResponses.get(); }
+        public long getOriginalBytes() { return originalBytes.get(); }
+        public long getSentBytes() { return sentBytes.get(); }
+        public long getBytesSaved() { return originalBytes.get() - sentBytes.get(); }
+
+        Map<String, Long> snapshot() {
+            Map<String, Long> values = new LinkedHashMap<>();
+            values.put("responses", getResponses());
+            values.put("compressedResponses", getCompressedResponses());
+            values.put("originalBytes", getOriginalBytes());
+            values.put("sentBytes", getSentBytes());
+            values.put("bytesSaved", getBytesSaved());
+            return values;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package WebServer;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+
+/**
+ * 构建期静态资源处理
+ *
+ * 在 Maven process-classes 阶段运行：
+ * 1. 内容哈希：HTML 中以相对路径引用的资源（js、css 等）复制为带内容哈希的文件名，
+ *    例如 js/api.js → js/api.3f2a9c1b7e.js，并改写 HTML 中的引用；
+ *    映射关系写入 asset-manifest.json，运行时据此对哈希资源发送 immutable 缓存头
+ * 2. 预压缩：对文本资源以最高级别 gzip 生成同名 .gz 文件，
+ *    运行时由 {@link StaticAssetHandler} 直接发送，不再逐请求压缩
+ *
+ * HTML 始终从源目录读取，避免对已改写的输出再次处理。
+ *
+ * 用法：java WebServer.StaticAssetBuilder &lt;webapp 源目录&gt; &lt;静态资源输出目录&gt;
+ *
+ * @author Compiler Frontend Team
+ * @version 1.1
+ * @date 2026-10-18
+ */
+public class StaticAssetBuilder {
+
+    public static final String MANIFEST_NAME = "asset-manifest.json";
+
+    /** 小于该字节数的文件压缩收益不抵额外的往返开销 */
+    private static final int MIN_BYTES = 256;
+
+    /** 文件名中保留的哈希长度（十六进制字符） */
+    private static final int HASH_LENGTH = 10;
+
+    /** src/href 属性引用，单双引号均可（group 2 为引号，group 3 为路径） */
+    private static final Pattern REFERENCE = Pattern.compile("(\\s(?:src|href)=([\"']))([^\"']+)(\\2)");
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: StaticAssetBuilder <webapp-source-directory> <static-output-directory>");
+            System.exit(2);
+        }
+        Path source = Paths.get(args[0]);
+        Path output = Paths.get(args[1]);
+        if (!Files.isDirectory(source) || !Files.isDirectory(output)) {
+            System.out.println("Static asset directory not found, skipping: " + output);
+            return;
+        }
+
+        removePreviousBuild(output);
+        Map<String, String> manifest = hashReferencedAssets(source, output);
+        writeManifest(output, manifest);
+        precompress(output);
+    }
+
+    /**
+     * 删除上一次构建生成的哈希文件，避免输出目录中堆积过期资源
+     */
+    private static void removePreviousBuild(Path output) throws IOException {
+        Path manifestFile = output.resolve(MANIFEST_NAME);
+        for (String hashedName : readManifest(manifestFile).values()) {
+            Path hashed = output.resolve(hashedName);
+            Files.deleteIfExists(hashed);
+            Files.deleteIfExists(hashed.resolveSibling(hashed.getFileName() + ".gz"));
+        }
+        Files.deleteIfExists(manifestFile);
+    }
+
+    /**
+     * 为 HTML 引用的资源生成内容哈希文件并改写 HTML
+     *
+     * @return 原始路径 → 哈希路径（相对静态资源根目录，使用 /）
+     */
+    static Map<String, String> hashReferencedAssets(Path source, Path output) throws IOException {
+        Map<String, String> manifest = new LinkedHashMap<>();
+        for (Path html : listFiles(source)) {
+            if (!html.getFileName().toString().endsWith(".html")) {
+                continue;
+            }
+            String content = new String(Files.readAllBytes(html), StandardCharsets.UTF_8);
+            Matcher matcher = REFERENCE.matcher(content);
+            StringBuffer rewritten = new StringBuffer(content.length() + 256);
+            while (matcher.find()) {
+                String reference = matcher.group(3);
+                String replacement = reference;
+                if (isLocalReference(reference)) {
+                    Path asset = html.getParent().resolve(reference).normalize();
+                    if (asset.startsWith(source) && Files.isRegularFile(asset)) {
+                        String assetPath = relativePath(source, asset);
+                        String hashedPath = manifest.get(assetPath);
+                        if (hashedPath == null) {
+                            hashedPath = hashedName(assetPath, Files.readAllBytes(asset));
+                            Files.copy(asset, output.resolve(hashedPath), StandardCopyOption.REPLACE_EXISTING);
+                            manifest.put(assetPath, hashedPath);
+                        }
+                        replacement = reference.substring(0, reference.length() - lastSegment(reference).length())
+                            + lastSegment(hashedPath);
+                    }
+                }
+                matcher.appendReplacement(rewritten, Matcher.quoteReplacement(
+                    matcher.group(1) + replacement + matcher.group(4)));
+            }
+            matcher.appendTail(rewritten);
+            Files.write(output.resolve(relativePath(source, html)),
+                rewritten.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        System.out.printf("Content-hashed %d static assets%n", manifest.size());
+        return manifest;
+    }
+
+    /**
+     * 预压缩输出目录中的文本资源
+     */
+    private static void precompress(Path output) throws IOException {
+        long originalTotal = 0;
+        long compressedTotal = 0;
+        int compressedFiles = 0;
+        for (Path file : listFiles(output)) {
+            if (!StaticAssetHandler.isCompressible(file.getFileName().toString())) {
+                continue;
+            }
+            byte[] content = Files.readAllBytes(file);
+            Path gzipFile = file.resolveSibling(file.getFileName() + ".gz");
+            byte[] gzip = content.length >= MIN_BYTES ? gzip(content) : null;
+            if (gzip == null || gzip.length >= content.length) {
+                Files.deleteIfExists(gzipFile);
+                continue;
+            }
+            Files.write(gzipFile, gzip);
+            originalTotal += content.length;
+            compressedTotal += gzip.length;
+            compressedFiles++;
+        }
+
+        System.out.printf("Precompressed %d static assets: %d -> %d bytes%n",
+            compressedFiles, originalTotal, compressedTotal);
+    }
+
+    private static List<Path> listFiles(Path root) throws IOException {
+        try (Stream<Path> walk = Files.walk(root)) {
+            return walk.filter(Files::isRegularFile)
+                .filter(path -> !path.getFileName().toString().endsWith(".gz"))
+                .sorted()
+                .collect(Collectors.toList());
+        }
+    }
+
+    private static boolean isLocalReference(String reference) {
+        return !reference.isEmpty()
+            && !reference.startsWith("/")
+            && !reference.startsWith("#")
+            && !reference.contains(":")
+            && !reference.contains("?");
+    }
+
+    private static String relativePath(Path root, Path file) {
+        return root.relativize(file).toString().replace('\\', '/');
+    }
+
+    private static String lastSegment(String path) {
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * js/api.js + 内容 → js/api.&lt;hash&gt;.js
+     */
+    static String hashedName(String path, byte[] content) {
+        String hash = sha256Hex(content).substring(0, HASH_LENGTH);
+        int slash = path.lastIndexOf('/');
+        int dot = path.lastIndexOf('.');
+        if (dot <= slash + 1) {
+            return path + "." + hash;
+        }
+        return path.substring(0, dot) + "." + hash + path.substring(dot);
+    }
+
+    static String sha256Hex(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+                hex.append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void writeManifest(Path output, Map<String, String> manifest) throws IOException {
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        try (Writer writer = Files.newBufferedWriter(output.resolve(MANIFEST_NAME), StandardCharsets.UTF_8)) {
+            gson.toJson(manifest, writer);
+        }
+    }
+
+    /**
+     * 读取资源清单，文件不存在时返回空映射
+     */
+    static Map<String, String> readManifest(Path manifestFile) throws IOException {
+        if (!Files.isRegularFile(manifestFile)) {
+            return new LinkedHashMap<>();
+        }
+        try (Reader reader = Files.newBufferedReader(manifestFile, StandardCharsets.UTF_8)) {
+            return parseManifest(reader);
+        }
+    }
+
+    static Map<String, String> parseManifest(Reader reader) {
+        Map<String, String> manifest = new Gson().fromJson(reader,
+            new TypeToken<LinkedHashMap<String, String>>(){}.getType());
+        return manifest != null ? manifest : new LinkedHashMap<>();
+    }
+
+    /**
+     * 以最高压缩级别生成 gzip 数据
+     */
+    static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 3 + 64);
+        try (ResponseCompression.LeveledGzipOutputStream gzip =
+                 new ResponseCompression.LeveledGzipOutputStream(out, Deflater.BEST_COMPRESSION)) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,221 @@
+package WebServer;
+
+import io.javalin.http.Context;
+import io.javalin.http.Handler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 静态资源处理器
+ *
+ * 从 classpath 的 static/ 目录读取 webapp 资源并缓存在内存中。
+ * 构建期由 {@link StaticAssetBuilder} 生成的 .gz 预压缩文件
+ * 在客户端接受 gzip 时直接发送，节省的字节数计入 {@link ServerMetrics}。
+ *
+ * 缓存策略：
+ * - 资源清单中的内容哈希文件：Cache-Control: public, max-age=31536000, immutable
+ * - 其他资源（包括 index.html）：Cache-Control: no-cache，配合强 ETag / If-None-Match 返回 304
+ *
+ * @author Compiler Frontend Team
+ * @version 1.1
+ * @date 2026-10-18
+ */
+public class StaticAssetHandler implements Handler {
+
+    private static final String CLASSPATH_ROOT = "static/";
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+
+    private final String hostedPath;
+    private final ServerMetrics.Counter counter;
+    private final ConcurrentHashMap<String, StaticAsset> assets = new ConcurrentHashMap<>();
+    private final Set<String> hashedAssets;
+
+    /**
+     * @param hostedPath 挂载路径，例如 /static
+     * @param counter 静态资源传输指标
+     */
+    public StaticAssetHandler(String hostedPath, ServerMetrics.Counter counter) {
+        this.hostedPath = hostedPath.endsWith("/") ? hostedPath : hostedPath + "/";
+        this.counter = counter;
+        this.hashedAssets = loadHashedAssets();
+    }
+
+    @Override
+    public void handle(Context ctx) throws Exception {
+        String path = ctx.path().startsWith(hostedPath) ? ctx.path().substring(hostedPath.length()) : "";
+        if (path.isEmpty() || path.endsWith("/")) {
+            path = path + "index.html";
+        }
+        if (path.contains("..") || path.contains("\\")) {
+            ctx.status(404);
+            return;
+        }
+
+        StaticAsset asset = assets.get(path);
+        if (asset == null) {
+            asset = load(path);
+            if (asset == null) {
+                ctx.status(404).result("Not found");
+                return;
+            }
+            assets.putIfAbsent(path, asset);
+        }
+
+        boolean useGzip = asset.gzip != null && ResponseCompression.acceptsGzip(ctx.header("Accept-Encoding"));
+        // gzip 与原始内容是不同的表示，使用不同的强 ETag
+        String etag = useGzip ? asset.gzipETag : asset.etag;
+        ctx.header("ETag", etag);
+        ctx.header("Cache-Control", hashedAssets.contains(path) ? IMMUTABLE : "no-cache");
+        if (asset.gzip != null) {
+            ctx.header("Vary", "Accept-Encoding");
+        }
+        if (matchesETag(ctx.header("If-None-Match"), etag)) {
+            ctx.status(304);
+            counter.record(0, 0, false);
+            return;
+        }
+
+        ctx.contentType(asset.contentType);
+        if (useGzip) {
+            ctx.header("Content-Encoding", "gzip");
+            ctx.result(asset.gzip);
+            counter.record(asset.content.length, asset.gzip.length, true);
+        } else {
+            ctx.result(asset.content);
+            counter.record(asset.content.length, asset.content.length, false);
+        }
+    }
+
+    /**
+     * 从 classpath 加载资源及其预压缩版本
+     */
+    private StaticAsset load(String path) throws IOException {
+        byte[] content = readResource(CLASSPATH_ROOT + path);
+        if (content == null) {
+            return null;
+        }
+        byte[] gzip = isCompressible(path) ? readResource(CLASSPATH_ROOT + path + ".gz") : null;
+        return new StaticAsset(content, gzip, contentType(path));
+    }
+
+    /**
+     * 读取构建期生成的资源清单，返回其中的哈希文件路径
+     */
+    private static Set<String> loadHashedAssets() {
+        Set<String> hashed = new HashSet<>();
+        try (InputStream in = StaticAssetHandler.class.getClassLoader()
+                 .getResourceAsStream(CLASSPATH_ROOT + StaticAssetBuilder.MANIFEST_NAME)) {
+            if (in != null) {
+                try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                    hashed.addAll(StaticAssetBuilder.parseManifest(reader).values());
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to read static asset manifest: " + e.getMessage());
+        }
+        return hashed;
+    }
+
+    /**
+     * If-None-Match 是否命中（支持逗号分隔的多个值、弱比较前缀与 *）
+     */
+    static boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] readResource(String name) throws IOException {
+        try (InputStream in = StaticAssetHandler.class.getClassLoader().getResourceAsStream(name)) {
+            return in != null ? in.readAllBytes() : null;
+        }
+    }
+
+    /**
+     * 是否为值得压缩的文本资源
+     */
+    static boolean isCompressible(String fileName) {
+        String extension = extension(fileName);
+        switch (extension) {
+            case "html":
+            case "js":
+            case "css":
+            case "json":
+            case "svg":
+            case "md":
+            case "txt":
+            case "rs":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    static String contentType(String fileName) {
+        switch (extension(fileName)) {
+            case "html":
+                return "text/html; charset=utf-8";
+            case "js":
+                return "text/javascript; charset=utf-8";
+            case "css":
+                return "text/css; charset=utf-8";
+            case "json":
+                return "application/json";
+            case "svg":
+                return "image/svg+xml";
+            case "png":
+                return "image/png";
+            case "ico":
+                return "image/x-icon";
+            case "md":
+            case "txt":
+            case "rs":
+                return "text/plain; charset=utf-8";
+            default:
+                return "application/octet-stream";
+        }
+    }
+
+    private static String extension(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot >= 0 ? fileName.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+    }
+
+    /**
+     * 内存中的静态资源
+     */
+    private static class StaticAsset {
+        final byte[] content;
+        final byte[] gzip;
+        final String contentType;
+        final String etag;
+        final String gzipETag;
+
+        StaticAsset(byte[] content, byte[] gzip, String contentType) {
+            this.content = content;
+            this.gzip = gzip;
+            this.contentType = contentType;
+            String hash = StaticAssetBuilder.sha256Hex(content).substring(0, 16);
+            this.etag = "\"" + hash + "\"";
+            this.gzipETag = "\"" + hash + "-gz\"";
+        }
+    }
+}
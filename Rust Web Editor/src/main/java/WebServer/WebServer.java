@@ -1,23 +1,91 @@
 package WebServer;
 
+import Cli.AnalyzerCli;
 import io.javalin.Javalin;
+import io.javalin.http.BadRequestResponse;
+import io.javalin.http.Context;
+import io.javalin.http.UploadedFile;
 import CompilerFronted.AnalysisService.*;
+import CompilerFronted.AnalysisService.analyzers.Utf8CharStream;
+import CompilerFronted.AnalysisService.codec.ResultCodec;
+import CompilerFronted.AnalysisService.codec.ResultCodecs;
+import CompilerFronted.AnalysisService.language.DocumentStore;
+import CompilerFronted.AnalysisService.language.SemanticTokenLegend;
+import CompilerFronted.AnalysisService.language.TextDocument;
+import CompilerFronted.AnalysisService.language.WorkspaceSymbolIndex;
+import CompilerFronted.AnalysisService.models.AnalysisOptions;
+import CompilerFronted.AnalysisService.models.AnalysisResult;
+import CompilerFronted.AnalysisService.models.BatchFile;
+import CompilerFronted.AnalysisService.models.DocumentSymbol;
+import CompilerFronted.AnalysisService.render.SvgRenderCache;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import org.antlr.v4.runtime.CharStream;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class WebServer {
+
+    // 服务端 SVG 渲染缓存，默认上限 64MB，可通过 -Drender.cache.maxBytes 调整
+    private static final SvgRenderCache svgRenderCache =
+        new SvgRenderCache(Long.getLong("render.cache.maxBytes", 64L * 1024 * 1024));
+
+    // 传输指标：各类响应的原始字节数、发送字节数与节省的字节数
+    private static final ServerMetrics metrics = new ServerMetrics("analyse", "batch", "render", "language", "static");
+
+    // 批量分析共用的 work-stealing 线程池，并行度可通过 -Dbatch.parallelism 调整
+    private static final BatchAnalysisService batchService = new BatchAnalysisService(
+        Integer.getInteger("batch.parallelism", Runtime.getRuntime().availableProcessors()));
+
+    // 编辑器功能（大纲等）按 (uri, version) 复用的文档，上限可通过 -Ddocuments.max 调整
+    private static final DocumentStore documentStore = new DocumentStore(Integer.getInteger("documents.max", 64));
+
+    // 工作区符号索引：POST /workspace/files 建立，编辑器中打开的已索引文件随大纲请求增量更新
+    private static final WorkspaceSymbolIndex workspaceIndex = new WorkspaceSymbolIndex();
+
+    private static final Gson gson = new Gson();
+
     public static void main(String[] args) {
+        // java -jar rust-web-editor.jar analyze <目录> ...：命令行批量分析，不启动服务
+        if (args.length > 0 && args[0].equals("analyze")) {
+            AnalyzerCli.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+
         Javalin app = Javalin.create(config -> {
-            // 配置静态文件服务，服务webapp目录中的文件
-            config.staticFiles.add(staticFiles -> {
-                staticFiles.hostedPath = "/static";
-                staticFiles.directory = "/static";
-            });
+            // 压缩由 ResponseCompression / 预压缩静态资源负责，关闭框架自带的压缩避免重复处理
+            config.http.disableCompression();
+            // 批量请求可能包含数百个文件，默认 1MB 的请求体上限不够用
+            config.http.maxRequestSize = Long.getLong("http.maxRequestSize", 64L * 1024 * 1024);
         }).start(7071);
-        
+
+        // 静态文件服务：classpath 中的 webapp 资源，优先发送构建期预压缩的 .gz 版本
+        app.get("/static/*", new StaticAssetHandler("/static", metrics.counter("static")));
+
         // 配置 CORS
         app.before(ctx -> {
             ctx.header("Access-Control-Allow-Origin", "*");
             ctx.header("Access-Control-Allow-Methods", "GET, POST, PUT, DELETE, OPTIONS");
-            ctx.header("Access-Control-Allow-Headers", "Content-Type, Authorization");
+            ctx.header("Access-Control-Allow-Headers", "Content-Type, Authorization, If-None-Match");
+            ctx.header("Access-Control-Expose-Headers", "ETag, X-Render-Hash");
         });
 
         // 首页路由
@@ -26,14 +94,434 @@ public class WebServer {
         });
 
         app.post("/analyse", ctx -> {
-            // 从请求体中获取 Rust 代码
-            String rustCode = ctx.body();
+            // 直接在请求体字节上做词法分析，不生成源代码字符串
+            CharStream rustCode = Utf8CharStream.fromBytes(ctx.bodyAsBytes(), null);
             // 调用分析服务
-            String resultJson = AnalysisService.analyse(rustCode);
-            // 将结果作为 JSON 返回
-            ctx.json(resultJson);
+            AnalysisResult result = new AnalysisService(rustCode, parseOptions(ctx)).analyze();
+            // 按 Accept 请求头选择 JSON 或二进制格式，直接编码到响应流
+            ResultCodec codec = ResultCodecs.negotiate(ctx.header("Accept"));
+            ctx.header("Vary", "Accept");
+            ctx.contentType(codec.getContentType());
+            try (OutputStream out = ResponseCompression.open(ctx, metrics.counter("analyse"))) {
+                codec.encode(result, out);
+            }
+        });
+
+        // 诊断模式：只返回语法错误，不构建解析树，适合编辑时的实时检查
+        app.post("/analyse/diagnostics", ctx -> {
+            CharStream rustCode = Utf8CharStream.fromBytes(ctx.bodyAsBytes(), null);
+            AnalysisResult result = new AnalysisService(rustCode, parseOptions(ctx)).diagnose();
+            ctx.contentType("application/json");
+            try (OutputStream out = ResponseCompression.open(ctx, metrics.counter("analyse"));
+                 Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+                gson.toJson(result, writer);
+            }
+        });
+
+        // 只返回解析树的 LISP 文本，迭代生成并直接写入响应流
+        app.post("/analyse/lisp", ctx -> {
+            CharStream rustCode = Utf8CharStream.fromBytes(ctx.bodyAsBytes(), null);
+            AnalysisService service = new AnalysisService(rustCode, parseOptions(ctx));
+            ctx.contentType("text/plain; charset=utf-8");
+            try (OutputStream out = ResponseCompression.open(ctx, metrics.counter("analyse"));
+                 Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024)) {
+                service.writeLispTree(writer);
+            }
+        });
+
+        // 只返回 CST（默认）或 AST（tree=ast）的 DOT 文本，直接写入响应流
+        app.post("/analyse/dot", ctx -> {
+            String tree = ctx.queryParam("tree");
+            if (tree != null && !tree.equals("cst") && !tree.equals("ast")) {
+                throw new BadRequestResponse("tree must be cst or ast");
+            }
+            CharStream rustCode = Utf8CharStream.fromBytes(ctx.bodyAsBytes(), null);
+            AnalysisService service = new AnalysisService(rustCode, parseOptions(ctx));
+            ctx.contentType("text/vnd.graphviz; charset=utf-8");
+            try (OutputStream out = ResponseCompression.open(ctx, metrics.counter("analyse"));
+                 Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024)) {
+                service.writeDot("ast".equals(tree), writer);
+            }
+        });
+
+        // 批量分析：NDJSON 或 multipart 输入，结果按完成顺序以 NDJSON 流式返回
+        app.post("/analyse/batch", ctx -> {
+            List<BatchFile> files;
+            try {
+                files = readBatchFiles(ctx);
+            } catch (RuntimeException e) {
+                ctx.status(400).result("Invalid batch request: " + e.getMessage());
+                return;
+            }
+
+            long start = System.nanoTime();
+            AtomicInteger failed = new AtomicInteger();
+            ctx.contentType("application/x-ndjson");
+            try (OutputStream out = ResponseCompression.open(ctx, metrics.counter("batch"));
+                 Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+                // 序列化在工作线程上完成，请求线程只负责按完成顺序写出
+                batchService.analyze(files, parseOptions(ctx), fileResult -> {
+                    if (!fileResult.isSuccess()) {
+                        failed.incrementAndGet();
+                    }
+                    return gson.toJson(fileResult);
+                }, line -> {
+                    try {
+                        writer.write(line);
+                        writer.write('\n');
+                        writer.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+                // 最后一行为汇总信息
+                Map<String, Object> summary = new LinkedHashMap<>();
+                summary.put("files", files.size());
+                summary.put("failed", failed.get());
+                summary.put("elapsedMillis", (System.nanoTime() - start) / 1_000_000);
+                gson.toJson(Collections.singletonMap("summary", summary), writer);
+                writer.write('\n');
+            }
+        });
+
+        // 服务端渲染：请求体为 DOT，返回布局后的 SVG
+        app.post("/render/svg", ctx -> {
+            String dot = ctx.body();
+            String etag = "\"" + SvgRenderCache.hash(dot) + "\"";
+            if (etag.equals(ctx.header("If-None-Match"))) {
+                ctx.header("ETag", etag);
+                ctx.status(304);
+                return;
+            }
+            try {
+                sendSvg(ctx, svgRenderCache.render(dot));
+            } catch (IllegalArgumentException e) {
+                // DOT 超出服务端支持的语法子集，客户端应回退到 viz.js
+                ctx.status(422).result(e.getMessage());
+            }
+        });
+
+        // 按 DOT 哈希获取已渲染的 SVG
+        app.get("/render/svg/{hash}", ctx -> {
+            String hash = ctx.pathParam("hash");
+            if (("\"" + hash + "\"").equals(ctx.header("If-None-Match"))) {
+                ctx.header("ETag", "\"" + hash + "\"");
+                ctx.status(304);
+                return;
+            }
+            SvgRenderCache.RenderedSvg rendered = svgRenderCache.get(hash);
+            if (rendered == null) {
+                ctx.status(404).result("No rendered SVG for " + hash);
+                return;
+            }
+            sendSvg(ctx, rendered);
+        });
+
+        // 文档大纲：请求体为文档全文，uri + version 相同的请求直接复用已计算的结果
+        app.post("/outline", ctx -> {
+            TextDocument document = openDocument(ctx);
+            List<DocumentSymbol> outline = document.getOutline();
+            if (documentStore.get(document.getUri()) == document) {
+                String path = workspacePath(document.getUri());
+                if (path != null) {
+                    workspaceIndex.update(path, outline);
+                }
+            }
+            sendDocumentResult(ctx, document, "symbols", outline);
+        });
+
+        // 跳转到定义：offset 为光标的 UTF-16 偏移，光标不在已解析的名称上时不返回 definition
+        app.post("/definition", ctx -> {
+            TextDocument document = openDocument(ctx);
+            sendDocumentResult(ctx, document, "definition", document.findDefinition(offsetParam(ctx)));
+        });
+
+        // 查找引用：默认包含定义处，includeDeclaration=false 时排除
+        app.post("/references", ctx -> {
+            TextDocument document = openDocument(ctx);
+            boolean includeDeclaration = !"false".equals(ctx.queryParam("includeDeclaration"));
+            sendDocumentResult(ctx, document, "references",
+                document.findReferences(offsetParam(ctx), includeDeclaration));
+        });
+
+        // 可折叠区域：只用到 Token，不执行语法分析
+        app.post("/folding", ctx -> {
+            TextDocument document = openDocument(ctx);
+            sendDocumentResult(ctx, document, "ranges", document.getFoldingRanges());
+        });
+
+        // 括号匹配：光标紧挨括号时返回配对，否则不返回 bracket
+        app.post("/matchingBracket", ctx -> {
+            TextDocument document = openDocument(ctx);
+            sendDocumentResult(ctx, document, "bracket", document.findMatchingBracket(offsetParam(ctx)));
+        });
+
+        // 语义 Token 图例：客户端注册语义高亮前获取一次
+        app.get("/semanticTokens/legend", ctx -> {
+            Map<String, Object> legend = new LinkedHashMap<>();
+            legend.put("tokenTypes", SemanticTokenLegend.TOKEN_TYPES);
+            legend.put("tokenModifiers", SemanticTokenLegend.TOKEN_MODIFIERS);
+            ctx.contentType("application/json");
+            ctx.result(gson.toJson(legend));
+        });
+
+        // 语义 Token：按词法分析与名称解析分类，LSP 相对编码
+        app.post("/semanticTokens", ctx -> {
+            TextDocument document = openDocument(ctx);
+            sendDocumentResult(ctx, document, "semanticTokens", document.getSemanticTokens());
+        });
+
+        // 语义 Token 增量：previousResultId 不可用时退回完整结果（返回 data 而不是 edits）
+        app.post("/semanticTokens/delta", ctx -> {
+            TextDocument document = openDocument(ctx);
+            sendDocumentResult(ctx, document, "semanticTokens",
+                document.getSemanticTokensDelta(ctx.queryParam("previousResultId")));
+        });
+
+        // 建立 / 更新工作区符号索引：请求格式与 /analyse/batch 相同，已索引的文件整体替换
+        app.post("/workspace/files", ctx -> {
+            List<BatchFile> files;
+            try {
+                files = readBatchFiles(ctx);
+            } catch (RuntimeException e) {
+                ctx.status(400).result("Invalid workspace request: " + e.getMessage());
+                return;
+            }
+            long start = System.nanoTime();
+            AtomicInteger failed = new AtomicInteger();
+            batchService.forEach(files, file -> {
+                try {
+                    workspaceIndex.update(file.getPath(), file.getCode() != null ? file.getCode() : "");
+                } catch (Throwable e) {
+                    // 单个文件失败（例如深度嵌套导致的 StackOverflowError）不影响其他文件
+                    failed.incrementAndGet();
+                }
+            });
+            workspaceIndex.compact();
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("files", files.size());
+            summary.put("failed", failed.get());
+            summary.put("indexedFiles", workspaceIndex.getFileCount());
+            summary.put("symbols", workspaceIndex.getSymbolCount());
+            summary.put("elapsedMillis", (System.nanoTime() - start) / 1_000_000);
+            ctx.contentType("application/json");
+            ctx.result(gson.toJson(summary));
+        });
+
+        // 从工作区索引中移除文件；不带 path 时清空索引
+        app.delete("/workspace/files", ctx -> {
+            String path = ctx.queryParam("path");
+            if (path == null) {
+                workspaceIndex.clear();
+            } else if (!workspaceIndex.remove(path)) {
+                ctx.status(404).result("No indexed file " + path);
+                return;
+            }
+            ctx.status(204);
+        });
+
+        // 工作区符号搜索：前缀匹配在前，不足 limit 时补充模糊匹配
+        app.get("/workspace/symbols", ctx -> {
+            String query = ctx.queryParam("query");
+            int limit = 100;
+            String limitParam = ctx.queryParam("limit");
+            if (limitParam != null) {
+                try {
+                    limit = Math.min(Math.max(Integer.parseInt(limitParam), 0), 1000);
+                } catch (NumberFormatException e) {
+                    throw new BadRequestResponse("limit must be a number");
+                }
+            }
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("query", query != null ? query : "");
+            response.put("symbols", workspaceIndex.search(query != null ? query : "", limit));
+            ctx.contentType("application/json");
+            try (OutputStream out = ResponseCompression.open(ctx, metrics.counter("language"));
+                 Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+                gson.toJson(response, writer);
+            }
+        });
+
+        // 传输指标
+        app.get("/metrics", ctx -> {
+            ctx.contentType("application/json");
+            ctx.result(gson.toJson(metrics.snapshot()));
         });
 
         System.out.println("WebServer is running on port 7071...");
     }
+
+    /**
+     * 从查询参数解析分析选项
+     * 
+     * - tokens=compact：列式 Token 编码
+     * - trees=structure / both：CST 与 AST 的列式树结构
+     * - maxErrors=N：语法错误上限；dedupeErrors=true：级联错误去重（两者都会附带 errorSummary）
+     * - debug=true：写入 debug_output/（默认关闭：调试文件需要生成源代码字符串，且每次请求都会写盘）
+     */
+    private static AnalysisOptions parseOptions(Context ctx) {
+        AnalysisOptions options = AnalysisOptions.defaults();
+        options.setSaveDebugOutput("true".equalsIgnoreCase(ctx.queryParam("debug")));
+        if ("compact".equalsIgnoreCase(ctx.queryParam("tokens"))) {
+            options.setTokenEncoding(AnalysisOptions.TokenEncoding.COMPACT);
+        }
+        if ("parallel".equalsIgnoreCase(ctx.queryParam("parse"))) {
+            options.setParseMode(AnalysisOptions.ParseMode.PARALLEL);
+        }
+        if ("parallel".equalsIgnoreCase(ctx.queryParam("lex"))) {
+            options.setLexMode(AnalysisOptions.LexMode.PARALLEL);
+        }
+        String trees = ctx.queryParam("trees");
+        if (trees != null) {
+            try {
+                options.setTreeFormat(AnalysisOptions.TreeFormat.valueOf(trees.toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestResponse("trees must be dot, structure or both");
+            }
+        }
+        String lispMax = ctx.queryParam("lispMax");
+        if (lispMax != null) {
+            try {
+                options.setLispMaxLength(Math.max(0, Long.parseLong(lispMax)));
+            } catch (NumberFormatException e) {
+                throw new BadRequestResponse("lispMax must be a number");
+            }
+        }
+        String maxErrors = ctx.queryParam("maxErrors");
+        if (maxErrors != null) {
+            try {
+                options.setMaxErrors(Math.max(0, Integer.parseInt(maxErrors)));
+            } catch (NumberFormatException e) {
+                throw new BadRequestResponse("maxErrors must be a number");
+            }
+        }
+        if ("true".equalsIgnoreCase(ctx.queryParam("dedupeErrors"))) {
+            options.setDedupeErrors(true);
+        }
+        return options;
+    }
+
+    /**
+     * 按查询参数 uri 与 version 获取文档
+     * 
+     * 版本已保存时不读取请求体；缺少任一参数时按请求体临时创建，不保存。
+     */
+    private static TextDocument openDocument(Context ctx) {
+        String uri = ctx.queryParam("uri");
+        String version = ctx.queryParam("version");
+        if (uri == null || version == null) {
+            return new TextDocument(uri != null ? uri : "untitled", 0, ctx.body(), null);
+        }
+        try {
+            return documentStore.update(uri, Integer.parseInt(version), ctx::body);
+        } catch (NumberFormatException e) {
+            throw new BadRequestResponse("version must be a number");
+        }
+    }
+
+    /**
+     * 光标位置参数 offset（UTF-16 偏移）
+     */
+    private static int offsetParam(Context ctx) {
+        try {
+            return Integer.parseInt(ctx.queryParam("offset"));
+        } catch (NumberFormatException e) {
+            throw new BadRequestResponse("offset must be a number");
+        }
+    }
+
+    /**
+     * 文档 uri 在工作区索引中的路径
+     *
+     * uri 本身或 file: URI 的路径已由 /workspace/files 索引时返回该路径；否则（例如编辑器的
+     * inmemory:// 模型）返回 null，不写入索引，避免同一文件以两个键出现在搜索结果中。
+     */
+    private static String workspacePath(String uri) {
+        if (workspaceIndex.contains(uri)) {
+            return uri;
+        }
+        if (uri.startsWith("file:")) {
+            try {
+                String path = URI.create(uri).getPath();
+                if (path != null && workspaceIndex.contains(path)) {
+                    return path;
+                }
+            } catch (IllegalArgumentException e) {
+                // 非法 URI 视为不属于工作区
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 以 {"uri", "version", key: value} 的形式返回编辑器功能结果，客户端据 version 丢弃过期响应
+     */
+    private static void sendDocumentResult(Context ctx, TextDocument document, String key, Object value)
+            throws IOException {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("uri", document.getUri());
+        response.put("version", document.getVersion());
+        response.put(key, value);
+        ctx.contentType("application/json");
+        try (OutputStream out = ResponseCompression.open(ctx, metrics.counter("language"));
+             Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+            gson.toJson(response, writer);
+        }
+    }
+
+    /**
+     * 读取批量请求中的文件
+     * 
+     * - multipart/form-data：每个上传文件为一个输入，文件名作为 path
+     * - 其他（application/x-ndjson）：每行一个 {"path": "...", "code": "..."}
+     */
+    private static List<BatchFile> readBatchFiles(Context ctx) throws IOException {
+        List<BatchFile> files = new ArrayList<>();
+        if (ctx.isMultipartFormData()) {
+            for (UploadedFile upload : ctx.uploadedFiles()) {
+                try (InputStream in = upload.content()) {
+                    files.add(new BatchFile(upload.filename(), new String(in.readAllBytes(), StandardCharsets.UTF_8)));
+                }
+            }
+            return files;
+        }
+
+        try (BufferedReader reader = new BufferedReader(
+                 new InputStreamReader(ctx.bodyInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                BatchFile file;
+                try {
+                    file = gson.fromJson(line, BatchFile.class);
+                } catch (JsonParseException e) {
+                    throw new IllegalArgumentException("line " + lineNumber + ": " + e.getMessage());
+                }
+                if (file == null || file.getCode() == null) {
+                    throw new IllegalArgumentException("line " + lineNumber + ": missing \"code\"");
+                }
+                if (file.getPath() == null) {
+                    file.setPath("file-" + files.size() + ".rs");
+                }
+                files.add(file);
+            }
+        }
+        return files;
+    }
+
+    /**
+     * 输出 SVG 响应，附带强 ETag
+     */
+    private static void sendSvg(Context ctx, SvgRenderCache.RenderedSvg rendered) throws IOException {
+        ctx.header("ETag", rendered.getETag());
+        ctx.header("Cache-Control", "no-cache");
+        ctx.header("X-Render-Hash", rendered.getHash());
+        ctx.contentType("image/svg+xml; charset=utf-8");
+        ResponseCompression.send(ctx, rendered.getSvg(), metrics.counter("render"));
+    }
 }
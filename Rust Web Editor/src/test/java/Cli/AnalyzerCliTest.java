@@ -0,0 +1,122 @@
+package Cli;
+
+import CompilerFronted.AnalysisService.models.AnalysisOptions;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AnalyzerCliTest {
+
+    @Test
+    void testParseArguments(@TempDir Path root) {
+        AnalyzerCli defaults = parse(root.toString());
+        assertEquals(root, defaults.sourceRoot);
+        assertEquals("-", defaults.ndjsonFile);
+        assertNull(defaults.outputDirectory);
+        assertEquals(AnalysisOptions.TokenEncoding.OBJECTS, defaults.options.getTokenEncoding());
+        assertEquals(AnalysisOptions.TreeFormat.DOT, defaults.options.getTreeFormat());
+
+        AnalyzerCli cli = parse("--tokens", "compact", "--parallelism", "3", "--parallel-parse", "--parallel-lex",
+            "--trees", "Both", root.toString(), "--max-errors", "5", "--dedupe-errors", "--out", "results");
+        assertEquals(root, cli.sourceRoot);
+        assertEquals(Path.of("results"), cli.outputDirectory);
+        assertEquals(3, cli.parallelism);
+        assertEquals(AnalysisOptions.TokenEncoding.COMPACT, cli.options.getTokenEncoding());
+        assertEquals(AnalysisOptions.ParseMode.PARALLEL, cli.options.getParseMode());
+        assertEquals(AnalysisOptions.LexMode.PARALLEL, cli.options.getLexMode());
+        assertEquals(AnalysisOptions.TreeFormat.BOTH, cli.options.getTreeFormat());
+        assertEquals(5, cli.options.getMaxErrors());
+        assertTrue(cli.options.isDedupeErrors());
+        assertEquals(0, parse(root.toString(), "--max-errors", "-1").options.getMaxErrors());
+
+        assertInvalid("missing source directory");
+        assertInvalid("not a directory", root.resolve("missing").toString());
+        assertInvalid("unexpected argument: other", root.toString(), "other");
+        assertInvalid("unexpected argument: --verbose", root.toString(), "--verbose");
+        assertInvalid("--ndjson expects a value", root.toString(), "--ndjson");
+        assertInvalid("unknown token encoding: packed", "--tokens", "packed", root.toString());
+        assertInvalid("unknown tree format: svg", "--trees", "svg", root.toString());
+        assertInvalid("--parallelism expects a number", "--parallelism", "many", root.toString());
+    }
+
+    @Test
+    void testNdjsonToStdout(@TempDir Path root) throws Exception {
+        writeSources(root);
+        ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+        int failed = parse(root.toString(), "--parallelism", "2").run(stdout);
+
+        // 每行一个结果；hidden/ 与 target/ 下的文件被跳过，语法错误计为失败
+        List<JsonObject> lines = new ArrayList<>();
+        for (String line : stdout.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(JsonParser.parseString(line).getAsJsonObject());
+        }
+        List<String> paths = new ArrayList<>();
+        for (JsonObject line : lines) {
+            paths.add(line.get("path").getAsString());
+        }
+        paths.sort(null);
+        assertEquals(List.of("broken.rs", "main.rs", "sub/lib.rs"), paths);
+        assertEquals(1, failed);
+        for (JsonObject line : lines) {
+            assertEquals(!line.get("path").getAsString().equals("broken.rs"), line.get("success").getAsBoolean());
+            assertTrue(line.has("result"));
+        }
+    }
+
+    @Test
+    void testNdjsonFileAndOutputDirectory(@TempDir Path root) throws Exception {
+        Path sources = Files.createDirectories(root.resolve("src"));
+        writeSources(sources);
+
+        Path ndjson = root.resolve("results.ndjson");
+        ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+        assertEquals(1, parse(sources.toString(), "--ndjson", ndjson.toString()).run(stdout));
+        assertEquals(0, stdout.size());
+        assertEquals(3, Files.readAllLines(ndjson, StandardCharsets.UTF_8).size());
+
+        Path out = root.resolve("out");
+        assertEquals(1, parse(sources.toString(), "--out", out.toString(), "--tokens", "compact").run(stdout));
+        assertEquals(0, stdout.size());
+        assertTrue(Files.isRegularFile(out.resolve("broken.rs.json")));
+        assertTrue(Files.isRegularFile(out.resolve("sub/lib.rs.json")));
+        assertFalse(Files.exists(out.resolve("target")));
+        JsonObject main = JsonParser.parseString(Files.readString(out.resolve("main.rs.json"))).getAsJsonObject();
+        assertEquals("main.rs", main.get("path").getAsString());
+        assertTrue(main.get("success").getAsBoolean());
+        assertTrue(main.getAsJsonObject("result").has("compactTokens"));
+    }
+
+    private static void writeSources(Path root) throws Exception {
+        Files.createDirectories(root.resolve("sub"));
+        Files.createDirectories(root.resolve("target"));
+        Files.createDirectories(root.resolve(".hidden"));
+        Files.writeString(root.resolve("main.rs"), "fn main() {\n    println!(\"hi\");\n}\n");
+        Files.writeString(root.resolve("sub/lib.rs"), "pub fn add(a: i32, b: i32) -> i32 { a + b }\n");
+        Files.writeString(root.resolve("broken.rs"), "fn broken( {\n");
+        Files.writeString(root.resolve("target/generated.rs"), "fn generated() {}\n");
+        Files.writeString(root.resolve(".hidden/skip.rs"), "fn skip() {}\n");
+        Files.writeString(root.resolve("notes.txt"), "not rust");
+    }
+
+    private static AnalyzerCli parse(String... args) {
+        AnalyzerCli cli = new AnalyzerCli();
+        cli.parseArguments(args);
+        return cli;
+    }
+
+    private static void assertInvalid(String message, String... args) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> parse(args));
+        assertTrue(e.getMessage().startsWith(message), e.getMessage());
+    }
+}
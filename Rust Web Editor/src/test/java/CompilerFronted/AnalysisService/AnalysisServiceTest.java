@@ -1,16 +1,50 @@
 package CompilerFronted.AnalysisService;
 
+import CompilerFronted.AnalysisService.analyzers.LexicalAnalyzer;
+import CompilerFronted.AnalysisService.analyzers.ParallelLexicalAnalyzer;
+import CompilerFronted.AnalysisService.analyzers.ParallelSyntaxAnalyzer;
+import CompilerFronted.AnalysisService.analyzers.SyntaxAnalyzer;
+import CompilerFronted.AnalysisService.analyzers.Utf8CharStream;
+import CompilerFronted.AnalysisService.benchmark.BenchmarkSources;
+import CompilerFronted.AnalysisService.codec.BinaryResultCodec;
+import CompilerFronted.AnalysisService.codec.BinaryResultDecoder;
+import CompilerFronted.AnalysisService.codec.ResultCodecs;
+import CompilerFronted.AnalysisService.models.AnalysisOptions;
+import CompilerFronted.AnalysisService.models.AnalysisResult;
+import CompilerFronted.AnalysisService.models.BatchFile;
+import CompilerFronted.AnalysisService.models.BatchFileResult;
+import CompilerFronted.AnalysisService.models.CompactTokenStream;
+import CompilerFronted.AnalysisService.models.ErrorSummary;
+import CompilerFronted.AnalysisService.models.TokenInfo;
+import CompilerFronted.AnalysisService.models.TokenTable;
+import CompilerFronted.AnalysisService.models.TreeStructure;
+import CompilerFronted.AnalysisService.utils.LispTreeWriter;
+import CompilerFronted.Core.RustLexer;
+
 import com.google.gson.Gson;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
 import com.google.gson.reflect.TypeToken;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.List;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.stream.Stream;
 
 public class AnalysisServiceTest {
 
@@ -79,4 +113,427 @@ public class AnalysisServiceTest {
         assertNotNull(errors, "Errors list should not be null");
         assertFalse(errors.isEmpty(), "Errors list should not be empty for invalid code");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCompactTokenEncodingMatchesObjectTokens() {
+        String rustCode = readRustCodeFromFile("hellow.rs");
+        AnalysisOptions options = AnalysisOptions.defaults();
+        options.setTokenEncoding(AnalysisOptions.TokenEncoding.COMPACT);
+
+        AnalysisService objectService = new AnalysisService(rustCode);
+        objectService.performAnalysis();
+        AnalysisService compactService = new AnalysisService(rustCode, options);
+        compactService.performAnalysis();
+
+        List<TokenInfo> expected = objectService.getAnalysisResult().getTokens();
+        CompactTokenStream compact = compactService.getAnalysisResult().getCompactTokens();
+        assertNotNull(compact, "Compact token stream should be present");
+        assertTrue(compactService.getAnalysisResult().getTokens().isEmpty(), "Object tokens should be omitted");
+        assertEquals(expected.size(), compact.size());
+
+        int[] lineOffsets = compact.getLineOffsets();
+        for (int i = 0; i < expected.size(); i++) {
+            TokenInfo token = expected.get(i);
+            int start = compact.getStarts()[i];
+            int line = 0;
+            while (line + 1 < lineOffsets.length && lineOffsets[line + 1] <= start) {
+                line++;
+            }
+            assertEquals(token.getType(), compact.getTypeNames()[compact.getTypes()[i]]);
+            assertEquals(token.getText(), rustCode.substring(start, start + compact.getLengths()[i]));
+            assertEquals(token.getLine(), line + 1);
+            assertEquals(token.getColumn(), start - lineOffsets[line]);
+        }
+    }
+
+    @Test
+    void testBinaryResultRoundTrip() throws IOException {
+        String rustCode = readRustCodeFromFile("hellow_error.rs");
+        AnalysisOptions options = AnalysisOptions.defaults();
+        options.setTokenEncoding(AnalysisOptions.TokenEncoding.COMPACT);
+
+        for (AnalysisOptions variant : new AnalysisOptions[] { AnalysisOptions.defaults(), options }) {
+            AnalysisResult expected = new AnalysisService(rustCode, variant).analyze();
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            new BinaryResultCodec().encode(expected, out);
+            AnalysisResult decoded = BinaryResultDecoder.decode(out.toByteArray());
+
+            // 二进制往返后与 JSON 序列化结果完全一致
+            Gson gson = new Gson();
+            assertEquals(gson.toJson(expected), gson.toJson(decoded));
+        }
+
+        assertEquals(BinaryResultCodec.CONTENT_TYPE,
+            ResultCodecs.negotiate("application/vnd.rust-analysis+binary, application/json;q=0.5").getContentType());
+        assertEquals("application/json", ResultCodecs.negotiate("*/*").getContentType());
+        assertEquals("application/json", ResultCodecs.negotiate(null).getContentType());
+    }
+
+    @Test
+    void testBatchAnalysisIsolatesFailures() throws InterruptedException {
+        List<BatchFile> files = Arrays.asList(
+            new BatchFile("hellow.rs", readRustCodeFromFile("hellow.rs")),
+            new BatchFile("hellow_error.rs", readRustCodeFromFile("hellow_error.rs")),
+            new BatchFile("empty.rs", null),
+            // 读取失败：异常必须转换为该文件的结果，不影响其他文件
+            new BatchFile("unreadable.rs", null) {
+                @Override
+                public CharStream openCharStream() throws IOException {
+                    throw new IOException("disk unavailable");
+                }
+            },
+            new BatchFile("after.rs", readRustCodeFromFile("hellow.rs"))
+        );
+
+        BatchAnalysisService batchService = new BatchAnalysisService(2);
+        List<BatchFileResult> results = new ArrayList<>();
+        try {
+            batchService.analyze(files, AnalysisOptions.defaults(), results::add);
+        } finally {
+            batchService.shutdown();
+        }
+
+        assertEquals(files.size(), results.size(), "Every file should produce exactly one result");
+        results.sort((a, b) -> Integer.compare(a.getIndex(), b.getIndex()));
+        assertTrue(results.get(0).isSuccess());
+        assertFalse(results.get(1).isSuccess(), "Syntax errors should be reported per file");
+        assertFalse(results.get(1).getResult().getErrors().isEmpty());
+        assertEquals("empty.rs", results.get(2).getPath());
+        assertNotNull(results.get(2).getResult());
+
+        BatchFileResult unreadable = results.get(3);
+        assertEquals("unreadable.rs", unreadable.getPath());
+        assertFalse(unreadable.isSuccess());
+        assertNull(unreadable.getResult());
+        assertEquals("IOException: disk unavailable", unreadable.getError());
+        assertTrue(results.get(4).isSuccess(), "Files after a failing file should still be analyzed");
+        assertNull(results.get(4).getError());
+    }
+
+    @Test
+    void testParallelParseMatchesSequential() {
+        String rustCode = "#![allow(dead_code)]\n"
+            + "const LIMIT: usize = { 4 * 1024 };\n"
+            + BenchmarkSources.generate(60)
+            + "\n// trailing comment\n";
+
+        LexicalAnalyzer sequentialLexer = new LexicalAnalyzer(rustCode);
+        sequentialLexer.analyze();
+        SyntaxAnalyzer sequential = new SyntaxAnalyzer(new CommonTokenStream(new ListTokenSource(sequentialLexer.getTokensWithEOF())));
+        ParseTree expected = sequential.analyze();
+        assertFalse(sequential.hasErrors());
+
+        LexicalAnalyzer parallelLexer = new LexicalAnalyzer(rustCode);
+        List<Token> tokens = parallelLexer.getTokensWithEOF();
+        ParallelSyntaxAnalyzer parallel = new ParallelSyntaxAnalyzer(tokens, 256);
+        ParseTree actual = parallel.analyze();
+        assertTrue(parallel.isParsedInParallel(), "Large input should be parsed in parallel");
+        assertFalse(parallel.hasErrors());
+        assertEquals(expected.toStringTree(sequential.getParser()), actual.toStringTree(parallel.getParser()));
+        assertSameShape(expected, actual);
+
+        // 含语法错误时回退到顺序解析，错误信息保持一致
+        String broken = rustCode + "fn broken( {\n";
+        ParallelSyntaxAnalyzer fallback = new ParallelSyntaxAnalyzer(new LexicalAnalyzer(broken).getTokensWithEOF(), 256);
+        fallback.analyze();
+        assertFalse(fallback.isParsedInParallel());
+        assertTrue(fallback.hasErrors());
+    }
+
+    /**
+     * 逐节点比较两棵解析树的 Token 范围与调用状态
+     */
+    private static void assertSameShape(ParseTree expected, ParseTree actual) {
+        assertEquals(expected.getClass(), actual.getClass());
+        assertEquals(expected.getChildCount(), actual.getChildCount());
+        if (expected instanceof TerminalNode) {
+            assertEquals(((TerminalNode) expected).getSymbol().getTokenIndex(), ((TerminalNode) actual).getSymbol().getTokenIndex());
+            return;
+        }
+        ParserRuleContext expectedContext = (ParserRuleContext) expected;
+        ParserRuleContext actualContext = (ParserRuleContext) actual;
+        assertEquals(expectedContext.invokingState, actualContext.invokingState);
+        assertEquals(expectedContext.getStart().getTokenIndex(), actualContext.getStart().getTokenIndex());
+        assertEquals(expectedContext.getStop().getTokenIndex(), actualContext.getStop().getTokenIndex());
+        for (int i = 0; i < expected.getChildCount(); i++) {
+            assertSame(actual, actual.getChild(i).getParent());
+            assertSameShape(expected.getChild(i), actual.getChild(i));
+        }
+    }
+
+    @Test
+    void testParallelLexMatchesSequential() {
+        // 跨块的块注释、原始字符串、换行处的 '.' 与非 ASCII 字符都需要正确处理
+        StringBuilder source = new StringBuilder("#!/usr/bin/env run-cargo-script\n");
+        source.append(BenchmarkSources.generate(200));
+        source.append("/* 跨越多块的注释\n");
+        for (int i = 0; i < 6000; i++) {
+            source.append("   comment line ").append(i).append(" \"quoted\" 注释\n");
+        }
+        source.append("*/\nconst RAW: &str = r#\"\n");
+        for (int i = 0; i < 3000; i++) {
+            source.append("raw line ").append(i).append(" \u00e9\uD83E\uDD80\n");
+        }
+        source.append("\"#;\nfn tuple() -> f64 { let t = (1.0, 2.0); t\n.0 + 1.\n5 }\n");
+        source.append(BenchmarkSources.generate(200));
+
+        List<Token> expected = new LexicalAnalyzer(source.toString()).getTokensWithEOF();
+        ParallelLexicalAnalyzer parallel = new ParallelLexicalAnalyzer(source.toString(), 0);
+        List<Token> actual = parallel.getTokensWithEOF();
+
+        assertTrue(parallel.getRelexedChunks() > 0, "Chunks inside the comment should be re-lexed");
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Token e = expected.get(i);
+            Token a = actual.get(i);
+            assertEquals(e.getType(), a.getType(), "type of token " + i);
+            assertEquals(e.getChannel(), a.getChannel(), "channel of token " + i);
+            assertEquals(e.getStartIndex(), a.getStartIndex(), "start of token " + i);
+            assertEquals(e.getStopIndex(), a.getStopIndex(), "stop of token " + i);
+            assertEquals(e.getLine(), a.getLine(), "line of token " + i);
+            assertEquals(e.getCharPositionInLine(), a.getCharPositionInLine(), "column of token " + i);
+            assertEquals(e.getText(), a.getText(), "text of token " + i);
+            assertEquals(i, a.getTokenIndex());
+        }
+    }
+
+    @Test
+    void testUtf8CharStreamMatchesStringInput() {
+        StringBuilder unicode = new StringBuilder(readRustCodeFromFile("hellow.rs"));
+        for (int i = 0; i < 100; i++) {
+            unicode.append("// 注释 ").append(i).append(" \uD83E\uDD80 é\nfn f").append(i)
+                .append("() -> &'static str { \"字符串 \uD83D\uDE00\" }\n");
+        }
+        String[] sources = { readRustCodeFromFile("hellow.rs"), unicode.toString() };
+        for (String source : sources) {
+            CharStream input = Utf8CharStream.fromBytes(source.getBytes(StandardCharsets.UTF_8), null);
+            assertTrue(input instanceof Utf8CharStream);
+            assertEquals(source.codePointCount(0, source.length()), input.size());
+            assertEquals(source, input.toString());
+
+            List<Token> expected = new LexicalAnalyzer(source).getTokensWithEOF();
+            List<Token> actual = new LexicalAnalyzer(input).getTokensWithEOF();
+            assertEquals(expected.size(), actual.size());
+            // 倒序读取文本，覆盖检查点的随机访问
+            for (int i = expected.size() - 1; i >= 0; i--) {
+                assertEquals(expected.get(i).getType(), actual.get(i).getType());
+                assertEquals(expected.get(i).getStartIndex(), actual.get(i).getStartIndex());
+                assertEquals(expected.get(i).getText(), actual.get(i).getText());
+            }
+
+            AnalysisOptions options = new AnalysisOptions();
+            options.setSaveDebugOutput(false);
+            options.setTokenEncoding(AnalysisOptions.TokenEncoding.COMPACT);
+            // 偏移表在字节流上计算，结果与基于字符串的分析一致
+            options.setTreeFormat(AnalysisOptions.TreeFormat.BOTH);
+            Gson gson = new Gson();
+            assertEquals(gson.toJson(new AnalysisService(source, options).analyze()),
+                gson.toJson(new AnalysisService(Utf8CharStream.fromBytes(source.getBytes(StandardCharsets.UTF_8), null), options).analyze()));
+        }
+
+        // 非法 UTF-8 回退为替换字符解码
+        byte[] invalid = { 'f', 'n', ' ', (byte) 0xC3, '(', ')', (byte) 0xED, (byte) 0xA0, (byte) 0x80 };
+        CharStream fallback = Utf8CharStream.fromBytes(invalid, null);
+        assertFalse(fallback instanceof Utf8CharStream);
+        assertEquals(new String(invalid, StandardCharsets.UTF_8), fallback.toString());
+    }
+
+    @Test
+    void testAnalysisOptionsCopy() {
+        // 所有字段都取非默认值，漏复制的字段会出现在 JSON 差异中
+        AnalysisOptions options = new AnalysisOptions();
+        options.setTokenEncoding(AnalysisOptions.TokenEncoding.COMPACT);
+        options.setParseMode(AnalysisOptions.ParseMode.PARALLEL);
+        options.setLexMode(AnalysisOptions.LexMode.PARALLEL);
+        options.setTreeFormat(AnalysisOptions.TreeFormat.BOTH);
+        options.setLispMaxLength(4096);
+        options.setSaveDebugOutput(false);
+        options.setMaxErrors(7);
+        options.setDedupeErrors(true);
+
+        Gson gson = new Gson();
+        AnalysisOptions copy = new AnalysisOptions(options);
+        assertEquals(gson.toJson(options), gson.toJson(copy));
+        copy.setMaxErrors(1);
+        assertEquals(7, options.getMaxErrors());
+    }
+
+    @Test
+    void testTokenTableFixedTexts() {
+        String source = readRustCodeFromFile("hellow.rs") + "\nfn f<'a>(x: &'static str) -> Self { r#\"ü\"#; 'a: loop { break 'a; } }\n";
+        for (Token token : new LexicalAnalyzer(Utf8CharStream.fromBytes(source.getBytes(StandardCharsets.UTF_8), null)).analyze()) {
+            String fixed = TokenTable.fixedText(token.getType());
+            if (fixed != null) {
+                assertEquals(token.getText(), fixed, "fixed text of " + TokenTable.typeName(token.getType()));
+            }
+            TokenInfo info = new TokenInfo(token);
+            assertEquals(token.getText(), info.getText());
+            assertEquals(TokenInfo.typeName(token.getType()), info.getType());
+        }
+        assertEquals("fn", TokenTable.fixedText(RustLexer.KW_FN));
+        assertEquals("'static", TokenTable.fixedText(RustLexer.KW_STATICLIFETIME));
+        assertNull(TokenTable.fixedText(RustLexer.NON_KEYWORD_IDENTIFIER));
+    }
+
+    @Test
+    void testLispTreeWriterMatchesToStringTree() throws IOException {
+        String source = readRustCodeFromFile("hellow.rs") + "\nfn t() { let s = \"a\\tb\nc\"; }\n";
+        for (String code : new String[] { source, readRustCodeFromFile("hellow_error.rs") }) {
+            LexicalAnalyzer lexer = new LexicalAnalyzer(code);
+            SyntaxAnalyzer syntax = new SyntaxAnalyzer(new CommonTokenStream(new ListTokenSource(lexer.getTokensWithEOF())));
+            ParseTree tree = syntax.analyze();
+            String expected = tree.toStringTree(syntax.getParser());
+            assertEquals(expected, new LispTreeWriter(syntax.getParser(), LispTreeWriter.UNLIMITED).toString(tree));
+
+            StringBuilder truncated = new StringBuilder();
+            assertTrue(new LispTreeWriter(syntax.getParser(), 40).write(tree, truncated));
+            assertEquals(expected.substring(0, 40) + LispTreeWriter.TRUNCATION_MARKER, truncated.toString());
+        }
+
+        // 深层嵌套不会栈溢出
+        StringBuilder deep = new StringBuilder("fn main() { let x = ");
+        for (int i = 0; i < 300; i++) {
+            deep.append('(');
+        }
+        deep.append('1');
+        for (int i = 0; i < 300; i++) {
+            deep.append(')');
+        }
+        deep.append("; }");
+        AnalysisOptions options = new AnalysisOptions();
+        options.setSaveDebugOutput(false);
+        StringBuilder lisp = new StringBuilder();
+        assertFalse(new AnalysisService(deep.toString(), options).writeLispTree(lisp));
+        assertTrue(lisp.toString().startsWith("(crate (item"));
+    }
+
+    @Test
+    void testTreeStructureMatchesParseTree() throws IOException {
+        // 含增补平面字符：区间应为 UTF-16 偏移
+        String code = readRustCodeFromFile("hellow.rs") + "\nfn emoji() { let s = \"\uD83E\uDD80\"; let t = 1; }\n";
+        AnalysisOptions options = new AnalysisOptions();
+        options.setSaveDebugOutput(false);
+        options.setTreeFormat(AnalysisOptions.TreeFormat.STRUCTURE);
+        AnalysisResult result = new AnalysisService(code, options).analyze();
+        assertEquals("", result.getParseTree().getDot(), "STRUCTURE should skip DOT generation");
+
+        TreeStructure cst = result.getParseTree().getStructure();
+        assertNotNull(cst);
+        assertEquals("crate", cst.getName(0));
+
+        // 层序遍历解析树，逐节点比对名称、Token、区间与子节点范围
+        LexicalAnalyzer lexer = new LexicalAnalyzer(code);
+        SyntaxAnalyzer syntax = new SyntaxAnalyzer(new CommonTokenStream(new ListTokenSource(lexer.getTokensWithEOF())));
+        List<ParseTree> nodes = new ArrayList<>();
+        nodes.add(syntax.analyze());
+        for (int i = 0; i < nodes.size(); i++) {
+            ParseTree node = nodes.get(i);
+            assertEquals(nodes.size(), cst.getFirstChildren()[i]);
+            assertEquals(node.getChildCount(), cst.getChildCounts()[i]);
+            for (int c = 0; c < node.getChildCount(); c++) {
+                nodes.add(node.getChild(c));
+            }
+            if (node instanceof TerminalNode) {
+                Token token = ((TerminalNode) node).getSymbol();
+                assertEquals(token.getTokenIndex(), cst.getTokens()[i]);
+                assertEquals(TokenTable.typeName(token.getType()), cst.getName(i));
+                if (token.getType() != Token.EOF) {
+                    assertEquals(token.getText(), code.substring(cst.getStarts()[i], cst.getEnds()[i]));
+                }
+            } else {
+                assertEquals(syntax.getParser().getRuleNames()[((ParserRuleContext) node).getRuleIndex()], cst.getName(i));
+                assertEquals(-1, cst.getTokens()[i]);
+            }
+        }
+        assertEquals(nodes.size(), cst.size());
+
+        TreeStructure ast = result.getAst().getStructure();
+        assertNotNull(ast);
+        assertTrue(ast.size() > 0 && ast.size() < cst.size());
+
+        // 二进制格式往返
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BinaryResultCodec().encode(result, out);
+        AnalysisResult decoded = BinaryResultDecoder.decode(out.toByteArray());
+        Gson gson = new Gson();
+        assertEquals(gson.toJson(cst), gson.toJson(decoded.getParseTree().getStructure()));
+        assertEquals(gson.toJson(ast), gson.toJson(decoded.getAst().getStructure()));
+    }
+
+    @Test
+    void testDiagnoseMatchesFullAnalysisErrors() throws IOException {
+        AnalysisOptions options = new AnalysisOptions();
+        options.setSaveDebugOutput(false);
+        Gson gson = new Gson();
+        // 合法代码走 SLL 一遍完成；含错误的代码回退到 LL 并完整恢复
+        String[] sources = {
+            readRustCodeFromFile("hellow.rs"),
+            readRustCodeFromFile("hellow_error.rs"),
+            BenchmarkSources.generate(5) + "fn broken( { let = ; }\nstruct S { a: }\n"
+        };
+        for (String code : sources) {
+            AnalysisResult full = new AnalysisService(code, options).analyze();
+            AnalysisService service = new AnalysisService(code, options);
+            AnalysisResult diagnostics = service.diagnose();
+            assertEquals(full.isSuccess(), diagnostics.isSuccess());
+            assertEquals(gson.toJson(full.getErrors()), gson.toJson(diagnostics.getErrors()));
+            assertNull(diagnostics.getTokens());
+            assertNull(diagnostics.getParseTree());
+            assertNull(service.getSyntaxAnalyzer().getParseTree(), "diagnose should not build a parse tree");
+            assertEquals(-1, gson.toJson(diagnostics).indexOf("parseTree"));
+        }
+
+        // 实时分析走诊断模式：即使开启调试输出，每次编辑也不写 debug_output/
+        long before = countDebugFiles();
+        new AnalysisService(sources[1], AnalysisOptions.defaults()).diagnose();
+        assertEquals(before, countDebugFiles());
+    }
+
+    private static long countDebugFiles() throws IOException {
+        if (!Files.isDirectory(Paths.get("debug_output"))) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.list(Paths.get("debug_output"))) {
+            return files.count();
+        }
+    }
+
+    @Test
+    void testErrorCapAndDeduplication() throws IOException {
+        AnalysisOptions options = new AnalysisOptions();
+        options.setSaveDebugOutput(false);
+        Gson gson = new Gson();
+        String broken = "fn a() { let x = ; foo(; if { } }\n".repeat(200);
+        AnalysisResult unlimited = new AnalysisService(broken, options).analyze();
+        assertTrue(unlimited.getErrors().size() > 500);
+        assertNull(unlimited.getErrorSummary(), "summary is only attached when an error policy is set");
+
+        // 达到上限后跳到 EOF：错误数恰为上限，仍然得到（截断的）解析树
+        options.setMaxErrors(20);
+        AnalysisResult capped = new AnalysisService(broken, options).analyze();
+        assertEquals(20, capped.getErrors().size());
+        assertEquals(gson.toJson(unlimited.getErrors().subList(0, 20)), gson.toJson(capped.getErrors()));
+        assertTrue(capped.getErrorSummary().isTruncated());
+        assertTrue(capped.getErrorSummary().getDensity() > 0.1);
+        assertFalse(capped.getParseTree().getLisp().isEmpty());
+        assertEquals(gson.toJson(capped.getErrors()),
+            gson.toJson(new AnalysisService(broken, options).diagnose().getErrors()));
+
+        // 去重：同一出错 Token 上的级联错误只保留第一个
+        options.setMaxErrors(0);
+        options.setDedupeErrors(true);
+        String code = readRustCodeFromFile("hellow_error.rs");
+        AnalysisResult all = new AnalysisService(code, AnalysisOptions.defaults()).analyze();
+        AnalysisResult deduped = new AnalysisService(code, options).analyze();
+        ErrorSummary summary = deduped.getErrorSummary();
+        assertEquals(all.getErrors().size(), summary.getTotal());
+        assertTrue(summary.getDuplicates() > 0);
+        assertEquals(summary.getTotal() - summary.getDuplicates(), deduped.getErrors().size());
+        assertFalse(summary.isTruncated());
+
+        // 错误统计经过二进制编码保持不变
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BinaryResultCodec().encode(deduped, out);
+        assertEquals(gson.toJson(deduped), gson.toJson(BinaryResultDecoder.decode(out.toByteArray())));
+    }
+}
@@ -0,0 +1,45 @@
+package CompilerFronted.AnalysisService.benchmark;
+
+/**
+ * 基准测试用的 Rust 源代码生成器
+ *
+ * 生成包含结构体、impl 块、函数与表达式的合法代码，规模随函数数量线性增长。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public final class BenchmarkSources {
+
+    private BenchmarkSources() {
+    }
+
+    public static String generate(int functions) {
+        StringBuilder sb = new StringBuilder(functions * 256);
+        sb.append("use std::collections::HashMap;\n\n");
+        for (int i = 0; i < functions; i++) {
+            sb.append("/// 第 ").append(i).append(" 个条目\n");
+            sb.append("struct Item").append(i).append(" {\n");
+            sb.append("    id: u32,\n");
+            sb.append("    name: String,\n");
+            sb.append("}\n\n");
+            sb.append("impl Item").append(i).append(" {\n");
+            sb.append("    fn score(&self, factor: f64) -> f64 {\n");
+            sb.append("        let mut total = 0.0;\n");
+            sb.append("        for k in 0..self.id {\n");
+            sb.append("            if k % 2 == 0 { total += factor * 1.5; } else { total -= 0.25; }\n");
+            sb.append("        }\n");
+            sb.append("        total\n");
+            sb.append("    }\n");
+            sb.append("}\n\n");
+            sb.append("fn compute_").append(i).append("(map: &mut HashMap<String, i64>, x: i64) -> i64 {\n");
+            sb.append("    let key = format!(\"key_{}\", x);\n");
+            sb.append("    let value = map.entry(key).or_insert(0);\n");
+            sb.append("    *value += x * ").append(i).append(";\n");
+            sb.append("    match *value { 0 => 1, n if n > 100 => n / 2, n => n + 1 }\n");
+            sb.append("}\n\n");
+        }
+        sb.append("fn main() {\n    println!(\"done\");\n}\n");
+        return sb.toString();
+    }
+}
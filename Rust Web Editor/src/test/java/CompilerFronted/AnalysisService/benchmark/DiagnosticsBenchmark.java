@@ -0,0 +1,57 @@
+package CompilerFronted.AnalysisService.benchmark;
+
+import CompilerFronted.AnalysisService.AnalysisService;
+import CompilerFronted.AnalysisService.models.AnalysisOptions;
+import CompilerFronted.AnalysisService.models.AnalysisResult;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 诊断模式基准：完整分析与只报告错误的诊断模式的对比
+ *
+ * 运行：mvn -Pbenchmark test-compile exec:exec -Djmh.args="Diagnostics -f 1"
+ * functions=42 约为 1000 行源代码；broken=true 时在末尾追加语法错误，诊断模式走 LL 回退路径。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiagnosticsBenchmark {
+
+    @Param({ "42" })
+    public int functions;
+
+    @Param({ "false", "true" })
+    public boolean broken;
+
+    private String source;
+    private AnalysisOptions options;
+
+    @Setup
+    public void setup() {
+        source = BenchmarkSources.generate(functions);
+        if (broken) {
+            source += "fn broken( { let = ; }\n";
+        }
+        options = new AnalysisOptions();
+        options.setSaveDebugOutput(false);
+    }
+
+    @Benchmark
+    public AnalysisResult full() {
+        return new AnalysisService(source, options).analyze();
+    }
+
+    @Benchmark
+    public AnalysisResult diagnose() {
+        return new AnalysisService(source, options).diagnose();
+    }
+}
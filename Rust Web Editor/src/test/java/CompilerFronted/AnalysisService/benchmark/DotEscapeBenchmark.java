@@ -0,0 +1,75 @@
+package CompilerFronted.AnalysisService.benchmark;
+
+import CompilerFronted.AnalysisService.utils.DotEscaper;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DOT 标签转义基准：五次链式 replace 与 DotEscaper 单遍转义的对比
+ *
+ * 运行：mvn -Pbenchmark test-compile exec:exec -Djmh.args="DotEscape -f 1"
+ * PLAIN 为不含特殊字符的典型标签（规则名、标识符），ESCAPED 为带引号与转义的字符串字面量。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DotEscapeBenchmark {
+
+    @Param({ "PLAIN", "ESCAPED" })
+    public String labels;
+
+    private String[] inputs;
+    private final StringBuilder buffer = new StringBuilder(256);
+
+    @Setup
+    public void setup() {
+        if (labels.equals("PLAIN")) {
+            inputs = new String[] { "functionQualifiers", "expression", "let", "counter_value", "::", "{" };
+        } else {
+            inputs = new String[] { "\"Hello \\\"World\\\"\\n\"", "\"C:\\\\path\\\\file\"", "'\\t'", "\"a\tb\r\n\"" };
+        }
+    }
+
+    @Benchmark
+    public int chainedReplace() {
+        int length = 0;
+        for (String text : inputs) {
+            length += text
+                .replace("\\", "\\\\")
+                .replace("\"", "\\\"")
+                .replace("\n", "\\n")
+                .replace("\t", "\\t")
+                .replace("\r", "\\r")
+                .length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int singlePass() {
+        int length = 0;
+        for (String text : inputs) {
+            length += DotEscaper.escape(text).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int appendToBuffer() throws IOException {
+        buffer.setLength(0);
+        for (String text : inputs) {
+            DotEscaper.escape(text, buffer);
+        }
+        return buffer.length();
+    }
+}
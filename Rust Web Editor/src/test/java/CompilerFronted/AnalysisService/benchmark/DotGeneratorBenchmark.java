@@ -0,0 +1,118 @@
+package CompilerFronted.AnalysisService.benchmark;
+
+import CompilerFronted.AnalysisService.analyzers.LexicalAnalyzer;
+import CompilerFronted.AnalysisService.analyzers.SyntaxAnalyzer;
+import CompilerFronted.AnalysisService.utils.ASTGenerator;
+import CompilerFronted.AnalysisService.utils.CSTGenerator;
+import CompilerFronted.Core.RustParser;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DOT 生成基准：原有逐节点 String.format 拼接与 DotWriter 流式输出的对比
+ *
+ * 运行：mvn -Pbenchmark test-compile exec:exec -Djmh.args="DotGenerator -f 1"
+ * legacy* 为改造前的实现（{@link LegacyDotGenerator}），Setup 阶段校验两者输出一致。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DotGeneratorBenchmark {
+
+    @Param({ "200" })
+    public int functions;
+
+    private RustParser parser;
+    private ParseTree parseTree;
+    private ASTGenerator.ASTNode astRoot;
+
+    @Setup
+    public void setup() {
+        LexicalAnalyzer lexicalAnalyzer = new LexicalAnalyzer(BenchmarkSources.generate(functions));
+        SyntaxAnalyzer syntaxAnalyzer = new SyntaxAnalyzer(new CommonTokenStream(lexicalAnalyzer.getLexer()));
+        parseTree = syntaxAnalyzer.analyze();
+        parser = syntaxAnalyzer.getParser();
+        astRoot = ASTGenerator.generateAST(parseTree, parser);
+
+        if (!legacyCst().equals(cstString()) || !legacyAst().equals(astString())) {
+            throw new IllegalStateException("DotWriter output differs from the legacy generator");
+        }
+    }
+
+    @Benchmark
+    public String legacyCst() {
+        return LegacyDotGenerator.cst(parseTree, parser);
+    }
+
+    @Benchmark
+    public String cstString() {
+        return CSTGenerator.generateDotString(parseTree, parser);
+    }
+
+    @Benchmark
+    public long cstStream() throws IOException {
+        CountingWriter out = new CountingWriter();
+        CSTGenerator.writeDot(parseTree, parser, out);
+        return out.count;
+    }
+
+    @Benchmark
+    public String legacyAst() {
+        return LegacyDotGenerator.ast(astRoot);
+    }
+
+    @Benchmark
+    public String astString() {
+        return ASTGenerator.generateASTDotString(astRoot);
+    }
+
+    /**
+     * 只计数的 Writer，模拟直接写入响应流
+     */
+    private static class CountingWriter extends Writer {
+        long count;
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            count += length;
+        }
+
+        @Override
+        public void write(String text, int offset, int length) {
+            count += length;
+        }
+
+        @Override
+        public Writer append(CharSequence text) {
+            count += text.length();
+            return this;
+        }
+
+        @Override
+        public Writer append(char c) {
+            count++;
+            return this;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
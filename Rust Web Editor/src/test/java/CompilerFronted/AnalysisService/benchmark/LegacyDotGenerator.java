@@ -0,0 +1,107 @@
+package CompilerFronted.AnalysisService.benchmark;
+
+import CompilerFronted.AnalysisService.utils.ASTGenerator;
+
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.antlr.v4.runtime.tree.Trees;
+
+/**
+ * 改造前的 DOT 生成实现（逐节点 String.format 拼接 + 五次链式 replace 转义）
+ *
+ * 保留作为 DotWriter 输出的参照：DotGeneratorBenchmark 以它为基线，
+ * DotWriterTest 校验两者输出逐字节一致。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+public final class LegacyDotGenerator {
+
+    private LegacyDotGenerator() {
+    }
+
+    public static String cst(ParseTree tree, Parser parser) {
+        StringBuilder dot = new StringBuilder();
+        dot.append("digraph CST {\n");
+        dot.append("  rankdir=TB;\n");
+        dot.append("  node [shape=ellipse, style=filled, fillcolor=lightblue];\n");
+        dot.append("  edge [color=black];\n");
+        dot.append("\n");
+        cstRecursive(tree, parser, dot, new int[1], -1);
+        dot.append("}\n");
+        return dot.toString();
+    }
+
+    public static String ast(ASTGenerator.ASTNode root) {
+        StringBuilder dot = new StringBuilder();
+        dot.append("digraph AST {\n");
+        dot.append("  rankdir=TB;\n");
+        dot.append("  node [shape=ellipse, style=filled];\n");
+        dot.append("  edge [color=darkgreen];\n");
+        dot.append("\n");
+        astRecursive(root, dot, new int[1], -1);
+        dot.append("}\n");
+        return dot.toString();
+    }
+
+    private static void cstRecursive(ParseTree tree, Parser parser, StringBuilder dot, int[] counter, int parentId) {
+        int id = counter[0]++;
+        String style = tree instanceof TerminalNode ? ", shape=box, style=filled, fillcolor=yellow" : "";
+        dot.append(String.format("  node%d [label=\"%s\"%s];\n",
+            id, escape(displayText(tree, parser)), style));
+        if (parentId >= 0) {
+            dot.append(String.format("  node%d -> node%d;\n", parentId, id));
+        }
+        for (int i = 0; i < tree.getChildCount(); i++) {
+            cstRecursive(tree.getChild(i), parser, dot, counter, id);
+        }
+    }
+
+    private static String displayText(ParseTree tree, Parser parser) {
+        if (!(tree instanceof TerminalNode)) {
+            return Trees.getNodeText(tree, parser);
+        }
+        String text = tree.getText();
+        if (text.equals("<EOF>")) {
+            return "EOF";
+        } else if (text.trim().isEmpty()) {
+            if (text.equals(" ")) {
+                return "SPACE";
+            } else if (text.equals("\n")) {
+                return "NEWLINE";
+            } else if (text.equals("\t")) {
+                return "TAB";
+            }
+            return "WHITESPACE";
+        }
+        return text;
+    }
+
+    private static void astRecursive(ASTGenerator.ASTNode node, StringBuilder dot, int[] counter, int parentId) {
+        int id = counter[0]++;
+        String fillColor = node.isTerminal() ? "black" : "lightcoral";
+        String fontColor = node.isTerminal() ? "white" : "black";
+        dot.append(String.format("  node%d [label=\"%s\", fillcolor=%s, shape=%s, fontcolor=%s];\n",
+            id, escape(node.getLabel()), fillColor, "ellipse", fontColor));
+        if (parentId >= 0) {
+            dot.append(String.format("  node%d -> node%d;\n", parentId, id));
+        }
+        for (ASTGenerator.ASTNode child : node.getChildren()) {
+            astRecursive(child, dot, counter, id);
+        }
+    }
+
+    public static String escape(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text
+            .replace("\\", "\\\\")
+            .replace("\"", "\\\"")
+            .replace("\n", "\\n")
+            .replace("\t", "\\t")
+            .replace("\r", "\\r");
+    }
+}
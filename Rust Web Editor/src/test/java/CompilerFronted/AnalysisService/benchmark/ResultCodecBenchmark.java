@@ -0,0 +1,88 @@
+package CompilerFronted.AnalysisService.benchmark;
+
+import CompilerFronted.AnalysisService.AnalysisService;
+import CompilerFronted.AnalysisService.codec.BinaryResultCodec;
+import CompilerFronted.AnalysisService.codec.BinaryResultDecoder;
+import CompilerFronted.AnalysisService.codec.JsonResultCodec;
+import CompilerFronted.AnalysisService.models.AnalysisOptions;
+import CompilerFronted.AnalysisService.models.AnalysisResult;
+
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 分析结果编码基准：Gson JSON 与二进制格式的编码 / 解码耗时
+ *
+ * 运行：mvn -Pbenchmark test-compile exec:exec -Djmh.args="ResultCodec -f 1"
+ * 载荷大小在 Setup 阶段打印。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultCodecBenchmark {
+
+    @Param({ "OBJECTS", "COMPACT" })
+    public String tokenEncoding;
+
+    @Param({ "200" })
+    public int functions;
+
+    private AnalysisResult result;
+    private final Gson gson = new Gson();
+    private final JsonResultCodec jsonCodec = new JsonResultCodec();
+    private final BinaryResultCodec binaryCodec = new BinaryResultCodec();
+    private String json;
+    private byte[] binary;
+
+    @Setup
+    public void setup() throws IOException {
+        AnalysisOptions options = AnalysisOptions.defaults();
+        options.setTokenEncoding(AnalysisOptions.TokenEncoding.valueOf(tokenEncoding));
+        result = new AnalysisService(BenchmarkSources.generate(functions), options).analyze();
+
+        json = gson.toJson(result);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        binaryCodec.encode(result, out);
+        binary = out.toByteArray();
+
+        System.out.printf("%n[payload] tokens=%s json=%d bytes, binary=%d bytes (%.1f%%)%n",
+            tokenEncoding, json.getBytes(StandardCharsets.UTF_8).length, binary.length,
+            100.0 * binary.length / json.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Benchmark
+    public int encodeJson() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        jsonCodec.encode(result, out);
+        return out.size();
+    }
+
+    @Benchmark
+    public int encodeBinary() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        binaryCodec.encode(result, out);
+        return out.size();
+    }
+
+    @Benchmark
+    public AnalysisResult decodeJson() {
+        return gson.fromJson(json, AnalysisResult.class);
+    }
+
+    @Benchmark
+    public AnalysisResult decodeBinary() {
+        return BinaryResultDecoder.decode(binary);
+    }
+}
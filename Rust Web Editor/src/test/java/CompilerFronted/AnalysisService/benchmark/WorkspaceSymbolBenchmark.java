@@ -0,0 +1,101 @@
+package CompilerFronted.AnalysisService.benchmark;
+
+import CompilerFronted.AnalysisService.language.WorkspaceSymbolIndex;
+import CompilerFronted.AnalysisService.models.DocumentSymbol;
+import CompilerFronted.AnalysisService.models.WorkspaceSymbol;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 工作区符号搜索基准：1000 个文件、共 10 万个符号
+ *
+ * 运行：mvn -Pbenchmark test-compile exec:exec -Djmh.args="WorkspaceSymbol -f 1"
+ * 符号名由常见单词组合而成（snake_case 函数与 CamelCase 类型）；
+ * prefix 为前缀命中，fuzzy 为前缀不足时的全量模糊扫描，update 为单个文件的增量更新（进入 pending，不触发合并）。
+ *
+ * @author Compiler Frontend Team
+ * @version 1.0
+ * @date 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkspaceSymbolBenchmark {
+
+    private static final String[] WORDS = {
+        "parse", "token", "stream", "lexer", "visit", "build", "node", "tree", "scope", "symbol",
+        "index", "range", "buffer", "cache", "render", "layout", "error", "report", "value", "state",
+        "config", "request", "response", "handler", "session", "query", "result", "item", "field", "path"
+    };
+
+    @Param({ "1000" })
+    public int files;
+
+    @Param({ "100" })
+    public int symbolsPerFile;
+
+    private WorkspaceSymbolIndex index;
+    private List<DocumentSymbol> replacement;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        index = new WorkspaceSymbolIndex();
+        for (int f = 0; f < files; f++) {
+            index.update("src/module_" + f + ".rs", generateFile(random));
+        }
+        index.compact();
+        replacement = generateFile(random);
+    }
+
+    private List<DocumentSymbol> generateFile(Random random) {
+        List<DocumentSymbol> symbols = new ArrayList<>(symbolsPerFile);
+        for (int i = 0; i < symbolsPerFile; i++) {
+            String a = WORDS[random.nextInt(WORDS.length)];
+            String b = WORDS[random.nextInt(WORDS.length)];
+            String name;
+            String kind;
+            if (i % 4 == 0) {
+                name = capitalize(a) + capitalize(b) + i;
+                kind = "struct";
+            } else {
+                name = a + "_" + b + "_" + i;
+                kind = "function";
+            }
+            symbols.add(new DocumentSymbol(name, kind, null, i * 100, i * 100 + 90, i * 100 + 3, i * 100 + 3 + name.length()));
+        }
+        return symbols;
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    @Benchmark
+    public List<WorkspaceSymbol> prefix() {
+        return index.search("parse_tok", 100);
+    }
+
+    @Benchmark
+    public List<WorkspaceSymbol> fuzzy() {
+        return index.search("prstkn", 100);
+    }
+
+    @Benchmark
+    public List<WorkspaceSymbol> camelCase() {
+        return index.search("TokStr", 50);
+    }
+
+    @Benchmark
+    public void update() {
+        index.update("src/module_0.rs", replacement);
+    }
+}
@@ -0,0 +1,156 @@
+package CompilerFronted.AnalysisService.language;
+
+import CompilerFronted.AnalysisService.models.DocumentSymbol;
+
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DocumentStoreTest {
+
+    private static final String SAMPLE = "use std::fmt;\n"
+        + "\n"
+        + "/// 一个点\n"
+        + "#[derive(Debug)]\n"
+        + "pub struct Point { x: i32, y: i32 }\n"
+        + "\n"
+        + "enum Shape { Circle(f64), Square(f64) }\n"
+        + "\n"
+        + "trait Area {\n"
+        + "    const SIDES: u32;\n"
+        + "    fn area(&self) -> f64;\n"
+        + "}\n"
+        + "\n"
+        + "impl fmt::Display for Point {\n"
+        + "    fn fmt(&self, f: &mut fmt::Formatter) -> fmt::Result {\n"
+        + "        write!(f, \"({}, {})\", self.x, self.y)\n"
+        + "    }\n"
+        + "}\n"
+        + "\n"
+        + "mod geometry {\n"
+        + "    pub fn distance(a: i32, b: i32) -> i32 {\n"
+        + "        let d = a - b;\n"
+        + "        d * d\n"
+        + "    }\n"
+        + "}\n"
+        + "\n"
+        + "const ORIGIN: Point = Point { x: 0, y: 0 };\n"
+        + "static mut COUNT: u32 = 0;\n";
+
+    private final Gson gson = new Gson();
+
+    @Test
+    void testOutlineStructure() {
+        TextDocument document = new TextDocument("file:///main.rs", 1, SAMPLE, null);
+        List<DocumentSymbol> outline = document.getOutline();
+
+        assertEquals("[Point, Shape, Area, impl fmt::Display for Point, geometry, ORIGIN, COUNT]",
+            names(outline).toString());
+        assertEquals("struct", outline.get(0).getKind());
+        assertEquals("impl", outline.get(3).getKind());
+        assertEquals("method", outline.get(3).getChildren().get(0).getKind());
+        assertEquals("[SIDES, area]", names(outline.get(2).getChildren()).toString());
+        assertEquals("[distance]", names(outline.get(4).getChildren()).toString());
+        assertEquals("(a: i32, b: i32) -> i32", outline.get(4).getChildren().get(0).getDetail());
+        assertEquals("u32", outline.get(6).getDetail());
+
+        // 区间：条目含外部属性，选择区间为符号名
+        DocumentSymbol point = outline.get(0);
+        assertTrue(SAMPLE.substring(point.getStart(), point.getEnd()).startsWith("#[derive(Debug)]"));
+        assertEquals("Point", SAMPLE.substring(point.getSelectionStart(), point.getSelectionEnd()));
+        assertEquals("Point", SAMPLE.substring(outline.get(3).getSelectionStart(), outline.get(3).getSelectionEnd()));
+        assertEquals(-1, gson.toJson(outline).indexOf("body"), "body ranges are server-side only");
+    }
+
+    @Test
+    void testDocumentsAreReusedPerVersion() {
+        DocumentStore store = new DocumentStore(2);
+        TextDocument first = store.update("a.rs", 1, () -> SAMPLE);
+        List<DocumentSymbol> outline = first.getOutline();
+
+        TextDocument again = store.update("a.rs", 1, () -> {
+            throw new AssertionError("text should not be read for a cached version");
+        });
+        assertSame(first, again);
+        assertSame(outline, again.getOutline());
+
+        // 乱序到达的旧版本不替换已保存的版本
+        store.update("a.rs", 2, () -> SAMPLE + "\n");
+        TextDocument stale = store.update("a.rs", 1, () -> SAMPLE);
+        assertNotSame(stale, store.get("a.rs"));
+        assertEquals(2, store.get("a.rs").getVersion());
+
+        store.update("b.rs", 1, () -> "");
+        store.update("c.rs", 1, () -> "");
+        assertNull(store.get("a.rs"), "least recently used document should be evicted");
+    }
+
+    @Test
+    void testOutlineRebasedAfterBodyEdit() {
+        DocumentStore store = new DocumentStore(4);
+        store.update("a.rs", 1, () -> SAMPLE).getOutline();
+
+        // 函数体内的修改：平移上一版本的大纲，不做语法分析
+        String bodyEdit = SAMPLE.replace("let d = a - b;", "let delta = a - b + 100;\n        let d = delta;");
+        TextDocument edited = store.update("a.rs", 2, () -> bodyEdit);
+        List<DocumentSymbol> rebased = edited.getOutline();
+        assertTrue(edited.isOutlineRebased());
+        assertFalse(edited.isParsed());
+        assertEquals(gson.toJson(new TextDocument("x", 0, bodyEdit, null).getOutline()), gson.toJson(rebased));
+
+        // 在函数体开头插入
+        String insertAtBrace = bodyEdit.replace("-> i32 {\n", "-> i32 {\n        let e = 1;\n");
+        TextDocument inserted = store.update("a.rs", 3, () -> insertAtBrace);
+        assertEquals(gson.toJson(new TextDocument("x", 0, insertAtBrace, null).getOutline()),
+            gson.toJson(inserted.getOutline()));
+        assertTrue(inserted.isOutlineRebased());
+
+        // 修改条目头部或引入括号时重新解析
+        String headerEdit = insertAtBrace.replace("fn distance", "fn dist");
+        TextDocument renamed = store.update("a.rs", 4, () -> headerEdit);
+        assertEquals("dist", renamed.getOutline().get(4).getChildren().get(0).getName());
+        assertFalse(renamed.isOutlineRebased());
+
+        String braceEdit = headerEdit.replace("d * d", "{ d * d }");
+        TextDocument braced = store.update("a.rs", 5, () -> braceEdit);
+        braced.getOutline();
+        assertFalse(braced.isOutlineRebased());
+        assertTrue(braced.isParsed());
+    }
+
+    @Test
+    void testOutlineNotRebasedWhenTokenBoundariesMove() {
+        DocumentStore store = new DocumentStore(4);
+        String v1 = "fn a() {\n    x // c\n}\nfn b() {}\n";
+        store.update("u", 1, () -> v1).getOutline();
+
+        // 删除 } 前的换行：} 并入行注释，修改文本本身不含结构字符
+        String v2 = v1.replace("// c\n}", "// c}");
+        TextDocument joined = store.update("u", 2, () -> v2);
+        assertEquals(gson.toJson(new TextDocument("x", 0, v2, null).getOutline()), gson.toJson(joined.getOutline()));
+        assertFalse(joined.isOutlineRebased());
+
+        // 反过来在注释中插入换行：} 重新成为 Token
+        TextDocument split = store.update("u", 3, () -> v1);
+        assertEquals(gson.toJson(new TextDocument("x", 0, v1, null).getOutline()), gson.toJson(split.getOutline()));
+        assertFalse(split.isOutlineRebased());
+
+        // 只改注释文字，Token 边界不变时仍然平移
+        String v4 = v1.replace("// c", "// comment");
+        TextDocument commented = store.update("u", 4, () -> v4);
+        assertEquals(gson.toJson(new TextDocument("x", 0, v4, null).getOutline()), gson.toJson(commented.getOutline()));
+        assertTrue(commented.isOutlineRebased());
+    }
+
+    private static List<String> names(List<DocumentSymbol> symbols) {
+        List<String> names = new ArrayList<>();
+        for (DocumentSymbol symbol : symbols) {
+            names.add(symbol.getName());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,64 @@
+package CompilerFronted.AnalysisService.language;
+
+import CompilerFronted.AnalysisService.models.BracketPair;
+import CompilerFronted.AnalysisService.models.FoldingRange;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FoldingRangeTest {
+
+    private static final String SAMPLE = "use std::io;\n"       // 0
+        + "use std::collections::{\n"                            // 1
+        + "    HashMap,\n"                                       // 2
+        + "};\n"                                                 // 3
+        + "/* block\n"                                           // 4
+        + "   comment */\n"                                      // 5
+        + "/// one\n"                                            // 6
+        + "/// two\n"                                            // 7
+        + "fn main() {\n"                                        // 8
+        + "    if true {\n"                                      // 9
+        + "        let s = \"}\";\n"                             // 10
+        + "    } else {\n"                                       // 11
+        + "        call(1, [2]);\n"                              // 12
+        + "    }\n"                                              // 13
+        + "}\n";                                                 // 14
+
+    @Test
+    void testFoldingRangesAndBrackets() {
+        TextDocument document = new TextDocument("a.rs", 1, SAMPLE, null);
+        List<String> ranges = new ArrayList<>();
+        for (FoldingRange range : document.getFoldingRanges()) {
+            ranges.add(range.getStartLine() + "-" + range.getEndLine() + ":" + range.getKind());
+        }
+        assertEquals(List.of("0-3:imports", "1-2:imports", "4-5:comment", "6-7:comment",
+            "8-13:null", "9-10:null", "11-12:null"), ranges);
+
+        // 字符串中的 } 不参与配对；光标紧挨括号之前或之后都能命中
+        int open = SAMPLE.indexOf("if true {") + "if true ".length();
+        int close = SAMPLE.indexOf("} else");
+        assertBracket(document.findMatchingBracket(open), open, close);
+        assertBracket(document.findMatchingBracket(close + 1), open, close);
+        int paren = SAMPLE.indexOf("call(") + 4;
+        assertBracket(document.findMatchingBracket(paren), paren, SAMPLE.indexOf("]);") + 1);
+        assertNull(document.findMatchingBracket(SAMPLE.indexOf("let s")));
+
+        // 折叠与括号匹配不触发语法分析
+        assertFalse(document.isParsed());
+
+        // 未闭合的 ( 不影响外层花括号的配对
+        TextDocument broken = new TextDocument("b.rs", 1, "fn f() { g(1; }", null);
+        assertBracket(broken.findMatchingBracket(7), 7, 14);
+        assertNull(broken.findMatchingBracket(10));
+    }
+
+    private static void assertBracket(BracketPair pair, int open, int close) {
+        assertNotNull(pair);
+        assertEquals(open, pair.getOpen());
+        assertEquals(close, pair.getClose());
+    }
+}
@@ -0,0 +1,72 @@
+package CompilerFronted.AnalysisService.language;
+
+import CompilerFronted.AnalysisService.models.SymbolOccurrence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReferenceIndexTest {
+
+    private static final String SAMPLE = "mod geo {\n"
+        + "    pub struct Point { pub x: i32 }\n"
+        + "    impl Point {\n"
+        + "        pub fn new(x: i32) -> Self { Point { x } }\n"
+        + "    }\n"
+        + "    pub enum Shape { Circle(i32), Square(i32) }\n"
+        + "}\n"
+        + "use crate::geo::{Point, Shape as S};\n"
+        + "fn main() {\n"
+        + "    let p = Point::new(1);\n"
+        + "    let x = 2;\n"
+        + "    let x = x + 1;\n"
+        + "    let f = |y: i32| y + x;\n"
+        + "    match S::Circle(x) {\n"
+        + "        S::Circle(r) | S::Square(r) => println!(\"{}\", r + f(x)),\n"
+        + "    }\n"
+        + "}\n";
+
+    @Test
+    void testDefinitionAndReferences() {
+        TextDocument document = new TextDocument("a.rs", 1, SAMPLE, null);
+
+        // 关联函数经路径解析；导入的名称跳转到被导入的定义
+        assertDefinition(document, "Point::new(1)", "new", "Point::".length(), "pub fn new");
+        assertDefinition(document, "Point::new(1)", "Point", 0, "pub struct Point");
+        assertDefinition(document, "S::Circle(x)", "Circle", "S::".length(), "enum Shape { Circle");
+
+        // 遮蔽：let x = x + 1 右侧的 x 指向上一个绑定，之后的 x 指向新绑定
+        int secondLet = SAMPLE.indexOf("let x = x + 1");
+        assertEquals(SAMPLE.indexOf("let x = 2") + 4,
+            document.findDefinition(secondLet + "let x = ".length()).getStart());
+        assertEquals(secondLet + 4, document.findDefinition(SAMPLE.indexOf("y + x") + 4).getStart());
+
+        // 或模式中的同名绑定是同一个定义，宏参数中的名称同样解析
+        List<SymbolOccurrence> r = document.findReferences(SAMPLE.indexOf("Circle(r)") + 7, true);
+        assertEquals(3, r.size());
+        assertTrue(r.get(0).isDeclaration());
+        assertEquals("variable", r.get(0).getKind());
+
+        // 查找引用包含经别名导入的出现；导入处对 Shape 而言是引用
+        List<SymbolOccurrence> shape = document.findReferences(SAMPLE.indexOf("enum Shape") + 5, false);
+        assertEquals(5, shape.size(), "Shape in use, alias S and its three uses");
+        assertEquals(2, document.findReferences(SAMPLE.indexOf("x: i32)"), true).size(), "parameter and shorthand field");
+
+        // 光标不在名称上
+        assertNull(document.findDefinition(SAMPLE.indexOf("println")));
+        assertTrue(document.findReferences(SAMPLE.indexOf("=>"), true).isEmpty());
+    }
+
+    private static void assertDefinition(TextDocument document, String context, String name, int nameOffset,
+                                         String declarationContext) {
+        int offset = SAMPLE.indexOf(context) + nameOffset;
+        SymbolOccurrence definition = document.findDefinition(offset + 1);
+        assertNotNull(definition, name);
+        assertEquals(name, definition.getName());
+        assertTrue(definition.isDeclaration());
+        assertEquals(SAMPLE.indexOf(declarationContext) + declarationContext.length() - name.length(),
+            definition.getStart(), name);
+    }
+}
@@ -0,0 +1,85 @@
+package CompilerFronted.AnalysisService.language;
+
+import CompilerFronted.AnalysisService.models.SemanticTokens;
+import CompilerFronted.AnalysisService.models.SemanticTokensEdit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SemanticTokensTest {
+
+    private static final String SAMPLE = "/* outer /* nested */\n"
+        + "   still comment */\n"
+        + "/// Docs\n"
+        + "struct Point<'a> { name: &'a str }\n"
+        + "fn main() {\n"
+        + "    let c = 'a';\n"
+        + "    let s = r#\"raw \"quoted\"\"#;\n"
+        + "    let p = Point { name: s };\n"
+        + "    println!(\"{}\", c);\n"
+        + "}\n";
+
+    @Test
+    void testClassificationAndDelta() {
+        TextDocument document = new TextDocument("a.rs", 1, SAMPLE, null);
+        SemanticTokens full = document.getSemanticTokens();
+        assertEquals("1", full.getResultId());
+        List<String> tokens = decode(full.getData());
+
+        // 嵌套块注释按行拆分，两段都是注释
+        assertEquals("0:0:21:comment:0", tokens.get(0));
+        assertEquals("1:0:19:comment:0", tokens.get(1));
+        assertEquals("2:0:8:comment:8", tokens.get(2), "doc comment");
+
+        // 生命周期与字符字面量、原始字符串按词法分析器分类
+        assertTrue(tokens.contains("3:7:5:struct:1"), "struct declaration");
+        assertTrue(tokens.contains("3:13:2:lifetime:0"));
+        assertTrue(tokens.contains("5:12:3:string:0"), "char literal");
+        assertTrue(tokens.contains("6:12:17:string:0"), "raw string with embedded quotes");
+        assertTrue(tokens.contains("7:12:5:struct:0"), "reference to struct");
+        assertTrue(tokens.contains("8:4:7:macro:0"));
+
+        // 增量：在函数体内插入一行，只替换受影响的 Token
+        String edited = SAMPLE.replace("    let c", "    let n = 1;\n    let c");
+        TextDocument next = new TextDocument("a.rs", 2, edited, document);
+        SemanticTokens delta = next.getSemanticTokensDelta("1");
+        assertNull(delta.getData());
+        assertEquals(1, delta.getEdits().size());
+        SemanticTokensEdit edit = delta.getEdits().get(0);
+        assertTrue(edit.getData().length < next.getSemanticTokens().getData().length / 2);
+        assertArrayEquals(next.getSemanticTokens().getData(), apply(full.getData(), edit));
+
+        // 同一结果没有修改；未知的 previousResultId 退回完整结果
+        assertTrue(next.getSemanticTokensDelta("2").getEdits().isEmpty());
+        assertNotNull(next.getSemanticTokensDelta("0").getData());
+    }
+
+    /**
+     * 还原为 "行:列:长度:类型:修饰" 的绝对位置
+     */
+    private static List<String> decode(int[] data) {
+        List<String> tokens = new ArrayList<>();
+        int line = 0;
+        int column = 0;
+        for (int i = 0; i < data.length; i += 5) {
+            line += data[i];
+            column = data[i] == 0 ? column + data[i + 1] : data[i + 1];
+            tokens.add(line + ":" + column + ":" + data[i + 2] + ":"
+                + SemanticTokenLegend.TOKEN_TYPES.get(data[i + 3]) + ":" + data[i + 4]);
+        }
+        return tokens;
+    }
+
+    private static int[] apply(int[] data, SemanticTokensEdit edit) {
+        int[] result = new int[data.length - edit.getDeleteCount() + edit.getData().length];
+        System.arraycopy(data, 0, result, 0, edit.getStart());
+        System.arraycopy(edit.getData(), 0, result, edit.getStart(), edit.getData().length);
+        int tail = edit.getStart() + edit.getDeleteCount();
+        System.arraycopy(data, tail, result, edit.getStart() + edit.getData().length, data.length - tail);
+        return result;
+    }
+}
@@ -0,0 +1,69 @@
+package CompilerFronted.AnalysisService.language;
+
+import CompilerFronted.AnalysisService.models.WorkspaceSymbol;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WorkspaceSymbolIndexTest {
+
+    private static final String LIB = "pub struct TokenStream { tokens: Vec<u32> }\n"
+        + "impl TokenStream {\n"
+        + "    pub fn parse_tokens(&self) -> usize { self.tokens.len() }\n"
+        + "}\n"
+        + "pub fn print_stack() {}\n";
+
+    private static final String MAIN = "mod lexer {\n"
+        + "    pub fn tokenize(input: &str) -> Vec<u32> { Vec::new() }\n"
+        + "}\n"
+        + "const TOKEN_LIMIT: usize = 64;\n"
+        + "fn main() {}\n";
+
+    @Test
+    void testPrefixAndFuzzySearch() {
+        WorkspaceSymbolIndex index = new WorkspaceSymbolIndex();
+        assertEquals(3, index.update("src/lib.rs", LIB));
+        assertEquals(4, index.update("src/main.rs", MAIN));
+        assertEquals(7, index.getSymbolCount());
+
+        // 前缀匹配不区分大小写，跨文件按名称排序
+        assertEquals("[TOKEN_LIMIT, tokenize, TokenStream, parse_tokens]", names(index.search("tok", 10)));
+        List<WorkspaceSymbol> stream = index.search("TokenStream", 10);
+        assertEquals("src/lib.rs", stream.get(0).getPath());
+        assertEquals("struct", stream.get(0).getKind());
+        assertEquals("TokenStream", LIB.substring(stream.get(0).getSelectionStart(), stream.get(0).getSelectionEnd()));
+
+        // 模糊匹配：子序列，单词开头与连续字符得分更高
+        List<WorkspaceSymbol> fuzzy = index.search("ptok", 10);
+        assertEquals("parse_tokens", fuzzy.get(0).getName());
+        assertEquals("impl TokenStream", fuzzy.get(0).getContainer());
+        assertEquals("method", fuzzy.get(0).getKind());
+        assertEquals("[print_stack, parse_tokens]", names(index.search("prstk", 10)));
+        assertTrue(index.search("zzz", 10).isEmpty());
+        assertEquals(2, index.search("", 2).size());
+
+        // 合并后结果不变
+        index.compact();
+        assertEquals("[TOKEN_LIMIT, tokenize, TokenStream, parse_tokens]", names(index.search("tok", 10)));
+
+        // 增量更新：只替换该文件的符号，合并表中的旧符号被跳过
+        index.update("src/lib.rs", "fn renamed() {}\n");
+        assertTrue(index.search("TokenStream", 10).isEmpty());
+        assertEquals("[renamed]", names(index.search("ren", 10)));
+        assertEquals("[tokenize]", names(index.search("tokeniz", 10)));
+        assertTrue(index.remove("src/main.rs"));
+        assertEquals(1, index.getSymbolCount());
+    }
+
+    private static String names(List<WorkspaceSymbol> symbols) {
+        List<String> names = new ArrayList<>();
+        for (WorkspaceSymbol symbol : symbols) {
+            names.add(symbol.getName());
+        }
+        return names.toString();
+    }
+}
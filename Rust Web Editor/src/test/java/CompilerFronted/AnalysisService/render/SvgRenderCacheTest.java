@@ -0,0 +1,67 @@
+package CompilerFronted.AnalysisService.render;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SvgRenderCacheTest {
+
+    private static final String SAMPLE_DOT = "digraph CST {\n"
+        + "  rankdir=TB;\n"
+        + "  node [shape=ellipse, style=filled, fillcolor=lightblue];\n"
+        + "  edge [color=black];\n"
+        + "\n"
+        + "  node0 [label=\"crate\"];\n"
+        + "  node1 [label=\"item\"];\n"
+        + "  node0 -> node1;\n"
+        + "  node2 [label=\"\\\"a<b>\\\"\", shape=box, style=filled, fillcolor=yellow];\n"
+        + "  node1 -> node2;\n"
+        + "}\n";
+
+    @Test
+    void testParseGeneratedDot() {
+        DotGraph graph = DotParser.parse(SAMPLE_DOT);
+
+        assertEquals(3, graph.getNodeCount(), "All nodes should be parsed");
+        assertEquals(2, graph.getEdges().size(), "All edges should be parsed");
+        assertEquals(1, graph.getRoots().size(), "CST should have a single root");
+        assertEquals("\"a<b>\"", graph.getNodes().get(2).getLabel(), "Label escapes should be undone");
+        assertEquals("box", graph.getNodeAttribute(graph.getNodes().get(2), "shape", "ellipse"));
+        assertEquals("lightblue", graph.getNodeAttribute(graph.getNodes().get(0), "fillcolor", null));
+    }
+
+    @Test
+    void testRenderedSvgIsCachedByHash() {
+        SvgRenderCache cache = new SvgRenderCache(1024 * 1024);
+
+        SvgRenderCache.RenderedSvg first = cache.render(SAMPLE_DOT);
+        SvgRenderCache.RenderedSvg second = cache.render(SAMPLE_DOT);
+
+        assertSame(first, second, "Identical DOT should be served from the cache");
+        assertEquals(SvgRenderCache.hash(SAMPLE_DOT), first.getHash());
+        assertEquals("\"" + first.getHash() + "\"", first.getETag());
+
+        String svg = new String(first.getSvg(), java.nio.charset.StandardCharsets.UTF_8);
+        assertTrue(svg.contains("<svg"), "Output should be an SVG document");
+        assertTrue(svg.contains("&quot;a&lt;b&gt;&quot;"), "Labels should be XML escaped");
+    }
+
+    @Test
+    void testCacheEvictsLeastRecentlyUsed() {
+        SvgRenderCache probe = new SvgRenderCache(Long.MAX_VALUE);
+        long entrySize = probe.render(SAMPLE_DOT).getSvg().length;
+
+        SvgRenderCache cache = new SvgRenderCache(entrySize * 2 + entrySize / 2);
+        String dotA = SAMPLE_DOT;
+        String dotB = SAMPLE_DOT.replace("crate", "crab_");
+        String dotC = SAMPLE_DOT.replace("crate", "crane");
+
+        String hashA = cache.render(dotA).getHash();
+        String hashB = cache.render(dotB).getHash();
+        cache.get(hashA);               // A 变为最近使用
+        cache.render(dotC);             // 超出上限，淘汰 B
+
+        assertNotNull(cache.get(hashA));
+        assertNull(cache.get(hashB));
+        assertTrue(cache.getCurrentBytes() <= cache.getMaxBytes());
+    }
+}
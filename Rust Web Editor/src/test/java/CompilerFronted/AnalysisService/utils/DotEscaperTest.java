@@ -0,0 +1,68 @@
+package CompilerFronted.AnalysisService.utils;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Random;
+
+public class DotEscaperTest {
+
+    // 生成随机标签时偏向特殊字符与相邻组合
+    private static final char[] ALPHABET = { 'a', 'Z', '0', '_', ' ', '<', '>', '{', '\\', '"', '\n', '\t', '\r', '中', '\u00e9' };
+
+    /**
+     * 原有实现（五次链式 replace），作为等价性的参照
+     */
+    private static String reference(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text
+            .replace("\\", "\\\\")
+            .replace("\"", "\\\"")
+            .replace("\n", "\\n")
+            .replace("\t", "\\t")
+            .replace("\r", "\\r");
+    }
+
+    @Test
+    void testRandomLabelsMatchReference() throws IOException {
+        Random random = new Random(20261018L);
+        for (int n = 0; n < 20000; n++) {
+            char[] chars = new char[random.nextInt(24)];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = random.nextInt(4) == 0
+                    ? (char) random.nextInt(0x80)
+                    : ALPHABET[random.nextInt(ALPHABET.length)];
+            }
+            String text = new String(chars);
+            String expected = reference(text);
+
+            assertEquals(expected, DotEscaper.escape(text), "String escape differs for " + expected);
+
+            StringBuilder builder = new StringBuilder("prefix");
+            DotEscaper.escape(text, builder);
+            assertEquals("prefix" + expected, builder.toString(), "StringBuilder escape differs for " + expected);
+
+            StringWriter writer = new StringWriter();
+            DotEscaper.escape(text, writer);
+            assertEquals(expected, writer.toString(), "Writer escape differs for " + expected);
+        }
+    }
+
+    @Test
+    void testNoEscapeFastPath() throws IOException {
+        String label = "functionQualifiers";
+        assertSame(label, DotEscaper.escape(label), "Labels without special characters should be returned as-is");
+        assertSame(label, CSTGenerator.escapeDotLabel(label));
+        assertEquals("", DotEscaper.escape(null));
+        assertEquals("", CSTGenerator.escapeDotLabel(null));
+
+        StringBuilder builder = new StringBuilder();
+        DotEscaper.escape(null, builder);
+        assertEquals(0, builder.length());
+        assertEquals("a\\\\b\\\"c\\nd\\te\\r", DotEscaper.escape("a\\b\"c\nd\te\r"));
+    }
+}
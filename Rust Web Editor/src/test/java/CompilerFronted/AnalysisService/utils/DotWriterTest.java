@@ -0,0 +1,104 @@
+package CompilerFronted.AnalysisService.utils;
+
+import CompilerFronted.AnalysisService.analyzers.LexicalAnalyzer;
+import CompilerFronted.AnalysisService.analyzers.SyntaxAnalyzer;
+import CompilerFronted.AnalysisService.benchmark.LegacyDotGenerator;
+import CompilerFronted.Core.RustParser;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+public class DotWriterTest {
+
+    /** 标签中包含引号、反斜杠、制表、回车与换行的样例 */
+    private static final String ESCAPES = "fn main() {\n"
+        + "    let a = \"quote \\\" backslash \\\\ tab \\t\";\n"
+        + "    let b = r#\"raw \"quoted\" C:\\path\"#;\n"
+        + "    let c = '\"';\n"
+        + "    let d = '\\\\';\n"
+        + "    let e = \"multi\nline\twith\rcontrol\";\n"
+        + "    println!(\"{}\\t{:?}\", a, \"C:\\\\dir\\\\file\");\n"
+        + "}\n";
+
+    @Test
+    void testMatchesLegacyGenerator() throws IOException {
+        String[] sources = {
+            new String(Files.readAllBytes(Paths.get("res/RustCode/hellow.rs")), "UTF-8"),
+            new String(Files.readAllBytes(Paths.get("res/RustCode/hellow_error.rs")), "UTF-8"),
+            ESCAPES
+        };
+        for (String source : sources) {
+            SyntaxAnalyzer syntaxAnalyzer = new SyntaxAnalyzer(new CommonTokenStream(new LexicalAnalyzer(source).getLexer()));
+            ParseTree tree = syntaxAnalyzer.analyze();
+            RustParser parser = syntaxAnalyzer.getParser();
+            ASTGenerator.ASTNode ast = ASTGenerator.generateAST(tree, parser);
+
+            String cst = LegacyDotGenerator.cst(tree, parser);
+            if (source == ESCAPES) {
+                assertTrue(cst.contains("\\\"quoted\\\"") && cst.contains("multi\\nline\\twith\\rcontrol"));
+            }
+            assertEquals(cst, CSTGenerator.generateDotString(tree, parser));
+            assertEquals(cst, writeCst(tree, parser, new StringWriter()).toString());
+            assertEquals(cst, writeCst(tree, parser, new PlainAppendable()).toString());
+
+            String expectedAst = LegacyDotGenerator.ast(ast);
+            assertEquals(expectedAst, ASTGenerator.generateASTDotString(ast));
+            StringWriter writer = new StringWriter();
+            ASTGenerator.writeASTDot(ast, writer);
+            assertEquals(expectedAst, writer.toString());
+        }
+    }
+
+    @Test
+    void testNodeNumbers() throws IOException {
+        StringBuilder out = new StringBuilder();
+        new DotWriter(out)
+            .edge(0, 9)
+            .edge(10, Integer.MAX_VALUE)
+            .edge(-1, Integer.MIN_VALUE);
+        assertEquals(String.format("  node%d -> node%d;\n  node%d -> node%d;\n  node%d -> node%d;\n",
+            0, 9, 10, Integer.MAX_VALUE, -1, Integer.MIN_VALUE), out.toString());
+    }
+
+    private static Appendable writeCst(ParseTree tree, RustParser parser, Appendable out) throws IOException {
+        CSTGenerator.writeDot(tree, parser, out);
+        return out;
+    }
+
+    /**
+     * 既不是 StringBuilder 也不是 Writer 的目标，覆盖通用的追加路径
+     */
+    private static class PlainAppendable implements Appendable {
+        private final StringBuilder builder = new StringBuilder();
+
+        @Override
+        public Appendable append(CharSequence text) {
+            builder.append(text);
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence text, int start, int end) {
+            builder.append(text, start, end);
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) {
+            builder.append(c);
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return builder.toString();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package WebServer;
+
+import io.javalin.Javalin;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResponseCompressionTest {
+
+    private static final ServerMetrics metrics = new ServerMetrics("dynamic", "static");
+    private static final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private static Javalin app;
+
+    @BeforeAll
+    static void startServer() {
+        app = Javalin.create(config -> {
+            config.showJavalinBanner = false;
+            config.http.disableCompression();
+        });
+        app.get("/bytes/{size}", ctx -> {
+            byte[] body = new byte[Integer.parseInt(ctx.pathParam("size"))];
+            Arrays.fill(body, (byte) 'a');
+            ctx.contentType("text/plain");
+            ResponseCompression.send(ctx, body, metrics.counter("dynamic"));
+        });
+        app.get("/vary", ctx -> {
+            ctx.header("Vary", "Origin");
+            ResponseCompression.send(ctx, new byte[0], metrics.counter("dynamic"));
+        });
+        app.get("/static/*", new StaticAssetHandler("/static", metrics.counter("static")));
+        app.start(0);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        app.stop();
+    }
+
+    @Test
+    void testAcceptsGzip() {
+        assertFalse(ResponseCompression.acceptsGzip(null));
+        assertFalse(ResponseCompression.acceptsGzip(""));
+        assertFalse(ResponseCompression.acceptsGzip("identity"));
+        assertFalse(ResponseCompression.acceptsGzip("br, deflate"));
+        assertTrue(ResponseCompression.acceptsGzip("gzip"));
+        assertTrue(ResponseCompression.acceptsGzip("GZIP"));
+        assertTrue(ResponseCompression.acceptsGzip("br, gzip, deflate"));
+        assertTrue(ResponseCompression.acceptsGzip("deflate;q=1.0, gzip ; q=0.5"));
+
+        // q=0 表示明确拒绝
+        assertFalse(ResponseCompression.acceptsGzip("gzip;q=0"));
+        assertFalse(ResponseCompression.acceptsGzip("gzip;q=0.0"));
+        assertFalse(ResponseCompression.acceptsGzip("gzip;q=abc"));
+
+        // * 匹配任意编码，同样遵循 q 值；显式的 gzip 优先于其后的 *
+        assertTrue(ResponseCompression.acceptsGzip("*"));
+        assertTrue(ResponseCompression.acceptsGzip("identity, *;q=0.1"));
+        assertFalse(ResponseCompression.acceptsGzip("*;q=0"));
+        assertFalse(ResponseCompression.acceptsGzip("gzip;q=0, *"));
+    }
+
+    @Test
+    void testCompressionThreshold() throws Exception {
+        int threshold = ResponseCompression.MIN_BYTES;
+
+        // 不超过阈值：原样发送，附带 Content-Length
+        HttpResponse<byte[]> small = get("/bytes/" + threshold, "gzip");
+        assertEquals(200, small.statusCode());
+        assertFalse(small.headers().firstValue("Content-Encoding").isPresent());
+        assertEquals(String.valueOf(threshold), small.headers().firstValue("Content-Length").orElse(null));
+        assertEquals(threshold, small.body().length);
+
+        // 超过阈值：gzip 流式压缩，解压后与原文一致
+        HttpResponse<byte[]> large = get("/bytes/" + (threshold + 1), "gzip");
+        assertEquals("gzip", large.headers().firstValue("Content-Encoding").orElse(null));
+        byte[] expected = new byte[threshold + 1];
+        Arrays.fill(expected, (byte) 'a');
+        assertArrayEquals(expected, gunzip(large.body()));
+        assertTrue(large.body().length < expected.length);
+
+        // 超过阈值但客户端不接受 gzip：原样发送
+        HttpResponse<byte[]> refused = get("/bytes/" + (threshold + 1), "gzip;q=0");
+        assertFalse(refused.headers().firstValue("Content-Encoding").isPresent());
+        assertArrayEquals(expected, refused.body());
+        HttpResponse<byte[]> none = get("/bytes/" + (threshold + 1), null);
+        assertFalse(none.headers().firstValue("Content-Encoding").isPresent());
+    }
+
+    @Test
+    void testVaryHeader() throws Exception {
+        // 无论是否压缩都声明 Vary: Accept-Encoding
+        assertEquals("Accept-Encoding", get("/bytes/1", null).headers().firstValue("Vary").orElse(null));
+        assertEquals("Accept-Encoding",
+            get("/bytes/" + (ResponseCompression.MIN_BYTES + 1), "gzip").headers().firstValue("Vary").orElse(null));
+
+        // 已有的 Vary 保留并追加
+        assertEquals("Origin, Accept-Encoding", get("/vary", "gzip").headers().firstValue("Vary").orElse(null));
+        assertEquals("Origin, Accept-Encoding", ResponseCompression.appendVary("Origin, Accept-Encoding", "Accept-Encoding"));
+    }
+
+    @Test
+    void testPrecompressedStaticAsset() throws Exception {
+        // index.html.gz 由构建期的 StaticAssetBuilder 生成
+        HttpResponse<byte[]> plain = get("/static/index.html", null);
+        assertEquals(200, plain.statusCode());
+        assertFalse(plain.headers().firstValue("Content-Encoding").isPresent());
+        assertEquals("Accept-Encoding", plain.headers().firstValue("Vary").orElse(null));
+
+        HttpResponse<byte[]> gzip = get("/static/index.html", "gzip, deflate");
+        assertEquals("gzip", gzip.headers().firstValue("Content-Encoding").orElse(null));
+        assertArrayEquals(plain.body(), gunzip(gzip.body()));
+        assertNotEquals(plain.headers().firstValue("ETag"), gzip.headers().firstValue("ETag"));
+
+        // q=0 时发送原始内容
+        HttpResponse<byte[]> refused = get("/static/index.html", "gzip;q=0");
+        assertFalse(refused.headers().firstValue("Content-Encoding").isPresent());
+        assertArrayEquals(plain.body(), refused.body());
+
+        // 没有原始文件的资源不存在预压缩版本
+        assertEquals(404, get("/static/missing.js", "gzip").statusCode());
+    }
+
+    private static HttpResponse<byte[]> get(String path, String acceptEncoding) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + app.port() + path));
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static byte[] gunzip(byte[] data) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return in.readAllBytes();
+        }
+    }
+}
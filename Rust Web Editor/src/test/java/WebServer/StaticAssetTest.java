@@ -0,0 +1,162 @@
+package WebServer;
+
+import io.javalin.Javalin;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StaticAssetTest {
+
+    private static final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private static Javalin app;
+
+    @BeforeAll
+    static void startServer() {
+        app = Javalin.create(config -> {
+            config.showJavalinBanner = false;
+            config.http.disableCompression();
+        });
+        app.get("/static/*", new StaticAssetHandler("/static", new ServerMetrics("static").counter("static")));
+        app.start(0);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        app.stop();
+    }
+
+    @Test
+    void testMatchesETag() {
+        String etag = "\"0123456789abcdef\"";
+        assertFalse(StaticAssetHandler.matchesETag(null, etag));
+        assertFalse(StaticAssetHandler.matchesETag("\"other\"", etag));
+        assertTrue(StaticAssetHandler.matchesETag(etag, etag));
+        assertTrue(StaticAssetHandler.matchesETag("W/" + etag, etag));
+        assertTrue(StaticAssetHandler.matchesETag("\"a\", " + etag + " ,\"b\"", etag));
+        assertTrue(StaticAssetHandler.matchesETag("*", etag));
+        assertFalse(StaticAssetHandler.matchesETag("\"0123456789abcdef-gz\"", etag));
+    }
+
+    @Test
+    void testNotModified() throws Exception {
+        HttpResponse<byte[]> first = get("/static/index.html", null, null);
+        assertEquals(200, first.statusCode());
+        String etag = first.headers().firstValue("ETag").orElseThrow();
+
+        assertEquals(304, get("/static/index.html", null, etag).statusCode());
+        assertEquals(304, get("/static/index.html", null, "\"stale\", " + etag).statusCode());
+        assertEquals(304, get("/static/index.html", null, "*").statusCode());
+        assertEquals(200, get("/static/index.html", null, "\"stale\"").statusCode());
+
+        // gzip 表示使用不同的 ETag，不能用原始内容的 ETag 换取 304
+        HttpResponse<byte[]> gzip = get("/static/index.html", "gzip", etag);
+        assertEquals(200, gzip.statusCode());
+        String gzipETag = gzip.headers().firstValue("ETag").orElseThrow();
+        assertNotEquals(etag, gzipETag);
+        assertEquals(304, get("/static/index.html", "gzip", gzipETag).statusCode());
+    }
+
+    @Test
+    void testCacheControl() throws Exception {
+        // index.html 与未经哈希的资源每次校验
+        assertEquals("no-cache", get("/static/index.html", null, null).headers().firstValue("Cache-Control").orElse(null));
+        assertEquals("no-cache", get("/static/js/api.js", null, null).headers().firstValue("Cache-Control").orElse(null));
+
+        // 资源清单中的哈希文件长期缓存
+        Map<String, String> manifest;
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("static/" + StaticAssetBuilder.MANIFEST_NAME);
+             Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            manifest = StaticAssetBuilder.parseManifest(reader);
+        }
+        assertFalse(manifest.isEmpty());
+        String hashed = manifest.values().iterator().next();
+        HttpResponse<byte[]> response = get("/static/" + hashed, null, null);
+        assertEquals(200, response.statusCode());
+        assertEquals("public, max-age=31536000, immutable", response.headers().firstValue("Cache-Control").orElse(null));
+    }
+
+    @Test
+    void testHashedName() {
+        byte[] content = "console.log(1);".getBytes(StandardCharsets.UTF_8);
+        String hash = StaticAssetBuilder.sha256Hex(content).substring(0, 10);
+        assertEquals("js/api." + hash + ".js", StaticAssetBuilder.hashedName("js/api.js", content));
+        assertEquals("js/app.min." + hash + ".js", StaticAssetBuilder.hashedName("js/app.min.js", content));
+        assertEquals("LICENSE." + hash, StaticAssetBuilder.hashedName("LICENSE", content));
+        assertEquals("js/.env." + hash, StaticAssetBuilder.hashedName("js/.env", content));
+        assertEquals("v1.2/app." + hash, StaticAssetBuilder.hashedName("v1.2/app", content));
+
+        // 内容变化时文件名随之变化
+        assertNotEquals(StaticAssetBuilder.hashedName("js/api.js", content),
+            StaticAssetBuilder.hashedName("js/api.js", "console.log(2);".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testHtmlRewrite(@TempDir Path root) throws Exception {
+        Path source = Files.createDirectories(root.resolve("webapp"));
+        Path output = Files.createDirectories(root.resolve("static"));
+        Files.createDirectories(source.resolve("js"));
+        Files.createDirectories(source.resolve("css"));
+        Files.createDirectories(output.resolve("js"));
+        Files.createDirectories(output.resolve("css"));
+        Files.writeString(source.resolve("js/app.js"), "app();");
+        Files.writeString(source.resolve("js/single.js"), "single();");
+        Files.writeString(source.resolve("css/style.css"), "body {}");
+        Files.writeString(source.resolve("index.html"), "<html><head>\n"
+            + "<link rel=\"stylesheet\" href=\"css/style.css\">\n"
+            + "<script src=\"js/app.js\"></script>\n"
+            + "<script src='js/single.js'></script>\n"
+            + "<script src=\"js/app.js\"></script>\n"
+            + "<script src=\"https://cdn.example.com/lib.js\"></script>\n"
+            + "<script src=\"/absolute.js\"></script>\n"
+            + "<img src=\"missing.png\">\n"
+            + "</head></html>\n");
+
+        Map<String, String> manifest = StaticAssetBuilder.hashReferencedAssets(source, output);
+
+        String app = StaticAssetBuilder.hashedName("js/app.js", Files.readAllBytes(source.resolve("js/app.js")));
+        String single = StaticAssetBuilder.hashedName("js/single.js", Files.readAllBytes(source.resolve("js/single.js")));
+        String style = StaticAssetBuilder.hashedName("css/style.css", Files.readAllBytes(source.resolve("css/style.css")));
+        assertEquals(Map.of("js/app.js", app, "js/single.js", single, "css/style.css", style), manifest);
+        assertTrue(Files.isRegularFile(output.resolve(app)));
+        assertTrue(Files.isRegularFile(output.resolve(single)));
+        assertTrue(Files.isRegularFile(output.resolve(style)));
+
+        // 引号风格保持不变；外部、绝对路径与不存在的引用原样保留
+        assertEquals("<html><head>\n"
+            + "<link rel=\"stylesheet\" href=\"" + style + "\">\n"
+            + "<script src=\"" + app + "\"></script>\n"
+            + "<script src='" + single + "'></script>\n"
+            + "<script src=\"" + app + "\"></script>\n"
+            + "<script src=\"https://cdn.example.com/lib.js\"></script>\n"
+            + "<script src=\"/absolute.js\"></script>\n"
+            + "<img src=\"missing.png\">\n"
+            + "</head></html>\n", Files.readString(output.resolve("index.html")));
+    }
+
+    private static HttpResponse<byte[]> get(String path, String acceptEncoding, String ifNoneMatch) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + app.port() + path));
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        if (ifNoneMatch != null) {
+            request.header("If-None-Match", ifNoneMatch);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
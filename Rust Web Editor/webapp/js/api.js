@@ -9,6 +9,9 @@ class ApiClient {
         this.timeout = 30000; // 30秒超时
         this.retryCount = 3;
         this.retryDelay = 1000;
+        this.tokenEncoding = 'compact'; // 'compact': 列式 Token 编码; 'objects': 每个 Token 一个对象
+        this.resultFormat = 'json';     // 'json' 或 'binary'（application/vnd.rust-analysis+binary）
+        this.treeFormat = 'both';       // 'dot' | 'structure' | 'both'：CST/AST 的 DOT 与列式树结构
     }
 
     /**
@@ -47,7 +50,9 @@ class ApiClient {
 
             // 根据响应类型解析数据
             const contentType = response.headers.get('content-type');
-            if (contentType && contentType.includes('application/json')) {
+            if (contentType && contentType.includes(BinaryResultDecoder.CONTENT_TYPE)) {
+                return BinaryResultDecoder.decode(await response.arrayBuffer());
+            } else if (contentType && contentType.includes('application/json')) {
                 return await response.json();
             } else {
                 return await response.text();
@@ -109,14 +114,32 @@ class ApiClient {
         }
 
         try {
-            const response = await this.requestWithRetry('/analyse', {
+            const params = [];
+            if (this.tokenEncoding === 'compact') {
+                params.push('tokens=compact');
+            }
+            if (this.treeFormat !== 'dot') {
+                params.push(`trees=${this.treeFormat}`);
+            }
+            const endpoint = params.length > 0 ? `/analyse?${params.join('&')}` : '/analyse';
+            const headers = {
+                'Content-Type': 'text/plain; charset=utf-8'
+            };
+            if (this.resultFormat === 'binary') {
+                headers['Accept'] = `${BinaryResultDecoder.CONTENT_TYPE}, application/json;q=0.5`;
+            }
+            const response = await this.requestWithRetry(endpoint, {
                 method: 'POST',
-                headers: {
-                    'Content-Type': 'text/plain; charset=utf-8'
-                },
+                headers,
                 body: code
             });
 
+            // 列式 Token 编码：根据源代码还原 Token 对象
+            if (response && response.compactTokens) {
+                response.tokens = TokenStreamCodec.expand(response.compactTokens, code);
+                delete response.compactTokens;
+            }
+
             // 验证响应格式
             if (!this.validateAnalysisResponse(response)) {
                 throw new Error('服务器返回的数据格式不正确');
@@ -129,6 +152,149 @@ class ApiClient {
         }
     }
 
+    /**
+     * 诊断模式：只返回语法错误 { success, errors }，不生成 Token、LISP、DOT 与树结构，供实时分析使用
+     */
+    async diagnoseCode(code) {
+        return this.request('/analyse/diagnostics', {
+            method: 'POST',
+            headers: {
+                'Content-Type': 'text/plain; charset=utf-8'
+            },
+            body: code
+        });
+    }
+
+    /**
+     * 服务端渲染 DOT 为 SVG
+     *
+     * 先按 DOT 的 SHA-256 发起 GET（命中服务端缓存或浏览器缓存时只需一次查找），
+     * 未命中时再 POST DOT 原文进行布局渲染。
+     */
+    async renderSvg(dotString) {
+        const hash = await this.sha256Hex(dotString);
+
+        if (hash) {
+            const cached = await fetch(`${this.baseUrl}/render/svg/${hash}`, { method: 'GET' });
+            if (cached.ok) {
+                return await cached.text();
+            }
+        }
+
+        const response = await fetch(`${this.baseUrl}/render/svg`, {
+            method: 'POST',
+            headers: {
+                'Content-Type': 'text/plain; charset=utf-8'
+            },
+            body: dotString
+        });
+
+        if (!response.ok) {
+            throw new Error(`HTTP ${response.status}: ${response.statusText}`);
+        }
+        return await response.text();
+    }
+
+    /**
+     * 编辑器功能请求（大纲等）
+     *
+     * 请求体为文档全文；服务端按 uri + version 保存文档，同一版本的重复请求直接复用已计算的结果。
+     * 响应为 { uri, version, ... }，调用方应丢弃 version 已过期的响应。
+     */
+    async documentRequest(endpoint, uri, version, text, params = {}) {
+        const query = new URLSearchParams({ uri, version: String(version), ...params });
+        return this.request(`${endpoint}?${query}`, {
+            method: 'POST',
+            headers: {
+                'Content-Type': 'text/plain; charset=utf-8'
+            },
+            body: text
+        });
+    }
+
+    /**
+     * 文档大纲：层次化的条目列表，区间为 UTF-16 偏移
+     */
+    async getOutline(uri, version, text) {
+        const response = await this.documentRequest('/outline', uri, version, text);
+        return response.symbols;
+    }
+
+    /**
+     * 跳转到定义：offset 为光标的 UTF-16 偏移，光标不在已解析的名称上时返回 null
+     */
+    async getDefinition(uri, version, text, offset) {
+        const response = await this.documentRequest('/definition', uri, version, text, { offset: String(offset) });
+        return response.definition || null;
+    }
+
+    /**
+     * 查找引用：按位置排序的 { name, kind, start, end, declaration } 列表
+     */
+    async getReferences(uri, version, text, offset, includeDeclaration = true) {
+        const response = await this.documentRequest('/references', uri, version, text, {
+            offset: String(offset),
+            includeDeclaration: String(includeDeclaration)
+        });
+        return response.references;
+    }
+
+    /**
+     * 可折叠区域：{ startLine, endLine, kind } 列表，行号从 0 开始
+     */
+    async getFoldingRanges(uri, version, text) {
+        const response = await this.documentRequest('/folding', uri, version, text);
+        return response.ranges;
+    }
+
+    /**
+     * 括号匹配：光标紧挨括号时返回 { open, close }（UTF-16 偏移），否则返回 null
+     */
+    async getMatchingBracket(uri, version, text, offset) {
+        const response = await this.documentRequest('/matchingBracket', uri, version, text, { offset: String(offset) });
+        return response.bracket || null;
+    }
+
+    /**
+     * 语义 Token 图例：{ tokenTypes, tokenModifiers }
+     */
+    async getSemanticTokensLegend() {
+        return this.request('/semanticTokens/legend', { method: 'GET' });
+    }
+
+    /**
+     * 语义 Token：给出 previousResultId 时请求增量，服务端无法计算增量时仍返回完整的 data
+     */
+    async getSemanticTokens(uri, version, text, previousResultId = null) {
+        const response = previousResultId
+            ? await this.documentRequest('/semanticTokens/delta', uri, version, text, { previousResultId })
+            : await this.documentRequest('/semanticTokens', uri, version, text);
+        return response.semanticTokens;
+    }
+
+    /**
+     * 工作区符号搜索：前缀匹配在前、模糊匹配在后，每项含 path 与 UTF-16 区间
+     */
+    async searchWorkspaceSymbols(query, limit = 100) {
+        const params = new URLSearchParams({ query, limit: String(limit) });
+        const response = await this.request(`/workspace/symbols?${params}`, { method: 'GET' });
+        return response.symbols;
+    }
+
+    /**
+     * 计算字符串 UTF-8 编码的 SHA-256 十六进制摘要（非安全上下文下返回 null）
+     */
+    async sha256Hex(text) {
+        if (!window.crypto || !window.crypto.subtle) {
+            return null;
+        }
+        const bytes = new TextEncoder().encode(text);
+        const digest = await window.crypto.subtle.digest('SHA-256', bytes);
+        return Array.from(new Uint8Array(digest))
+            .map(b => b.toString(16).padStart(2, '0'))
+            .join('');
+    }
+
     /**
      * 验证分析响应格式
      */
@@ -210,6 +376,245 @@ class ApiClient {
     }
 }
 
+/**
+ * 列式 Token 流解码
+ * 
+ * 服务端的 compactTokens 由类型字典和并行数组组成，不含 Token 文本；
+ * 文本从客户端持有的源代码中截取，行列号由行偏移表二分查找得到。
+ */
+const TokenStreamCodec = {
+    /**
+     * 还原为 { type, text, line, column } 对象数组
+     */
+    expand(compact, source) {
+        const { typeNames, types, starts, lengths, lineOffsets } = compact;
+        const tokens = new Array(types.length);
+        let line = 0;
+
+        for (let i = 0; i < types.length; i++) {
+            const start = starts[i];
+            // Token 按偏移递增排列，行号只需向前推进
+            if (line + 1 < lineOffsets.length && lineOffsets[line + 1] <= start) {
+                line = this.findLine(lineOffsets, start);
+            }
+            tokens[i] = {
+                type: typeNames[types[i]],
+                text: source.substr(start, lengths[i]),
+                line: line + 1,
+                column: start - lineOffsets[line]
+            };
+        }
+        return tokens;
+    },
+
+    /**
+     * 二分查找偏移所在的行（0-based）
+     */
+    findLine(lineOffsets, offset) {
+        let low = 0;
+        let high = lineOffsets.length - 1;
+        while (low < high) {
+            const mid = (low + high + 1) >> 1;
+            if (lineOffsets[mid] <= offset) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+};
+
+/**
+ * 二进制分析结果解码
+ * 
+ * 与服务端 BinaryResultCodec 对应：magic 'RWEB'、版本号、标志位、
+ * 去重字符串表，随后是 tag + 长度前缀的 section 序列，以 tag 0 结束。
+ * 解码结果与 JSON 响应的对象结构相同。
+ */
+const BinaryResultDecoder = {
+    CONTENT_TYPE: 'application/vnd.rust-analysis+binary',
+    VERSION: 1,
+
+    decode(buffer) {
+        const bytes = new Uint8Array(buffer);
+        const textDecoder = new TextDecoder('utf-8');
+        let pos = 0;
+
+        const readByte = () => {
+            if (pos >= bytes.length) {
+                throw new Error('二进制分析结果意外结束');
+            }
+            return bytes[pos++];
+        };
+        const readVarint = () => {
+            let value = 0;
+            let shift = 0;
+            let b;
+            do {
+                b = readByte();
+                value |= (b & 0x7f) << shift;
+                shift += 7;
+            } while (b & 0x80);
+            return value >>> 0;
+        };
+        const readZigZag = () => {
+            const raw = readVarint();
+            return (raw >>> 1) ^ -(raw & 1);
+        };
+        const readString = () => {
+            const length = readVarint();
+            const value = textDecoder.decode(bytes.subarray(pos, pos + length));
+            pos += length;
+            return value;
+        };
+        // 列式树结构（与 JSON 中 parseTree.structure / ast.structure 相同的字段）
+        const readStructure = () => {
+            const names = new Array(readVarint());
+            for (let i = 0; i < names.length; i++) {
+                names[i] = strings[readVarint()];
+            }
+            const count = readVarint();
+            const nameIds = new Int32Array(count);
+            const tokens = new Int32Array(count);
+            const starts = new Int32Array(count);
+            const ends = new Int32Array(count);
+            const firstChildren = new Int32Array(count);
+            const childCounts = new Int32Array(count);
+            for (let i = 0; i < count; i++) {
+                nameIds[i] = readVarint();
+            }
+            for (let i = 0; i < count; i++) {
+                tokens[i] = readVarint() - 1;
+            }
+            let previous = 0;
+            for (let i = 0; i < count; i++) {
+                previous += readZigZag();
+                starts[i] = previous;
+            }
+            for (let i = 0; i < count; i++) {
+                ends[i] = starts[i] + readVarint();
+            }
+            previous = 0;
+            for (let i = 0; i < count; i++) {
+                previous += readVarint();
+                firstChildren[i] = previous;
+            }
+            for (let i = 0; i < count; i++) {
+                childCounts[i] = readVarint();
+            }
+            return { names, nameIds, tokens, starts, ends, firstChildren, childCounts };
+        };
+
+        if (readByte() !== 0x52 || readByte() !== 0x57 || readByte() !== 0x45 || readByte() !== 0x42) {
+            throw new Error('不是二进制分析结果');
+        }
+        const version = readByte();
+        if (version !== this.VERSION) {
+            throw new Error(`不支持的二进制格式版本: ${version}`);
+        }
+
+        const result = {
+            success: (readByte() & 1) !== 0,
+            tokens: [],
+            parseTree: { lisp: '', dot: '' },
+            ast: { dot: '' },
+            errors: []
+        };
+
+        const strings = new Array(readVarint());
+        for (let i = 0; i < strings.length; i++) {
+            strings[i] = readString();
+        }
+
+        for (let tag = readByte(); tag !== 0; tag = readByte()) {
+            const length = readVarint();
+            const end = pos + length;
+            switch (tag) {
+                case 1: { // TOKENS
+                    const count = readVarint();
+                    const tokens = new Array(count);
+                    for (let i = 0; i < count; i++) {
+                        const type = strings[readVarint()];
+                        const text = strings[readVarint()];
+                        const line = readZigZag();
+                        const column = readZigZag();
+                        tokens[i] = { type, text, line, column };
+                    }
+                    result.tokens = tokens;
+                    break;
+                }
+                case 2: { // COMPACT_TOKENS
+                    const typeNames = new Array(readVarint());
+                    for (let i = 0; i < typeNames.length; i++) {
+                        typeNames[i] = strings[readVarint()];
+                    }
+                    const count = readVarint();
+                    const types = new Int32Array(count);
+                    const starts = new Int32Array(count);
+                    const lengths = new Int32Array(count);
+                    for (let i = 0; i < count; i++) {
+                        types[i] = readVarint();
+                    }
+                    let previous = 0;
+                    for (let i = 0; i < count; i++) {
+                        previous += readZigZag();
+                        starts[i] = previous;
+                    }
+                    for (let i = 0; i < count; i++) {
+                        lengths[i] = readVarint();
+                    }
+                    const lineOffsets = new Int32Array(readVarint());
+                    previous = 0;
+                    for (let i = 0; i < lineOffsets.length; i++) {
+                        previous += readVarint();
+                        lineOffsets[i] = previous;
+                    }
+                    result.compactTokens = { typeNames, types, starts, lengths, lineOffsets };
+                    break;
+                }
+                case 3: // PARSE_TREE
+                    result.parseTree.lisp = readString();
+                    result.parseTree.dot = readString();
+                    break;
+                case 4: // AST
+                    result.ast.dot = readString();
+                    break;
+                case 5: { // ERRORS
+                    const count = readVarint();
+                    for (let i = 0; i < count; i++) {
+                        const line = readZigZag();
+                        const column = readZigZag();
+                        result.errors.push({ line, column, message: strings[readVarint()] });
+                    }
+                    break;
+                }
+                case 6: // PARSE_TREE_STRUCTURE
+                    result.parseTree.structure = readStructure();
+                    break;
+                case 7: // AST_STRUCTURE
+                    result.ast.structure = readStructure();
+                    break;
+                case 8: { // ERROR_SUMMARY
+                    const total = readVarint();
+                    const reported = readVarint();
+                    const duplicates = readVarint();
+                    const truncated = readVarint() !== 0;
+                    const examinedTokens = readVarint();
+                    const density = examinedTokens > 0 ? reported / examinedTokens : 0;
+                    result.errorSummary = { total, reported, duplicates, truncated, examinedTokens, density };
+                    break;
+                }
+                default:
+                    // 未知 section：按长度跳过
+                    break;
+            }
+            pos = end;
+        }
+        return result;
+    }
+};
+
 /**
  * 请求状态管理
  */
@@ -357,6 +762,13 @@ class AnalysisService {
         }
     }
 
+    /**
+     * 只检查语法错误（实时分析）：结果很快过期，不缓存
+     */
+    async diagnose(code) {
+        return this.client.diagnoseCode(code);
+    }
+
     /**
      * 检查服务器状态
      */
@@ -374,6 +786,13 @@ class AnalysisService {
         }
     }
 
+    /**
+     * 代码的分析结果是否已缓存
+     */
+    isCached(code) {
+        return this.cacheEnabled && this.cache.has(this.getCacheKey(code));
+    }
+
     /**
      * 生成缓存键
      */
@@ -436,6 +855,8 @@ const analysisService = new AnalysisService();
 // 导出API模块
 window.API = {
     ApiClient,
+    TokenStreamCodec,
+    BinaryResultDecoder,
     RequestManager,
     AnalysisService,
     analysisService
@@ -29,9 +29,10 @@ class RustEditor {
             },
             scrollBeyondLastLine: false,
             folding: true,
-            foldingStrategy: 'indentation',
+            foldingStrategy: 'auto',
             showFoldingControls: 'always',
             bracketMatching: 'always',
+            'semanticHighlighting.enabled': true,
             autoClosingBrackets: 'always',
             autoClosingQuotes: 'always',
             autoIndent: 'full',
@@ -144,6 +145,12 @@ class RustEditor {
             this.registerRustLanguage();
         }
 
+        // 基于服务端解析结果的语言功能（大纲等），全局只注册一次
+        if (!RustEditor.languageFeaturesRegistered) {
+            this.registerLanguageFeatures();
+            RustEditor.languageFeaturesRegistered = true;
+        }
+
         // 配置主题
         this.defineCustomThemes();
         
@@ -284,6 +291,164 @@ class RustEditor {
         });
     }
 
+    /**
+     * 注册基于服务端解析结果的语言功能
+     *
+     * 请求携带模型的 uri 与版本号，服务端按版本复用解析结果；
+     * 响应返回前模型已被修改时结果作废，Monaco 会针对新版本重新请求。
+     */
+    registerLanguageFeatures() {
+        const client = API.analysisService.client;
+
+        // 文档大纲：Ctrl+Shift+O「转到符号」
+        monaco.languages.registerDocumentSymbolProvider('rust', {
+            displayName: 'Rust Outline',
+            provideDocumentSymbols: async (model, token) => {
+                const version = model.getVersionId();
+                try {
+                    const symbols = await client.getOutline(model.uri.toString(), version, model.getValue());
+                    if (token.isCancellationRequested || model.getVersionId() !== version) {
+                        return null;
+                    }
+                    return symbols.map(symbol => this.toMonacoSymbol(model, symbol));
+                } catch (error) {
+                    console.warn('获取大纲失败:', error.message);
+                    return null;
+                }
+            }
+        });
+
+        // 跳转到定义：F12 / Ctrl+单击
+        monaco.languages.registerDefinitionProvider('rust', {
+            provideDefinition: async (model, position, token) => {
+                const version = model.getVersionId();
+                try {
+                    const definition = await client.getDefinition(model.uri.toString(), version,
+                        model.getValue(), model.getOffsetAt(position));
+                    if (!definition || token.isCancellationRequested || model.getVersionId() !== version) {
+                        return null;
+                    }
+                    return { uri: model.uri, range: this.offsetRange(model, definition.start, definition.end) };
+                } catch (error) {
+                    console.warn('跳转到定义失败:', error.message);
+                    return null;
+                }
+            }
+        });
+
+        // 查找引用：Shift+F12
+        monaco.languages.registerReferenceProvider('rust', {
+            provideReferences: async (model, position, context, token) => {
+                const version = model.getVersionId();
+                try {
+                    const references = await client.getReferences(model.uri.toString(), version,
+                        model.getValue(), model.getOffsetAt(position), context.includeDeclaration);
+                    if (token.isCancellationRequested || model.getVersionId() !== version) {
+                        return null;
+                    }
+                    return references.map(reference => ({
+                        uri: model.uri,
+                        range: this.offsetRange(model, reference.start, reference.end)
+                    }));
+                } catch (error) {
+                    console.warn('查找引用失败:', error.message);
+                    return null;
+                }
+            }
+        });
+
+        // 代码折叠：代码块、注释与 use 分组，服务端只用 Token 计算
+        monaco.languages.registerFoldingRangeProvider('rust', {
+            provideFoldingRanges: async (model, context, token) => {
+                const version = model.getVersionId();
+                try {
+                    const ranges = await client.getFoldingRanges(model.uri.toString(), version, model.getValue());
+                    if (token.isCancellationRequested || model.getVersionId() !== version) {
+                        return null;
+                    }
+                    const kinds = {
+                        comment: monaco.languages.FoldingRangeKind.Comment,
+                        imports: monaco.languages.FoldingRangeKind.Imports
+                    };
+                    return ranges.map(range => ({
+                        start: range.startLine + 1,
+                        end: range.endLine + 1,
+                        kind: kinds[range.kind] || monaco.languages.FoldingRangeKind.Region
+                    }));
+                } catch (error) {
+                    console.warn('获取折叠区域失败:', error.message);
+                    return null;
+                }
+            }
+        });
+
+        // 语义高亮：以服务端词法分析 / 名称解析的结果覆盖正则高亮，编辑后只请求增量
+        client.getSemanticTokensLegend().then(legend => {
+            monaco.languages.registerDocumentSemanticTokensProvider('rust', {
+                getLegend: () => legend,
+                provideDocumentSemanticTokens: async (model, lastResultId, token) => {
+                    const version = model.getVersionId();
+                    try {
+                        const result = await client.getSemanticTokens(model.uri.toString(), version,
+                            model.getValue(), lastResultId);
+                        if (token.isCancellationRequested || model.getVersionId() !== version) {
+                            return null;
+                        }
+                        return result.data
+                            ? { resultId: result.resultId, data: new Uint32Array(result.data) }
+                            : {
+                                resultId: result.resultId,
+                                edits: result.edits.map(edit => ({
+                                    start: edit.start,
+                                    deleteCount: edit.deleteCount,
+                                    data: new Uint32Array(edit.data)
+                                }))
+                            };
+                    } catch (error) {
+                        console.warn('获取语义 Token 失败:', error.message);
+                        return null;
+                    }
+                },
+                releaseDocumentSemanticTokens: () => {}
+            });
+        }).catch(error => console.warn('获取语义 Token 图例失败:', error.message));
+    }
+
+    /**
+     * 服务端符号（UTF-16 偏移）转换为 Monaco DocumentSymbol
+     */
+    toMonacoSymbol(model, symbol) {
+        const kinds = {
+            module: monaco.languages.SymbolKind.Module,
+            function: monaco.languages.SymbolKind.Function,
+            method: monaco.languages.SymbolKind.Method,
+            struct: monaco.languages.SymbolKind.Struct,
+            enum: monaco.languages.SymbolKind.Enum,
+            trait: monaco.languages.SymbolKind.Interface,
+            impl: monaco.languages.SymbolKind.Namespace,
+            constant: monaco.languages.SymbolKind.Constant,
+            static: monaco.languages.SymbolKind.Variable
+        };
+        return {
+            name: symbol.name,
+            detail: symbol.detail || '',
+            kind: kinds[symbol.kind] !== undefined ? kinds[symbol.kind] : monaco.languages.SymbolKind.Object,
+            tags: [],
+            range: this.offsetRange(model, symbol.start, symbol.end),
+            selectionRange: this.offsetRange(model, symbol.selectionStart, symbol.selectionEnd),
+            children: (symbol.children || []).map(child => this.toMonacoSymbol(model, child))
+        };
+    }
+
+    /**
+     * UTF-16 偏移区间转换为 Monaco Range
+     */
+    offsetRange(model, startOffset, endOffset) {
+        const start = model.getPositionAt(startOffset);
+        const end = model.getPositionAt(endOffset);
+        return new monaco.Range(start.lineNumber, start.column, end.lineNumber, end.column);
+    }
+
     /**
      * 定义自定义主题
      */
@@ -300,7 +465,21 @@ class RustEditor {
                 { token: 'number', foreground: 'b5cea8' },
                 { token: 'identifier', foreground: '9cdcfe' },
                 { token: 'type.identifier', foreground: '4ec9b0' },
-                { token: 'operator', foreground: 'd4d4d4' }
+                { token: 'operator', foreground: 'd4d4d4' },
+                // 语义 Token
+                { token: 'namespace', foreground: '4ec9b0' },
+                { token: 'type', foreground: '4ec9b0' },
+                { token: 'struct', foreground: '4ec9b0' },
+                { token: 'enum', foreground: '4ec9b0' },
+                { token: 'interface', foreground: 'b8d7a3' },
+                { token: 'enumMember', foreground: '4fc1ff' },
+                { token: 'function', foreground: 'dcdcaa' },
+                { token: 'method', foreground: 'dcdcaa' },
+                { token: 'macro', foreground: 'c586c0' },
+                { token: 'parameter', foreground: '9cdcfe' },
+                { token: 'variable', foreground: '9cdcfe' },
+                { token: 'variable.readonly', foreground: '4fc1ff' },
+                { token: 'lifetime', foreground: 'd7ba7d', fontStyle: 'italic' }
             ],
             colors: {
                 'editor.background': '#1e1e1e',
@@ -458,6 +637,13 @@ impl Point {
         }
     }
 
+    /**
+     * 模型版本号，每次编辑递增
+     */
+    getVersionId() {
+        return this.model ? this.model.getVersionId() : 0;
+    }
+
     /**
      * 获取选中的文本
      */
@@ -478,6 +664,29 @@ impl Point {
         }
     }
 
+    /**
+     * 从指定位置起选中 length 个字符（UTF-16 单位）
+     */
+    selectText(lineNumber, column, length) {
+        if (this.editor && this.model) {
+            const start = this.model.getOffsetAt({ lineNumber, column });
+            this.selectOffsets(start, start + length);
+        }
+    }
+
+    /**
+     * 按字符偏移（UTF-16）选中区间并滚动到可见位置
+     */
+    selectOffsets(startOffset, endOffset) {
+        if (this.editor && this.model) {
+            const start = this.model.getPositionAt(startOffset);
+            const end = this.model.getPositionAt(endOffset);
+            const range = new monaco.Range(start.lineNumber, start.column, end.lineNumber, end.column);
+            this.editor.setSelection(range);
+            this.editor.revealRangeInCenter(range);
+        }
+    }
+
     /**
      * 设置主题
      */
@@ -0,0 +1,43 @@
+/**
+ * Graphviz 渲染 Worker
+ *
+ * 在独立线程中加载一次 viz.js（WASM/asm.js 模块）并复用同一个 Viz 实例，
+ * 布局不再阻塞编辑器所在的主线程。
+ *
+ * 消息协议：
+ * - 请求：{ id, dot }
+ * - 完成：{ id, buffer }，buffer 为 UTF-8 编码的 SVG，以 Transferable 方式移交，不复制
+ * - 失败：{ id, error }
+ *
+ * 同一时间只处理一个请求；取消正在布局的请求由主线程直接终止本 Worker 完成。
+ */
+
+importScripts(
+    'https://unpkg.com/viz.js@2.1.2/viz.js',
+    'https://unpkg.com/viz.js@2.1.2/full.render.js'
+);
+
+const encoder = new TextEncoder();
+let viz = null;
+
+/**
+ * 长期复用的 Viz 实例；viz.js 在渲染出错后内部状态不可用，需要重新创建
+ */
+function getViz() {
+    if (!viz) {
+        viz = new Viz({ Module, render });
+    }
+    return viz;
+}
+
+self.onmessage = async (event) => {
+    const { id, dot } = event.data;
+    try {
+        const svg = await getViz().renderString(dot);
+        const buffer = encoder.encode(svg).buffer;
+        self.postMessage({ id, buffer }, [buffer]);
+    } catch (error) {
+        viz = null;
+        self.postMessage({ id, error: error && error.message ? error.message : String(error) });
+    }
+};
@@ -3,6 +3,90 @@
  * 应用程序的入口点，协调各个模块的工作
  */
 
+/**
+ * 实时分析调度器
+ *
+ * 编辑时防抖触发分析，等待时间随服务器延迟自适应：
+ * 记录最近若干次诊断请求的（源代码长度, 耗时），用最小二乘拟合 耗时 = a + b × 长度，
+ * 按当前文件大小估算一次分析的耗时作为防抖延迟（限制在 [minDelay, maxDelay]）。
+ * 小文件分析很快，停顿片刻即可看到结果；大文件分析本身就慢，请求间隔也随之拉长，不会压垮服务器。
+ */
+class LiveAnalysisScheduler {
+    constructor() {
+        this.minDelay = 250;
+        this.maxDelay = 2000;
+        this.defaultDelay = 500;    // 尚无测量数据时的延迟
+        this.maxSamples = 20;
+        this.samples = [];          // [{ size, ms }]
+        this.timer = null;
+    }
+
+    /**
+     * 记录一次分析耗时
+     */
+    record(size, ms) {
+        this.samples.push({ size, ms });
+        if (this.samples.length > this.maxSamples) {
+            this.samples.shift();
+        }
+    }
+
+    /**
+     * 估算指定大小的源代码的分析耗时，没有测量数据时返回 null
+     */
+    estimate(size) {
+        const n = this.samples.length;
+        if (n === 0) return null;
+
+        let meanSize = 0;
+        let meanMs = 0;
+        for (const sample of this.samples) {
+            meanSize += sample.size / n;
+            meanMs += sample.ms / n;
+        }
+        let variance = 0;
+        let covariance = 0;
+        for (const sample of this.samples) {
+            variance += (sample.size - meanSize) * (sample.size - meanSize);
+            covariance += (sample.size - meanSize) * (sample.ms - meanMs);
+        }
+        // 样本大小都相同时无法拟合斜率，直接用平均耗时
+        if (variance === 0) return meanMs;
+        const slope = Math.max(0, covariance / variance);
+        return Math.max(0, meanMs + slope * (size - meanSize));
+    }
+
+    /**
+     * 当前文件大小对应的防抖延迟
+     */
+    delayFor(size) {
+        const estimated = this.estimate(size);
+        if (estimated === null) return this.defaultDelay;
+        return Math.min(this.maxDelay, Math.max(this.minDelay, Math.round(estimated)));
+    }
+
+    /**
+     * 重新开始计时，延迟结束后调用 callback
+     */
+    schedule(size, callback) {
+        this.cancel();
+        this.timer = setTimeout(() => {
+            this.timer = null;
+            callback();
+        }, this.delayFor(size));
+    }
+
+    /**
+     * 取消等待中的分析
+     */
+    cancel() {
+        if (this.timer) {
+            clearTimeout(this.timer);
+            this.timer = null;
+        }
+    }
+}
+
 class RustWebEditor {
     constructor() {
         this.editor = null;
@@ -17,7 +101,9 @@ class RustWebEditor {
             autoSaveInterval: 30000, // 30秒
             serverCheckInterval: 60000, // 60秒
             maxHistorySize: 10,
-            theme: 'vs-dark'
+            theme: 'vs-dark',
+            liveAnalysis: false, // 编辑时自动分析
+            graphRenderMode: 'client' // 'server' 时由后端布局 CST/AST 并缓存 SVG
         };
 
         // 状态管理
@@ -25,8 +111,11 @@ class RustWebEditor {
             isAnalyzing: false,
             lastAnalysisTime: null,
             analysisHistory: [],
-            serverStatus: 'unknown'
+            serverStatus: 'unknown',
+            livePending: false // 实时分析触发时已有分析在进行，结束后重新调度
         };
+
+        this.liveScheduler = new LiveAnalysisScheduler();
     }
 
     /**
@@ -107,6 +196,7 @@ class RustWebEditor {
         }
         
         this.visualizer = window.Visualizer.resultVisualizer;
+        this.visualizer.graphRenderer.setRenderMode(this.config.graphRenderMode);
         await this.visualizer.initialize();
         
         console.log('可视化器初始化完成');
@@ -135,6 +225,11 @@ class RustWebEditor {
             this.onErrorClick(data);
         });
 
+        // 树视图节点点击事件
+        Utils.eventBus.on('tree:nodeClick', (data) => {
+            this.onTreeNodeClick(data);
+        });
+
         // 请求事件
         Utils.eventBus.on('request:start', (request) => {
             this.onRequestStart(request);
@@ -196,6 +291,15 @@ class RustWebEditor {
             this.testGraphRendering();
         };
 
+        // 实时分析开关
+        const liveToggle = Utils.DOM.id('liveAnalysisToggle');
+        if (liveToggle) {
+            liveToggle.checked = this.config.liveAnalysis;
+            Utils.DOM.on(liveToggle, 'change', (e) => {
+                this.setLiveAnalysis(e.target.checked);
+            });
+        }
+
         // 主题选择
         const themeSelect = Utils.DOM.id('themeSelect');
         if (themeSelect) {
@@ -225,6 +329,7 @@ class RustWebEditor {
             return;
         }
 
+        this.liveScheduler.cancel();
         this.state.isAnalyzing = true;
         this.updateAnalyzeButton(true);
         this.showLoadingBar();
@@ -232,19 +337,14 @@ class RustWebEditor {
         try {
             this.updateStatus('正在分析代码...');
             
-            const result = await API.analysisService.analyze(code);
+            const version = this.editor.getVersionId();
+            const result = await this.requestAnalysis(code);
             
             // 显示结果
             this.visualizer.showResults(result);
             
             // 在编辑器中显示错误
-            if (result.errors && result.errors.length > 0) {
-                this.editor.showErrors(result.errors);
-                this.highlightErrorLines(result.errors);
-            } else {
-                this.editor.clearErrors();
-                this.editor.clearHighlights();
-            }
+            this.applyDiagnostics(result, version);
 
             // 保存到历史记录
             this.addToHistory({
@@ -277,6 +377,122 @@ class RustWebEditor {
             this.state.isAnalyzing = false;
             this.updateAnalyzeButton(false);
             this.hideLoadingBar();
+            this.resumeLiveAnalysis();
+        }
+    }
+
+    /**
+     * 请求完整分析（分析按钮）
+     */
+    async requestAnalysis(code) {
+        return API.analysisService.analyze(code);
+    }
+
+    /**
+     * 请求诊断（实时分析）并记录服务器耗时，供防抖延迟估算
+     */
+    async requestDiagnostics(code) {
+        const started = performance.now();
+        const result = await API.analysisService.diagnose(code);
+        this.liveScheduler.record(code.length, performance.now() - started);
+        return result;
+    }
+
+    /**
+     * 在编辑器中显示诊断
+     *
+     * 只有分析结果对应当前模型版本时才设置标记：分析期间又有编辑时，
+     * 旧结果的行列已经对不上，保留 Monaco 随编辑移动的现有标记，等待下一次分析。
+     *
+     * @returns {boolean} 是否已应用
+     */
+    applyDiagnostics(result, version) {
+        if (this.editor.getVersionId() !== version) {
+            return false;
+        }
+        if (result.errors && result.errors.length > 0) {
+            this.editor.showErrors(result.errors);
+            this.highlightErrorLines(result.errors);
+        } else {
+            this.editor.clearErrors();
+            this.editor.clearHighlights();
+        }
+        return true;
+    }
+
+    /**
+     * 开启 / 关闭实时分析
+     */
+    setLiveAnalysis(enabled) {
+        this.config.liveAnalysis = enabled;
+        this.saveConfig();
+        if (enabled) {
+            this.scheduleLiveAnalysis();
+        } else {
+            this.liveScheduler.cancel();
+            this.state.livePending = false;
+        }
+    }
+
+    /**
+     * 按当前文件大小防抖调度实时分析
+     */
+    scheduleLiveAnalysis() {
+        this.liveScheduler.schedule(this.editor.getValue().length, () => {
+            this.runLiveAnalysis();
+        });
+    }
+
+    /**
+     * 实时分析：只请求诊断（POST /analyse/diagnostics），更新编辑器标记与错误列表；
+     * Token 表与树只在点击分析时更新。不弹通知、不写历史记录，结果过期（模型版本已变化）时直接丢弃
+     */
+    async runLiveAnalysis() {
+        if (!this.config.liveAnalysis) return;
+        if (this.state.isAnalyzing) {
+            this.state.livePending = true;
+            return;
+        }
+
+        const code = this.editor.getValue();
+        if (!code.trim()) {
+            this.editor.clearErrors();
+            this.editor.clearHighlights();
+            return;
+        }
+
+        const version = this.editor.getVersionId();
+        this.state.isAnalyzing = true;
+        this.updateStatus('实时分析中...');
+
+        try {
+            const result = await this.requestDiagnostics(code);
+            if (this.editor.getVersionId() !== version) {
+                // 分析期间又有编辑，新的分析已在调度中
+                return;
+            }
+            this.visualizer.showDiagnostics(result.errors);
+            this.applyDiagnostics(result, version);
+            this.state.lastAnalysisTime = Date.now();
+            this.updateStatus(result.success
+                ? '实时分析完成'
+                : `实时分析完成，发现 ${result.errors.length} 个错误`);
+        } catch (error) {
+            console.warn('实时分析失败:', error);
+            this.updateStatus('实时分析失败');
+        } finally {
+            this.state.isAnalyzing = false;
+            this.resumeLiveAnalysis();
+        }
+    }
+
+    /**
+     * 分析结束后补上期间被推迟的实时分析
+     */
+    resumeLiveAnalysis() {
+        if (this.state.livePending) {
+            this.state.livePending = false;
+            this.scheduleLiveAnalysis();
         }
     }
 
@@ -342,6 +558,12 @@ class RustWebEditor {
      * 编辑器内容变化处理
      */
     onEditorContentChanged(data) {
+        // 实时分析时保留现有标记（Monaco 会随编辑移动），由下一次分析替换
+        if (this.config.liveAnalysis) {
+            this.scheduleLiveAnalysis();
+            return;
+        }
+
         // 清除之前的错误标记
         this.editor.clearErrors();
         this.editor.clearHighlights();
@@ -356,19 +578,31 @@ class RustWebEditor {
     onEditorCursorChanged(data) {
         const position = data.position;
         this.updateLineColumn(position.lineNumber, position.column);
+        if (this.visualizer) {
+            this.visualizer.tokenRenderer.revealPosition(position.lineNumber, position.column);
+        }
     }
 
     /**
      * Token 点击处理
      */
     onTokenClick(data) {
-        if (this.editor && data.line && data.column) {
-            this.editor.goToLine(data.line);
-            this.editor.setCursorPosition(data.line, data.column + 1);
+        if (this.editor && data.line && data.column >= 0) {
+            // 选中 Token 文本，光标落在 Token 末尾，Token 表格据此保持该行选中
+            this.editor.selectText(data.line, data.column + 1, (data.token.text || '').length);
             Utils.Notification.info(`跳转到第 ${data.line} 行，第 ${data.column + 1} 列`);
         }
     }
 
+    /**
+     * 树视图节点点击处理：选中节点覆盖的源代码区间
+     */
+    onTreeNodeClick(data) {
+        if (this.editor) {
+            this.editor.selectOffsets(data.start, data.end);
+        }
+    }
+
     /**
      * 错误点击处理
      */
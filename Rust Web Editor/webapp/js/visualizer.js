@@ -9,6 +9,9 @@ class ResultVisualizer {
         this.graphRenderer = new GraphRenderer();
         this.tokenRenderer = new TokenRenderer();
         this.errorRenderer = new ErrorRenderer();
+        this.treeViewRenderer = new TreeViewRenderer();
+        this.graphNodeLimit = 1500;     // 节点数超过该值且有列式树结构时，默认使用树视图
+        this.treeViewModes = new Map(); // containerId -> 'tree' | 'graph'（用户切换后的选择）
         this.isInitialized = false;
     }
 
@@ -102,6 +105,21 @@ class ResultVisualizer {
             });
         }
 
+        // 树视图 / 图形切换按钮
+        const toggleParseTreeViewBtn = Utils.DOM.id('toggleParseTreeView');
+        if (toggleParseTreeViewBtn) {
+            Utils.DOM.on(toggleParseTreeViewBtn, 'click', () => {
+                this.toggleTreeView('parseTreeViz');
+            });
+        }
+
+        const toggleASTViewBtn = Utils.DOM.id('toggleASTView');
+        if (toggleASTViewBtn) {
+            Utils.DOM.on(toggleASTViewBtn, 'click', () => {
+                this.toggleTreeView('astViz');
+            });
+        }
+
         // 重置缩放按钮
         const resetZoomBtn = Utils.DOM.id('resetZoom');
         if (resetZoomBtn) {
@@ -160,38 +178,10 @@ class ResultVisualizer {
             }
             
             // 显示解析树（ParseTree/CST）
-            if (data.parseTree && data.parseTree.dot) {
-                console.log('开始渲染解析树，DOT 长度:', data.parseTree.dot.length);
-                this.graphRenderer.renderGraph(data.parseTree.dot, 'parseTreeViz');
-            } else {
-                console.warn('没有解析树数据或 DOT 数据为空');
-                const parseTreeContainer = Utils.DOM.id('parseTreeViz');
-                if (parseTreeContainer) {
-                    parseTreeContainer.innerHTML = `
-                        <div class="empty-state">
-                            <p>⚠️ 没有解析树数据</p>
-                        </div>
-                    `;
-                }
-            }
+            this.showTree(data.parseTree, 'parseTreeViz', '解析树', data.tokens);
             
             // 显示AST（抽象语法树）
-            if (data.ast && data.ast.dot) {
-                console.log('开始渲染AST，DOT 长度:', data.ast.dot.length);
-                console.log('AST DOT 数据预览:', data.ast.dot.substring(0, 200));
-                this.graphRenderer.renderGraph(data.ast.dot, 'astViz');
-            } else {
-                console.warn('没有AST数据或 DOT 数据为空, AST对象:', data.ast);
-                const astContainer = Utils.DOM.id('astViz');
-                if (astContainer) {
-                    astContainer.innerHTML = `
-                        <div class="empty-state">
-                            <p>⚠️ 没有AST数据</p>
-                            <p style="font-size: 0.8em; color: #666;">请检查后端AST生成是否正常</p>
-                        </div>
-                    `;
-                }
-            }
+            this.showTree(data.ast, 'astViz', 'AST', data.tokens);
             
             // 显示错误信息
             this.errorRenderer.renderErrors(data.errors);
@@ -207,6 +197,69 @@ class ResultVisualizer {
         }
     }
 
+    /**
+     * 只更新错误列表（实时分析的诊断结果），Token 表与树保持上一次完整分析的结果
+     */
+    showDiagnostics(errors) {
+        this.errorRenderer.renderErrors(errors);
+        this.updateErrorSummary(errors);
+    }
+
+    /**
+     * 显示一棵树：有列式树结构且节点较多（或没有 DOT）时使用虚拟化树视图，否则使用 Graphviz
+     */
+    showTree(tree, containerId, title, tokens) {
+        const structure = tree ? tree.structure : null;
+        const dot = tree ? tree.dot : null;
+        let mode = this.treeViewModes.get(containerId);
+        if (!mode || (mode === 'tree' && !structure) || (mode === 'graph' && !dot)) {
+            mode = structure && (!dot || structure.nameIds.length > this.graphNodeLimit) ? 'tree' : 'graph';
+        }
+
+        if (mode === 'tree') {
+            this.graphRenderer.cancelRender(containerId);
+            this.treeViewRenderer.render(structure, containerId, tokens);
+        } else if (dot) {
+            console.log(`开始渲染${title}，DOT 长度:`, dot.length);
+            this.graphRenderer.renderGraph(dot, containerId);
+        } else {
+            console.warn(`没有${title}数据或 DOT 数据为空`);
+            const container = Utils.DOM.id(containerId);
+            if (container) {
+                container.innerHTML = `
+                    <div class="empty-state">
+                        <p>⚠️ 没有${title}数据</p>
+                    </div>
+                `;
+            }
+        }
+    }
+
+    /**
+     * 在树视图与图形之间切换当前结果的显示方式
+     */
+    toggleTreeView(containerId) {
+        if (!this.currentData) {
+            Utils.Notification.warning('请先分析代码');
+            return;
+        }
+        const isParseTree = containerId === 'parseTreeViz';
+        const tree = isParseTree ? this.currentData.parseTree : this.currentData.ast;
+        const showingTree = this.treeViewRenderer.views.has(containerId)
+            && Utils.DOM.id(containerId).querySelector('.tree-view');
+        const mode = showingTree ? 'graph' : 'tree';
+        if (mode === 'tree' && !(tree && tree.structure)) {
+            Utils.Notification.warning('服务端未返回树结构（trees=structure / both）');
+            return;
+        }
+        if (mode === 'graph' && !(tree && tree.dot)) {
+            Utils.Notification.warning('服务端未返回 DOT（trees=dot / both）');
+            return;
+        }
+        this.treeViewModes.set(containerId, mode);
+        this.showTree(tree, containerId, isParseTree ? '解析树' : 'AST', this.currentData.tokens);
+    }
+
     /**
      * 清空所有结果
      */
@@ -214,6 +267,7 @@ class ResultVisualizer {
         this.currentData = null;
         this.tokenRenderer.clear();
         this.graphRenderer.clear();
+        this.treeViewRenderer.clear();
         this.errorRenderer.clear();
         this.updateErrorSummary([]);
     }
@@ -239,11 +293,23 @@ class ResultVisualizer {
 
 /**
  * Token 渲染器
+ *
+ * 虚拟化的 Token 表格：表格高度按行数撑开（上下两个占位行），
+ * 只为滚动区域内可见的行生成 DOM，大文件的 Token 流不再一次性创建上万个 <tr>。
+ * 支持按 Token 类型过滤；选中行与编辑器光标双向同步。
  */
 class TokenRenderer {
     constructor() {
         this.tableBody = null;
+        this.container = null;
+        this.filterSelect = null;
         this.currentTokens = null;
+        this.visible = null;        // 过滤后的 Token 下标（升序），未过滤时为 null
+        this.filterType = '';
+        this.selectedIndex = -1;    // 选中的 Token 下标
+        this.rowHeight = 28;
+        this.overscan = 10;         // 可见区域上下额外渲染的行数
+        this.frame = 0;
     }
 
     /**
@@ -253,6 +319,42 @@ class TokenRenderer {
         this.tableBody = Utils.DOM.id('tokensTableBody');
         if (!this.tableBody) {
             console.warn('Token 表格容器未找到');
+            return;
+        }
+        this.container = this.tableBody.closest('.token-container');
+        this.filterSelect = Utils.DOM.id('tokenTypeFilter');
+
+        Utils.DOM.on(this.container, 'scroll', () => {
+            if (!this.frame) {
+                this.frame = requestAnimationFrame(() => {
+                    this.frame = 0;
+                    this.renderRows();
+                });
+            }
+        });
+
+        // 行点击使用事件委托，行 DOM 随滚动重建
+        Utils.DOM.on(this.tableBody, 'click', (e) => {
+            const row = e.target.closest('tr.token-row');
+            if (!row) return;
+            const index = Number(row.dataset.index);
+            const token = this.currentTokens[index];
+            this.selectedIndex = index;
+            this.renderRows();
+            Utils.eventBus.emit('token:click', {
+                token,
+                line: token.line,
+                column: token.column
+            });
+        });
+
+        if (this.filterSelect) {
+            Utils.DOM.on(this.filterSelect, 'change', () => {
+                this.filterType = this.filterSelect.value;
+                this.applyFilter();
+                this.container.scrollTop = 0;
+                this.renderRows();
+            });
         }
     }
 
@@ -261,52 +363,241 @@ class TokenRenderer {
      */
     renderTokens(tokens) {
         this.currentTokens = tokens;
+        this.selectedIndex = -1;
         
         if (!this.tableBody) {
             console.error('Token 表格容器未找到');
             return;
         }
 
-        // 清空现有内容
-        this.tableBody.innerHTML = '';
+        this.updateFilterOptions();
 
         if (!tokens || tokens.length === 0) {
             this.showEmptyState();
             return;
         }
 
-        tokens.forEach((token, index) => {
-            const row = this.createTokenRow(token, index + 1);
-            this.tableBody.appendChild(row);
-        });
+        this.applyFilter();
+        this.container.scrollTop = 0;
+        this.renderRows();
 
         console.log(`渲染了 ${tokens.length} 个 Token`);
     }
 
+    /**
+     * 按当前结果重建类型过滤选项（按数量降序），保留仍然存在的过滤类型
+     */
+    updateFilterOptions() {
+        const counts = new Map();
+        for (const token of this.currentTokens || []) {
+            counts.set(token.type, (counts.get(token.type) || 0) + 1);
+        }
+        if (!counts.has(this.filterType)) {
+            this.filterType = '';
+        }
+        if (!this.filterSelect) return;
+
+        const total = this.currentTokens ? this.currentTokens.length : 0;
+        const options = [`<option value="">全部类型 (${total})</option>`];
+        Array.from(counts.entries())
+            .sort((a, b) => b[1] - a[1])
+            .forEach(([type, count]) => {
+                const escaped = Utils.StringUtils.escapeHtml(type);
+                options.push(`<option value="${escaped}">${escaped} (${count})</option>`);
+            });
+        this.filterSelect.innerHTML = options.join('');
+        this.filterSelect.value = this.filterType;
+    }
+
+    /**
+     * 计算过滤后的行
+     */
+    applyFilter() {
+        const tokens = this.currentTokens || [];
+        if (!this.filterType) {
+            this.visible = null;
+            return;
+        }
+        const indices = [];
+        for (let i = 0; i < tokens.length; i++) {
+            if (tokens[i].type === this.filterType) {
+                indices.push(i);
+            }
+        }
+        this.visible = Int32Array.from(indices);
+    }
+
+    /**
+     * 可显示的行数
+     */
+    rowCount() {
+        if (!this.currentTokens) return 0;
+        return this.visible ? this.visible.length : this.currentTokens.length;
+    }
+
+    /**
+     * Token 下标所在的行，被过滤掉时返回 -1
+     */
+    rowOf(index) {
+        if (!this.visible) return index;
+        let lo = 0;
+        let hi = this.visible.length - 1;
+        while (lo <= hi) {
+            const mid = (lo + hi) >>> 1;
+            if (this.visible[mid] < index) {
+                lo = mid + 1;
+            } else if (this.visible[mid] > index) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * tbody 顶部相对滚动内容的偏移（容器内边距 + 表头）
+     */
+    bodyOffset() {
+        return this.tableBody.getBoundingClientRect().top
+            - this.container.getBoundingClientRect().top
+            + this.container.scrollTop;
+    }
+
+    /**
+     * 只渲染滚动区域内的行
+     */
+    renderRows() {
+        if (!this.currentTokens || this.currentTokens.length === 0) return;
+        const count = this.rowCount();
+        if (count === 0) {
+            this.tableBody.innerHTML = `
+                <tr class="empty-state">
+                    <td colspan="5">没有类型为 ${Utils.StringUtils.escapeHtml(this.filterType)} 的 Token</td>
+                </tr>
+            `;
+            return;
+        }
+
+        const viewportHeight = this.container.clientHeight || 600;
+        const scrolled = Math.max(0, this.container.scrollTop - this.bodyOffset());
+        const first = Math.max(0, Math.floor(scrolled / this.rowHeight) - this.overscan);
+        const last = Math.min(count, first + Math.ceil(viewportHeight / this.rowHeight) + this.overscan * 2);
+
+        const html = [];
+        if (first > 0) {
+            html.push(this.createSpacerRow(first * this.rowHeight));
+        }
+        for (let row = first; row < last; row++) {
+            const index = this.visible ? this.visible[row] : row;
+            html.push(this.createTokenRow(this.currentTokens[index], index, row));
+        }
+        if (last < count) {
+            html.push(this.createSpacerRow((count - last) * this.rowHeight));
+        }
+        this.tableBody.innerHTML = html.join('');
+    }
+
+    /**
+     * 占位行，撑开未渲染部分的高度
+     */
+    createSpacerRow(height) {
+        return `<tr class="token-spacer"><td colspan="5" style="height:${height}px"></td></tr>`;
+    }
+
     /**
      * 创建 Token 行
      */
-    createTokenRow(token, index) {
-        const row = Utils.DOM.create('tr');
-        
-        row.innerHTML = `
-            <td class="token-index">${index}</td>
-            <td class="token-type">${Utils.StringUtils.escapeHtml(token.type)}</td>
-            <td class="token-text">${Utils.StringUtils.escapeHtml(token.text)}</td>
-            <td class="token-position">${token.line}</td>
-            <td class="token-position">${token.column}</td>
-        `;
+    createTokenRow(token, index, row) {
+        let className = 'token-row';
+        if (row % 2 === 1) className += ' even';
+        if (index === this.selectedIndex) className += ' selected';
+        return `<tr class="${className}" data-index="${index}">` +
+            `<td class="token-index">${index + 1}</td>` +
+            `<td class="token-type">${Utils.StringUtils.escapeHtml(token.type)}</td>` +
+            `<td class="token-text">${Utils.StringUtils.escapeHtml(token.text)}</td>` +
+            `<td class="token-position">${token.line}</td>` +
+            `<td class="token-position">${token.column}</td>` +
+            '</tr>';
+    }
 
-        // 添加点击事件，跳转到对应位置
-        Utils.DOM.on(row, 'click', () => {
-            Utils.eventBus.emit('token:click', {
-                token,
-                line: token.line,
-                column: token.column
-            });
-        });
+    /**
+     * 编辑器光标移动时选中光标所在的 Token 并滚动到该行
+     *
+     * @param {number} lineNumber 行号（从 1 开始）
+     * @param {number} column Monaco 列号（从 1 开始）
+     */
+    revealPosition(lineNumber, column) {
+        const tokens = this.currentTokens;
+        if (!tokens || tokens.length === 0 || !this.tableBody) return;
+        const col = column - 1;
+
+        // 当前选中的 Token 仍包含光标（例如点击行后编辑器选中了该 Token）时保持不变
+        if (this.selectedIndex >= 0 && this.contains(tokens[this.selectedIndex], lineNumber, col)) {
+            return;
+        }
+
+        // 二分查找最后一个起点不晚于光标的 Token
+        let lo = 0;
+        let hi = tokens.length - 1;
+        let found = -1;
+        while (lo <= hi) {
+            const mid = (lo + hi) >>> 1;
+            const token = tokens[mid];
+            if (token.line < lineNumber || (token.line === lineNumber && token.column <= col)) {
+                found = mid;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+
+        let index = -1;
+        if (found >= 0 && this.contains(tokens[found], lineNumber, col)) {
+            index = found;
+        }
+        const row = index >= 0 ? this.rowOf(index) : -1;
+        this.selectedIndex = row >= 0 ? index : -1;
+        if (row >= 0) {
+            this.scrollToRow(row);
+        }
+        this.renderRows();
+    }
 
-        return row;
+    /**
+     * Token 是否覆盖位置（含末尾，光标紧跟在 Token 之后也算）
+     */
+    contains(token, line, col) {
+        if (token.line > line || (token.line === line && token.column > col)) {
+            return false;
+        }
+        const text = token.text || '';
+        const lastBreak = text.lastIndexOf('\n');
+        let endLine = token.line;
+        let endColumn = token.column + text.length;
+        if (lastBreak >= 0) {
+            endLine += text.split('\n').length - 1;
+            endColumn = text.length - lastBreak - 1;
+        }
+        return line < endLine || (line === endLine && col <= endColumn);
+    }
+
+    /**
+     * 行不在可见区域内时滚动到该行（表头是 sticky 的，会遮住顶部一行）
+     */
+    scrollToRow(row) {
+        const viewportHeight = this.container.clientHeight;
+        if (!viewportHeight) return;
+        const headerHeight = this.tableBody.previousElementSibling
+            ? this.tableBody.previousElementSibling.offsetHeight
+            : 0;
+        const top = this.bodyOffset() + row * this.rowHeight;
+        const scrollTop = this.container.scrollTop;
+        if (top < scrollTop + headerHeight) {
+            this.container.scrollTop = top - headerHeight;
+        } else if (top + this.rowHeight > scrollTop + viewportHeight) {
+            this.container.scrollTop = top + this.rowHeight - viewportHeight;
+        }
     }
 
     /**
@@ -321,7 +612,7 @@ class TokenRenderer {
     }
 
     /**
-     * 导出 Token 数据
+     * 导出 Token 数据（按当前过滤条件）
      */
     exportTokens() {
         if (!this.currentTokens || this.currentTokens.length === 0) {
@@ -332,7 +623,9 @@ class TokenRenderer {
         try {
             // 生成 CSV 格式
             const csvHeader = 'Index,Type,Text,Line,Column\n';
-            const csvRows = this.currentTokens.map((token, index) => {
+            const indices = this.visible || this.currentTokens.map((token, index) => index);
+            const csvRows = Array.from(indices, (index) => {
+                const token = this.currentTokens[index];
                 const escapedText = `"${token.text.replace(/"/g, '""')}"`;
                 return `${index + 1},${token.type},${escapedText},${token.line},${token.column}`;
             }).join('\n');
@@ -354,7 +647,146 @@ class TokenRenderer {
      */
     clear() {
         this.currentTokens = null;
-        this.showEmptyState();
+        this.visible = null;
+        this.selectedIndex = -1;
+        if (this.tableBody) {
+            this.updateFilterOptions();
+            this.showEmptyState();
+        }
+    }
+}
+
+/**
+ * 渲染被取消（有更新的分析结果或容器已清空）
+ */
+class RenderCanceledError extends Error {
+    constructor() {
+        super('渲染已取消');
+        this.canceled = true;
+    }
+}
+
+/**
+ * Graphviz 渲染 Worker 客户端
+ *
+ * 所有渲染在同一个 Worker（js/graph-worker.js）中排队执行，Worker 内只创建一次 Viz 实例。
+ * 每个请求带有 key（容器 ID），同一 key 的新请求会取消旧请求：
+ * - 尚在队列中的请求直接丢弃
+ * - 正在布局的请求无法中断，直接终止 Worker，下一个请求时重新创建
+ * SVG 只在布局完成后以 Transferable 的 ArrayBuffer 传回主线程。
+ */
+class GraphWorkerClient {
+    constructor(scriptUrl) {
+        this.scriptUrl = scriptUrl;
+        this.worker = null;
+        this.current = null;    // 正在 Worker 中执行的请求
+        this.queue = [];        // 等待执行的请求
+        this.nextId = 1;
+        this.failed = false;    // Worker 无法加载（例如离线）时由调用方回退到主线程
+        this.decoder = new TextDecoder('utf-8');
+    }
+
+    /**
+     * 渲染 DOT 为 SVG 字符串
+     *
+     * @param {string} dot DOT 文本
+     * @param {string} key 请求分组（同一 key 只保留最新的请求）
+     * @returns {Promise<string>} SVG；被取消时以 RenderCanceledError 拒绝
+     */
+    render(dot, key) {
+        this.cancel(key);
+        return new Promise((resolve, reject) => {
+            this.queue.push({ id: this.nextId++, key, dot, resolve, reject });
+            this.pump();
+        });
+    }
+
+    /**
+     * 取消指定 key 的请求
+     */
+    cancel(key) {
+        this.queue = this.queue.filter(job => {
+            if (job.key === key) {
+                job.reject(new RenderCanceledError());
+                return false;
+            }
+            return true;
+        });
+        if (this.current && this.current.key === key) {
+            this.current.reject(new RenderCanceledError());
+            this.current = null;
+            this.terminate();
+            this.pump();
+        }
+    }
+
+    /**
+     * 取消全部请求
+     */
+    cancelAll() {
+        const keys = new Set(this.queue.map(job => job.key));
+        if (this.current) {
+            keys.add(this.current.key);
+        }
+        keys.forEach(key => this.cancel(key));
+    }
+
+    pump() {
+        if (this.current || this.queue.length === 0) {
+            return;
+        }
+        this.current = this.queue.shift();
+        try {
+            this.ensureWorker().postMessage({ id: this.current.id, dot: this.current.dot });
+        } catch (error) {
+            this.fail(error);
+        }
+    }
+
+    ensureWorker() {
+        if (!this.worker) {
+            this.worker = new Worker(this.scriptUrl);
+            this.worker.onmessage = (event) => this.onMessage(event.data);
+            this.worker.onerror = (event) => {
+                event.preventDefault();
+                this.fail(new Error(event.message || 'Graphviz Worker 加载失败'));
+            };
+        }
+        return this.worker;
+    }
+
+    onMessage(data) {
+        const job = this.current;
+        if (!job || job.id !== data.id) {
+            return; // 已取消的请求
+        }
+        this.current = null;
+        if (data.error) {
+            job.reject(new Error(data.error));
+        } else {
+            job.resolve(this.decoder.decode(data.buffer));
+        }
+        this.pump();
+    }
+
+    /**
+     * Worker 不可用：拒绝全部请求，后续渲染由调用方回退到主线程
+     */
+    fail(error) {
+        console.warn('Graphviz Worker 不可用，回退到主线程渲染:', error.message);
+        this.failed = true;
+        this.terminate();
+        const jobs = this.current ? [this.current, ...this.queue] : this.queue;
+        this.current = null;
+        this.queue = [];
+        jobs.forEach(job => job.reject(error));
+    }
+
+    terminate() {
+        if (this.worker) {
+            this.worker.terminate();
+            this.worker = null;
+        }
     }
 }
 
@@ -367,6 +799,48 @@ class GraphRenderer {
         this.currentGraphs = new Map();
         this.zoomFactors = new Map();
         this.transformStates = new Map(); // 存储每个容器的变换状态
+        this.renderMode = 'client'; // 'client': 浏览器内 viz.js 布局; 'server': 服务端布局并缓存 SVG
+        this.viz = null;            // 主线程回退渲染时复用的 Viz 实例
+        // 浏览器内布局默认在 Worker 中进行
+        this.worker = typeof Worker !== 'undefined' ? new GraphWorkerClient('js/graph-worker.js') : null;
+    }
+
+    /**
+     * 是否使用 Worker 渲染（Worker 加载失败后回退到主线程）
+     */
+    useWorker() {
+        return this.worker && !this.worker.failed;
+    }
+
+    /**
+     * 主线程渲染：复用同一个 Viz 实例，出错后按 viz.js 的要求重新创建
+     */
+    async renderOnMainThread(dotString) {
+        if (!this.viz) {
+            this.viz = new window.Viz();
+        }
+        try {
+            return await this.viz.renderSVGElement(dotString);
+        } catch (error) {
+            this.viz = null;
+            throw error;
+        }
+    }
+
+    /**
+     * 取消容器中尚未完成的渲染
+     */
+    cancelRender(containerId) {
+        if (this.worker) {
+            this.worker.cancel(containerId);
+        }
+    }
+
+    /**
+     * 设置渲染模式
+     */
+    setRenderMode(mode) {
+        this.renderMode = mode === 'server' ? 'server' : 'client';
     }
 
     /**
@@ -398,10 +872,7 @@ class GraphRenderer {
                 console.log('Viz.js 已加载，创建实例...');
                 console.log('Viz 对象:', window.Viz);
                 this.graphviz = {
-                    dot: async (dotString) => {
-                        const viz = new window.Viz();
-                        return await viz.renderSVGElement(dotString);
-                    }
+                    dot: (dotString) => this.renderOnMainThread(dotString)
                 };
                 console.log('Graphviz 初始化成功');
             } else {
@@ -444,10 +915,7 @@ class GraphRenderer {
                             console.log('动态加载的 Viz 对象:', window.Viz);
                             // 创建 Graphviz 实例
                             this.graphviz = {
-                                dot: async (dotString) => {
-                                    const viz = new window.Viz();
-                                    return await viz.renderSVGElement(dotString);
-                                }
+                                dot: (dotString) => this.renderOnMainThread(dotString)
                             };
                             console.log('Viz.js 动态加载成功');
                             resolve();
@@ -482,7 +950,10 @@ class GraphRenderer {
         console.log('DOT 字符串长度:', dotString.length);
         console.log('DOT 字符串前100字符:', dotString.substring(0, 100));
 
-        if (!this.graphviz) {
+        // 新的渲染请求取代该容器中尚未完成的渲染
+        this.cancelRender(containerId);
+
+        if (!this.graphviz && this.renderMode !== 'server' && !this.useWorker()) {
             console.error('Graphviz 未初始化，尝试重新初始化...');
             try {
                 await this.initialize();
@@ -523,7 +994,38 @@ class GraphRenderer {
 
             // 生成 SVG
             let svg;
-            if (this.graphviz && this.graphviz.dot) {
+            if (this.renderMode === 'server') {
+                try {
+                    console.log('请求服务端渲染 SVG...');
+                    // 与 Worker / 主线程渲染使用同一份预处理后的 DOT，三条路径结果一致
+                    svg = await API.analysisService.client.renderSvg(processedDotString);
+                } catch (error) {
+                    console.warn('服务端渲染失败，回退到 viz.js:', error.message);
+                }
+            }
+
+            if (!svg && this.useWorker()) {
+                try {
+                    svg = await this.worker.render(processedDotString, containerId);
+                    console.log('使用 Worker 渲染的 SVG');
+                } catch (error) {
+                    if (error.canceled) {
+                        console.log(`渲染已取消: ${containerId}`);
+                        return;
+                    }
+                    if (!this.worker.failed) {
+                        throw error;
+                    }
+                    // Worker 无法加载：回退到主线程
+                    if (!this.graphviz) {
+                        await this.initialize();
+                    }
+                }
+            }
+
+            if (svg) {
+                console.log('SVG 已生成');
+            } else if (this.graphviz && this.graphviz.dot) {
                 console.log('调用 Graphviz 生成 SVG...');
                 svg = await this.graphviz.dot(processedDotString);
                 console.log('SVG 生成成功，类型:', typeof svg, svg instanceof Element ? 'Element' : 'Other');
@@ -863,6 +1365,9 @@ class GraphRenderer {
      * 清空所有图形
      */
     clear() {
+        if (this.worker) {
+            this.worker.cancelAll();
+        }
         this.currentGraphs.clear();
         this.zoomFactors.clear();
         this.transformStates.clear();
@@ -1093,6 +1598,183 @@ class ErrorRenderer {
     }
 }
 
+/**
+ * 树视图渲染器
+ *
+ * 基于服务端返回的列式树结构（parseTree.structure / ast.structure）渲染可折叠的虚拟化树：
+ * 只为滚动区域内可见的行创建 DOM，展开 / 折叠时只重新计算可见行列表，
+ * 不需要等待 Graphviz 对整棵树布局。
+ * 节点按层序排列，子节点为 [firstChildren[i], firstChildren[i] + childCounts[i])。
+ */
+class TreeViewRenderer {
+    constructor() {
+        this.rowHeight = 22;
+        this.overscan = 10;         // 可见区域上下额外渲染的行数
+        this.initialDepth = 3;      // 初始展开的层数
+        this.views = new Map();     // containerId -> 视图状态
+    }
+
+    /**
+     * 渲染树结构到容器
+     *
+     * @param {Object} structure 列式树结构
+     * @param {string} containerId 容器 ID
+     * @param {Array} tokens Token 列表（终结符节点显示 Token 文本）
+     */
+    render(structure, containerId, tokens) {
+        const container = Utils.DOM.id(containerId);
+        if (!container) {
+            console.error(`容器 ${containerId} 未找到`);
+            return;
+        }
+        const count = structure.nameIds.length;
+        if (count === 0) {
+            container.innerHTML = '<div class="empty-state"><p>树为空</p></div>';
+            return;
+        }
+
+        container.innerHTML = `
+            <div class="tree-view">
+                <div class="tree-view-spacer"></div>
+                <div class="tree-view-rows"></div>
+            </div>
+        `;
+        const view = {
+            structure,
+            tokens: tokens || [],
+            expanded: new Uint8Array(count),
+            rows: null,
+            depths: null,
+            scroller: container.querySelector('.tree-view'),
+            spacer: container.querySelector('.tree-view-spacer'),
+            body: container.querySelector('.tree-view-rows'),
+            frame: 0
+        };
+        this.expandToDepth(view, this.initialDepth);
+        this.views.set(containerId, view);
+
+        Utils.DOM.on(view.scroller, 'scroll', () => {
+            if (!view.frame) {
+                view.frame = requestAnimationFrame(() => {
+                    view.frame = 0;
+                    this.renderRows(view);
+                });
+            }
+        });
+        Utils.DOM.on(view.body, 'click', (e) => {
+            const row = e.target.closest('.tree-row');
+            if (!row) return;
+            const node = Number(row.dataset.node);
+            if (e.target.classList.contains('tree-toggle')) {
+                this.toggle(view, node);
+            } else {
+                Utils.eventBus.emit('tree:nodeClick', {
+                    node,
+                    name: structure.names[structure.nameIds[node]],
+                    start: structure.starts[node],
+                    end: structure.ends[node]
+                });
+            }
+        });
+
+        this.refresh(view);
+        console.log(`树视图渲染完成: ${count} 个节点, ${view.rows.length} 行可见`);
+    }
+
+    /**
+     * 展开前 depth 层
+     */
+    expandToDepth(view, depth) {
+        const { firstChildren, childCounts } = view.structure;
+        let level = [0];
+        for (let d = 0; d < depth && level.length > 0; d++) {
+            const next = [];
+            for (const node of level) {
+                view.expanded[node] = 1;
+                for (let c = 0; c < childCounts[node]; c++) {
+                    next.push(firstChildren[node] + c);
+                }
+            }
+            level = next;
+        }
+    }
+
+    /**
+     * 展开 / 折叠节点
+     */
+    toggle(view, node) {
+        if (view.structure.childCounts[node] === 0) return;
+        view.expanded[node] ^= 1;
+        this.refresh(view);
+    }
+
+    /**
+     * 重新计算可见行（展开节点的前序遍历）并重绘
+     */
+    refresh(view) {
+        const { firstChildren, childCounts } = view.structure;
+        const rows = [];
+        const depths = [];
+        const stack = [0];
+        const stackDepths = [0];
+        while (stack.length > 0) {
+            const node = stack.pop();
+            const depth = stackDepths.pop();
+            rows.push(node);
+            depths.push(depth);
+            if (view.expanded[node]) {
+                // 逆序入栈，保证子节点按原顺序出栈
+                for (let c = childCounts[node] - 1; c >= 0; c--) {
+                    stack.push(firstChildren[node] + c);
+                    stackDepths.push(depth + 1);
+                }
+            }
+        }
+        view.rows = rows;
+        view.depths = depths;
+        view.spacer.style.height = `${rows.length * this.rowHeight}px`;
+        this.renderRows(view);
+    }
+
+    /**
+     * 只渲染滚动区域内的行
+     */
+    renderRows(view) {
+        const { structure, rows, depths } = view;
+        const viewportHeight = view.scroller.clientHeight || 600;
+        const first = Math.max(0, Math.floor(view.scroller.scrollTop / this.rowHeight) - this.overscan);
+        const last = Math.min(rows.length, first + Math.ceil(viewportHeight / this.rowHeight) + this.overscan * 2);
+
+        const html = [];
+        for (let i = first; i < last; i++) {
+            const node = rows[i];
+            const hasChildren = structure.childCounts[node] > 0;
+            const toggle = hasChildren ? (view.expanded[node] ? '▾' : '▸') : '';
+            const name = Utils.StringUtils.escapeHtml(structure.names[structure.nameIds[node]]);
+            const tokenIndex = structure.tokens[node];
+            const token = tokenIndex >= 0 ? view.tokens[tokenIndex] : null;
+            const text = token && token.text !== undefined
+                ? `<span class="tree-token-text">${Utils.StringUtils.escapeHtml(token.text)}</span>`
+                : '';
+            const kind = tokenIndex >= 0 ? 'terminal' : 'rule';
+            html.push(
+                `<div class="tree-row ${kind}" data-node="${node}" style="padding-left:${depths[i] * 14 + 4}px">` +
+                `<span class="tree-toggle">${toggle}</span>` +
+                `<span class="tree-name">${name}</span>${text}</div>`
+            );
+        }
+        view.body.style.transform = `translateY(${first * this.rowHeight}px)`;
+        view.body.innerHTML = html.join('');
+    }
+
+    /**
+     * 清空所有树视图
+     */
+    clear() {
+        this.views.clear();
+    }
+}
+
 // 创建全局实例
 const resultVisualizer = new ResultVisualizer();
 
@@ -1102,6 +1784,8 @@ window.Visualizer = {
     GraphRenderer,
     TokenRenderer,
     ErrorRenderer,
+    TreeViewRenderer,
+    GraphWorkerClient,
     resultVisualizer
 };
 